@@ -0,0 +1,73 @@
+package com.neurofleetx.benchmarks;
+
+import com.neurofleetx.model.Booking;
+import com.neurofleetx.optimization.CapacityConstrainedClusterer;
+import com.neurofleetx.optimization.ClusterPoints;
+import com.neurofleetx.optimization.DbscanClusterer;
+import com.neurofleetx.optimization.KMeansClusterer;
+import com.neurofleetx.optimization.SpatialClusterer;
+import com.neurofleetx.service.GeocodingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spatial clustering of booking pickups, capped at the largest vehicle capacity the way ROUTE
+ * optimization configures it. Points are geocoded once in setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClusteringBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int bookings;
+
+    @Param({"DBSCAN", "KMEANS"})
+    public String algorithm;
+
+    private static final double MAX_CLUSTER_LOAD = 5000.0;
+
+    private ClusterPoints points;
+    private SpatialClusterer clusterer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Booking> fleetBookings = SyntheticFleet.generate(bookings, 20, 42L).getBookings();
+        GeocodingService geocoder = new GeocodingService();
+        double[] latitudes = new double[bookings];
+        double[] longitudes = new double[bookings];
+        double[] loads = new double[bookings];
+        for (int b = 0; b < bookings; b++) {
+            Booking booking = fleetBookings.get(b);
+            double[] coordinates = geocoder.geocode(booking.getPickupLocation());
+            latitudes[b] = coordinates[0];
+            longitudes[b] = coordinates[1];
+            loads[b] = booking.getLoadWeight();
+        }
+        points = ClusterPoints.of(latitudes, longitudes, loads);
+        SpatialClusterer delegate = "KMEANS".equals(algorithm)
+                ? new KMeansClusterer(Math.max(1, bookings / 20), 50, 42L)
+                : new DbscanClusterer(5.0, 2);
+        clusterer = new CapacityConstrainedClusterer(delegate, MAX_CLUSTER_LOAD);
+    }
+
+    @Benchmark
+    public List<int[]> cluster() {
+        return clusterer.cluster(points);
+    }
+}
@@ -0,0 +1,67 @@
+package com.neurofleetx.benchmarks;
+
+import com.neurofleetx.dto.OptimizationRequest;
+import com.neurofleetx.dto.OptimizationResult;
+import com.neurofleetx.service.OptimizationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@link OptimizationService#optimizeRouteAndLoad} per optimization type, from booking
+ * lookup to metrics. COMBINED runs the genetic algorithm with a fixed seed and generation cap so
+ * the work per call doesn't depend on the machine's speed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OptimizationBenchmark {
+
+    // Larger instances are supported (-p bookings=50000) but take minutes per call
+    @Param({"100", "1000", "10000"})
+    public int bookings;
+
+    @Param({"ROUTE", "LOAD", "COMBINED"})
+    public String type;
+
+    @Param({"20"})
+    public int bookingsPerVehicle;
+
+    private ServiceHarness harness;
+    private OptimizationService service;
+    private OptimizationRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticFleet fleet = SyntheticFleet.generate(bookings, bookingsPerVehicle, 42L);
+        harness = new ServiceHarness(fleet);
+        service = harness.optimizationService();
+        request = new OptimizationRequest(fleet.getBookingIds(), type);
+        request.setSeed(42L);
+        request.setMaxGenerations(50);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        harness.close();
+    }
+
+    @Benchmark
+    public OptimizationResult optimize() {
+        return service.optimizeRouteAndLoad(request);
+    }
+}
@@ -0,0 +1,75 @@
+package com.neurofleetx.benchmarks;
+
+import com.neurofleetx.dto.BookingRequest;
+import com.neurofleetx.dto.VehicleRecommendation;
+import com.neurofleetx.model.VehicleHealthMetrics;
+import com.neurofleetx.service.BookingService;
+import com.neurofleetx.service.MaintenanceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-vehicle scoring: smart vehicle recommendations for one booking request, which score the
+ * vehicles nearest the pickup, and a health score refresh for every vehicle in the fleet
+ * (calculateOverallHealthScore runs behind updateVehicleHealthMetrics).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoringBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int vehicles;
+
+    private ServiceHarness harness;
+    private BookingService bookingService;
+    private MaintenanceService maintenanceService;
+    private List<BookingRequest> requests;
+    private List<VehicleHealthMetrics> metrics;
+    private int nextRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticFleet fleet = SyntheticFleet.generate(vehicles, 1, 42L);
+        harness = new ServiceHarness(fleet);
+        bookingService = harness.bookingService();
+        maintenanceService = harness.maintenanceService();
+        requests = fleet.bookingRequests(64, 7L);
+        metrics = fleet.healthMetrics(11L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        harness.close();
+    }
+
+    @Benchmark
+    public List<VehicleRecommendation> smartRecommendations() {
+        BookingRequest request = requests.get(nextRequest++ & (requests.size() - 1));
+        return bookingService.getSmartRecommendations(request);
+    }
+
+    @Benchmark
+    public void fleetHealthScores(Blackhole blackhole) {
+        for (VehicleHealthMetrics reading : metrics) {
+            blackhole.consume(maintenanceService.updateVehicleHealthMetrics(reading.getVehicle().getId(), reading));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.neurofleetx.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neurofleetx.config.FleetEventConfig;
+import com.neurofleetx.config.OptimizationConfig;
+import com.neurofleetx.model.Booking;
+import com.neurofleetx.model.HealthSeriesChunk;
+import com.neurofleetx.model.Vehicle;
+import com.neurofleetx.repository.AlertRuleRepository;
+import com.neurofleetx.repository.BookingRepository;
+import com.neurofleetx.repository.HealthSeriesChunkRepository;
+import com.neurofleetx.repository.MaintenanceLogRepository;
+import com.neurofleetx.repository.VehicleHealthMetricsRepository;
+import com.neurofleetx.repository.VehicleRepository;
+import com.neurofleetx.service.AlertLifecycleService;
+import com.neurofleetx.service.AlertRuleEngine;
+import com.neurofleetx.service.BookingService;
+import com.neurofleetx.service.FleetEventBroadcaster;
+import com.neurofleetx.service.FleetHealthAggregate;
+import com.neurofleetx.service.FleetStateService;
+import com.neurofleetx.service.GeocodingService;
+import com.neurofleetx.service.HealthAnomalyDetector;
+import com.neurofleetx.service.HealthForecastService;
+import com.neurofleetx.service.HealthHistoryService;
+import com.neurofleetx.service.MaintenanceService;
+import com.neurofleetx.service.OptimizationService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * The real services wired by Spring, with repositories answered from memory so benchmarks
+ * measure the algorithms rather than H2. {@code @Value} settings take their defaults, which
+ * mirror application.properties.
+ */
+public final class ServiceHarness implements AutoCloseable {
+
+    private final AnnotationConfigApplicationContext context;
+
+    public ServiceHarness(SyntheticFleet fleet) {
+        Map<String, Booking> bookingsById = new HashMap<>();
+        for (Booking booking : fleet.getBookings()) {
+            bookingsById.put(booking.getBookingId(), booking);
+        }
+        Map<Long, Vehicle> vehiclesById = new HashMap<>();
+        Map<String, Vehicle> vehiclesByVehicleId = new HashMap<>();
+        for (Vehicle vehicle : fleet.getVehicles()) {
+            vehiclesById.put(vehicle.getId(), vehicle);
+            vehiclesByVehicleId.put(vehicle.getVehicleId(), vehicle);
+        }
+
+        Map<String, Function<Object[], Object>> bookingQueries = new HashMap<>();
+        bookingQueries.put("findByBookingId", args -> Optional.ofNullable(bookingsById.get((String) args[0])));
+        bookingQueries.put("findByBookingIdIn", args -> {
+            List<Booking> found = new ArrayList<>();
+            for (Object bookingId : (Collection<?>) args[0]) {
+                Booking booking = bookingsById.get(bookingId);
+                if (booking != null) found.add(booking);
+            }
+            return found;
+        });
+
+        Map<String, Function<Object[], Object>> vehicleQueries = new HashMap<>();
+        // Callers may sort the result, so every call gets a fresh list
+        vehicleQueries.put("findByStatus", args -> new ArrayList<>(fleet.getVehicles()));
+        vehicleQueries.put("findAll", args -> new ArrayList<>(fleet.getVehicles()));
+        vehicleQueries.put("findById", args -> Optional.ofNullable(vehiclesById.get((Long) args[0])));
+        vehicleQueries.put("findByVehicleIdIn", args -> {
+            List<Vehicle> found = new ArrayList<>();
+            for (Object vehicleId : (Collection<?>) args[0]) {
+                Vehicle vehicle = vehiclesByVehicleId.get(vehicleId);
+                if (vehicle != null) found.add(vehicle);
+            }
+            return found;
+        });
+
+        Map<String, Function<Object[], Object>> saves = new HashMap<>();
+        saves.put("save", args -> args[0]);
+
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(BookingRepository.class, () -> repository(BookingRepository.class, bookingQueries));
+        context.registerBean(VehicleRepository.class, () -> repository(VehicleRepository.class, vehicleQueries));
+        context.registerBean(MaintenanceLogRepository.class, () -> repository(MaintenanceLogRepository.class, saves));
+        context.registerBean(VehicleHealthMetricsRepository.class,
+                () -> repository(VehicleHealthMetricsRepository.class, saves));
+        context.registerBean(AlertRuleRepository.class, () -> repository(AlertRuleRepository.class, new HashMap<>()));
+        Map<String, Function<Object[], Object>> chunkQueries = new HashMap<>();
+        AtomicLong chunkIds = new AtomicLong(1);
+        chunkQueries.put("nextIdBlock", args -> chunkIds.getAndAdd(HealthSeriesChunk.ID_BLOCK_SIZE));
+        context.registerBean(HealthSeriesChunkRepository.class,
+                () -> repository(HealthSeriesChunkRepository.class, chunkQueries));
+        context.registerBean(JdbcTemplate.class, DiscardingJdbcTemplate::new);
+        context.registerBean(PlatformTransactionManager.class, NoTransactionManager::new);
+        context.registerBean(ObjectMapper.class, () -> new ObjectMapper().findAndRegisterModules());
+        context.register(OptimizationConfig.class, FleetEventConfig.class, GeocodingService.class,
+                FleetEventBroadcaster.class, FleetStateService.class, OptimizationService.class,
+                BookingService.class, FleetHealthAggregate.class, AlertRuleEngine.class, HealthHistoryService.class,
+                HealthAnomalyDetector.class, HealthForecastService.class, AlertLifecycleService.class,
+                MaintenanceService.class);
+        context.refresh();
+        // No ApplicationReadyEvent outside Spring Boot, so the live fleet state is loaded here
+        context.getBean(FleetStateService.class).reload();
+    }
+
+    public OptimizationService optimizationService() { return context.getBean(OptimizationService.class); }
+
+    public BookingService bookingService() { return context.getBean(BookingService.class); }
+
+    public MaintenanceService maintenanceService() { return context.getBean(MaintenanceService.class); }
+
+    public GeocodingService geocodingService() { return context.getBean(GeocodingService.class); }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    // Interface proxy answering the given methods; anything else fails loudly so a service change
+    // that starts using a new query shows up instead of being silently measured as a no-op
+    private static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            switch (method.getName()) {
+                case "toString": return type.getSimpleName() + "(in-memory)";
+                case "hashCode": return System.identityHashCode(self);
+                case "equals": return self == args[0];
+                default:
+                    Function<Object[], Object> handler = methods.get(method.getName());
+                    if (handler == null) {
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                    }
+                    return handler.apply(args);
+            }
+        });
+        return type.cast(proxy);
+    }
+
+    // Health history chunk writes go nowhere: recording readings is measured, H2 is not
+    private static final class DiscardingJdbcTemplate extends JdbcTemplate {
+        @Override
+        public void afterPropertiesSet() {}
+
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                       ParameterizedPreparedStatementSetter<T> setter) {
+            return new int[0][];
+        }
+    }
+
+    private static final class NoTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {}
+
+        @Override
+        public void rollback(TransactionStatus status) {}
+    }
+}
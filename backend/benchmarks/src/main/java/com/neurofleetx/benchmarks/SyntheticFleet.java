@@ -0,0 +1,131 @@
+package com.neurofleetx.benchmarks;
+
+import com.neurofleetx.dto.BookingRequest;
+import com.neurofleetx.model.Booking;
+import com.neurofleetx.model.Vehicle;
+import com.neurofleetx.model.VehicleHealthMetrics;
+import com.neurofleetx.service.GeocodingService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic fleet and booking data for benchmarks. Addresses are free text in the localities
+ * the geocoder knows, so bookings spread over a few dozen km around each hub the way real NCR
+ * and Bangalore orders do, and every run with the same seed sees the same instance.
+ */
+public final class SyntheticFleet {
+
+    private static final String[] LOCALITIES = {
+        "Connaught Place", "Khan Market", "Delhi Airport", "Cyber City", "Noida Sector 18",
+        "Greater Noida", "Faridabad", "Ghaziabad", "Gurgaon", "Whitefield", "Electronic City"
+    };
+    private static final String[] VEHICLE_TYPES = {"Van", "Pickup Truck", "Truck", "Mini Truck", "Electric Van"};
+    private static final double[] CAPACITIES = {800.0, 1500.0, 5000.0, 2500.0, 1000.0};
+
+    private final List<Booking> bookings;
+    private final List<Vehicle> vehicles;
+
+    private SyntheticFleet(List<Booking> bookings, List<Vehicle> vehicles) {
+        this.bookings = bookings;
+        this.vehicles = vehicles;
+    }
+
+    /** One vehicle per {@code bookingsPerVehicle} bookings, at least one. */
+    public static SyntheticFleet generate(int bookingCount, int bookingsPerVehicle, long seed) {
+        Random random = new Random(seed);
+        int vehicleCount = Math.max(1, bookingCount / Math.max(1, bookingsPerVehicle));
+        GeocodingService geocoder = new GeocodingService();
+        List<Vehicle> vehicles = new ArrayList<>(vehicleCount);
+        for (int v = 0; v < vehicleCount; v++) {
+            vehicles.add(vehicle(v, random, geocoder));
+        }
+        // Addresses repeat the way depots and regular customers do: about one per five bookings
+        int addressCount = Math.max(2, bookingCount / 5);
+        List<Booking> bookings = new ArrayList<>(bookingCount);
+        for (int b = 0; b < bookingCount; b++) {
+            Booking booking = new Booking();
+            booking.setId((long) b + 1);
+            booking.setBookingId(String.format("BK-SYN-%06d", b));
+            booking.setPickupLocation(address(random.nextInt(addressCount)));
+            booking.setDeliveryLocation(address(random.nextInt(addressCount)));
+            booking.setLoadWeight(50.0 + Math.floor(random.nextDouble() * random.nextDouble() * 950.0));
+            booking.setScheduledDate(LocalDateTime.now().plusHours(1 + random.nextInt(48)));
+            booking.setStatus(Booking.BookingStatus.SCHEDULED);
+            bookings.add(booking);
+        }
+        return new SyntheticFleet(bookings, vehicles);
+    }
+
+    public List<Booking> getBookings() { return bookings; }
+
+    public List<Vehicle> getVehicles() { return vehicles; }
+
+    public List<String> getBookingIds() {
+        List<String> ids = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            ids.add(booking.getBookingId());
+        }
+        return ids;
+    }
+
+    public List<BookingRequest> bookingRequests(int count, long seed) {
+        Random random = new Random(seed);
+        List<BookingRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BookingRequest request = new BookingRequest();
+            request.setPickupLocation(address(random.nextInt(1000)));
+            request.setDeliveryLocation(address(random.nextInt(1000)));
+            request.setLoadWeight(50.0 + random.nextDouble() * 3000.0);
+            request.setScheduledDate(LocalDateTime.now().plusHours(2));
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    /** Sensor readings around the normal operating ranges, with the occasional outlier. */
+    public List<VehicleHealthMetrics> healthMetrics(long seed) {
+        Random random = new Random(seed);
+        List<VehicleHealthMetrics> metrics = new ArrayList<>(vehicles.size());
+        for (Vehicle vehicle : vehicles) {
+            VehicleHealthMetrics reading = new VehicleHealthMetrics(vehicle);
+            reading.setEngineTemperature(85.0 + random.nextGaussian() * 10);
+            reading.setOilPressure(30.0 + random.nextGaussian() * 8);
+            reading.setCoolantLevel(80.0 + random.nextGaussian() * 15);
+            reading.setFrontLeftTirePressure(33.0 + random.nextGaussian() * 3);
+            reading.setFrontRightTirePressure(33.0 + random.nextGaussian() * 3);
+            reading.setRearLeftTirePressure(33.0 + random.nextGaussian() * 3);
+            reading.setRearRightTirePressure(33.0 + random.nextGaussian() * 3);
+            reading.setFuelLevel(Math.max(5, 70.0 + random.nextGaussian() * 25));
+            reading.setBatteryVoltage(12.6 + random.nextGaussian() * 0.5);
+            reading.setTransmissionTemperature(75.0 + random.nextGaussian() * 8);
+            reading.setBrakeFluidLevel(85.0 + random.nextGaussian() * 10);
+            reading.setVibrationLevel(0.5 + random.nextGaussian() * 0.3);
+            reading.setMileage(50000 + random.nextInt(100000));
+            metrics.add(reading);
+        }
+        return metrics;
+    }
+
+    private static Vehicle vehicle(int index, Random random, GeocodingService geocoder) {
+        int kind = random.nextInt(VEHICLE_TYPES.length);
+        String locality = LOCALITIES[random.nextInt(LOCALITIES.length)];
+        // Parked around the locality it serves, so spatial lookups see a realistic spread
+        double[] position = geocoder.geocode("Depot " + index + ", " + locality);
+        Vehicle vehicle = new Vehicle(String.format("FL-SYN-%05d", index), VEHICLE_TYPES[kind], "Synthetic",
+                Vehicle.VehicleStatus.AVAILABLE, position[0], position[1]);
+        vehicle.setId((long) index + 1);
+        vehicle.setCurrentLocation(locality);
+        vehicle.setMaxLoadCapacity(CAPACITIES[kind]);
+        vehicle.setBatteryLevel(20 + random.nextInt(81));
+        vehicle.setFuelLevel(20.0 + random.nextInt(81));
+        vehicle.setIsElectric(VEHICLE_TYPES[kind].startsWith("Electric"));
+        vehicle.setDriverName("Driver " + index);
+        return vehicle;
+    }
+
+    private static String address(int index) {
+        return "Plot " + (index / LOCALITIES.length + 1) + ", " + LOCALITIES[index % LOCALITIES.length];
+    }
+}
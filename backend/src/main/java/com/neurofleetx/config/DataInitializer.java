@@ -6,6 +6,8 @@ import com.neurofleetx.model.User;
 import com.neurofleetx.model.Role;
 import com.neurofleetx.model.Booking;
 import com.neurofleetx.model.Trip;
+import com.neurofleetx.model.MaintenanceLog;
+import com.neurofleetx.model.VehicleHealthMetrics;
 import com.neurofleetx.repository.RouteRepository;
 import com.neurofleetx.repository.VehicleRepository;
 import com.neurofleetx.repository.UserRepository;
@@ -14,11 +16,15 @@ import com.neurofleetx.repository.BookingRepository;
 import com.neurofleetx.repository.TripRepository;
 import com.neurofleetx.repository.MaintenanceLogRepository;
 import com.neurofleetx.repository.VehicleHealthMetricsRepository;
+import com.neurofleetx.repository.AlertRuleRepository;
+import com.neurofleetx.service.AlertRuleEngine;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 @Component
@@ -47,6 +53,9 @@ public class DataInitializer implements CommandLineRunner {
 
     @Autowired
     private VehicleHealthMetricsRepository healthMetricsRepository;
+    
+    @Autowired
+    private AlertRuleRepository alertRuleRepository;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
@@ -90,6 +99,11 @@ public class DataInitializer implements CommandLineRunner {
         if (maintenanceLogRepository.count() == 0) {
             initializeMaintenanceData();
         }
+        
+        // Initialize alert thresholds
+        if (alertRuleRepository.count() == 0) {
+            alertRuleRepository.saveAll(AlertRuleEngine.defaultRules());
+        }
     }
 
     private void initializeRoles() {
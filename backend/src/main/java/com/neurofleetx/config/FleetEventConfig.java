@@ -0,0 +1,28 @@
+package com.neurofleetx.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class FleetEventConfig {
+
+    // Writes to live-stream clients happen here, never on the threads that publish changes. At most
+    // one task per client is queued at a time, so the queue is bounded by the number of clients.
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor fleetEventExecutor(
+            @Value("${neurofleetx.fleet.events.dispatch-threads:2}") int dispatchThreads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "fleet-events-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
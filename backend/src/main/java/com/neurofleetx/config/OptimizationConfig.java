@@ -0,0 +1,36 @@
+package com.neurofleetx.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class OptimizationConfig {
+
+    // Dedicated pool so solver work never competes with the common pool used by parallel streams
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool optimizationPool(@Value("${neurofleetx.optimization.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    // Caps concurrent asynchronous runs; once the queue is full submissions are rejected (HTTP 429)
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor optimizationJobExecutor(
+            @Value("${neurofleetx.optimization.jobs.concurrency:2}") int concurrency,
+            @Value("${neurofleetx.optimization.jobs.queue-capacity:16}") int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "optimization-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
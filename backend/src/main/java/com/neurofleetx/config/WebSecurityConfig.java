@@ -3,6 +3,7 @@ package com.neurofleetx.config;
 import com.neurofleetx.security.AuthEntryPointJwt;
 import com.neurofleetx.security.AuthTokenFilter;
 import com.neurofleetx.security.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -62,6 +63,9 @@ public class WebSecurityConfig {
             .exceptionHandling().authenticationEntryPoint(unauthorizedHandler).and()
             .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS).and()
             .authorizeHttpRequests()
+                // Async (SSE completion) and error (e.g. validation 400) dispatches belong to a request
+                // that was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
                 .requestMatchers("/api/vehicles/maintenance-status").hasAnyRole("ADMIN", "MANAGER")
@@ -1,6 +1,8 @@
 package com.neurofleetx.controller;
 
 import com.neurofleetx.dto.BookingRequest;
+import com.neurofleetx.dto.BookingSummary;
+import com.neurofleetx.dto.CursorPage;
 import com.neurofleetx.dto.VehicleRecommendation;
 import com.neurofleetx.model.Booking;
 import com.neurofleetx.model.User;
@@ -28,8 +30,16 @@ public class BookingController {
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @GetMapping
-    public ResponseEntity<List<Booking>> getAllBookings() {
-        return ResponseEntity.ok(bookingService.getAllBookings());
+    public ResponseEntity<CursorPage<BookingSummary>> getBookings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Booking.BookingStatus status,
+            @RequestParam(required = false) String vehicleId) {
+        try {
+            return ResponseEntity.ok(bookingService.listBookings(cursor, limit, status, vehicleId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
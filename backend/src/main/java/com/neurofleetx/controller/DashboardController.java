@@ -1,7 +1,9 @@
 package com.neurofleetx.controller;
 
-import com.neurofleetx.service.VehicleService;
-import com.neurofleetx.service.RouteService;
+import com.neurofleetx.dto.FleetStats;
+import com.neurofleetx.model.Route;
+import com.neurofleetx.model.Vehicle;
+import com.neurofleetx.service.StatsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,32 +17,31 @@ import java.util.Map;
 public class DashboardController {
     
     @Autowired
-    private VehicleService vehicleService;
-    
-    @Autowired
-    private RouteService routeService;
+    private StatsService statsService;
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getDashboardStats() {
+        FleetStats fleetStats = statsService.getFleetStats();
         Map<String, Object> stats = new HashMap<>();
         
         // Vehicle statistics
-        stats.put("totalVehicles", vehicleService.getAllVehicles().size());
-        stats.put("activeVehicles", vehicleService.getActiveVehicles().size());
-        stats.put("availableVehicles", vehicleService.getVehicleCountByStatus(com.neurofleetx.model.Vehicle.VehicleStatus.AVAILABLE));
-        stats.put("maintenanceVehicles", vehicleService.getVehicleCountByStatus(com.neurofleetx.model.Vehicle.VehicleStatus.MAINTENANCE));
+        stats.put("totalVehicles", fleetStats.getTotalVehicles());
+        stats.put("activeVehicles", fleetStats.getActiveVehicles());
+        stats.put("availableVehicles", fleetStats.vehicleCount(Vehicle.VehicleStatus.AVAILABLE));
+        stats.put("maintenanceVehicles", fleetStats.vehicleCount(Vehicle.VehicleStatus.MAINTENANCE));
         
         // Route statistics
-        stats.put("totalRoutes", routeService.getAllRoutes().size());
-        stats.put("activeRoutes", routeService.getActiveRoutes().size());
-        stats.put("averageOptimization", routeService.getAverageOptimizationSavings());
+        stats.put("totalRoutes", fleetStats.getTotalRoutes());
+        stats.put("activeRoutes", fleetStats.routeCount(Route.RouteStatus.ACTIVE));
+        stats.put("averageOptimization", fleetStats.getAverageOptimization());
         
         // Fleet efficiency metrics
-        stats.put("fleetUtilization", 87.3);
-        stats.put("fuelEfficiency", 92.0);
-        stats.put("monthlyRevenue", 23785000.0);
-        stats.put("monthlyCosts", 13800000.0);
+        stats.put("fleetUtilization", fleetStats.getFleetUtilization());
+        stats.put("fuelEfficiency", fleetStats.getFuelEfficiency() != null ? fleetStats.getFuelEfficiency() : 0.0);
+        stats.put("monthlyRevenue", fleetStats.getMonthlyRevenue());
+        stats.put("monthlyCosts", fleetStats.getMonthlyCosts());
+        stats.put("monthlyDistance", fleetStats.getMonthlyDistance());
         
         return ResponseEntity.ok(stats);
     }
@@ -1,5 +1,7 @@
 package com.neurofleetx.controller;
 
+import com.neurofleetx.dto.CursorPage;
+import com.neurofleetx.dto.TripSummary;
 import com.neurofleetx.model.Trip;
 import com.neurofleetx.model.User;
 import com.neurofleetx.service.TripService;
@@ -26,9 +28,17 @@ public class DriverController {
 
     @PreAuthorize("hasRole('DRIVER')")
     @GetMapping("/trips")
-    public ResponseEntity<List<Trip>> getMyTrips(Authentication authentication) {
+    public ResponseEntity<CursorPage<TripSummary>> getMyTrips(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Trip.TripStatus status) {
         User driver = userService.findByEmail(authentication.getName()).orElseThrow();
-        return ResponseEntity.ok(tripService.getTripsByDriver(driver));
+        try {
+            return ResponseEntity.ok(tripService.listTripsByDriver(driver, cursor, limit, status));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @PreAuthorize("hasRole('DRIVER')")
@@ -1,13 +1,34 @@
 package com.neurofleetx.controller;
 
+import com.neurofleetx.dto.CursorPage;
+import com.neurofleetx.dto.FleetHealthSummary;
+import com.neurofleetx.dto.HealthAnomaly;
+import com.neurofleetx.dto.HealthForecast;
+import com.neurofleetx.dto.HealthHistory;
+import com.neurofleetx.dto.MaintenanceLogSummary;
+import com.neurofleetx.model.AlertRule;
 import com.neurofleetx.model.MaintenanceLog;
+import com.neurofleetx.model.MaintenanceLogDailySummary;
 import com.neurofleetx.model.VehicleHealthMetrics;
+import com.neurofleetx.service.AlertRuleEngine;
+import com.neurofleetx.service.FleetHealthAggregate;
+import com.neurofleetx.service.HealthAnomalyDetector;
+import com.neurofleetx.service.HealthForecastService;
+import com.neurofleetx.service.HealthHistoryService;
+import com.neurofleetx.service.HealthSweepService;
+import com.neurofleetx.service.MaintenanceLogArchiveService;
 import com.neurofleetx.service.MaintenanceService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -19,11 +40,66 @@ public class MaintenanceController {
     @Autowired
     private MaintenanceService maintenanceService;
 
+    @Autowired
+    private FleetHealthAggregate fleetHealthAggregate;
+
+    @Autowired
+    private HealthSweepService healthSweepService;
+
+    @Autowired
+    private AlertRuleEngine alertRuleEngine;
+
+    @Autowired
+    private HealthHistoryService healthHistoryService;
+
+    @Autowired
+    private HealthAnomalyDetector anomalyDetector;
+
+    @Autowired
+    private HealthForecastService healthForecastService;
+
+    @Autowired
+    private MaintenanceLogArchiveService archiveService;
+
+    private static final int MAX_INSIGHT_ITEMS = 20;
+
     // Maintenance Logs Endpoints
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @GetMapping("/logs")
-    public ResponseEntity<List<MaintenanceLog>> getAllMaintenanceLogs() {
-        return ResponseEntity.ok(maintenanceService.getAllMaintenanceLogs());
+    public ResponseEntity<CursorPage<MaintenanceLogSummary>> getMaintenanceLogs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String vehicleId,
+            @RequestParam(required = false) Boolean alert,
+            @RequestParam(required = false) MaintenanceLog.AlertSeverity severity) {
+        try {
+            return ResponseEntity.ok(maintenanceService.listMaintenanceLogs(cursor, limit, vehicleId, alert, severity));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Logs recorded in [from, to], including rows moved to the archive
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @GetMapping("/logs/range")
+    public ResponseEntity<CursorPage<MaintenanceLogSummary>> getMaintenanceLogsBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String vehicleId) {
+        try {
+            return ResponseEntity.ok(archiveService.listBetween(from, to, cursor, limit, vehicleId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Moves logs past retention to the archive now instead of waiting for the scheduled run
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @PostMapping("/logs/archive")
+    public ResponseEntity<Map<String, Integer>> archiveMaintenanceLogs() {
+        return ResponseEntity.ok(Map.of("archived", archiveService.archive()));
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('DRIVER')")
@@ -32,6 +108,19 @@ public class MaintenanceController {
         return ResponseEntity.ok(maintenanceService.getMaintenanceLogsByVehicle(vehicleId));
     }
 
+    // Per-day, per-metric rollups of a vehicle's logs over [from, to] (default: the last 30 days)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('DRIVER')")
+    @GetMapping("/logs/vehicle/{vehicleId}/daily")
+    public ResponseEntity<List<MaintenanceLogDailySummary>> getDailyLogSummaries(
+            @PathVariable Long vehicleId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(30);
+        if (start.isAfter(end)) return ResponseEntity.badRequest().build();
+        return ResponseEntity.ok(archiveService.getDailySummaries(vehicleId, start, end));
+    }
+
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @GetMapping("/alerts")
     public ResponseEntity<List<MaintenanceLog>> getActiveAlerts() {
@@ -56,6 +145,64 @@ public class MaintenanceController {
         return ResponseEntity.ok(savedLog);
     }
 
+    // Alert Rule Endpoints
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @GetMapping("/alert-rules")
+    public ResponseEntity<List<AlertRule>> getAlertRules() {
+        return ResponseEntity.ok(alertRuleEngine.getAllRules());
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @PostMapping("/alert-rules")
+    public ResponseEntity<AlertRule> createAlertRule(@RequestBody AlertRule rule) {
+        try {
+            rule.setId(null);
+            return ResponseEntity.ok(alertRuleEngine.saveRule(rule));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @PutMapping("/alert-rules/{id}")
+    public ResponseEntity<AlertRule> updateAlertRule(@PathVariable Long id, @RequestBody AlertRule ruleDetails) {
+        return alertRuleEngine.getRuleById(id)
+                .map(rule -> {
+                    rule.setMetricType(ruleDetails.getMetricType());
+                    rule.setVehicleType(ruleDetails.getVehicleType());
+                    rule.setSeverity(ruleDetails.getSeverity());
+                    rule.setMinValue(ruleDetails.getMinValue());
+                    rule.setMaxValue(ruleDetails.getMaxValue());
+                    rule.setHealthPenalty(ruleDetails.getHealthPenalty());
+                    rule.setMessage(ruleDetails.getMessage());
+                    try {
+                        return ResponseEntity.ok(alertRuleEngine.saveRule(rule));
+                    } catch (IllegalArgumentException e) {
+                        return ResponseEntity.badRequest().<AlertRule>build();
+                    }
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @DeleteMapping("/alert-rules/{id}")
+    public ResponseEntity<?> deleteAlertRule(@PathVariable Long id) {
+        return alertRuleEngine.getRuleById(id)
+                .map(rule -> {
+                    alertRuleEngine.deleteRule(id);
+                    return ResponseEntity.ok().build();
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Picks up rules edited directly in the alert_rules table without waiting for the periodic reload
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @PostMapping("/alert-rules/reload")
+    public ResponseEntity<Map<String, Integer>> reloadAlertRules() {
+        alertRuleEngine.reload();
+        return ResponseEntity.ok(Map.of("rules", alertRuleEngine.getRules().size()));
+    }
+
     // Vehicle Health Metrics Endpoints
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @GetMapping("/health")
@@ -71,6 +218,23 @@ public class MaintenanceController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // Readings of one metric over [from, to] (default: the last 24 hours), at the finest resolution
+    // that gives at most maxPoints points
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('DRIVER')")
+    @GetMapping("/health/vehicle/{vehicleId}/history")
+    public ResponseEntity<HealthHistory> getVehicleHealthHistory(
+            @PathVariable Long vehicleId,
+            @RequestParam MaintenanceLog.MetricType metric,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Integer maxPoints) {
+        try {
+            return ResponseEntity.ok(healthHistoryService.getHistory(vehicleId, metric, from, to, maxPoints));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('DRIVER')")
     @PutMapping("/health/vehicle/{vehicleId}")
     public ResponseEntity<VehicleHealthMetrics> updateVehicleHealthMetrics(
@@ -98,9 +262,10 @@ public class MaintenanceController {
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @PostMapping("/health/simulate-all")
     public ResponseEntity<Map<String, String>> simulateAllVehicleMetrics() {
-        maintenanceService.simulateAllVehicleMetrics();
+        int vehicles = healthSweepService.simulateAll();
         Map<String, String> response = new HashMap<>();
         response.put("message", "Health metrics simulated for all vehicles");
+        response.put("vehicles", String.valueOf(vehicles));
         return ResponseEntity.ok(response);
     }
 
@@ -114,55 +279,24 @@ public class MaintenanceController {
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @GetMapping("/dashboard/stats")
     public ResponseEntity<Map<String, Object>> getMaintenanceDashboardStats() {
-        List<MaintenanceLog> activeAlerts = maintenanceService.getActiveAlerts();
-        List<VehicleHealthMetrics> allMetrics = maintenanceService.getAllVehicleHealthMetrics();
-        List<VehicleHealthMetrics> needingMaintenance = maintenanceService.getVehiclesNeedingMaintenance();
-        Double averageHealthScore = maintenanceService.getAverageFleetHealthScore();
-
-        // Count alerts by severity
-        long criticalAlerts = activeAlerts.stream()
-                .filter(alert -> alert.getAlertSeverity() == MaintenanceLog.AlertSeverity.CRITICAL)
-                .count();
-        long highAlerts = activeAlerts.stream()
-                .filter(alert -> alert.getAlertSeverity() == MaintenanceLog.AlertSeverity.HIGH)
-                .count();
-        long mediumAlerts = activeAlerts.stream()
-                .filter(alert -> alert.getAlertSeverity() == MaintenanceLog.AlertSeverity.MEDIUM)
-                .count();
-
-        // Count vehicles by health status
-        long excellentVehicles = allMetrics.stream()
-                .filter(m -> m.getHealthStatus() == VehicleHealthMetrics.HealthStatus.EXCELLENT)
-                .count();
-        long goodVehicles = allMetrics.stream()
-                .filter(m -> m.getHealthStatus() == VehicleHealthMetrics.HealthStatus.GOOD)
-                .count();
-        long fairVehicles = allMetrics.stream()
-                .filter(m -> m.getHealthStatus() == VehicleHealthMetrics.HealthStatus.FAIR)
-                .count();
-        long poorVehicles = allMetrics.stream()
-                .filter(m -> m.getHealthStatus() == VehicleHealthMetrics.HealthStatus.POOR)
-                .count();
-        long criticalVehicles = allMetrics.stream()
-                .filter(m -> m.getHealthStatus() == VehicleHealthMetrics.HealthStatus.CRITICAL)
-                .count();
+        FleetHealthSummary health = fleetHealthAggregate.getSummary();
 
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalActiveAlerts", activeAlerts.size());
-        stats.put("criticalAlerts", criticalAlerts);
-        stats.put("highAlerts", highAlerts);
-        stats.put("mediumAlerts", mediumAlerts);
-        stats.put("vehiclesNeedingMaintenance", needingMaintenance.size());
-        stats.put("averageFleetHealthScore", averageHealthScore);
-        stats.put("totalVehiclesMonitored", allMetrics.size());
+        stats.put("totalActiveAlerts", health.getTotalActiveAlerts());
+        stats.put("criticalAlerts", health.activeAlertCount(MaintenanceLog.AlertSeverity.CRITICAL));
+        stats.put("highAlerts", health.activeAlertCount(MaintenanceLog.AlertSeverity.HIGH));
+        stats.put("mediumAlerts", health.activeAlertCount(MaintenanceLog.AlertSeverity.MEDIUM));
+        stats.put("vehiclesNeedingMaintenance", health.getVehiclesNeedingMaintenance());
+        stats.put("averageFleetHealthScore", health.getAverageHealthScore());
+        stats.put("totalVehiclesMonitored", health.getTotalVehiclesMonitored());
         
         // Health status distribution
         Map<String, Long> healthDistribution = new HashMap<>();
-        healthDistribution.put("excellent", excellentVehicles);
-        healthDistribution.put("good", goodVehicles);
-        healthDistribution.put("fair", fairVehicles);
-        healthDistribution.put("poor", poorVehicles);
-        healthDistribution.put("critical", criticalVehicles);
+        healthDistribution.put("excellent", health.healthStatusCount(VehicleHealthMetrics.HealthStatus.EXCELLENT));
+        healthDistribution.put("good", health.healthStatusCount(VehicleHealthMetrics.HealthStatus.GOOD));
+        healthDistribution.put("fair", health.healthStatusCount(VehicleHealthMetrics.HealthStatus.FAIR));
+        healthDistribution.put("poor", health.healthStatusCount(VehicleHealthMetrics.HealthStatus.POOR));
+        healthDistribution.put("critical", health.healthStatusCount(VehicleHealthMetrics.HealthStatus.CRITICAL));
         stats.put("healthStatusDistribution", healthDistribution);
 
         return ResponseEntity.ok(stats);
@@ -171,12 +305,12 @@ public class MaintenanceController {
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @GetMapping("/dashboard/fleet-health")
     public ResponseEntity<Map<String, Object>> getFleetHealthOverview() {
-        Double averageHealthScore = maintenanceService.getAverageFleetHealthScore();
-        List<VehicleHealthMetrics> allMetrics = maintenanceService.getAllVehicleHealthMetrics();
+        FleetHealthSummary health = fleetHealthAggregate.getSummary();
+        double averageHealthScore = health.getAverageHealthScore();
         
         Map<String, Object> fleetHealth = new HashMap<>();
         fleetHealth.put("averageHealthScore", averageHealthScore);
-        fleetHealth.put("totalVehicles", allMetrics.size());
+        fleetHealth.put("totalVehicles", health.getTotalVehiclesMonitored());
         
         // Calculate fleet health status
         String fleetStatus;
@@ -187,10 +321,7 @@ public class MaintenanceController {
         else fleetStatus = "CRITICAL";
         
         fleetHealth.put("fleetHealthStatus", fleetStatus);
-        
-        // Top 3 vehicles needing attention
-        List<VehicleHealthMetrics> needingAttention = maintenanceService.getVehiclesNeedingMaintenance();
-        fleetHealth.put("vehiclesNeedingAttention", needingAttention.size());
+        fleetHealth.put("vehiclesNeedingAttention", health.getVehiclesNeedingMaintenance());
         
         return ResponseEntity.ok(fleetHealth);
     }
@@ -199,27 +330,36 @@ public class MaintenanceController {
     @GetMapping("/predictive-insights")
     public ResponseEntity<Map<String, Object>> getPredictiveInsights() {
         Map<String, Object> insights = new HashMap<>();
-        
-        // Simulated predictive insights
-        insights.put("predictedMaintenanceNeeds", Map.of(
-            "nextWeek", 3,
-            "nextMonth", 8,
-            "nextQuarter", 15
-        ));
-        
-        insights.put("costSavings", Map.of(
-            "preventiveMaintenance", "₹2,50,000",
-            "reducedDowntime", "₹1,80,000",
-            "fuelEfficiencyGains", "₹95,000"
-        ));
-        
-        insights.put("recommendations", List.of(
-            "Schedule oil change for FL-002 within 5 days",
-            "Replace brake pads for FL-005 before next service",
-            "Monitor tire pressure for FL-001 - showing irregular patterns",
-            "Battery replacement recommended for FL-003 within 2 weeks"
-        ));
+
+        // Vehicles with a metric projected to cross its alert threshold, from the cached forecasts
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Integer> needs = new LinkedHashMap<>();
+        needs.put("nextWeek", healthForecastService.countVehiclesDueBy(now.plusWeeks(1)));
+        needs.put("nextMonth", healthForecastService.countVehiclesDueBy(now.plusMonths(1)));
+        needs.put("nextQuarter", healthForecastService.countVehiclesDueBy(now.plusMonths(3)));
+        insights.put("predictedMaintenanceNeeds", needs);
+
+        List<HealthForecast> forecasts = healthForecastService.getForecasts(MAX_INSIGHT_ITEMS);
+        List<HealthAnomaly> anomalies = anomalyDetector.getActiveAnomalies(MAX_INSIGHT_ITEMS);
+        List<String> recommendations = new ArrayList<>(forecasts.size() + anomalies.size());
+        for (HealthForecast forecast : forecasts) {
+            recommendations.add(String.format(Locale.ROOT, "Service %s by %s: %s trending %s to %.2f",
+                    vehicleName(forecast.getVehicleCode(), forecast.getVehicleId()),
+                    forecast.getPredictedAt().toLocalDate(), forecast.getMetricType(),
+                    forecast.getRatePerDay() < 0 ? "down" : "up", forecast.getThreshold()));
+        }
+        for (HealthAnomaly anomaly : anomalies) {
+            recommendations.add("Inspect " + vehicleName(anomaly.getVehicleCode(), anomaly.getVehicleId()) + ": "
+                                + anomaly.getMessage());
+        }
+        insights.put("recommendations", recommendations);
+        insights.put("forecasts", forecasts);
+        insights.put("anomalies", anomalies);
         
         return ResponseEntity.ok(insights);
     }
+
+    private static String vehicleName(String vehicleCode, Long id) {
+        return vehicleCode != null ? vehicleCode : "vehicle " + id;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.neurofleetx.controller;
+
+import com.neurofleetx.dto.OptimizationJobStatus;
+import com.neurofleetx.dto.OptimizationRequest;
+import com.neurofleetx.dto.OptimizationResult;
+import com.neurofleetx.service.OptimizationJobService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/optimization/jobs")
+public class OptimizationJobController {
+
+    @Autowired
+    private OptimizationJobService optimizationJobService;
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @PostMapping
+    public ResponseEntity<OptimizationJobStatus> submitJob(
+            @Valid @RequestBody OptimizationRequest request, Authentication authentication) {
+        try {
+            OptimizationJobStatus status = optimizationJobService.submit(request, authentication.getName());
+            return ResponseEntity.accepted().body(status);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @GetMapping
+    public ResponseEntity<List<OptimizationJobStatus>> getJobs() {
+        return ResponseEntity.ok(optimizationJobService.getJobs());
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<OptimizationJobStatus> getJobStatus(@PathVariable String jobId) {
+        return optimizationJobService.getStatus(jobId)
+                .map(status -> ResponseEntity.ok().body(status))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @GetMapping("/{jobId}/result")
+    public ResponseEntity<OptimizationResult> getJobResult(@PathVariable String jobId) {
+        if (optimizationJobService.getStatus(jobId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        // Known job without a result yet (or failed): the status endpoint says why
+        Optional<OptimizationResult> result = optimizationJobService.getResult(jobId);
+        return result.map(ResponseEntity::ok)
+                .orElse(ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamJobProgress(@PathVariable String jobId) {
+        try {
+            return ResponseEntity.ok(optimizationJobService.subscribe(jobId));
+        } catch (OptimizationJobService.JobNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<OptimizationJobStatus> cancelJob(@PathVariable String jobId) {
+        return optimizationJobService.cancel(jobId)
+                .map(status -> ResponseEntity.ok().body(status))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
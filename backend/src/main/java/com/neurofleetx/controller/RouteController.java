@@ -1,7 +1,11 @@
 package com.neurofleetx.controller;
 
+import com.neurofleetx.dto.CursorPage;
+import com.neurofleetx.dto.FleetStats;
+import com.neurofleetx.dto.RouteSummary;
 import com.neurofleetx.model.Route;
 import com.neurofleetx.service.RouteService;
+import com.neurofleetx.service.StatsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -17,10 +21,20 @@ public class RouteController {
     @Autowired
     private RouteService routeService;
 
+    @Autowired
+    private StatsService statsService;
+
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @GetMapping
-    public ResponseEntity<List<Route>> getAllRoutes() {
-        return ResponseEntity.ok(routeService.getAllRoutes());
+    public ResponseEntity<CursorPage<RouteSummary>> getRoutes(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Route.RouteStatus status) {
+        try {
+            return ResponseEntity.ok(routeService.listRoutes(cursor, limit, status));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
@@ -73,10 +87,11 @@ public class RouteController {
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @GetMapping("/analytics")
     public ResponseEntity<Map<String, Object>> getRouteAnalytics() {
+        FleetStats stats = statsService.getFleetStats();
         Map<String, Object> analytics = Map.of(
-            "totalRoutes", routeService.getAllRoutes().size(),
-            "activeRoutes", routeService.getActiveRoutes().size(),
-            "averageOptimization", routeService.getAverageOptimizationSavings()
+            "totalRoutes", stats.getTotalRoutes(),
+            "activeRoutes", stats.routeCount(Route.RouteStatus.ACTIVE),
+            "averageOptimization", stats.getAverageOptimization()
         );
         return ResponseEntity.ok(analytics);
     }
@@ -1,11 +1,29 @@
 package com.neurofleetx.controller;
 
+import com.neurofleetx.dto.CursorPage;
+import com.neurofleetx.dto.FleetStats;
+import com.neurofleetx.dto.NearbyVehicle;
+import com.neurofleetx.dto.TelemetryBatchResult;
+import com.neurofleetx.dto.VehiclePosition;
+import com.neurofleetx.dto.VehicleSummary;
 import com.neurofleetx.model.Vehicle;
+import com.neurofleetx.security.JwtUtils;
+import com.neurofleetx.service.FleetEventBroadcaster;
+import com.neurofleetx.service.FleetStateService;
+import com.neurofleetx.service.StatsService;
+import com.neurofleetx.service.TelemetryService;
 import com.neurofleetx.service.VehicleService;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -18,10 +36,33 @@ public class VehicleController {
     @Autowired
     private VehicleService vehicleService;
 
+    @Autowired
+    private TelemetryService telemetryService;
+
+    @Autowired
+    private FleetStateService fleetStateService;
+
+    @Autowired
+    private FleetEventBroadcaster fleetEventBroadcaster;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @GetMapping
-    public ResponseEntity<List<Vehicle>> getAllVehicles() {
-        return ResponseEntity.ok(vehicleService.getAllVehicles());
+    public ResponseEntity<CursorPage<VehicleSummary>> getVehicles(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Vehicle.VehicleStatus status,
+            @RequestParam(required = false) String type) {
+        try {
+            return ResponseEntity.ok(vehicleService.listVehicles(cursor, limit, status, type));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
@@ -75,29 +116,80 @@ public class VehicleController {
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('DRIVER')")
     @PutMapping("/{vehicleId}/location")
-    public ResponseEntity<Vehicle> updateVehicleLocation(
+    public ResponseEntity<Map<String, String>> updateVehicleLocation(
             @PathVariable String vehicleId,
-            @RequestBody Map<String, Object> locationData) {
-        try {
-            Double latitude = Double.valueOf(locationData.get("latitude").toString());
-            Double longitude = Double.valueOf(locationData.get("longitude").toString());
-            String location = locationData.get("location").toString();
-            
-            Vehicle updatedVehicle = vehicleService.updateVehicleLocation(vehicleId, latitude, longitude, location);
-            return ResponseEntity.ok(updatedVehicle);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().build();
+            @Valid @RequestBody VehiclePosition position) {
+        // Buffered and written in batches; the stored location catches up within one flush interval
+        position.setVehicleId(vehicleId);
+        TelemetryService.IngestResult result = telemetryService.ingest(position);
+        if (result == TelemetryService.IngestResult.UNKNOWN_VEHICLE) {
+            return ResponseEntity.notFound().build();
         }
+        Map<String, String> response = new HashMap<>();
+        response.put("vehicleId", vehicleId);
+        response.put("status", result.name());
+        if (result == TelemetryService.IngestResult.FUTURE_TIMESTAMP) {
+            response.put("message", "timestamp is ahead of the server clock");
+            return ResponseEntity.badRequest().body(response);
+        }
+        return ResponseEntity.accepted().body(response);
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @PostMapping(value = "/telemetry", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<TelemetryBatchResult> ingestTelemetry(InputStream body) throws IOException {
+        // JSON array or NDJSON of positions, e.g. from a gateway aggregating many trucks
+        TelemetryBatchResult result = telemetryService.ingestBatch(body);
+        if (!result.isStored()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(result);
+        }
+        if (result.getError() != null) {
+            return ResponseEntity.badRequest().body(result);
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    // For EventSource clients: GET /stream?token=... within the token's lifetime; fetch a new one to reconnect
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @PostMapping("/stream/token")
+    public ResponseEntity<Map<String, Object>> createStreamToken(Authentication authentication) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("token", jwtUtils.generateStreamToken(authentication.getName()));
+        response.put("expiresInMs", jwtUtils.getStreamTokenExpirationMs());
+        return ResponseEntity.ok(response);
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamFleetEvents() {
+        // Live map and maintenance widgets: one snapshot, then position, status and alert deltas
+        return ResponseEntity.ok(fleetEventBroadcaster.subscribe(fleetStateService::getVehicles));
+    }
+
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyVehicle>> getNearbyVehicles(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Vehicle.VehicleStatus status,
+            @RequestParam(defaultValue = "5") int limit) {
+        // Answered from the live fleet state: nearest available vehicles, or every vehicle within a radius
+        if (radiusKm != null) {
+            return ResponseEntity.ok(fleetStateService.withinRadius(latitude, longitude, radiusKm, status));
+        }
+        return ResponseEntity.ok(fleetStateService.nearestAvailable(latitude, longitude, limit, 0.0));
     }
 
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getVehicleStats() {
+        FleetStats fleetStats = statsService.getFleetStats();
         Map<String, Object> stats = Map.of(
-            "total", vehicleService.getAllVehicles().size(),
-            "active", vehicleService.getVehicleCountByStatus(Vehicle.VehicleStatus.EN_ROUTE),
-            "available", vehicleService.getVehicleCountByStatus(Vehicle.VehicleStatus.AVAILABLE),
-            "maintenance", vehicleService.getVehicleCountByStatus(Vehicle.VehicleStatus.MAINTENANCE)
+            "total", fleetStats.getTotalVehicles(),
+            "active", fleetStats.vehicleCount(Vehicle.VehicleStatus.EN_ROUTE),
+            "available", fleetStats.vehicleCount(Vehicle.VehicleStatus.AVAILABLE),
+            "maintenance", fleetStats.vehicleCount(Vehicle.VehicleStatus.MAINTENANCE)
         );
         return ResponseEntity.ok(stats);
     }
@@ -105,25 +197,13 @@ public class VehicleController {
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @GetMapping("/maintenance-status")
     public ResponseEntity<Map<String, Integer>> getMaintenanceStatus() {
-        List<Vehicle> allVehicles = vehicleService.getAllVehicles();
+        FleetStats stats = statsService.getFleetStats();
         
+        // Critical when in maintenance; due when the battery is low or the vehicle is offline
         Map<String, Integer> maintenanceStatus = new HashMap<>();
-        int healthy = 0;
-        int due = 0;
-        int critical = 0;
-        
-        for (Vehicle vehicle : allVehicles) {
-            // Simulate maintenance status based on vehicle status and battery level
-            if (vehicle.getStatus() == Vehicle.VehicleStatus.MAINTENANCE) {
-                critical++;
-            } else if (vehicle.getBatteryLevel() != null && vehicle.getBatteryLevel() < 30) {
-                due++;
-            } else if (vehicle.getStatus() == Vehicle.VehicleStatus.OFFLINE) {
-                due++;
-            } else {
-                healthy++;
-            }
-        }
+        int healthy = (int) stats.getHealthyVehicles();
+        int due = (int) stats.getMaintenanceDueVehicles();
+        int critical = (int) stats.vehicleCount(Vehicle.VehicleStatus.MAINTENANCE);
         
         maintenanceStatus.put("healthy", healthy);
         maintenanceStatus.put("due", due);
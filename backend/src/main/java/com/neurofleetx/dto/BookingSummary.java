@@ -0,0 +1,72 @@
+package com.neurofleetx.dto;
+
+import com.neurofleetx.model.Booking;
+import java.time.LocalDateTime;
+
+public class BookingSummary {
+    private Long id;
+    private String bookingId;
+    private String vehicleId;
+    private String pickupLocation;
+    private String deliveryLocation;
+    private Double loadWeight; // in kg
+    private Double estimatedCost;
+    private Booking.BookingStatus status;
+    private Integer progress;
+    private LocalDateTime scheduledDate;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public BookingSummary() {}
+
+    public BookingSummary(Long id, String bookingId, String vehicleId, String pickupLocation,
+                          String deliveryLocation, Double loadWeight, Double estimatedCost,
+                          Booking.BookingStatus status, Integer progress, LocalDateTime scheduledDate,
+                          LocalDateTime createdAt) {
+        this.id = id;
+        this.bookingId = bookingId;
+        this.vehicleId = vehicleId;
+        this.pickupLocation = pickupLocation;
+        this.deliveryLocation = deliveryLocation;
+        this.loadWeight = loadWeight;
+        this.estimatedCost = estimatedCost;
+        this.status = status;
+        this.progress = progress;
+        this.scheduledDate = scheduledDate;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getBookingId() { return bookingId; }
+    public void setBookingId(String bookingId) { this.bookingId = bookingId; }
+
+    public String getVehicleId() { return vehicleId; }
+    public void setVehicleId(String vehicleId) { this.vehicleId = vehicleId; }
+
+    public String getPickupLocation() { return pickupLocation; }
+    public void setPickupLocation(String pickupLocation) { this.pickupLocation = pickupLocation; }
+
+    public String getDeliveryLocation() { return deliveryLocation; }
+    public void setDeliveryLocation(String deliveryLocation) { this.deliveryLocation = deliveryLocation; }
+
+    public Double getLoadWeight() { return loadWeight; }
+    public void setLoadWeight(Double loadWeight) { this.loadWeight = loadWeight; }
+
+    public Double getEstimatedCost() { return estimatedCost; }
+    public void setEstimatedCost(Double estimatedCost) { this.estimatedCost = estimatedCost; }
+
+    public Booking.BookingStatus getStatus() { return status; }
+    public void setStatus(Booking.BookingStatus status) { this.status = status; }
+
+    public Integer getProgress() { return progress; }
+    public void setProgress(Integer progress) { this.progress = progress; }
+
+    public LocalDateTime getScheduledDate() { return scheduledDate; }
+    public void setScheduledDate(LocalDateTime scheduledDate) { this.scheduledDate = scheduledDate; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,90 @@
+package com.neurofleetx.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset (seek) listing, newest first. {@code nextCursor} is opaque to clients and
+ * resumes right after the last item; it is null on the last page.
+ */
+public class CursorPage<T> {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private List<T> items;
+    private String nextCursor;
+    private int limit;
+
+    // Constructors
+    public CursorPage() {}
+
+    public CursorPage(List<T> items, String nextCursor, int limit) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    public static int clampLimit(Integer limit) {
+        if (limit == null || limit <= 0) return DEFAULT_LIMIT;
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /** Builds the page from a query that fetched up to {@code limit + 1} rows. */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, Cursor> cursorOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null, limit);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)).encode(), limit);
+    }
+
+    // Getters and Setters
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public int getLimit() { return limit; }
+    public void setLimit(int limit) { this.limit = limit; }
+
+    // Inner classes
+    /** Position in a (timestamp DESC, id DESC) ordering; rows strictly after it come next. */
+    public static class Cursor {
+        // Sorts after every real row, so the first page uses the same query as the rest
+        public static final Cursor START = new Cursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+        private final LocalDateTime timestamp;
+        private final Long id;
+
+        public Cursor(LocalDateTime timestamp, Long id) {
+            this.timestamp = timestamp;
+            this.id = id;
+        }
+
+        /** Decodes a client-supplied cursor; a blank one means the first page. */
+        public static Cursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) return START;
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                if (parts.length != 2) throw new IllegalArgumentException("Invalid cursor: " + cursor);
+                return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+
+        public String encode() {
+            String raw = timestamp + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public LocalDateTime getTimestamp() { return timestamp; }
+
+        public Long getId() { return id; }
+    }
+}
@@ -0,0 +1,118 @@
+package com.neurofleetx.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.neurofleetx.model.MaintenanceLog;
+import com.neurofleetx.model.Vehicle;
+import java.time.LocalDateTime;
+
+/** One change pushed to live dashboards; only the fields of its type are set. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FleetEvent {
+    private long sequence;
+    private Type type;
+    private String vehicleId;
+    private LocalDateTime timestamp;
+
+    // POSITION
+    private Double latitude;
+    private Double longitude;
+    private Double speed;
+
+    // STATUS (previousStatus is null for a vehicle that was just added)
+    private Vehicle.VehicleStatus previousStatus;
+    private Vehicle.VehicleStatus status;
+
+    // ALERT
+    private Long alertId;
+    private MaintenanceLog.MetricType metricType;
+    private Double value;
+    private MaintenanceLog.AlertSeverity severity;
+    private String message;
+
+    // Constructors
+    public FleetEvent() {}
+
+    public FleetEvent(Type type, String vehicleId, LocalDateTime timestamp) {
+        this.type = type;
+        this.vehicleId = vehicleId;
+        this.timestamp = timestamp;
+    }
+
+    public static FleetEvent position(VehicleSnapshot vehicle) {
+        FleetEvent event = new FleetEvent(Type.POSITION, vehicle.getVehicleId(), vehicle.getLastUpdated());
+        event.setLatitude(vehicle.getLatitude());
+        event.setLongitude(vehicle.getLongitude());
+        event.setSpeed(vehicle.getSpeed());
+        return event;
+    }
+
+    public static FleetEvent status(VehicleSnapshot vehicle, Vehicle.VehicleStatus previousStatus) {
+        FleetEvent event = new FleetEvent(Type.STATUS, vehicle.getVehicleId(), vehicle.getLastUpdated());
+        event.setPreviousStatus(previousStatus);
+        event.setStatus(vehicle.getStatus());
+        return event;
+    }
+
+    public static FleetEvent removed(String vehicleId) {
+        return new FleetEvent(Type.REMOVED, vehicleId, LocalDateTime.now());
+    }
+
+    public static FleetEvent alert(MaintenanceLog log) {
+        String vehicleId = log.getVehicle() != null ? log.getVehicle().getVehicleId() : null;
+        FleetEvent event = new FleetEvent(Type.ALERT, vehicleId, log.getRecordedAt());
+        event.setAlertId(log.getId());
+        event.setMetricType(log.getMetricType());
+        event.setValue(log.getValue());
+        event.setSeverity(log.getAlertSeverity());
+        event.setMessage(log.getAlertMessage());
+        return event;
+    }
+
+    // Getters and Setters
+    public long getSequence() { return sequence; }
+    public void setSequence(long sequence) { this.sequence = sequence; }
+
+    public Type getType() { return type; }
+    public void setType(Type type) { this.type = type; }
+
+    public String getVehicleId() { return vehicleId; }
+    public void setVehicleId(String vehicleId) { this.vehicleId = vehicleId; }
+
+    public LocalDateTime getTimestamp() { return timestamp; }
+    public void setTimestamp(LocalDateTime timestamp) { this.timestamp = timestamp; }
+
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
+    public Double getSpeed() { return speed; }
+    public void setSpeed(Double speed) { this.speed = speed; }
+
+    public Vehicle.VehicleStatus getPreviousStatus() { return previousStatus; }
+    public void setPreviousStatus(Vehicle.VehicleStatus previousStatus) { this.previousStatus = previousStatus; }
+
+    public Vehicle.VehicleStatus getStatus() { return status; }
+    public void setStatus(Vehicle.VehicleStatus status) { this.status = status; }
+
+    public Long getAlertId() { return alertId; }
+    public void setAlertId(Long alertId) { this.alertId = alertId; }
+
+    public MaintenanceLog.MetricType getMetricType() { return metricType; }
+    public void setMetricType(MaintenanceLog.MetricType metricType) { this.metricType = metricType; }
+
+    public Double getValue() { return value; }
+    public void setValue(Double value) { this.value = value; }
+
+    public MaintenanceLog.AlertSeverity getSeverity() { return severity; }
+    public void setSeverity(MaintenanceLog.AlertSeverity severity) { this.severity = severity; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    // Enums
+    public enum Type {
+        POSITION, STATUS, ALERT, REMOVED
+    }
+}
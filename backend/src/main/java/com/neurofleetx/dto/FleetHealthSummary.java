@@ -0,0 +1,47 @@
+package com.neurofleetx.dto;
+
+import com.neurofleetx.model.MaintenanceLog;
+import com.neurofleetx.model.VehicleHealthMetrics;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class FleetHealthSummary {
+    private long totalVehiclesMonitored;
+    private double averageHealthScore;
+    private long vehiclesNeedingMaintenance;
+    private Map<VehicleHealthMetrics.HealthStatus, Long> healthStatusCounts =
+            new EnumMap<>(VehicleHealthMetrics.HealthStatus.class);
+    private long totalActiveAlerts;
+    private Map<MaintenanceLog.AlertSeverity, Long> activeAlertsBySeverity =
+            new EnumMap<>(MaintenanceLog.AlertSeverity.class);
+
+    // Constructors
+    public FleetHealthSummary() {}
+
+    public long healthStatusCount(VehicleHealthMetrics.HealthStatus status) {
+        return healthStatusCounts.getOrDefault(status, 0L);
+    }
+
+    public long activeAlertCount(MaintenanceLog.AlertSeverity severity) {
+        return activeAlertsBySeverity.getOrDefault(severity, 0L);
+    }
+
+    // Getters and Setters
+    public long getTotalVehiclesMonitored() { return totalVehiclesMonitored; }
+    public void setTotalVehiclesMonitored(long totalVehiclesMonitored) { this.totalVehiclesMonitored = totalVehiclesMonitored; }
+
+    public double getAverageHealthScore() { return averageHealthScore; }
+    public void setAverageHealthScore(double averageHealthScore) { this.averageHealthScore = averageHealthScore; }
+
+    public long getVehiclesNeedingMaintenance() { return vehiclesNeedingMaintenance; }
+    public void setVehiclesNeedingMaintenance(long vehiclesNeedingMaintenance) { this.vehiclesNeedingMaintenance = vehiclesNeedingMaintenance; }
+
+    public Map<VehicleHealthMetrics.HealthStatus, Long> getHealthStatusCounts() { return healthStatusCounts; }
+    public void setHealthStatusCounts(Map<VehicleHealthMetrics.HealthStatus, Long> healthStatusCounts) { this.healthStatusCounts = healthStatusCounts; }
+
+    public long getTotalActiveAlerts() { return totalActiveAlerts; }
+    public void setTotalActiveAlerts(long totalActiveAlerts) { this.totalActiveAlerts = totalActiveAlerts; }
+
+    public Map<MaintenanceLog.AlertSeverity, Long> getActiveAlertsBySeverity() { return activeAlertsBySeverity; }
+    public void setActiveAlertsBySeverity(Map<MaintenanceLog.AlertSeverity, Long> activeAlertsBySeverity) { this.activeAlertsBySeverity = activeAlertsBySeverity; }
+}
@@ -0,0 +1,88 @@
+package com.neurofleetx.dto;
+
+import com.neurofleetx.model.Booking;
+import com.neurofleetx.model.Route;
+import com.neurofleetx.model.Trip;
+import com.neurofleetx.model.Vehicle;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class FleetStats {
+    private Map<Vehicle.VehicleStatus, Long> vehiclesByStatus = new EnumMap<>(Vehicle.VehicleStatus.class);
+    private Map<Route.RouteStatus, Long> routesByStatus = new EnumMap<>(Route.RouteStatus.class);
+    private Map<Trip.TripStatus, Long> monthlyTripsByStatus = new EnumMap<>(Trip.TripStatus.class);
+    private Map<Booking.BookingStatus, Long> monthlyBookingsByStatus = new EnumMap<>(Booking.BookingStatus.class);
+    private long totalVehicles;
+    private long activeVehicles; // EN_ROUTE or LOADING
+    private long maintenanceDueVehicles; // low battery or offline
+    private long healthyVehicles;
+    private long totalRoutes;
+    private double averageOptimization;
+    private double fleetUtilization; // % of vehicles active
+    private Double fuelEfficiency; // km per litre over routes with fuel data; null when there are none
+    private double monthlyRevenue;
+    private double monthlyCosts; // driver earnings on this month's trips
+    private double monthlyDistance; // in km
+    private LocalDateTime computedAt;
+
+    // Constructors
+    public FleetStats() {}
+
+    public long vehicleCount(Vehicle.VehicleStatus status) {
+        return vehiclesByStatus.getOrDefault(status, 0L);
+    }
+
+    public long routeCount(Route.RouteStatus status) {
+        return routesByStatus.getOrDefault(status, 0L);
+    }
+
+    // Getters and Setters
+    public Map<Vehicle.VehicleStatus, Long> getVehiclesByStatus() { return vehiclesByStatus; }
+    public void setVehiclesByStatus(Map<Vehicle.VehicleStatus, Long> vehiclesByStatus) { this.vehiclesByStatus = vehiclesByStatus; }
+
+    public Map<Route.RouteStatus, Long> getRoutesByStatus() { return routesByStatus; }
+    public void setRoutesByStatus(Map<Route.RouteStatus, Long> routesByStatus) { this.routesByStatus = routesByStatus; }
+
+    public Map<Trip.TripStatus, Long> getMonthlyTripsByStatus() { return monthlyTripsByStatus; }
+    public void setMonthlyTripsByStatus(Map<Trip.TripStatus, Long> monthlyTripsByStatus) { this.monthlyTripsByStatus = monthlyTripsByStatus; }
+
+    public Map<Booking.BookingStatus, Long> getMonthlyBookingsByStatus() { return monthlyBookingsByStatus; }
+    public void setMonthlyBookingsByStatus(Map<Booking.BookingStatus, Long> monthlyBookingsByStatus) { this.monthlyBookingsByStatus = monthlyBookingsByStatus; }
+
+    public long getTotalVehicles() { return totalVehicles; }
+    public void setTotalVehicles(long totalVehicles) { this.totalVehicles = totalVehicles; }
+
+    public long getActiveVehicles() { return activeVehicles; }
+    public void setActiveVehicles(long activeVehicles) { this.activeVehicles = activeVehicles; }
+
+    public long getMaintenanceDueVehicles() { return maintenanceDueVehicles; }
+    public void setMaintenanceDueVehicles(long maintenanceDueVehicles) { this.maintenanceDueVehicles = maintenanceDueVehicles; }
+
+    public long getHealthyVehicles() { return healthyVehicles; }
+    public void setHealthyVehicles(long healthyVehicles) { this.healthyVehicles = healthyVehicles; }
+
+    public long getTotalRoutes() { return totalRoutes; }
+    public void setTotalRoutes(long totalRoutes) { this.totalRoutes = totalRoutes; }
+
+    public double getAverageOptimization() { return averageOptimization; }
+    public void setAverageOptimization(double averageOptimization) { this.averageOptimization = averageOptimization; }
+
+    public double getFleetUtilization() { return fleetUtilization; }
+    public void setFleetUtilization(double fleetUtilization) { this.fleetUtilization = fleetUtilization; }
+
+    public Double getFuelEfficiency() { return fuelEfficiency; }
+    public void setFuelEfficiency(Double fuelEfficiency) { this.fuelEfficiency = fuelEfficiency; }
+
+    public double getMonthlyRevenue() { return monthlyRevenue; }
+    public void setMonthlyRevenue(double monthlyRevenue) { this.monthlyRevenue = monthlyRevenue; }
+
+    public double getMonthlyCosts() { return monthlyCosts; }
+    public void setMonthlyCosts(double monthlyCosts) { this.monthlyCosts = monthlyCosts; }
+
+    public double getMonthlyDistance() { return monthlyDistance; }
+    public void setMonthlyDistance(double monthlyDistance) { this.monthlyDistance = monthlyDistance; }
+
+    public LocalDateTime getComputedAt() { return computedAt; }
+    public void setComputedAt(LocalDateTime computedAt) { this.computedAt = computedAt; }
+}
@@ -0,0 +1,74 @@
+package com.neurofleetx.dto;
+
+import com.neurofleetx.model.MaintenanceLog;
+import java.time.LocalDateTime;
+
+public class HealthAnomaly {
+    private Long vehicleId;
+    private String vehicleCode;
+    private MaintenanceLog.MetricType metricType;
+    private Kind kind;
+    private boolean high;
+    private double value;
+    private double baselineMean;
+    private double baselineStdDev;
+    private double score;
+    private String message;
+    private LocalDateTime detectedAt;
+
+    // Constructors
+    public HealthAnomaly() {}
+
+    public HealthAnomaly(Long vehicleId, String vehicleCode, MaintenanceLog.MetricType metricType, Kind kind,
+                         boolean high, double value, double baselineMean, double baselineStdDev, double score) {
+        this.vehicleId = vehicleId;
+        this.vehicleCode = vehicleCode;
+        this.metricType = metricType;
+        this.kind = kind;
+        this.high = high;
+        this.value = value;
+        this.baselineMean = baselineMean;
+        this.baselineStdDev = baselineStdDev;
+        this.score = score;
+        this.detectedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getVehicleId() { return vehicleId; }
+    public void setVehicleId(Long vehicleId) { this.vehicleId = vehicleId; }
+
+    public String getVehicleCode() { return vehicleCode; }
+    public void setVehicleCode(String vehicleCode) { this.vehicleCode = vehicleCode; }
+
+    public MaintenanceLog.MetricType getMetricType() { return metricType; }
+    public void setMetricType(MaintenanceLog.MetricType metricType) { this.metricType = metricType; }
+
+    public Kind getKind() { return kind; }
+    public void setKind(Kind kind) { this.kind = kind; }
+
+    public boolean isHigh() { return high; }
+    public void setHigh(boolean high) { this.high = high; }
+
+    public double getValue() { return value; }
+    public void setValue(double value) { this.value = value; }
+
+    public double getBaselineMean() { return baselineMean; }
+    public void setBaselineMean(double baselineMean) { this.baselineMean = baselineMean; }
+
+    public double getBaselineStdDev() { return baselineStdDev; }
+    public void setBaselineStdDev(double baselineStdDev) { this.baselineStdDev = baselineStdDev; }
+
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public LocalDateTime getDetectedAt() { return detectedAt; }
+    public void setDetectedAt(LocalDateTime detectedAt) { this.detectedAt = detectedAt; }
+
+    /** SPIKE: one reading far from the baseline; SHIFT: CUSUM level change; DRIFT: EWMA moved off the mean. */
+    public enum Kind {
+        SPIKE, SHIFT, DRIFT
+    }
+}
@@ -0,0 +1,75 @@
+package com.neurofleetx.dto;
+
+import com.neurofleetx.model.MaintenanceLog;
+import java.time.LocalDateTime;
+
+public class HealthForecast {
+    private Long vehicleId;
+    private String vehicleCode;
+    private MaintenanceLog.MetricType metricType;
+    private Model model;
+    private double currentValue;
+    private double ratePerDay;
+    private double threshold;
+    private double hoursToThreshold;
+    private LocalDateTime predictedAt;
+    private int points;
+    private LocalDateTime fittedAt;
+
+    // Constructors
+    public HealthForecast() {}
+
+    public HealthForecast(Long vehicleId, String vehicleCode, MaintenanceLog.MetricType metricType, Model model,
+                          double currentValue, double ratePerDay, double threshold, double hoursToThreshold,
+                          LocalDateTime predictedAt, int points) {
+        this.vehicleId = vehicleId;
+        this.vehicleCode = vehicleCode;
+        this.metricType = metricType;
+        this.model = model;
+        this.currentValue = currentValue;
+        this.ratePerDay = ratePerDay;
+        this.threshold = threshold;
+        this.hoursToThreshold = hoursToThreshold;
+        this.predictedAt = predictedAt;
+        this.points = points;
+        this.fittedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getVehicleId() { return vehicleId; }
+    public void setVehicleId(Long vehicleId) { this.vehicleId = vehicleId; }
+
+    public String getVehicleCode() { return vehicleCode; }
+    public void setVehicleCode(String vehicleCode) { this.vehicleCode = vehicleCode; }
+
+    public MaintenanceLog.MetricType getMetricType() { return metricType; }
+    public void setMetricType(MaintenanceLog.MetricType metricType) { this.metricType = metricType; }
+
+    public Model getModel() { return model; }
+    public void setModel(Model model) { this.model = model; }
+
+    public double getCurrentValue() { return currentValue; }
+    public void setCurrentValue(double currentValue) { this.currentValue = currentValue; }
+
+    public double getRatePerDay() { return ratePerDay; }
+    public void setRatePerDay(double ratePerDay) { this.ratePerDay = ratePerDay; }
+
+    public double getThreshold() { return threshold; }
+    public void setThreshold(double threshold) { this.threshold = threshold; }
+
+    public double getHoursToThreshold() { return hoursToThreshold; }
+    public void setHoursToThreshold(double hoursToThreshold) { this.hoursToThreshold = hoursToThreshold; }
+
+    public LocalDateTime getPredictedAt() { return predictedAt; }
+    public void setPredictedAt(LocalDateTime predictedAt) { this.predictedAt = predictedAt; }
+
+    public int getPoints() { return points; }
+    public void setPoints(int points) { this.points = points; }
+
+    public LocalDateTime getFittedAt() { return fittedAt; }
+    public void setFittedAt(LocalDateTime fittedAt) { this.fittedAt = fittedAt; }
+
+    public enum Model {
+        LINEAR, EXPONENTIAL
+    }
+}
@@ -0,0 +1,83 @@
+package com.neurofleetx.dto;
+
+import com.neurofleetx.model.HealthSeriesChunk;
+import com.neurofleetx.model.MaintenanceLog;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class HealthHistory {
+    private Long vehicleId;
+    private MaintenanceLog.MetricType metricType;
+    private HealthSeriesChunk.Resolution resolution;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<Point> points = new ArrayList<>();
+
+    // Constructors
+    public HealthHistory() {}
+
+    public HealthHistory(Long vehicleId, MaintenanceLog.MetricType metricType, HealthSeriesChunk.Resolution resolution,
+                         LocalDateTime from, LocalDateTime to) {
+        this.vehicleId = vehicleId;
+        this.metricType = metricType;
+        this.resolution = resolution;
+        this.from = from;
+        this.to = to;
+    }
+
+    // Getters and Setters
+    public Long getVehicleId() { return vehicleId; }
+    public void setVehicleId(Long vehicleId) { this.vehicleId = vehicleId; }
+
+    public MaintenanceLog.MetricType getMetricType() { return metricType; }
+    public void setMetricType(MaintenanceLog.MetricType metricType) { this.metricType = metricType; }
+
+    public HealthSeriesChunk.Resolution getResolution() { return resolution; }
+    public void setResolution(HealthSeriesChunk.Resolution resolution) { this.resolution = resolution; }
+
+    public LocalDateTime getFrom() { return from; }
+    public void setFrom(LocalDateTime from) { this.from = from; }
+
+    public LocalDateTime getTo() { return to; }
+    public void setTo(LocalDateTime to) { this.to = to; }
+
+    public List<Point> getPoints() { return points; }
+    public void setPoints(List<Point> points) { this.points = points; }
+
+    // A raw reading (count 1), or a bucket starting at time
+    public static class Point {
+        private LocalDateTime time;
+        private double average;
+        private double min;
+        private double max;
+        private long count;
+
+        // Constructors
+        public Point() {}
+
+        public Point(LocalDateTime time, double average, double min, double max, long count) {
+            this.time = time;
+            this.average = average;
+            this.min = min;
+            this.max = max;
+            this.count = count;
+        }
+
+        // Getters and Setters
+        public LocalDateTime getTime() { return time; }
+        public void setTime(LocalDateTime time) { this.time = time; }
+
+        public double getAverage() { return average; }
+        public void setAverage(double average) { this.average = average; }
+
+        public double getMin() { return min; }
+        public void setMin(double min) { this.min = min; }
+
+        public double getMax() { return max; }
+        public void setMax(double max) { this.max = max; }
+
+        public long getCount() { return count; }
+        public void setCount(long count) { this.count = count; }
+    }
+}
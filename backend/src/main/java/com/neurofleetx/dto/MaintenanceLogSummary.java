@@ -0,0 +1,56 @@
+package com.neurofleetx.dto;
+
+import com.neurofleetx.model.MaintenanceLog;
+import java.time.LocalDateTime;
+
+public class MaintenanceLogSummary {
+    private Long id;
+    private String vehicleId;
+    private MaintenanceLog.MetricType metricType;
+    private Double value;
+    private Boolean alert;
+    private MaintenanceLog.AlertSeverity alertSeverity;
+    private String alertMessage;
+    private LocalDateTime recordedAt;
+
+    // Constructors
+    public MaintenanceLogSummary() {}
+
+    public MaintenanceLogSummary(Long id, String vehicleId, MaintenanceLog.MetricType metricType,
+                                 Double value, Boolean alert, MaintenanceLog.AlertSeverity alertSeverity,
+                                 String alertMessage, LocalDateTime recordedAt) {
+        this.id = id;
+        this.vehicleId = vehicleId;
+        this.metricType = metricType;
+        this.value = value;
+        this.alert = alert;
+        this.alertSeverity = alertSeverity;
+        this.alertMessage = alertMessage;
+        this.recordedAt = recordedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getVehicleId() { return vehicleId; }
+    public void setVehicleId(String vehicleId) { this.vehicleId = vehicleId; }
+
+    public MaintenanceLog.MetricType getMetricType() { return metricType; }
+    public void setMetricType(MaintenanceLog.MetricType metricType) { this.metricType = metricType; }
+
+    public Double getValue() { return value; }
+    public void setValue(Double value) { this.value = value; }
+
+    public Boolean getAlert() { return alert; }
+    public void setAlert(Boolean alert) { this.alert = alert; }
+
+    public MaintenanceLog.AlertSeverity getAlertSeverity() { return alertSeverity; }
+    public void setAlertSeverity(MaintenanceLog.AlertSeverity alertSeverity) { this.alertSeverity = alertSeverity; }
+
+    public String getAlertMessage() { return alertMessage; }
+    public void setAlertMessage(String alertMessage) { this.alertMessage = alertMessage; }
+
+    public LocalDateTime getRecordedAt() { return recordedAt; }
+    public void setRecordedAt(LocalDateTime recordedAt) { this.recordedAt = recordedAt; }
+}
@@ -0,0 +1,21 @@
+package com.neurofleetx.dto;
+
+public class NearbyVehicle {
+    private VehicleSnapshot vehicle;
+    private Double distanceKm;
+
+    // Constructors
+    public NearbyVehicle() {}
+
+    public NearbyVehicle(VehicleSnapshot vehicle, Double distanceKm) {
+        this.vehicle = vehicle;
+        this.distanceKm = distanceKm;
+    }
+
+    // Getters and Setters
+    public VehicleSnapshot getVehicle() { return vehicle; }
+    public void setVehicle(VehicleSnapshot vehicle) { this.vehicle = vehicle; }
+
+    public Double getDistanceKm() { return distanceKm; }
+    public void setDistanceKm(Double distanceKm) { this.distanceKm = distanceKm; }
+}
@@ -0,0 +1,55 @@
+package com.neurofleetx.dto;
+
+import java.time.LocalDateTime;
+
+public class OptimizationJobStatus {
+    private String jobId;
+    private String status;
+    private Double progress;
+    private Integer generation;
+    private Double bestFitness;
+    private String submittedBy;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private String error;
+
+    // Constructors
+    public OptimizationJobStatus() {}
+
+    public OptimizationJobStatus(String jobId, String status) {
+        this.jobId = jobId;
+        this.status = status;
+    }
+
+    // Getters and Setters
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public Double getProgress() { return progress; }
+    public void setProgress(Double progress) { this.progress = progress; }
+
+    public Integer getGeneration() { return generation; }
+    public void setGeneration(Integer generation) { this.generation = generation; }
+
+    public Double getBestFitness() { return bestFitness; }
+    public void setBestFitness(Double bestFitness) { this.bestFitness = bestFitness; }
+
+    public String getSubmittedBy() { return submittedBy; }
+    public void setSubmittedBy(String submittedBy) { this.submittedBy = submittedBy; }
+
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+    public void setSubmittedAt(LocalDateTime submittedAt) { this.submittedAt = submittedAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -1,6 +1,8 @@
 package com.neurofleetx.dto;
 
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
 import java.util.List;
 
 public class OptimizationRequest {
@@ -12,6 +14,18 @@ public class OptimizationRequest {
     private Integer maxVehicles;
     private Boolean prioritizeElectric;
 
+    @Positive
+    private Long timeBudgetMs; // wall-clock budget; the best plan found so far is returned when it expires
+    private Double targetFitness; // stop early once a plan this good is found
+    @Positive
+    private Integer maxGenerations;
+
+    @Pattern(regexp = "(?i)KMEANS|DBSCAN")
+    private String clusteringAlgorithm; // spatial clustering for ROUTE optimization
+    @Positive
+    private Integer clusterCount; // KMEANS only; defaults to what the fleet and loads need
+    private Long seed; // fixes every random choice so the same request yields the same plan
+
     // Constructors
     public OptimizationRequest() {}
 
@@ -35,4 +49,22 @@ public class OptimizationRequest {
 
     public Boolean getPrioritizeElectric() { return prioritizeElectric; }
     public void setPrioritizeElectric(Boolean prioritizeElectric) { this.prioritizeElectric = prioritizeElectric; }
-}
\ No newline at end of file
+
+    public Long getTimeBudgetMs() { return timeBudgetMs; }
+    public void setTimeBudgetMs(Long timeBudgetMs) { this.timeBudgetMs = timeBudgetMs; }
+
+    public Double getTargetFitness() { return targetFitness; }
+    public void setTargetFitness(Double targetFitness) { this.targetFitness = targetFitness; }
+
+    public Integer getMaxGenerations() { return maxGenerations; }
+    public void setMaxGenerations(Integer maxGenerations) { this.maxGenerations = maxGenerations; }
+
+    public String getClusteringAlgorithm() { return clusteringAlgorithm; }
+    public void setClusteringAlgorithm(String clusteringAlgorithm) { this.clusteringAlgorithm = clusteringAlgorithm; }
+
+    public Integer getClusterCount() { return clusterCount; }
+    public void setClusterCount(Integer clusterCount) { this.clusterCount = clusterCount; }
+
+    public Long getSeed() { return seed; }
+    public void setSeed(Long seed) { this.seed = seed; }
+}
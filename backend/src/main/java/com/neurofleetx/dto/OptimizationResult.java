@@ -38,10 +38,12 @@ public class OptimizationResult {
         private Vehicle vehicle;
         private List<Booking> assignedBookings;
         private Double totalDistance;
+        private Double initialDistance; // before local search
         private Double totalLoad;
         private Double utilizationRate;
         private Integer estimatedTime;
         private List<String> optimizedRoute;
+        private List<RouteStop> stops;
 
         // Constructors
         public VehicleAssignment() {}
@@ -61,6 +63,9 @@ public class OptimizationResult {
         public Double getTotalDistance() { return totalDistance; }
         public void setTotalDistance(Double totalDistance) { this.totalDistance = totalDistance; }
 
+        public Double getInitialDistance() { return initialDistance; }
+        public void setInitialDistance(Double initialDistance) { this.initialDistance = initialDistance; }
+
         public Double getTotalLoad() { return totalLoad; }
         public void setTotalLoad(Double totalLoad) { this.totalLoad = totalLoad; }
 
@@ -72,16 +77,56 @@ public class OptimizationResult {
 
         public List<String> getOptimizedRoute() { return optimizedRoute; }
         public void setOptimizedRoute(List<String> optimizedRoute) { this.optimizedRoute = optimizedRoute; }
+
+        public List<RouteStop> getStops() { return stops; }
+        public void setStops(List<RouteStop> stops) { this.stops = stops; }
+    }
+
+    public static class RouteStop {
+        private String bookingId;
+        private String type; // "PICKUP" or "DELIVERY"
+        private String location;
+        private Double loadAfter; // on board when leaving the stop
+
+        // Constructors
+        public RouteStop() {}
+
+        public RouteStop(String bookingId, String type, String location, Double loadAfter) {
+            this.bookingId = bookingId;
+            this.type = type;
+            this.location = location;
+            this.loadAfter = loadAfter;
+        }
+
+        // Getters and Setters
+        public String getBookingId() { return bookingId; }
+        public void setBookingId(String bookingId) { this.bookingId = bookingId; }
+
+        public String getType() { return type; }
+        public void setType(String type) { this.type = type; }
+
+        public String getLocation() { return location; }
+        public void setLocation(String location) { this.location = location; }
+
+        public Double getLoadAfter() { return loadAfter; }
+        public void setLoadAfter(Double loadAfter) { this.loadAfter = loadAfter; }
     }
 
     public static class OptimizationMetrics {
         private Double totalDistance;
-        private Double fuelSavings;
+        private Double initialDistance; // constructed routes, before local search
+        private Double improvementPercent; // distance removed by local search
+        private Double fuelSavings; // percent; fuel use scales with distance
         private Integer timeSavings;
         private Double costReduction;
         private Double averageUtilization;
         private Integer vehiclesUsed;
         private String algorithm;
+        private Integer iterations; // generations (GA) or improvement passes that ran
+        private Long evaluations;
+        private Long elapsedMs;
+        private String stopReason;
+        private Double fitness;
 
         // Constructors
         public OptimizationMetrics() {}
@@ -90,6 +135,12 @@ public class OptimizationResult {
         public Double getTotalDistance() { return totalDistance; }
         public void setTotalDistance(Double totalDistance) { this.totalDistance = totalDistance; }
 
+        public Double getInitialDistance() { return initialDistance; }
+        public void setInitialDistance(Double initialDistance) { this.initialDistance = initialDistance; }
+
+        public Double getImprovementPercent() { return improvementPercent; }
+        public void setImprovementPercent(Double improvementPercent) { this.improvementPercent = improvementPercent; }
+
         public Double getFuelSavings() { return fuelSavings; }
         public void setFuelSavings(Double fuelSavings) { this.fuelSavings = fuelSavings; }
 
@@ -107,5 +158,20 @@ public class OptimizationResult {
 
         public String getAlgorithm() { return algorithm; }
         public void setAlgorithm(String algorithm) { this.algorithm = algorithm; }
+
+        public Integer getIterations() { return iterations; }
+        public void setIterations(Integer iterations) { this.iterations = iterations; }
+
+        public Long getEvaluations() { return evaluations; }
+        public void setEvaluations(Long evaluations) { this.evaluations = evaluations; }
+
+        public Long getElapsedMs() { return elapsedMs; }
+        public void setElapsedMs(Long elapsedMs) { this.elapsedMs = elapsedMs; }
+
+        public String getStopReason() { return stopReason; }
+        public void setStopReason(String stopReason) { this.stopReason = stopReason; }
+
+        public Double getFitness() { return fitness; }
+        public void setFitness(Double fitness) { this.fitness = fitness; }
     }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.neurofleetx.dto;
+
+import com.neurofleetx.model.Route;
+import java.time.LocalDateTime;
+
+public class RouteSummary {
+    private Long id;
+    private String routeId;
+    private String vehicleId;
+    private String origin;
+    private String destination;
+    private Double distance;
+    private Integer estimatedTime;
+    private Double aiOptimizationSavings;
+    private Route.RouteStatus status;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public RouteSummary() {}
+
+    public RouteSummary(Long id, String routeId, String vehicleId, String origin, String destination,
+                        Double distance, Integer estimatedTime, Double aiOptimizationSavings,
+                        Route.RouteStatus status, LocalDateTime createdAt) {
+        this.id = id;
+        this.routeId = routeId;
+        this.vehicleId = vehicleId;
+        this.origin = origin;
+        this.destination = destination;
+        this.distance = distance;
+        this.estimatedTime = estimatedTime;
+        this.aiOptimizationSavings = aiOptimizationSavings;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getRouteId() { return routeId; }
+    public void setRouteId(String routeId) { this.routeId = routeId; }
+
+    public String getVehicleId() { return vehicleId; }
+    public void setVehicleId(String vehicleId) { this.vehicleId = vehicleId; }
+
+    public String getOrigin() { return origin; }
+    public void setOrigin(String origin) { this.origin = origin; }
+
+    public String getDestination() { return destination; }
+    public void setDestination(String destination) { this.destination = destination; }
+
+    public Double getDistance() { return distance; }
+    public void setDistance(Double distance) { this.distance = distance; }
+
+    public Integer getEstimatedTime() { return estimatedTime; }
+    public void setEstimatedTime(Integer estimatedTime) { this.estimatedTime = estimatedTime; }
+
+    public Double getAiOptimizationSavings() { return aiOptimizationSavings; }
+    public void setAiOptimizationSavings(Double aiOptimizationSavings) { this.aiOptimizationSavings = aiOptimizationSavings; }
+
+    public Route.RouteStatus getStatus() { return status; }
+    public void setStatus(Route.RouteStatus status) { this.status = status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
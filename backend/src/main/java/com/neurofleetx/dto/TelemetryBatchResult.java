@@ -0,0 +1,80 @@
+package com.neurofleetx.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TelemetryBatchResult {
+    private int received;
+    private int accepted;
+    private int stale;
+    private int rejected;
+    private List<RecordResult> results = new ArrayList<>();
+    private String error; // set when the body could not be read to the end; later records were not processed
+    private boolean stored = true; // false when accepted positions could not be written to the database
+
+    // Constructors
+    public TelemetryBatchResult() {}
+
+    public void add(RecordResult result) {
+        results.add(result);
+        received++;
+        switch (result.getStatus()) {
+            case "ACCEPTED": accepted++; break;
+            case "STALE": stale++; break;
+            default: rejected++; break;
+        }
+    }
+
+    // Getters and Setters
+    public int getReceived() { return received; }
+    public void setReceived(int received) { this.received = received; }
+
+    public int getAccepted() { return accepted; }
+    public void setAccepted(int accepted) { this.accepted = accepted; }
+
+    public int getStale() { return stale; }
+    public void setStale(int stale) { this.stale = stale; }
+
+    public int getRejected() { return rejected; }
+    public void setRejected(int rejected) { this.rejected = rejected; }
+
+    public List<RecordResult> getResults() { return results; }
+    public void setResults(List<RecordResult> results) { this.results = results; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+
+    public boolean isStored() { return stored; }
+    public void setStored(boolean stored) { this.stored = stored; }
+
+    // Inner classes
+    public static class RecordResult {
+        private int index;
+        private String vehicleId;
+        private String status; // ACCEPTED, STALE, UNKNOWN_VEHICLE, FUTURE_TIMESTAMP or INVALID
+        private String message;
+
+        // Constructors
+        public RecordResult() {}
+
+        public RecordResult(int index, String vehicleId, String status, String message) {
+            this.index = index;
+            this.vehicleId = vehicleId;
+            this.status = status;
+            this.message = message;
+        }
+
+        // Getters and Setters
+        public int getIndex() { return index; }
+        public void setIndex(int index) { this.index = index; }
+
+        public String getVehicleId() { return vehicleId; }
+        public void setVehicleId(String vehicleId) { this.vehicleId = vehicleId; }
+
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
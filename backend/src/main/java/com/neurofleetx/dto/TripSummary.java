@@ -0,0 +1,71 @@
+package com.neurofleetx.dto;
+
+import com.neurofleetx.model.Trip;
+import java.time.LocalDateTime;
+
+public class TripSummary {
+    private Long id;
+    private String tripId;
+    private String vehicleId;
+    private String origin;
+    private String destination;
+    private Double distance;
+    private Double earnings;
+    private Integer progress;
+    private Trip.TripStatus status;
+    private LocalDateTime startTime;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public TripSummary() {}
+
+    public TripSummary(Long id, String tripId, String vehicleId, String origin, String destination,
+                       Double distance, Double earnings, Integer progress, Trip.TripStatus status,
+                       LocalDateTime startTime, LocalDateTime createdAt) {
+        this.id = id;
+        this.tripId = tripId;
+        this.vehicleId = vehicleId;
+        this.origin = origin;
+        this.destination = destination;
+        this.distance = distance;
+        this.earnings = earnings;
+        this.progress = progress;
+        this.status = status;
+        this.startTime = startTime;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTripId() { return tripId; }
+    public void setTripId(String tripId) { this.tripId = tripId; }
+
+    public String getVehicleId() { return vehicleId; }
+    public void setVehicleId(String vehicleId) { this.vehicleId = vehicleId; }
+
+    public String getOrigin() { return origin; }
+    public void setOrigin(String origin) { this.origin = origin; }
+
+    public String getDestination() { return destination; }
+    public void setDestination(String destination) { this.destination = destination; }
+
+    public Double getDistance() { return distance; }
+    public void setDistance(Double distance) { this.distance = distance; }
+
+    public Double getEarnings() { return earnings; }
+    public void setEarnings(Double earnings) { this.earnings = earnings; }
+
+    public Integer getProgress() { return progress; }
+    public void setProgress(Integer progress) { this.progress = progress; }
+
+    public Trip.TripStatus getStatus() { return status; }
+    public void setStatus(Trip.TripStatus status) { this.status = status; }
+
+    public LocalDateTime getStartTime() { return startTime; }
+    public void setStartTime(LocalDateTime startTime) { this.startTime = startTime; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
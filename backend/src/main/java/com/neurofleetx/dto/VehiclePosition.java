@@ -0,0 +1,55 @@
+package com.neurofleetx.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.time.LocalDateTime;
+
+public class VehiclePosition {
+    private String vehicleId;
+
+    @NotNull
+    @DecimalMin("-90.0") @DecimalMax("90.0")
+    private Double latitude;
+
+    @NotNull
+    @DecimalMin("-180.0") @DecimalMax("180.0")
+    private Double longitude;
+
+    private String location;
+    @PositiveOrZero
+    private Double speed;
+    private LocalDateTime timestamp; // when the device took the reading; defaults to receipt time
+
+    // Constructors
+    public VehiclePosition() {}
+
+    public VehiclePosition(String vehicleId, Double latitude, Double longitude, String location,
+                           LocalDateTime timestamp) {
+        this.vehicleId = vehicleId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.location = location;
+        this.timestamp = timestamp;
+    }
+
+    // Getters and Setters
+    public String getVehicleId() { return vehicleId; }
+    public void setVehicleId(String vehicleId) { this.vehicleId = vehicleId; }
+
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+
+    public Double getSpeed() { return speed; }
+    public void setSpeed(Double speed) { this.speed = speed; }
+
+    public LocalDateTime getTimestamp() { return timestamp; }
+    public void setTimestamp(LocalDateTime timestamp) { this.timestamp = timestamp; }
+}
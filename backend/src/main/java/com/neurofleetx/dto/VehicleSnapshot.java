@@ -0,0 +1,74 @@
+package com.neurofleetx.dto;
+
+import com.neurofleetx.model.Vehicle;
+import java.time.LocalDateTime;
+
+/** Immutable copy of the live state of a vehicle; updates replace the whole snapshot. */
+public class VehicleSnapshot {
+    private static final double DEFAULT_LOAD_CAPACITY = 1000.0; // kg, as assumed when scoring recommendations
+
+    private final String vehicleId;
+    private final String type;
+    private final Vehicle.VehicleStatus status;
+    private final double latitude;
+    private final double longitude;
+    private final Double speed;
+    private final Integer batteryLevel;
+    private final double loadCapacity; // in kg
+    private final boolean electric;
+    private final LocalDateTime lastUpdated;
+
+    // Constructors
+    public VehicleSnapshot(Vehicle vehicle) {
+        this(vehicle.getVehicleId(), vehicle.getType(), vehicle.getStatus(), vehicle.getLatitude(),
+             vehicle.getLongitude(), vehicle.getSpeed(), vehicle.getBatteryLevel(), loadCapacityOf(vehicle),
+             Boolean.TRUE.equals(vehicle.getIsElectric()), vehicle.getLastUpdated());
+    }
+
+    private VehicleSnapshot(String vehicleId, String type, Vehicle.VehicleStatus status, double latitude,
+                            double longitude, Double speed, Integer batteryLevel, double loadCapacity,
+                            boolean electric, LocalDateTime lastUpdated) {
+        this.vehicleId = vehicleId;
+        this.type = type;
+        this.status = status;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.speed = speed;
+        this.batteryLevel = batteryLevel;
+        this.loadCapacity = loadCapacity;
+        this.electric = electric;
+        this.lastUpdated = lastUpdated;
+    }
+
+    /** A copy at the new position; a null speed keeps the last known one. */
+    public VehicleSnapshot withPosition(double latitude, double longitude, Double speed, LocalDateTime lastUpdated) {
+        return new VehicleSnapshot(vehicleId, type, status, latitude, longitude, speed != null ? speed : this.speed,
+                                   batteryLevel, loadCapacity, electric, lastUpdated);
+    }
+
+    public static double loadCapacityOf(Vehicle vehicle) {
+        if (vehicle.getMaxLoadCapacity() != null) return vehicle.getMaxLoadCapacity();
+        return vehicle.getCapacity() != null ? vehicle.getCapacity().doubleValue() : DEFAULT_LOAD_CAPACITY;
+    }
+
+    // Getters
+    public String getVehicleId() { return vehicleId; }
+
+    public String getType() { return type; }
+
+    public Vehicle.VehicleStatus getStatus() { return status; }
+
+    public double getLatitude() { return latitude; }
+
+    public double getLongitude() { return longitude; }
+
+    public Double getSpeed() { return speed; }
+
+    public Integer getBatteryLevel() { return batteryLevel; }
+
+    public double getLoadCapacity() { return loadCapacity; }
+
+    public boolean isElectric() { return electric; }
+
+    public LocalDateTime getLastUpdated() { return lastUpdated; }
+}
@@ -0,0 +1,76 @@
+package com.neurofleetx.dto;
+
+import com.neurofleetx.model.Vehicle;
+import java.time.LocalDateTime;
+
+public class VehicleSummary {
+    private Long id;
+    private String vehicleId;
+    private String type;
+    private String model;
+    private Vehicle.VehicleStatus status;
+    private Double latitude;
+    private Double longitude;
+    private String currentLocation;
+    private Integer batteryLevel;
+    private String driverName;
+    private LocalDateTime lastUpdated;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public VehicleSummary() {}
+
+    public VehicleSummary(Long id, String vehicleId, String type, String model, Vehicle.VehicleStatus status,
+                          Double latitude, Double longitude, String currentLocation, Integer batteryLevel,
+                          String driverName, LocalDateTime lastUpdated, LocalDateTime createdAt) {
+        this.id = id;
+        this.vehicleId = vehicleId;
+        this.type = type;
+        this.model = model;
+        this.status = status;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.currentLocation = currentLocation;
+        this.batteryLevel = batteryLevel;
+        this.driverName = driverName;
+        this.lastUpdated = lastUpdated;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getVehicleId() { return vehicleId; }
+    public void setVehicleId(String vehicleId) { this.vehicleId = vehicleId; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public String getModel() { return model; }
+    public void setModel(String model) { this.model = model; }
+
+    public Vehicle.VehicleStatus getStatus() { return status; }
+    public void setStatus(Vehicle.VehicleStatus status) { this.status = status; }
+
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
+    public String getCurrentLocation() { return currentLocation; }
+    public void setCurrentLocation(String currentLocation) { this.currentLocation = currentLocation; }
+
+    public Integer getBatteryLevel() { return batteryLevel; }
+    public void setBatteryLevel(Integer batteryLevel) { this.batteryLevel = batteryLevel; }
+
+    public String getDriverName() { return driverName; }
+    public void setDriverName(String driverName) { this.driverName = driverName; }
+
+    public LocalDateTime getLastUpdated() { return lastUpdated; }
+    public void setLastUpdated(LocalDateTime lastUpdated) { this.lastUpdated = lastUpdated; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,77 @@
+package com.neurofleetx.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * One threshold on a health metric. A reading below minValue or above maxValue violates the rule;
+ * a violated rule raises an alert of its severity (if set) and costs healthPenalty points of the
+ * vehicle's health score. Rules with a vehicleType replace the default (null type) rules for that
+ * metric on vehicles of that type.
+ */
+@Entity
+@Table(name = "alert_rules")
+public class AlertRule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private MaintenanceLog.MetricType metricType;
+
+    private String vehicleType;
+
+    @Enumerated(EnumType.STRING)
+    private MaintenanceLog.AlertSeverity severity;
+
+    private Double minValue;
+    private Double maxValue;
+    private Double healthPenalty = 0.0;
+    private String message; // "{value}" is replaced by the reading
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    // Constructors
+    public AlertRule() {}
+
+    public AlertRule(MaintenanceLog.MetricType metricType, MaintenanceLog.AlertSeverity severity,
+                     Double minValue, Double maxValue, Double healthPenalty, String message) {
+        this.metricType = metricType;
+        this.severity = severity;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.healthPenalty = healthPenalty;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public MaintenanceLog.MetricType getMetricType() { return metricType; }
+    public void setMetricType(MaintenanceLog.MetricType metricType) { this.metricType = metricType; }
+
+    public String getVehicleType() { return vehicleType; }
+    public void setVehicleType(String vehicleType) { this.vehicleType = vehicleType; }
+
+    public MaintenanceLog.AlertSeverity getSeverity() { return severity; }
+    public void setSeverity(MaintenanceLog.AlertSeverity severity) { this.severity = severity; }
+
+    public Double getMinValue() { return minValue; }
+    public void setMinValue(Double minValue) { this.minValue = minValue; }
+
+    public Double getMaxValue() { return maxValue; }
+    public void setMaxValue(Double maxValue) { this.maxValue = maxValue; }
+
+    public Double getHealthPenalty() { return healthPenalty; }
+    public void setHealthPenalty(Double healthPenalty) { this.healthPenalty = healthPenalty; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -6,7 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = @Index(name = "idx_bookings_created", columnList = "created_at, id"))
 public class Booking {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
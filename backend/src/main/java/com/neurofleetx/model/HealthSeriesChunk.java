@@ -0,0 +1,99 @@
+package com.neurofleetx.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * A compressed run of one vehicle's readings of one metric, raw or rolled up into fixed buckets
+ * (see {@link com.neurofleetx.timeseries.SeriesChunk} for the payload format). Written by
+ * HealthHistoryService with JDBC batches; ids are assigned by the service so a chunk has one
+ * before its first write. Each instance reserves ids {@link #ID_BLOCK_SIZE} at a time from the
+ * health_series_chunk_ids sequence, so several instances can share the table.
+ */
+@Entity
+@Table(name = "health_series_chunks", indexes = {
+    @Index(name = "idx_health_series_chunks_series", columnList = "vehicle_id, metric_type, resolution, end_time")
+})
+public class HealthSeriesChunk {
+    public static final int ID_BLOCK_SIZE = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "health_series_chunk_ids")
+    @SequenceGenerator(name = "health_series_chunk_ids", sequenceName = "health_series_chunk_ids",
+                       allocationSize = ID_BLOCK_SIZE)
+    private Long id;
+
+    @NotNull
+    @Column(name = "vehicle_id")
+    private Long vehicleId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric_type")
+    private MaintenanceLog.MetricType metricType;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private Resolution resolution;
+
+    @Column(name = "start_time")
+    private LocalDateTime startTime; // first point
+
+    @Column(name = "end_time")
+    private LocalDateTime endTime; // last point
+
+    @Column(name = "point_count")
+    private int pointCount;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] payload;
+
+    // Constructors
+    public HealthSeriesChunk() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getVehicleId() { return vehicleId; }
+    public void setVehicleId(Long vehicleId) { this.vehicleId = vehicleId; }
+
+    public MaintenanceLog.MetricType getMetricType() { return metricType; }
+    public void setMetricType(MaintenanceLog.MetricType metricType) { this.metricType = metricType; }
+
+    public Resolution getResolution() { return resolution; }
+    public void setResolution(Resolution resolution) { this.resolution = resolution; }
+
+    public LocalDateTime getStartTime() { return startTime; }
+    public void setStartTime(LocalDateTime startTime) { this.startTime = startTime; }
+
+    public LocalDateTime getEndTime() { return endTime; }
+    public void setEndTime(LocalDateTime endTime) { this.endTime = endTime; }
+
+    public int getPointCount() { return pointCount; }
+    public void setPointCount(int pointCount) { this.pointCount = pointCount; }
+
+    public byte[] getPayload() { return payload; }
+    public void setPayload(byte[] payload) { this.payload = payload; }
+
+    // Bucket width, and the aligned window one chunk covers
+    public enum Resolution {
+        RAW(0L, 3_600_000L),
+        MINUTE(60_000L, 7_200_000L),
+        HOUR(3_600_000L, 432_000_000L),
+        DAY(86_400_000L, 10_368_000_000L);
+
+        private final long bucketMillis;
+        private final long chunkMillis;
+
+        Resolution(long bucketMillis, long chunkMillis) {
+            this.bucketMillis = bucketMillis;
+            this.chunkMillis = chunkMillis;
+        }
+
+        public long getBucketMillis() { return bucketMillis; }
+        public long getChunkMillis() { return chunkMillis; }
+    }
+}
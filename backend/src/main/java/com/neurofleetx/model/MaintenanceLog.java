@@ -1,12 +1,15 @@
 package com.neurofleetx.model;
 
 import jakarta.persistence.*;
-import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "maintenance_logs")
+@Table(name = "maintenance_logs", indexes = {
+    @Index(name = "idx_maintenance_logs_recorded", columnList = "recorded_at, id"),
+    @Index(name = "idx_maintenance_logs_vehicle_recorded", columnList = "vehicle_id, recorded_at, id"),
+    @Index(name = "idx_maintenance_logs_alert_status", columnList = "alert_status, recorded_at")
+})
 public class MaintenanceLog {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -17,11 +20,12 @@ public class MaintenanceLog {
     @JoinColumn(name = "vehicle_id")
     private Vehicle vehicle;
 
-    @NotBlank
+    @NotNull
     @Enumerated(EnumType.STRING)
     private MetricType metricType;
 
     @NotNull
+    @Column(name = "metric_value")
     private Double value;
 
     @NotNull
@@ -32,6 +36,26 @@ public class MaintenanceLog {
 
     private String alertMessage;
 
+    // Alert lifecycle: one row per condition, kept up to date while it lasts
+    @Enumerated(EnumType.STRING)
+    @Column(name = "alert_status")
+    private AlertStatus alertStatus;
+
+    @Column(name = "last_seen_at")
+    private LocalDateTime lastSeenAt;
+
+    @Column(name = "peak_value")
+    private Double peakValue;
+
+    private Integer occurrences;
+
+    @Column(name = "resolved_at")
+    private LocalDateTime resolvedAt;
+
+    // Last lifecycle change written to the row; an update carrying an older one is skipped
+    @Column(name = "write_version")
+    private Long writeVersion;
+
     @Column(name = "recorded_at")
     private LocalDateTime recordedAt = LocalDateTime.now();
 
@@ -69,6 +93,21 @@ public class MaintenanceLog {
     public String getAlertMessage() { return alertMessage; }
     public void setAlertMessage(String alertMessage) { this.alertMessage = alertMessage; }
 
+    public AlertStatus getAlertStatus() { return alertStatus; }
+    public void setAlertStatus(AlertStatus alertStatus) { this.alertStatus = alertStatus; }
+
+    public LocalDateTime getLastSeenAt() { return lastSeenAt; }
+    public void setLastSeenAt(LocalDateTime lastSeenAt) { this.lastSeenAt = lastSeenAt; }
+
+    public Double getPeakValue() { return peakValue; }
+    public void setPeakValue(Double peakValue) { this.peakValue = peakValue; }
+
+    public Integer getOccurrences() { return occurrences; }
+    public void setOccurrences(Integer occurrences) { this.occurrences = occurrences; }
+
+    public LocalDateTime getResolvedAt() { return resolvedAt; }
+    public void setResolvedAt(LocalDateTime resolvedAt) { this.resolvedAt = resolvedAt; }
+
     public LocalDateTime getRecordedAt() { return recordedAt; }
     public void setRecordedAt(LocalDateTime recordedAt) { this.recordedAt = recordedAt; }
 
@@ -92,4 +131,9 @@ public class MaintenanceLog {
     public enum AlertSeverity {
         LOW, MEDIUM, HIGH, CRITICAL
     }
+
+    /** OPEN when raised, ONGOING once the condition is seen again, RESOLVED after it clears. */
+    public enum AlertStatus {
+        OPEN, ONGOING, RESOLVED
+    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.neurofleetx.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A gzip NDJSON file of maintenance_logs rows moved out of the table, one JSON object per row in
+ * recorded_at order. Every segment holds rows of a single day and lives in that day's directory
+ * under the archive root; this row is written in the same transaction that deletes them.
+ */
+@Entity
+@Table(name = "maintenance_log_archive_segments", indexes = {
+    @Index(name = "idx_maintenance_log_archive_segments_time", columnList = "end_time, start_time")
+})
+public class MaintenanceLogArchiveSegment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "log_date")
+    private LocalDate day;
+
+    @NotNull
+    @Column(name = "file_name", unique = true)
+    private String fileName; // relative to the archive root
+
+    @Column(name = "start_time")
+    private LocalDateTime startTime; // oldest recorded_at
+
+    @Column(name = "end_time")
+    private LocalDateTime endTime; // newest recorded_at
+
+    @Column(name = "row_count")
+    private int rowCount;
+
+    @Column(name = "size_bytes")
+    private long sizeBytes;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // Constructors
+    public MaintenanceLogArchiveSegment() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public LocalDate getDay() { return day; }
+    public void setDay(LocalDate day) { this.day = day; }
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+
+    public LocalDateTime getStartTime() { return startTime; }
+    public void setStartTime(LocalDateTime startTime) { this.startTime = startTime; }
+
+    public LocalDateTime getEndTime() { return endTime; }
+    public void setEndTime(LocalDateTime endTime) { this.endTime = endTime; }
+
+    public int getRowCount() { return rowCount; }
+    public void setRowCount(int rowCount) { this.rowCount = rowCount; }
+
+    public long getSizeBytes() { return sizeBytes; }
+    public void setSizeBytes(long sizeBytes) { this.sizeBytes = sizeBytes; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
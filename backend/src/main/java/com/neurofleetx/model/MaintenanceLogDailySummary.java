@@ -0,0 +1,92 @@
+package com.neurofleetx.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+
+/**
+ * One vehicle's readings of one metric on one day, rolled up from maintenance_logs rows as they are
+ * archived. Rows archived in later runs for the same day are added to the existing summary.
+ */
+@Entity
+@Table(name = "maintenance_log_daily_summaries", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_maintenance_log_daily_summaries", columnNames = {"vehicle_id", "log_date", "metric_type"})
+})
+public class MaintenanceLogDailySummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "vehicle_id")
+    private Long vehicleId;
+
+    @NotNull
+    @Column(name = "log_date")
+    private LocalDate day;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric_type")
+    private MaintenanceLog.MetricType metricType;
+
+    private long readings;
+
+    private long alerts;
+
+    @Column(name = "min_value")
+    private Double minValue;
+
+    @Column(name = "max_value")
+    private Double maxValue;
+
+    @Column(name = "sum_value")
+    private Double sumValue;
+
+    // Constructors
+    public MaintenanceLogDailySummary() {}
+
+    public MaintenanceLogDailySummary(Long vehicleId, LocalDate day, MaintenanceLog.MetricType metricType, long readings,
+                                      long alerts, Double minValue, Double maxValue, Double sumValue) {
+        this.vehicleId = vehicleId;
+        this.day = day;
+        this.metricType = metricType;
+        this.readings = readings;
+        this.alerts = alerts;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.sumValue = sumValue;
+    }
+
+    public Double getAverageValue() {
+        return readings > 0 && sumValue != null ? sumValue / readings : null;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getVehicleId() { return vehicleId; }
+    public void setVehicleId(Long vehicleId) { this.vehicleId = vehicleId; }
+
+    public LocalDate getDay() { return day; }
+    public void setDay(LocalDate day) { this.day = day; }
+
+    public MaintenanceLog.MetricType getMetricType() { return metricType; }
+    public void setMetricType(MaintenanceLog.MetricType metricType) { this.metricType = metricType; }
+
+    public long getReadings() { return readings; }
+    public void setReadings(long readings) { this.readings = readings; }
+
+    public long getAlerts() { return alerts; }
+    public void setAlerts(long alerts) { this.alerts = alerts; }
+
+    public Double getMinValue() { return minValue; }
+    public void setMinValue(Double minValue) { this.minValue = minValue; }
+
+    public Double getMaxValue() { return maxValue; }
+    public void setMaxValue(Double maxValue) { this.maxValue = maxValue; }
+
+    public Double getSumValue() { return sumValue; }
+    public void setSumValue(Double sumValue) { this.sumValue = sumValue; }
+}
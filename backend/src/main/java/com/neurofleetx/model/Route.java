@@ -6,7 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "routes")
+@Table(name = "routes", indexes = @Index(name = "idx_routes_created", columnList = "created_at, id"))
 public class Route {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -6,7 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "trips")
+@Table(name = "trips", indexes = @Index(name = "idx_trips_driver_created", columnList = "driver_id, created_at, id"))
 public class Trip {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
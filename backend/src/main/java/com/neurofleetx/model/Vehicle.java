@@ -6,7 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "vehicles")
+@Table(name = "vehicles", indexes = @Index(name = "idx_vehicles_created", columnList = "created_at, id"))
 public class Vehicle {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
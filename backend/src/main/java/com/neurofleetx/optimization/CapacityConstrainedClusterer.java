@@ -0,0 +1,66 @@
+package com.neurofleetx.optimization;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Caps the total load of every cluster produced by another {@link SpatialClusterer}. A cluster
+ * heavier than {@code maxClusterLoad} is bisected across its wider axis at the load-weighted
+ * median, recursively, so the pieces stay spatially compact. A single booking heavier than the
+ * cap is left on its own.
+ */
+public final class CapacityConstrainedClusterer implements SpatialClusterer {
+
+    private final SpatialClusterer delegate;
+    private final double maxClusterLoad;
+
+    public CapacityConstrainedClusterer(SpatialClusterer delegate, double maxClusterLoad) {
+        this.delegate = delegate;
+        this.maxClusterLoad = maxClusterLoad;
+    }
+
+    @Override
+    public List<int[]> cluster(ClusterPoints points) {
+        List<int[]> capped = new ArrayList<>();
+        for (int[] cluster : delegate.cluster(points)) {
+            split(points, cluster, capped);
+        }
+        return capped;
+    }
+
+    private void split(ClusterPoints points, int[] cluster, List<int[]> out) {
+        double load = 0.0;
+        double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int point : cluster) {
+            load += points.load(point);
+            minX = Math.min(minX, points.x(point));
+            maxX = Math.max(maxX, points.x(point));
+            minY = Math.min(minY, points.y(point));
+            maxY = Math.max(maxY, points.y(point));
+        }
+        if (load <= maxClusterLoad || cluster.length == 1) {
+            out.add(cluster);
+            return;
+        }
+
+        boolean alongX = maxX - minX >= maxY - minY;
+        int[] sorted = Arrays.stream(cluster)
+                .boxed()
+                .sorted((a, b) -> alongX
+                        ? Double.compare(points.x(a), points.x(b))
+                        : Double.compare(points.y(a), points.y(b)))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        // Cut where the running load first reaches half, keeping at least one booking per side
+        int cut = 1;
+        double running = points.load(sorted[0]);
+        while (cut < sorted.length - 1 && running < load / 2) {
+            running += points.load(sorted[cut++]);
+        }
+        split(points, Arrays.copyOfRange(sorted, 0, cut), out);
+        split(points, Arrays.copyOfRange(sorted, cut, sorted.length), out);
+    }
+}
@@ -0,0 +1,34 @@
+package com.neurofleetx.optimization;
+
+/**
+ * Booking-to-vehicle assignment: {@code genes[booking]} is a vehicle index, or {@link #UNASSIGNED}.
+ * Fitness is computed once per chromosome and cached, so sorting never re-evaluates it.
+ */
+public final class Chromosome {
+
+    public static final int UNASSIGNED = -1;
+
+    private final int[] genes;
+    private double fitness = Double.NEGATIVE_INFINITY;
+
+    public Chromosome(int bookingCount) {
+        this.genes = new int[bookingCount];
+    }
+
+    public int[] getGenes() { return genes; }
+
+    public double getFitness() { return fitness; }
+
+    void setFitness(double fitness) { this.fitness = fitness; }
+
+    void copyFrom(Chromosome other) {
+        System.arraycopy(other.genes, 0, genes, 0, genes.length);
+        fitness = other.fitness;
+    }
+
+    public Chromosome copy() {
+        Chromosome copy = new Chromosome(genes.length);
+        copy.copyFrom(this);
+        return copy;
+    }
+}
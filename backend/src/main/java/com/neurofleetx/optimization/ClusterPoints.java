@@ -0,0 +1,64 @@
+package com.neurofleetx.optimization;
+
+/**
+ * Booking pickups projected onto a local plane (equirectangular around the mean latitude), in km.
+ * At city scale the projection error is far below geocoding error, and it lets the clusterers
+ * use plain Euclidean geometry and a {@link KdTree}.
+ */
+public final class ClusterPoints {
+
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] loads;
+
+    private ClusterPoints(double[] xs, double[] ys, double[] loads) {
+        this.xs = xs;
+        this.ys = ys;
+        this.loads = loads;
+    }
+
+    public static ClusterPoints of(OptimizationContext context) {
+        int count = context.bookingCount();
+        double[] latitudes = new double[count];
+        double[] longitudes = new double[count];
+        double[] loads = new double[count];
+        for (int i = 0; i < count; i++) {
+            int pickup = context.pickupNode(i);
+            latitudes[i] = context.latitude(pickup);
+            longitudes[i] = context.longitude(pickup);
+            loads[i] = context.loadWeight(i);
+        }
+        return of(latitudes, longitudes, loads);
+    }
+
+    public static ClusterPoints of(double[] latitudes, double[] longitudes, double[] loads) {
+        int count = latitudes.length;
+        double meanLatitude = 0.0;
+        for (double latitude : latitudes) {
+            meanLatitude += latitude;
+        }
+        meanLatitude = count > 0 ? meanLatitude / count : 0.0;
+        double kmPerDegree = Math.toRadians(1.0) * DistanceMatrix.EARTH_RADIUS_KM;
+        double kmPerDegreeLongitude = kmPerDegree * Math.cos(Math.toRadians(meanLatitude));
+
+        double[] xs = new double[count];
+        double[] ys = new double[count];
+        for (int i = 0; i < count; i++) {
+            xs[i] = longitudes[i] * kmPerDegreeLongitude;
+            ys[i] = latitudes[i] * kmPerDegree;
+        }
+        return new ClusterPoints(xs, ys, loads.clone());
+    }
+
+    public int size() { return xs.length; }
+
+    public double x(int point) { return xs[point]; }
+
+    public double y(int point) { return ys[point]; }
+
+    public double load(int point) { return loads[point]; }
+
+    double[] xs() { return xs; }
+
+    double[] ys() { return ys; }
+}
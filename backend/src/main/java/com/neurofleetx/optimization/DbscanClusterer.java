@@ -0,0 +1,94 @@
+package com.neurofleetx.optimization;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * DBSCAN over booking pickups. Neighbourhood queries go through a {@link KdTree}, so clustering
+ * costs O(n log n) for the sparse neighbourhoods typical of delivery data. Noise points (fewer
+ * than {@code minPoints} bookings within {@code epsilonKm}) become single-booking clusters, so no
+ * booking is dropped from the plan.
+ */
+public final class DbscanClusterer implements SpatialClusterer {
+
+    private static final int UNVISITED = -2;
+    private static final int NOISE = -1;
+
+    private final double epsilonKm;
+    private final int minPoints;
+
+    public DbscanClusterer(double epsilonKm, int minPoints) {
+        this.epsilonKm = epsilonKm;
+        this.minPoints = Math.max(1, minPoints);
+    }
+
+    @Override
+    public List<int[]> cluster(ClusterPoints points) {
+        int n = points.size();
+        KdTree tree = new KdTree(points.xs(), points.ys());
+        int[] labels = new int[n];
+        Arrays.fill(labels, UNVISITED);
+        IntBuffer neighbours = new IntBuffer(16);
+        IntBuffer queue = new IntBuffer(16);
+
+        int clusterCount = 0;
+        for (int p = 0; p < n; p++) {
+            if (labels[p] != UNVISITED) continue;
+            neighbours.clear();
+            tree.forEachWithin(points.x(p), points.y(p), epsilonKm, neighbours::add);
+            if (neighbours.size < minPoints) {
+                labels[p] = NOISE;
+                continue;
+            }
+
+            int cluster = clusterCount++;
+            labels[p] = cluster;
+            queue.clear();
+            claim(neighbours, labels, cluster, queue);
+            for (int head = 0; head < queue.size; head++) {
+                int q = queue.values[head];
+                neighbours.clear();
+                tree.forEachWithin(points.x(q), points.y(q), epsilonKm, neighbours::add);
+                if (neighbours.size >= minPoints) {
+                    claim(neighbours, labels, cluster, queue);
+                }
+            }
+        }
+
+        for (int p = 0; p < n; p++) {
+            if (labels[p] == NOISE) labels[p] = clusterCount++;
+        }
+        return SpatialClusterer.groupByLabel(labels, clusterCount);
+    }
+
+    // Labels on claim rather than on dequeue, so each point enters the queue at most once
+    private static void claim(IntBuffer neighbours, int[] labels, int cluster, IntBuffer queue) {
+        for (int i = 0; i < neighbours.size; i++) {
+            int point = neighbours.values[i];
+            if (labels[point] == UNVISITED) {
+                labels[point] = cluster;
+                queue.add(point);
+            } else if (labels[point] == NOISE) {
+                labels[point] = cluster; // border point; already known not to be a core point
+            }
+        }
+    }
+
+    private static final class IntBuffer {
+        private int[] values;
+        private int size;
+
+        IntBuffer(int capacity) {
+            this.values = new int[capacity];
+        }
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.neurofleetx.optimization;
+
+import java.util.stream.IntStream;
+
+/**
+ * Great-circle distances (km) between a fixed set of points, stored as a dense row-major
+ * {@code double[]}. Above {@link #DENSE_LIMIT} points the matrix would not fit comfortably in
+ * the heap, so distances are computed on demand from cached trigonometric terms instead.
+ */
+public final class DistanceMatrix {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    static final int DENSE_LIMIT = 2048;
+    static final int PARALLEL_THRESHOLD = 256;
+
+    private final int size;
+    private final double[] latRad;
+    private final double[] lonRad;
+    private final double[] cosLat;
+    private final double[] distances;
+
+    private DistanceMatrix(double[] latitudes, double[] longitudes, boolean dense) {
+        this.size = latitudes.length;
+        this.latRad = new double[size];
+        this.lonRad = new double[size];
+        this.cosLat = new double[size];
+        for (int i = 0; i < size; i++) {
+            latRad[i] = Math.toRadians(latitudes[i]);
+            lonRad[i] = Math.toRadians(longitudes[i]);
+            cosLat[i] = Math.cos(latRad[i]);
+        }
+        this.distances = dense ? new double[size * size] : null;
+        if (dense) {
+            fill();
+        }
+    }
+
+    public static DistanceMatrix build(double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("Latitude and longitude arrays differ in length");
+        }
+        return new DistanceMatrix(latitudes, longitudes, latitudes.length <= DENSE_LIMIT);
+    }
+
+    private void fill() {
+        IntStream rows = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            rows = rows.parallel();
+        }
+        // Each row writes its upper triangle and the mirrored cells, so rows never touch the same slot
+        rows.forEach(i -> {
+            int rowOffset = i * size;
+            for (int j = i + 1; j < size; j++) {
+                double d = haversine(i, j);
+                distances[rowOffset + j] = d;
+                distances[j * size + i] = d;
+            }
+        });
+    }
+
+    public double distance(int from, int to) {
+        if (distances != null) {
+            return distances[from * size + to];
+        }
+        return from == to ? 0.0 : haversine(from, to);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isDense() {
+        return distances != null;
+    }
+
+    private double haversine(int i, int j) {
+        double sinLat = Math.sin((latRad[j] - latRad[i]) * 0.5);
+        double sinLon = Math.sin((lonRad[j] - lonRad[i]) * 0.5);
+        double a = sinLat * sinLat + cosLat[i] * cosLat[j] * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    public static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double sinLat = Math.sin(Math.toRadians(lat2 - lat1) * 0.5);
+        double sinLon = Math.sin(Math.toRadians(lon2 - lon1) * 0.5);
+        double a = sinLat * sinLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,49 @@
+package com.neurofleetx.optimization;
+
+public class GeneticAlgorithmSettings {
+    private int populationSize = 60; // per island
+    private int generations = 100;
+    private int stagnationLimit = 0; // generations without improvement before giving up, 0 = never
+    private int islands = 1;
+    private int migrationInterval = 10; // generations between migrations
+    private int migrationSize = 2;
+    private int eliteCount = 2;
+    private int tournamentSize = 3;
+    private double crossoverRate = 0.9;
+    private double mutationRate = 0.02; // per gene
+    private long seed = System.nanoTime();
+
+    // Getters and Setters
+    public int getPopulationSize() { return populationSize; }
+    public void setPopulationSize(int populationSize) { this.populationSize = populationSize; }
+
+    public int getGenerations() { return generations; }
+    public void setGenerations(int generations) { this.generations = generations; }
+
+    public int getStagnationLimit() { return stagnationLimit; }
+    public void setStagnationLimit(int stagnationLimit) { this.stagnationLimit = stagnationLimit; }
+
+    public int getIslands() { return islands; }
+    public void setIslands(int islands) { this.islands = islands; }
+
+    public int getMigrationInterval() { return migrationInterval; }
+    public void setMigrationInterval(int migrationInterval) { this.migrationInterval = migrationInterval; }
+
+    public int getMigrationSize() { return migrationSize; }
+    public void setMigrationSize(int migrationSize) { this.migrationSize = migrationSize; }
+
+    public int getEliteCount() { return eliteCount; }
+    public void setEliteCount(int eliteCount) { this.eliteCount = eliteCount; }
+
+    public int getTournamentSize() { return tournamentSize; }
+    public void setTournamentSize(int tournamentSize) { this.tournamentSize = tournamentSize; }
+
+    public double getCrossoverRate() { return crossoverRate; }
+    public void setCrossoverRate(double crossoverRate) { this.crossoverRate = crossoverRate; }
+
+    public double getMutationRate() { return mutationRate; }
+    public void setMutationRate(double mutationRate) { this.mutationRate = mutationRate; }
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+}
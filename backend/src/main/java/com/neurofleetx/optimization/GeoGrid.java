@@ -0,0 +1,263 @@
+package com.neurofleetx.optimization;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Concurrent map from keys to located values, indexed by a uniform latitude/longitude grid so
+ * nearest-neighbour and radius queries only look at the cells around the query point. Writes to
+ * one key are atomic with respect to that key's cell membership; queries are weakly consistent,
+ * like the iterators of {@link ConcurrentHashMap}, and always measure the value's current
+ * position. Distances are great-circle kilometres.
+ */
+public final class GeoGrid<K, V> {
+
+    private static final double KM_PER_DEGREE = DistanceMatrix.EARTH_RADIUS_KM * Math.PI / 180.0;
+
+    private final double cellDegrees;
+    private final int longitudeCells;
+    private final ToDoubleFunction<V> latitude;
+    private final ToDoubleFunction<V> longitude;
+
+    private final ConcurrentHashMap<K, V> values = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<K>> cells = new ConcurrentHashMap<>();
+
+    public GeoGrid(double cellKm, ToDoubleFunction<V> latitude, ToDoubleFunction<V> longitude) {
+        if (!(cellKm > 0)) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellKm);
+        }
+        this.cellDegrees = Math.min(cellKm / KM_PER_DEGREE, 90.0);
+        this.longitudeCells = (int) Math.ceil(360.0 / cellDegrees);
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public int size() { return values.size(); }
+
+    public V get(K key) { return values.get(key); }
+
+    /** Live view of the stored values. */
+    public Collection<V> values() { return Collections.unmodifiableCollection(values.values()); }
+
+    /** Stores or replaces the value for {@code key}, moving it to the cell of its new position. */
+    public void put(K key, V value) {
+        values.compute(key, (k, previous) -> {
+            long to = cellOf(value);
+            if (previous != null) {
+                long from = cellOf(previous);
+                if (from == to) return value;
+                leave(from, k);
+            }
+            enter(to, k);
+            return value;
+        });
+    }
+
+    /**
+     * Atomically replaces the value for {@code key} with {@code update(current)} and returns it; a
+     * null result removes the key. Nothing happens if the key is absent.
+     */
+    public V update(K key, UnaryOperator<V> update) {
+        return values.computeIfPresent(key, (k, previous) -> {
+            V next = update.apply(previous);
+            long from = cellOf(previous);
+            if (next == null) {
+                leave(from, k);
+                return null;
+            }
+            long to = cellOf(next);
+            if (from != to) {
+                leave(from, k);
+                enter(to, k);
+            }
+            return next;
+        });
+    }
+
+    public void remove(K key) {
+        values.computeIfPresent(key, (k, previous) -> {
+            leave(cellOf(previous), k);
+            return null;
+        });
+    }
+
+    public void clear() {
+        for (K key : values.keySet()) {
+            remove(key);
+        }
+    }
+
+    /**
+     * Up to {@code k} values accepted by {@code filter}, nearest first. Searches outward ring by
+     * ring and stops once no unvisited cell can hold anything closer than the k-th hit.
+     */
+    public List<Neighbor<V>> nearest(double lat, double lon, int k, Predicate<? super V> filter) {
+        if (k <= 0) return new ArrayList<>();
+        // Max-heap on distance holding the best k so far
+        PriorityQueue<Neighbor<V>> best = new PriorityQueue<>(
+                Comparator.comparingDouble((Neighbor<V> n) -> n.distanceKm).reversed());
+        int row = row(lat);
+        int column = column(lon);
+        for (int ring = 0; ; ring++) {
+            // Past this size the ring walk visits more empty cells than there are occupied ones
+            if ((2L * ring + 1) * (2L * ring + 1) > 4L * cells.size() + 16 || 2 * ring + 1 >= longitudeCells) {
+                best.clear();
+                for (Map.Entry<Long, Set<K>> cell : cells.entrySet()) {
+                    offer(cell.getKey(), cell.getValue(), lat, lon, k, filter, best);
+                }
+                break;
+            }
+            for (int dr = -ring; dr <= ring; dr++) {
+                boolean edge = dr == -ring || dr == ring;
+                for (int dc = -ring; dc <= ring; dc += edge ? 1 : 2 * ring) {
+                    long cell = key(row + dr, column + dc);
+                    Set<K> members = cells.get(cell);
+                    if (members != null) offer(cell, members, lat, lon, k, filter, best);
+                }
+            }
+            if (best.size() == k && best.peek().distanceKm <= lowerBoundKm(lat, ring)) break;
+        }
+        List<Neighbor<V>> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(n -> n.distanceKm));
+        return result;
+    }
+
+    /** Values accepted by {@code filter} within {@code radiusKm}, nearest first. */
+    public List<Neighbor<V>> within(double lat, double lon, double radiusKm, Predicate<? super V> filter) {
+        List<Neighbor<V>> result = new ArrayList<>();
+        int rows = (int) Math.ceil(radiusKm / KM_PER_DEGREE / cellDegrees);
+        int columns = columnSpan(lat, radiusKm, rows);
+        if (2 * columns + 1 >= longitudeCells || (2L * rows + 1) * (2L * columns + 1) > cells.size()) {
+            for (Map.Entry<Long, Set<K>> cell : cells.entrySet()) {
+                collect(cell.getKey(), cell.getValue(), lat, lon, radiusKm, filter, result);
+            }
+        } else {
+            int row = row(lat);
+            int column = column(lon);
+            for (int dr = -rows; dr <= rows; dr++) {
+                for (int dc = -columns; dc <= columns; dc++) {
+                    long cell = key(row + dr, column + dc);
+                    Set<K> members = cells.get(cell);
+                    if (members != null) collect(cell, members, lat, lon, radiusKm, filter, result);
+                }
+            }
+        }
+        result.sort(Comparator.comparingDouble(n -> n.distanceKm));
+        return result;
+    }
+
+    private void offer(long cell, Set<K> members, double lat, double lon, int k, Predicate<? super V> filter,
+                       PriorityQueue<Neighbor<V>> best) {
+        for (K key : members) {
+            V value = current(cell, key);
+            if (value == null || !filter.test(value)) continue;
+            // The latitude gap alone rules most candidates out without the trigonometry
+            if (best.size() == k && latitudeGapKm(lat, value) >= best.peek().distanceKm) continue;
+            double d = distance(lat, lon, value);
+            if (best.size() < k) {
+                best.add(new Neighbor<>(value, d));
+            } else if (d < best.peek().distanceKm) {
+                best.poll();
+                best.add(new Neighbor<>(value, d));
+            }
+        }
+    }
+
+    private void collect(long cell, Set<K> members, double lat, double lon, double radiusKm,
+                         Predicate<? super V> filter, List<Neighbor<V>> result) {
+        for (K key : members) {
+            V value = current(cell, key);
+            if (value == null || !filter.test(value) || latitudeGapKm(lat, value) > radiusKm) continue;
+            double d = distance(lat, lon, value);
+            if (d <= radiusKm) result.add(new Neighbor<>(value, d));
+        }
+    }
+
+    // A key seen in a cell it is moving out of is skipped there, so a query never counts it twice
+    private V current(long cell, K key) {
+        V value = values.get(key);
+        return value != null && cellOf(value) == cell ? value : null;
+    }
+
+    private double latitudeGapKm(double lat, V value) {
+        return Math.abs(latitude.applyAsDouble(value) - lat) * KM_PER_DEGREE;
+    }
+
+    private double distance(double lat, double lon, V value) {
+        return DistanceMatrix.haversine(lat, lon, latitude.applyAsDouble(value), longitude.applyAsDouble(value));
+    }
+
+    // Shortest distance from the query to any cell outside the given ring. Along a meridian that
+    // is the latitude gap; across meridians hav(d) >= cos^2(maxLat) * hav(dLon) bounds it from below.
+    private double lowerBoundKm(double lat, int ring) {
+        double gap = ring * cellDegrees;
+        double latitudeKm = gap * KM_PER_DEGREE;
+        double maxLat = Math.min(90.0, Math.abs(lat) + (ring + 1) * cellDegrees);
+        double sinHalf = Math.cos(Math.toRadians(maxLat)) * Math.sin(Math.toRadians(Math.min(gap, 180.0)) / 2);
+        double longitudeKm = 2 * DistanceMatrix.EARTH_RADIUS_KM * Math.asin(Math.min(1.0, sinHalf));
+        return Math.min(latitudeKm, longitudeKm);
+    }
+
+    // Columns either side of the query cell needed to cover radiusKm; inverts the bound above
+    private int columnSpan(double lat, double radiusKm, int rows) {
+        double maxLat = Math.abs(lat) + (rows + 1) * cellDegrees;
+        if (maxLat >= 90.0) return longitudeCells;
+        double sinHalf = Math.sin(radiusKm / (2 * DistanceMatrix.EARTH_RADIUS_KM)) / Math.cos(Math.toRadians(maxLat));
+        if (sinHalf >= 1.0) return longitudeCells;
+        double degrees = Math.toDegrees(2 * Math.asin(sinHalf));
+        return Math.min((int) Math.ceil(degrees / cellDegrees), longitudeCells);
+    }
+
+    // Adds inside the map's atomic step, so a concurrent leave() cannot drop the set it lands in
+    private void enter(long cell, K key) {
+        cells.compute(cell, (c, members) -> {
+            if (members == null) members = ConcurrentHashMap.newKeySet();
+            members.add(key);
+            return members;
+        });
+    }
+
+    private void leave(long cell, K key) {
+        cells.computeIfPresent(cell, (c, members) -> {
+            members.remove(key);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    private long cellOf(V value) {
+        return key(row(latitude.applyAsDouble(value)), column(longitude.applyAsDouble(value)));
+    }
+
+    private int row(double lat) { return (int) Math.floor((lat + 90.0) / cellDegrees); }
+
+    private int column(double lon) { return (int) Math.floor((lon + 180.0) / cellDegrees); }
+
+    // Columns wrap around the antimeridian
+    private long key(int row, int column) {
+        return ((long) row << 32) | Math.floorMod(column, longitudeCells);
+    }
+
+    public static final class Neighbor<V> {
+        private final V value;
+        private final double distanceKm;
+
+        Neighbor(V value, double distanceKm) {
+            this.value = value;
+            this.distanceKm = distanceKm;
+        }
+
+        public V getValue() { return value; }
+
+        public double getDistanceKm() { return distanceKm; }
+    }
+}
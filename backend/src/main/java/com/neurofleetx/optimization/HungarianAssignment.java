@@ -0,0 +1,95 @@
+package com.neurofleetx.optimization;
+
+import java.util.Arrays;
+
+/**
+ * Minimum-cost assignment (Hungarian algorithm with potentials). Rectangular matrices are fine:
+ * every row is matched when there are at least as many columns, otherwise every column is.
+ * Runs in O(min(r, c)^2 * max(r, c)).
+ */
+public final class HungarianAssignment {
+
+    public static final int UNMATCHED = -1;
+
+    private HungarianAssignment() {
+    }
+
+    /** Returns the column matched to each row, or {@link #UNMATCHED}. */
+    public static int[] solve(double[][] cost) {
+        int rows = cost.length;
+        int columns = rows == 0 ? 0 : cost[0].length;
+        int[] assignment = new int[rows];
+        Arrays.fill(assignment, UNMATCHED);
+        if (rows == 0 || columns == 0) return assignment;
+
+        if (rows <= columns) {
+            int[] matchOfColumn = solveRowsLeqColumns(cost, rows, columns, false);
+            for (int c = 0; c < columns; c++) {
+                if (matchOfColumn[c] != UNMATCHED) assignment[matchOfColumn[c]] = c;
+            }
+        } else {
+            // Solve the transpose so the inner loops run over the longer dimension
+            int[] matchOfRow = solveRowsLeqColumns(cost, columns, rows, true);
+            for (int r = 0; r < rows; r++) {
+                if (matchOfRow[r] != UNMATCHED) assignment[r] = matchOfRow[r];
+            }
+        }
+        return assignment;
+    }
+
+    // Classic O(n^2 m) formulation for n <= m; returns the row (1..n, shifted to 0-based) of each column
+    private static int[] solveRowsLeqColumns(double[][] cost, int n, int m, boolean transposed) {
+        double[] u = new double[n + 1];
+        double[] v = new double[m + 1];
+        int[] p = new int[m + 1];
+        int[] way = new int[m + 1];
+        double[] minv = new double[m + 1];
+        boolean[] used = new boolean[m + 1];
+
+        for (int i = 1; i <= n; i++) {
+            p[0] = i;
+            int j0 = 0;
+            Arrays.fill(minv, Double.POSITIVE_INFINITY);
+            Arrays.fill(used, false);
+            do {
+                used[j0] = true;
+                int i0 = p[j0];
+                double delta = Double.POSITIVE_INFINITY;
+                int j1 = 0;
+                for (int j = 1; j <= m; j++) {
+                    if (used[j]) continue;
+                    double entry = transposed ? cost[j - 1][i0 - 1] : cost[i0 - 1][j - 1];
+                    double reduced = entry - u[i0] - v[j];
+                    if (reduced < minv[j]) {
+                        minv[j] = reduced;
+                        way[j] = j0;
+                    }
+                    if (minv[j] < delta) {
+                        delta = minv[j];
+                        j1 = j;
+                    }
+                }
+                for (int j = 0; j <= m; j++) {
+                    if (used[j]) {
+                        u[p[j]] += delta;
+                        v[j] -= delta;
+                    } else {
+                        minv[j] -= delta;
+                    }
+                }
+                j0 = j1;
+            } while (p[j0] != 0);
+            do {
+                int j1 = way[j0];
+                p[j0] = p[j1];
+                j0 = j1;
+            } while (j0 != 0);
+        }
+
+        int[] rowOfColumn = new int[m];
+        for (int j = 1; j <= m; j++) {
+            rowOfColumn[j - 1] = p[j] != 0 ? p[j] - 1 : UNMATCHED;
+        }
+        return rowOfColumn;
+    }
+}
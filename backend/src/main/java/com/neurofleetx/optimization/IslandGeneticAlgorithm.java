@@ -0,0 +1,418 @@
+package com.neurofleetx.optimization;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Island-model genetic algorithm over booking-to-vehicle assignments. Each island evolves its own
+ * population on the shared {@link ForkJoinPool}; every {@code migrationInterval} generations the
+ * best individuals of each island replace the worst of the next one (ring topology).
+ *
+ * The search is anytime: it stops when the generation cap, the {@link SearchBudget} deadline, the
+ * target fitness or the stagnation limit is hit, or the budget is cancelled, and always returns the
+ * incumbent best. An optional {@link ProgressListener} is notified after every epoch.
+ *
+ * Fitness matches the service's historic objective: average utilization of the vehicles used
+ * minus total route distance / 100, with a penalty per booking left unassigned. Children are
+ * repaired to respect vehicle capacities, so every individual is a feasible plan.
+ */
+public final class IslandGeneticAlgorithm {
+
+    public static final double UNASSIGNED_PENALTY = 25.0;
+    private static final double CAPACITY_EPSILON = 1e-9;
+    private static final Comparator<Chromosome> BY_FITNESS_DESC =
+            Comparator.comparingDouble(Chromosome::getFitness).reversed();
+
+    private final OptimizationContext context;
+    private final double[] capacities;
+    private final GeneticAlgorithmSettings settings;
+    private final SearchBudget budget;
+    private final ForkJoinPool pool;
+    private volatile boolean targetReached;
+    private ProgressListener progressListener;
+
+    public IslandGeneticAlgorithm(OptimizationContext context, double[] capacities,
+                                  GeneticAlgorithmSettings settings, SearchBudget budget, ForkJoinPool pool) {
+        this.context = context;
+        this.capacities = capacities;
+        this.settings = settings;
+        this.budget = budget;
+        this.pool = pool;
+    }
+
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public Result run() {
+        int islandCount = Math.max(1, settings.getIslands());
+        List<Island> islands = new ArrayList<>(islandCount);
+        for (int i = 0; i < islandCount; i++) {
+            islands.add(new Island(new SplittableRandom(settings.getSeed() + 31L * i), i == 0));
+        }
+        invokeAll(islands, Island::initialize);
+        Chromosome incumbent = bestOf(islands).copy();
+
+        int generation = 0;
+        int lastImprovement = 0;
+        int interval = Math.max(1, settings.getMigrationInterval());
+        StopReason stopReason;
+        while (true) {
+            if (budget.isCancelled()) {
+                stopReason = StopReason.CANCELLED;
+                break;
+            }
+            if (budget.isTargetReached(incumbent.getFitness())) {
+                stopReason = StopReason.TARGET_REACHED;
+                break;
+            }
+            if (budget.isExpired()) {
+                stopReason = StopReason.TIME_BUDGET_EXPIRED;
+                break;
+            }
+            if (generation >= settings.getGenerations()) {
+                stopReason = StopReason.GENERATIONS_COMPLETED;
+                break;
+            }
+            if (settings.getStagnationLimit() > 0 && generation - lastImprovement >= settings.getStagnationLimit()) {
+                stopReason = StopReason.STAGNATED;
+                break;
+            }
+
+            int epoch = Math.min(interval, settings.getGenerations() - generation);
+            invokeAll(islands, island -> island.evolve(epoch));
+            int completed = 0;
+            for (Island island : islands) {
+                completed = Math.max(completed, island.completedInEpoch);
+            }
+            generation += completed;
+
+            Chromosome best = bestOf(islands);
+            if (best.getFitness() > incumbent.getFitness()) {
+                incumbent = best.copy();
+                lastImprovement = generation;
+            }
+            if (islandCount > 1) {
+                migrate(islands);
+            }
+            if (progressListener != null) {
+                progressListener.onProgress(progress(generation), generation, incumbent.getFitness());
+            }
+        }
+
+        long evaluations = 0;
+        for (Island island : islands) {
+            evaluations += island.evaluations;
+        }
+        return new Result(incumbent, generation, evaluations, stopReason);
+    }
+
+    private double progress(int generation) {
+        double byGenerations = settings.getGenerations() == Integer.MAX_VALUE
+                ? 0.0 : (double) generation / settings.getGenerations();
+        return Math.min(1.0, Math.max(byGenerations, budget.fractionElapsed()));
+    }
+
+    private Chromosome bestOf(List<Island> islands) {
+        Chromosome best = null;
+        for (Island island : islands) {
+            Chromosome candidate = island.population[0];
+            if (best == null || candidate.getFitness() > best.getFitness()) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    private void invokeAll(List<Island> islands, IslandStep step) {
+        List<Callable<Void>> tasks = new ArrayList<>(islands.size());
+        for (Island island : islands) {
+            tasks.add(() -> {
+                step.apply(island);
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Optimization interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Island evolution failed", e.getCause());
+        }
+    }
+
+    // Ring migration: island i's best replace island i+1's worst; populations are sorted after evolve()
+    private void migrate(List<Island> islands) {
+        int migrants = Math.min(settings.getMigrationSize(), settings.getPopulationSize() / 2);
+        if (migrants <= 0) return;
+        List<Chromosome[]> outgoing = new ArrayList<>(islands.size());
+        for (Island island : islands) {
+            Chromosome[] best = new Chromosome[migrants];
+            for (int m = 0; m < migrants; m++) {
+                best[m] = island.population[m].copy();
+            }
+            outgoing.add(best);
+        }
+        for (int i = 0; i < islands.size(); i++) {
+            Island target = islands.get((i + 1) % islands.size());
+            Chromosome[] incoming = outgoing.get(i);
+            int size = target.population.length;
+            for (int m = 0; m < migrants; m++) {
+                target.population[size - 1 - m].copyFrom(incoming[m]);
+            }
+            Arrays.sort(target.population, BY_FITNESS_DESC);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IslandStep {
+        void apply(Island island);
+    }
+
+    public enum StopReason {
+        GENERATIONS_COMPLETED, TIME_BUDGET_EXPIRED, TARGET_REACHED, STAGNATED, CANCELLED
+    }
+
+    public static final class Result {
+        private final Chromosome best;
+        private final int generations;
+        private final long evaluations;
+        private final StopReason stopReason;
+
+        Result(Chromosome best, int generations, long evaluations, StopReason stopReason) {
+            this.best = best;
+            this.generations = generations;
+            this.evaluations = evaluations;
+            this.stopReason = stopReason;
+        }
+
+        public Chromosome getBest() { return best; }
+        public int getGenerations() { return generations; }
+        public long getEvaluations() { return evaluations; }
+        public StopReason getStopReason() { return stopReason; }
+    }
+
+    private final class Island {
+        private final SplittableRandom random;
+        private final boolean seedGreedy;
+        private final int bookingCount = context.bookingCount();
+        private final int vehicleCount = capacities.length;
+        private final RouteEvaluator router = new RouteEvaluator(context);
+        private final double[] loads = new double[vehicleCount];
+        private final int[] counts = new int[vehicleCount];
+        private final int[] offsets = new int[vehicleCount + 1];
+        private final int[] grouped = new int[bookingCount];
+        private final int[] order = new int[bookingCount];
+        private Chromosome[] population;
+        private Chromosome[] offspring;
+        private long evaluations;
+        private int completedInEpoch;
+
+        Island(SplittableRandom random, boolean seedGreedy) {
+            this.random = random;
+            this.seedGreedy = seedGreedy;
+        }
+
+        void initialize() {
+            int size = Math.max(2, settings.getPopulationSize());
+            population = new Chromosome[size];
+            offspring = new Chromosome[size];
+            for (int i = 0; i < size; i++) {
+                population[i] = new Chromosome(bookingCount);
+                offspring[i] = new Chromosome(bookingCount);
+                if (i == 0 && seedGreedy) {
+                    firstFitDecreasing(population[i].getGenes());
+                } else {
+                    randomFirstFit(population[i].getGenes());
+                }
+                evaluate(population[i]);
+            }
+            Arrays.sort(population, BY_FITNESS_DESC);
+        }
+
+        void evolve(int generations) {
+            int elites = Math.min(settings.getEliteCount(), population.length);
+            completedInEpoch = 0;
+            for (int g = 0; g < generations; g++) {
+                if (targetReached || budget.isExpired()) {
+                    return;
+                }
+                for (int e = 0; e < elites; e++) {
+                    offspring[e].copyFrom(population[e]);
+                }
+                for (int c = elites; c < offspring.length; c++) {
+                    Chromosome child = offspring[c];
+                    Chromosome first = tournament();
+                    if (random.nextDouble() < settings.getCrossoverRate()) {
+                        crossover(first.getGenes(), tournament().getGenes(), child.getGenes());
+                    } else {
+                        System.arraycopy(first.getGenes(), 0, child.getGenes(), 0, bookingCount);
+                    }
+                    mutate(child.getGenes());
+                    repair(child.getGenes());
+                    evaluate(child);
+                }
+                Chromosome[] swap = population;
+                population = offspring;
+                offspring = swap;
+                Arrays.sort(population, BY_FITNESS_DESC);
+                completedInEpoch++;
+                if (budget.isTargetReached(population[0].getFitness())) {
+                    targetReached = true;
+                }
+            }
+        }
+
+        private Chromosome tournament() {
+            Chromosome best = population[random.nextInt(population.length)];
+            for (int i = 1; i < settings.getTournamentSize(); i++) {
+                Chromosome challenger = population[random.nextInt(population.length)];
+                if (challenger.getFitness() > best.getFitness()) {
+                    best = challenger;
+                }
+            }
+            return best;
+        }
+
+        private void crossover(int[] first, int[] second, int[] child) {
+            for (int b = 0; b < bookingCount; b++) {
+                child[b] = random.nextBoolean() ? first[b] : second[b];
+            }
+        }
+
+        private void mutate(int[] genes) {
+            if (vehicleCount == 0) return;
+            for (int b = 0; b < bookingCount; b++) {
+                if (random.nextDouble() < settings.getMutationRate()) {
+                    if (bookingCount > 1 && random.nextBoolean()) {
+                        int other = random.nextInt(bookingCount);
+                        int gene = genes[b];
+                        genes[b] = genes[other];
+                        genes[other] = gene;
+                    } else {
+                        genes[b] = random.nextInt(vehicleCount);
+                    }
+                }
+            }
+        }
+
+        // Moves bookings off overloaded vehicles, then places unassigned bookings wherever they fit
+        private void repair(int[] genes) {
+            Arrays.fill(loads, 0.0);
+            for (int b = 0; b < bookingCount; b++) {
+                if (genes[b] != Chromosome.UNASSIGNED) {
+                    loads[genes[b]] += context.loadWeight(b);
+                }
+            }
+            int start = bookingCount > 0 ? random.nextInt(bookingCount) : 0;
+            for (int i = 0; i < bookingCount; i++) {
+                int b = (start + i) % bookingCount;
+                int v = genes[b];
+                if (v != Chromosome.UNASSIGNED && loads[v] > capacities[v] + CAPACITY_EPSILON) {
+                    loads[v] -= context.loadWeight(b);
+                    genes[b] = Chromosome.UNASSIGNED;
+                }
+            }
+            for (int i = 0; i < bookingCount; i++) {
+                int b = (start + i) % bookingCount;
+                if (genes[b] == Chromosome.UNASSIGNED) {
+                    placeWhereItFits(genes, b);
+                }
+            }
+        }
+
+        private void placeWhereItFits(int[] genes, int booking) {
+            if (vehicleCount == 0) return;
+            double weight = context.loadWeight(booking);
+            int offset = random.nextInt(vehicleCount);
+            for (int k = 0; k < vehicleCount; k++) {
+                int v = (offset + k) % vehicleCount;
+                if (loads[v] + weight <= capacities[v] + CAPACITY_EPSILON) {
+                    genes[booking] = v;
+                    loads[v] += weight;
+                    return;
+                }
+            }
+        }
+
+        private void randomFirstFit(int[] genes) {
+            Arrays.fill(genes, Chromosome.UNASSIGNED);
+            Arrays.fill(loads, 0.0);
+            for (int i = 0; i < bookingCount; i++) {
+                order[i] = i;
+            }
+            for (int i = bookingCount - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = order[i];
+                order[i] = order[j];
+                order[j] = tmp;
+            }
+            for (int i = 0; i < bookingCount; i++) {
+                placeWhereItFits(genes, order[i]);
+            }
+        }
+
+        // First-fit-decreasing packing, so the search never starts below the LOAD heuristic
+        private void firstFitDecreasing(int[] genes) {
+            new LoadPacker(context.loadWeights(), capacities).pack(LoadPacker.Strategy.FIRST_FIT_DECREASING, genes);
+        }
+
+        private void evaluate(Chromosome chromosome) {
+            chromosome.setFitness(fitness(chromosome.getGenes()));
+            evaluations++;
+        }
+
+        private double fitness(int[] genes) {
+            Arrays.fill(counts, 0);
+            Arrays.fill(loads, 0.0);
+            int unassigned = 0;
+            for (int b = 0; b < bookingCount; b++) {
+                int v = genes[b];
+                if (v == Chromosome.UNASSIGNED) {
+                    unassigned++;
+                } else {
+                    counts[v]++;
+                    loads[v] += context.loadWeight(b);
+                }
+            }
+            offsets[0] = 0;
+            for (int v = 0; v < vehicleCount; v++) {
+                offsets[v + 1] = offsets[v] + counts[v];
+            }
+            Arrays.fill(counts, 0);
+            for (int b = 0; b < bookingCount; b++) {
+                int v = genes[b];
+                if (v != Chromosome.UNASSIGNED) {
+                    grouped[offsets[v] + counts[v]++] = b;
+                }
+            }
+
+            double utilization = 0.0;
+            double distance = 0.0;
+            int used = 0;
+            for (int v = 0; v < vehicleCount; v++) {
+                if (counts[v] == 0) continue;
+                used++;
+                utilization += capacities[v] > 0 ? Math.min(loads[v] / capacities[v], 1.0) * 100 : 0.0;
+                distance += router.tourLength(grouped, offsets[v], counts[v]);
+            }
+            double averageUtilization = used > 0 ? utilization / used : 0.0;
+            return IslandGeneticAlgorithm.fitness(averageUtilization, distance) - unassigned * UNASSIGNED_PENALTY;
+        }
+    }
+
+    /** Fitness = high utilization, low distance. */
+    public static double fitness(double averageUtilization, double totalDistance) {
+        return averageUtilization - (totalDistance / 100.0);
+    }
+}
@@ -0,0 +1,113 @@
+package com.neurofleetx.optimization;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Lloyd's k-means with k-means++ seeding. Each iteration assigns points to their nearest centroid
+ * through a {@link KdTree} over the k centroids, so an iteration costs O(n log k) rather than
+ * O(n k). Deterministic for a given seed.
+ */
+public final class KMeansClusterer implements SpatialClusterer {
+
+    private final int clusterCount;
+    private final int maxIterations;
+    private final long seed;
+
+    public KMeansClusterer(int clusterCount, int maxIterations, long seed) {
+        this.clusterCount = clusterCount;
+        this.maxIterations = maxIterations;
+        this.seed = seed;
+    }
+
+    @Override
+    public List<int[]> cluster(ClusterPoints points) {
+        int n = points.size();
+        int k = Math.max(1, Math.min(clusterCount, n));
+        if (n == 0) return new ArrayList<>();
+
+        double[] centroidX = new double[k];
+        double[] centroidY = new double[k];
+        k = seedCentroids(points, k, centroidX, centroidY, new SplittableRandom(seed));
+
+        int[] labels = new int[n];
+        Arrays.fill(labels, -1);
+        double[] sumX = new double[k];
+        double[] sumY = new double[k];
+        int[] sizes = new int[k];
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            KdTree centroids = new KdTree(centroidX, centroidY, k);
+            boolean changed = false;
+            for (int i = 0; i < n; i++) {
+                int nearest = centroids.nearest(points.x(i), points.y(i));
+                if (nearest != labels[i]) {
+                    labels[i] = nearest;
+                    changed = true;
+                }
+            }
+            if (!changed) break;
+
+            Arrays.fill(sumX, 0.0);
+            Arrays.fill(sumY, 0.0);
+            Arrays.fill(sizes, 0);
+            for (int i = 0; i < n; i++) {
+                sumX[labels[i]] += points.x(i);
+                sumY[labels[i]] += points.y(i);
+                sizes[labels[i]]++;
+            }
+            for (int c = 0; c < k; c++) {
+                // An emptied cluster keeps its centroid and may win points back next iteration
+                if (sizes[c] > 0) {
+                    centroidX[c] = sumX[c] / sizes[c];
+                    centroidY[c] = sumY[c] / sizes[c];
+                }
+            }
+        }
+        return SpatialClusterer.groupByLabel(labels, k);
+    }
+
+    // k-means++: each further centroid is drawn with probability proportional to its squared
+    // distance from the nearest centroid chosen so far. Returns the number of distinct centroids.
+    private int seedCentroids(ClusterPoints points, int k, double[] centroidX, double[] centroidY,
+                              SplittableRandom random) {
+        int n = points.size();
+        int first = random.nextInt(n);
+        centroidX[0] = points.x(first);
+        centroidY[0] = points.y(first);
+        double[] distanceSq = new double[n];
+        double total = 0.0;
+        for (int i = 0; i < n; i++) {
+            distanceSq[i] = squaredDistance(points, i, centroidX[0], centroidY[0]);
+            total += distanceSq[i];
+        }
+
+        for (int c = 1; c < k; c++) {
+            if (total <= 0.0) return c; // every remaining point coincides with a centroid
+            double threshold = random.nextDouble() * total;
+            int chosen = n - 1;
+            for (int i = 0; i < n; i++) {
+                threshold -= distanceSq[i];
+                if (threshold < 0) {
+                    chosen = i;
+                    break;
+                }
+            }
+            centroidX[c] = points.x(chosen);
+            centroidY[c] = points.y(chosen);
+            total = 0.0;
+            for (int i = 0; i < n; i++) {
+                distanceSq[i] = Math.min(distanceSq[i], squaredDistance(points, i, centroidX[c], centroidY[c]));
+                total += distanceSq[i];
+            }
+        }
+        return k;
+    }
+
+    private static double squaredDistance(ClusterPoints points, int i, double x, double y) {
+        double dx = points.x(i) - x;
+        double dy = points.y(i) - y;
+        return dx * dx + dy * dy;
+    }
+}
@@ -0,0 +1,124 @@
+package com.neurofleetx.optimization;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Static 2-d tree over planar points, stored implicitly: the median of every range of
+ * {@code order} is that subtree's root. Construction is O(n log n) and the coordinate arrays are
+ * used as given, not copied. Safe for concurrent queries once built.
+ */
+public final class KdTree {
+
+    private final double[] xs;
+    private final double[] ys;
+    private final int[] order;
+
+    public KdTree(double[] xs, double[] ys) {
+        this(xs, ys, xs.length);
+    }
+
+    /** Indexes the first {@code count} points of the arrays. */
+    public KdTree(double[] xs, double[] ys, int count) {
+        this.xs = xs;
+        this.ys = ys;
+        this.order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        build(0, count, 0);
+    }
+
+    public int size() { return order.length; }
+
+    /** Index of the point closest to (x, y), or -1 if the tree is empty. */
+    public int nearest(double x, double y) {
+        Nearest best = new Nearest();
+        nearest(0, order.length, 0, x, y, best);
+        return best.index;
+    }
+
+    /** Calls {@code action} with the index of every point within {@code radius} of (x, y). */
+    public void forEachWithin(double x, double y, double radius, IntConsumer action) {
+        within(0, order.length, 0, x, y, radius, radius * radius, action);
+    }
+
+    private void build(int from, int to, int depth) {
+        if (to - from <= 1) return;
+        int mid = (from + to) >>> 1;
+        select(from, to - 1, mid, depth & 1);
+        build(from, mid, depth + 1);
+        build(mid + 1, to, depth + 1);
+    }
+
+    // Quickselect: places the k-th smallest point along the axis at order[k]
+    private void select(int left, int right, int k, int axis) {
+        while (right > left) {
+            double pivot = coordinate(order[(left + right) >>> 1], axis);
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinate(order[i], axis) < pivot) i++;
+                while (coordinate(order[j], axis) > pivot) j--;
+                if (i <= j) {
+                    int swap = order[i];
+                    order[i] = order[j];
+                    order[j] = swap;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void nearest(int from, int to, int depth, double x, double y, Nearest best) {
+        if (from >= to) return;
+        int mid = (from + to) >>> 1;
+        int point = order[mid];
+        double dx = xs[point] - x;
+        double dy = ys[point] - y;
+        double distanceSq = dx * dx + dy * dy;
+        if (distanceSq < best.distanceSq) {
+            best.distanceSq = distanceSq;
+            best.index = point;
+        }
+        double delta = (depth & 1) == 0 ? x - xs[point] : y - ys[point];
+        if (delta < 0) {
+            nearest(from, mid, depth + 1, x, y, best);
+            if (delta * delta < best.distanceSq) nearest(mid + 1, to, depth + 1, x, y, best);
+        } else {
+            nearest(mid + 1, to, depth + 1, x, y, best);
+            if (delta * delta < best.distanceSq) nearest(from, mid, depth + 1, x, y, best);
+        }
+    }
+
+    private void within(int from, int to, int depth, double x, double y, double radius, double radiusSq,
+                        IntConsumer action) {
+        if (from >= to) return;
+        int mid = (from + to) >>> 1;
+        int point = order[mid];
+        double dx = xs[point] - x;
+        double dy = ys[point] - y;
+        if (dx * dx + dy * dy <= radiusSq) {
+            action.accept(point);
+        }
+        double delta = (depth & 1) == 0 ? x - xs[point] : y - ys[point];
+        if (delta <= radius) within(from, mid, depth + 1, x, y, radius, radiusSq, action);
+        if (delta >= -radius) within(mid + 1, to, depth + 1, x, y, radius, radiusSq, action);
+    }
+
+    private double coordinate(int point, int axis) {
+        return axis == 0 ? xs[point] : ys[point];
+    }
+
+    private static final class Nearest {
+        private int index = -1;
+        private double distanceSq = Double.POSITIVE_INFINITY;
+    }
+}
@@ -0,0 +1,161 @@
+package com.neurofleetx.optimization;
+
+import java.util.Arrays;
+
+/**
+ * Bin packing of booking weights into vehicle capacities, on primitive arrays. Items are placed
+ * heaviest first; {@link Strategy#FIRST_FIT_DECREASING} puts each one in the largest-capacity
+ * vehicle that still has room, {@link Strategy#BEST_FIT_DECREASING} in the vehicle it leaves with
+ * the least spare capacity.
+ *
+ * Both strategies index the residual capacities, so finding a vehicle is O(log V) instead of a
+ * scan over every vehicle. First fit descends a max segment tree laid out in capacity order, so a
+ * pack is O(B log V). Best fit binary-searches the residuals kept sorted, but re-ranking the chosen
+ * vehicle shifts every residual between its old and new rank, one arraycopy of up to V entries: a
+ * pack is O(B·V) in the worst case, which at fleet sizes is a few short memmoves per booking.
+ * Sort orders and scratch buffers are set up once, so repeated {@link #pack} calls don't allocate.
+ * The weight and capacity arrays are read, never modified. Not thread-safe; use one per thread.
+ */
+public final class LoadPacker {
+
+    public static final int UNASSIGNED = -1;
+
+    private static final double CAPACITY_EPSILON = 1e-9;
+
+    public enum Strategy {
+        FIRST_FIT_DECREASING,
+        BEST_FIT_DECREASING
+    }
+
+    private final double[] weights;
+    private final double[] capacities;
+    private final int[] byWeight;   // items, heaviest first
+    private final int[] byCapacity; // vehicles, largest first
+    private final int leaves;
+    private final double[] tree;    // first fit: max residual per subtree, leaves in capacity order
+    private final double[] sorted;  // best fit: residuals ascending
+    private final int[] sortedBins;
+
+    public LoadPacker(double[] weights, double[] capacities) {
+        this.weights = weights;
+        this.capacities = capacities;
+        this.byWeight = sortDescending(weights);
+        this.byCapacity = sortDescending(capacities);
+        int leaves = 1;
+        while (leaves < capacities.length) leaves <<= 1;
+        this.leaves = leaves;
+        this.tree = new double[2 * leaves];
+        this.sorted = new double[capacities.length];
+        this.sortedBins = new int[capacities.length];
+    }
+
+    /**
+     * Fills {@code assignment[b]} with the vehicle index booking {@code b} is packed into, or
+     * {@link #UNASSIGNED} if it fits nowhere. Returns the number of bookings placed.
+     */
+    public int pack(Strategy strategy, int[] assignment) {
+        return strategy == Strategy.BEST_FIT_DECREASING ? bestFit(assignment) : firstFit(assignment);
+    }
+
+    private int firstFit(int[] assignment) {
+        Arrays.fill(tree, Double.NEGATIVE_INFINITY);
+        for (int rank = 0; rank < byCapacity.length; rank++) {
+            tree[leaves + rank] = capacities[byCapacity[rank]];
+        }
+        for (int node = leaves - 1; node > 0; node--) {
+            tree[node] = Math.max(tree[2 * node], tree[2 * node + 1]);
+        }
+        int placed = 0;
+        for (int item : byWeight) {
+            double weight = weights[item] - CAPACITY_EPSILON;
+            if (tree[1] < weight) {
+                assignment[item] = UNASSIGNED;
+                continue;
+            }
+            // Leftmost leaf with enough room
+            int node = 1;
+            while (node < leaves) {
+                node = tree[2 * node] >= weight ? 2 * node : 2 * node + 1;
+            }
+            assignment[item] = byCapacity[node - leaves];
+            tree[node] -= weights[item];
+            for (node >>= 1; node > 0; node >>= 1) {
+                tree[node] = Math.max(tree[2 * node], tree[2 * node + 1]);
+            }
+            placed++;
+        }
+        return placed;
+    }
+
+    private int bestFit(int[] assignment) {
+        int count = byCapacity.length;
+        // byCapacity is descending; fill the index ascending
+        for (int i = 0; i < count; i++) {
+            sortedBins[i] = byCapacity[count - 1 - i];
+            sorted[i] = capacities[sortedBins[i]];
+        }
+        int placed = 0;
+        for (int item : byWeight) {
+            int slot = lowerBound(weights[item] - CAPACITY_EPSILON, count);
+            if (slot == count) {
+                assignment[item] = UNASSIGNED;
+                continue;
+            }
+            int bin = sortedBins[slot];
+            assignment[item] = bin;
+            double residual = sorted[slot] - weights[item];
+            // The residual only shrinks: shift it left to its new rank
+            int target = lowerBound(residual, slot);
+            System.arraycopy(sorted, target, sorted, target + 1, slot - target);
+            System.arraycopy(sortedBins, target, sortedBins, target + 1, slot - target);
+            sorted[target] = residual;
+            sortedBins[target] = bin;
+            placed++;
+        }
+        return placed;
+    }
+
+    // First index in sorted[0..to) whose residual is at least value
+    private int lowerBound(double value, int to) {
+        int low = 0;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Indices ordered by value descending, ties by index; bottom-up merge sort, no boxing
+    private static int[] sortDescending(double[] values) {
+        int n = values.length;
+        int[] order = new int[n];
+        int[] buffer = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        for (int width = 1; width < n; width <<= 1) {
+            for (int from = 0; from < n; from += 2 * width) {
+                int mid = Math.min(from + width, n);
+                int to = Math.min(from + 2 * width, n);
+                int left = from;
+                int right = mid;
+                for (int k = from; k < to; k++) {
+                    if (right >= to || (left < mid && values[order[left]] >= values[order[right]])) {
+                        buffer[k] = order[left++];
+                    } else {
+                        buffer[k] = order[right++];
+                    }
+                }
+            }
+            int[] swap = order;
+            order = buffer;
+            buffer = swap;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,99 @@
+package com.neurofleetx.optimization;
+
+import com.neurofleetx.model.Booking;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Per-request view of the bookings being optimized. Every distinct pickup/delivery address is
+ * geocoded once and becomes a node of the {@link DistanceMatrix}; bookings are addressed by
+ * their index in {@link #getBookings()}.
+ */
+public final class OptimizationContext {
+
+    private final List<Booking> bookings;
+    private final Map<Booking, Integer> bookingIndex;
+    private final String[] locationNames;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final int[] pickupNodes;
+    private final int[] deliveryNodes;
+    private final double[] loadWeights;
+    private final DistanceMatrix matrix;
+
+    private OptimizationContext(List<Booking> bookings, Function<String, double[]> geocoder) {
+        this.bookings = List.copyOf(bookings);
+        int count = this.bookings.size();
+        this.bookingIndex = new IdentityHashMap<>(count * 2);
+        this.pickupNodes = new int[count];
+        this.deliveryNodes = new int[count];
+        this.loadWeights = new double[count];
+
+        Map<String, Integer> nodeByLocation = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Booking booking = this.bookings.get(i);
+            bookingIndex.put(booking, i);
+            pickupNodes[i] = nodeByLocation.computeIfAbsent(booking.getPickupLocation(), location -> {
+                names.add(location);
+                return names.size() - 1;
+            });
+            deliveryNodes[i] = nodeByLocation.computeIfAbsent(booking.getDeliveryLocation(), location -> {
+                names.add(location);
+                return names.size() - 1;
+            });
+            loadWeights[i] = booking.getLoadWeight() != null ? booking.getLoadWeight() : 0.0;
+        }
+
+        this.locationNames = names.toArray(new String[0]);
+        this.latitudes = new double[locationNames.length];
+        this.longitudes = new double[locationNames.length];
+        for (int node = 0; node < locationNames.length; node++) {
+            double[] coordinates = geocoder.apply(locationNames[node]);
+            latitudes[node] = coordinates[0];
+            longitudes[node] = coordinates[1];
+        }
+        this.matrix = DistanceMatrix.build(latitudes, longitudes);
+    }
+
+    public static OptimizationContext build(List<Booking> bookings, Function<String, double[]> geocoder) {
+        return new OptimizationContext(bookings, geocoder);
+    }
+
+    public List<Booking> getBookings() { return bookings; }
+
+    public int bookingCount() { return bookings.size(); }
+
+    public int indexOf(Booking booking) {
+        Integer index = bookingIndex.get(booking);
+        if (index == null) {
+            throw new IllegalArgumentException("Booking is not part of this optimization: " + booking.getBookingId());
+        }
+        return index;
+    }
+
+    public int nodeCount() { return locationNames.length; }
+
+    public String locationName(int node) { return locationNames[node]; }
+
+    public double latitude(int node) { return latitudes[node]; }
+
+    public double longitude(int node) { return longitudes[node]; }
+
+    public int pickupNode(int booking) { return pickupNodes[booking]; }
+
+    public int deliveryNode(int booking) { return deliveryNodes[booking]; }
+
+    public double loadWeight(int booking) { return loadWeights[booking]; }
+
+    /** Load weight per booking index; shared, callers must not modify it. */
+    public double[] loadWeights() { return loadWeights; }
+
+    public DistanceMatrix getMatrix() { return matrix; }
+
+    public double distance(int fromNode, int toNode) { return matrix.distance(fromNode, toNode); }
+}
@@ -0,0 +1,268 @@
+package com.neurofleetx.optimization;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pickup-and-delivery route model. A route is a sequence of stops, two per booking: stop
+ * {@code 2b} picks booking {@code b} up and stop {@code 2b + 1} delivers it. Stops are never merged,
+ * even when bookings share an address, so every pickup and drop is visible to the driver.
+ *
+ * A route is feasible when every pickup precedes its delivery and the load on board never
+ * exceeds the vehicle capacity. Routes are built by cheapest feasible insertion and then improved
+ * by a {@link TourImprover} that rejects moves breaking either rule.
+ */
+public final class PickupDeliveryRoute {
+
+    // Cheapest insertion is O(n^3); beyond this many bookings routes are seeded in O(n^2)
+    private static final int INSERTION_LIMIT = 250;
+    private static final double CAPACITY_EPSILON = 1e-9;
+
+    private final OptimizationContext context;
+    private final int[] stops;
+    private final double capacity;
+
+    private PickupDeliveryRoute(OptimizationContext context, int[] stops, double capacity) {
+        this.context = context;
+        this.stops = stops;
+        this.capacity = capacity;
+    }
+
+    public static int pickupStop(int booking) { return booking << 1; }
+
+    public static int deliveryStop(int booking) { return (booking << 1) | 1; }
+
+    public static int bookingOf(int stop) { return stop >>> 1; }
+
+    public static boolean isPickup(int stop) { return (stop & 1) == 0; }
+
+    /** Builds a route for {@code bookings[offset..offset+count)}, feasible whenever each booking fits. */
+    public static PickupDeliveryRoute build(OptimizationContext context, int[] bookings, int offset, int count,
+                                            double capacity) {
+        int[] stops = count <= INSERTION_LIMIT
+                ? cheapestInsertion(context, bookings, offset, count, capacity)
+                : pairedNearestNeighbour(context, bookings, offset, count);
+        return new PickupDeliveryRoute(context, stops, capacity);
+    }
+
+    public int[] getStops() { return stops; }
+
+    public int size() { return stops.length; }
+
+    public int node(int position) { return nodeOf(context, stops[position]); }
+
+    public double length() {
+        double length = 0.0;
+        for (int i = 0; i < stops.length - 1; i++) {
+            length += context.distance(nodeOf(context, stops[i]), nodeOf(context, stops[i + 1]));
+        }
+        return length;
+    }
+
+    /** Load on board after each stop. */
+    public double[] loadProfile() {
+        double[] loads = new double[stops.length];
+        double load = 0.0;
+        for (int i = 0; i < stops.length; i++) {
+            load += loadDelta(context, stops[i]);
+            loads[i] = load;
+        }
+        return loads;
+    }
+
+    public boolean isFeasible() {
+        return new FeasibilityCheck(context, stops, capacity).isFeasible(null);
+    }
+
+    /** Runs precedence- and capacity-preserving local search; infeasible routes are returned as is. */
+    public PickupDeliveryRoute improve(TourImprover improver) {
+        FeasibilityCheck check = new FeasibilityCheck(context, stops, capacity);
+        if (!check.isFeasible(null)) return this;
+        int[] stopNodes = new int[stops.length];
+        for (int i = 0; i < stops.length; i++) {
+            stopNodes[i] = nodeOf(context, stops[i]);
+        }
+        int[] order = improver.improveOrder(context, stopNodes, check::isFeasible);
+        int[] improved = new int[stops.length];
+        for (int i = 0; i < order.length; i++) {
+            improved[i] = stops[order[i]];
+        }
+        return new PickupDeliveryRoute(context, improved, capacity);
+    }
+
+    private static int nodeOf(OptimizationContext context, int stop) {
+        int booking = bookingOf(stop);
+        return isPickup(stop) ? context.pickupNode(booking) : context.deliveryNode(booking);
+    }
+
+    private static double loadDelta(OptimizationContext context, int stop) {
+        double weight = context.loadWeight(bookingOf(stop));
+        return isPickup(stop) ? weight : -weight;
+    }
+
+    // Inserts bookings longest-haul first, each at the pickup/delivery positions that add the least
+    // distance while keeping the load within capacity at every stop in between
+    private static int[] cheapestInsertion(OptimizationContext context, int[] bookings, int offset, int count,
+                                           double capacity) {
+        Integer[] byHaul = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            byHaul[i] = bookings[offset + i];
+        }
+        Arrays.sort(byHaul, (a, b) -> Double.compare(haul(context, b), haul(context, a)));
+
+        int[] route = new int[count * 2];
+        double[] loadAfter = new double[count * 2];
+        int size = 0;
+        for (int booking : byHaul) {
+            int pickupNode = context.pickupNode(booking);
+            int deliveryNode = context.deliveryNode(booking);
+            double weight = context.loadWeight(booking);
+
+            int bestPickup = size;
+            int bestDelivery = size;
+            double bestCost = Double.POSITIVE_INFINITY;
+            for (int i = 0; i <= size; i++) {
+                int prev = i > 0 ? nodeOf(context, route[i - 1]) : -1;
+                double loadAtPickup = (i > 0 ? loadAfter[i - 1] : 0.0) + weight;
+                if (loadAtPickup > capacity + CAPACITY_EPSILON) continue;
+
+                // Delivery straight after the pickup
+                int next = i < size ? nodeOf(context, route[i]) : -1;
+                double adjacent = edge(context, prev, pickupNode) + context.distance(pickupNode, deliveryNode)
+                        + edge(context, deliveryNode, next) - edge(context, prev, next);
+                if (adjacent < bestCost) {
+                    bestCost = adjacent;
+                    bestPickup = i;
+                    bestDelivery = i;
+                }
+
+                if (i == size) continue;
+                double pickupCost = edge(context, prev, pickupNode) + context.distance(pickupNode, next)
+                        - edge(context, prev, next);
+                // Delivery before route[j]; every stop in between carries the extra weight
+                for (int j = i + 1; j <= size; j++) {
+                    if (loadAfter[j - 1] + weight > capacity + CAPACITY_EPSILON) break;
+                    int before = nodeOf(context, route[j - 1]);
+                    int after = j < size ? nodeOf(context, route[j]) : -1;
+                    double cost = pickupCost + context.distance(before, deliveryNode)
+                            + edge(context, deliveryNode, after) - edge(context, before, after);
+                    if (cost < bestCost) {
+                        bestCost = cost;
+                        bestPickup = i;
+                        bestDelivery = j;
+                    }
+                }
+            }
+
+            // Nothing feasible (booking heavier than the vehicle): append it as a separate trip
+            if (bestCost == Double.POSITIVE_INFINITY) {
+                bestPickup = size;
+                bestDelivery = size;
+            }
+            size = insert(context, route, loadAfter, size, booking, bestPickup, bestDelivery);
+        }
+        return route;
+    }
+
+    // Inserts the pickup before position pickupAt and the delivery before position deliveryAt
+    // (both relative to the route before insertion) and refreshes the load profile
+    private static int insert(OptimizationContext context, int[] route, double[] loadAfter, int size, int booking,
+                              int pickupAt, int deliveryAt) {
+        System.arraycopy(route, deliveryAt, route, deliveryAt + 2, size - deliveryAt);
+        route[deliveryAt + 1] = deliveryStop(booking);
+        System.arraycopy(route, pickupAt, route, pickupAt + 1, deliveryAt - pickupAt);
+        route[pickupAt] = pickupStop(booking);
+        size += 2;
+        double load = pickupAt > 0 ? loadAfter[pickupAt - 1] : 0.0;
+        for (int i = pickupAt; i < size; i++) {
+            load += loadDelta(context, route[i]);
+            loadAfter[i] = load;
+        }
+        return size;
+    }
+
+    // Large routes: visit pickups in nearest-neighbour order, delivering each right after pickup
+    private static int[] pairedNearestNeighbour(OptimizationContext context, int[] bookings, int offset, int count) {
+        int[] remaining = Arrays.copyOfRange(bookings, offset, offset + count);
+        int[] route = new int[count * 2];
+        int current = -1;
+        for (int i = 0; i < count; i++) {
+            int nearest = i;
+            if (current >= 0) {
+                double best = Double.POSITIVE_INFINITY;
+                for (int j = i; j < count; j++) {
+                    double distance = context.distance(current, context.pickupNode(remaining[j]));
+                    if (distance < best) {
+                        best = distance;
+                        nearest = j;
+                    }
+                }
+            }
+            int booking = remaining[nearest];
+            remaining[nearest] = remaining[i];
+            remaining[i] = booking;
+            route[2 * i] = pickupStop(booking);
+            route[2 * i + 1] = deliveryStop(booking);
+            current = context.deliveryNode(booking);
+        }
+        return route;
+    }
+
+    // Precedence and capacity check over orders of a fixed stop array; O(n) per check, no allocation
+    private static final class FeasibilityCheck {
+        private final boolean[] pickup;
+        private final int[] partner;
+        private final double[] delta;
+        private final double capacity;
+        private final int[] visited;
+        private int stamp;
+
+        FeasibilityCheck(OptimizationContext context, int[] stops, double capacity) {
+            int n = stops.length;
+            this.pickup = new boolean[n];
+            this.partner = new int[n];
+            this.delta = new double[n];
+            this.capacity = capacity;
+            this.visited = new int[n];
+            Arrays.fill(partner, -1);
+            Map<Integer, Integer> pickupIndex = new HashMap<>();
+            for (int i = 0; i < n; i++) {
+                pickup[i] = isPickup(stops[i]);
+                delta[i] = loadDelta(context, stops[i]);
+                if (pickup[i]) pickupIndex.put(bookingOf(stops[i]), i);
+            }
+            for (int i = 0; i < n; i++) {
+                if (!pickup[i]) {
+                    Integer pickupAt = pickupIndex.get(bookingOf(stops[i]));
+                    partner[i] = pickupAt != null ? pickupAt : -1;
+                }
+            }
+        }
+
+        // order maps position -> index into the stop array; null means the array's own order
+        boolean isFeasible(int[] order) {
+            stamp++;
+            double load = 0.0;
+            for (int position = 0; position < delta.length; position++) {
+                int stop = order != null ? order[position] : position;
+                if (pickup[stop]) {
+                    visited[stop] = stamp;
+                } else if (partner[stop] < 0 || visited[partner[stop]] != stamp) {
+                    return false;
+                }
+                load += delta[stop];
+                if (load > capacity + CAPACITY_EPSILON) return false;
+            }
+            return true;
+        }
+    }
+
+    private static double haul(OptimizationContext context, int booking) {
+        return context.distance(context.pickupNode(booking), context.deliveryNode(booking));
+    }
+
+    private static double edge(OptimizationContext context, int from, int to) {
+        return from < 0 || to < 0 ? 0.0 : context.distance(from, to);
+    }
+}
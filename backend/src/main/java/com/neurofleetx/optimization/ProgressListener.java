@@ -0,0 +1,16 @@
+package com.neurofleetx.optimization;
+
+/**
+ * Receives progress from a running solver. Called on the solver's coordinating thread between
+ * epochs, so implementations must be cheap and must not block.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /**
+     * @param progress    estimated completion in [0, 1], from the generation cap or the time budget
+     * @param generation  generations completed so far
+     * @param bestFitness fitness of the incumbent best plan
+     */
+    void onProgress(double progress, int generation, double bestFitness);
+}
@@ -0,0 +1,78 @@
+package com.neurofleetx.optimization;
+
+import java.util.Arrays;
+
+/**
+ * Nearest-neighbour tour lengths over the location nodes of a set of bookings. Holds
+ * scratch buffers sized to the context, so one instance should be used per thread and reused
+ * across calls to avoid allocating on every fitness evaluation.
+ */
+public final class RouteEvaluator {
+
+    private final OptimizationContext context;
+    private final int[] nodes;
+    private final int[] seen;
+    private int stamp;
+
+    public RouteEvaluator(OptimizationContext context) {
+        this.context = context;
+        this.nodes = new int[context.nodeCount()];
+        this.seen = new int[context.nodeCount()];
+    }
+
+    /**
+     * Length of the nearest-neighbour tour over the pickup and delivery locations of
+     * {@code bookings[offset..offset + count)}, starting at the first booking's pickup. Only the
+     * length is computed; no tour is allocated.
+     */
+    public double tourLength(int[] bookings, int offset, int count) {
+        return walk(collectNodes(bookings, offset, count));
+    }
+
+    // Gathers the distinct nodes of the bookings into nodes[0..size), pickup of the first booking first
+    private int collectNodes(int[] bookings, int offset, int count) {
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(seen, 0);
+            stamp = 1;
+        }
+        int size = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int booking = bookings[i];
+            int pickup = context.pickupNode(booking);
+            if (seen[pickup] != stamp) {
+                seen[pickup] = stamp;
+                nodes[size++] = pickup;
+            }
+            int delivery = context.deliveryNode(booking);
+            if (seen[delivery] != stamp) {
+                seen[delivery] = stamp;
+                nodes[size++] = delivery;
+            }
+        }
+        return size;
+    }
+
+    // Nearest neighbour over nodes[0..size); unvisited nodes are kept compacted in nodes[i..size)
+    private double walk(int size) {
+        if (size == 0) return 0.0;
+        double length = 0.0;
+        int current = nodes[0];
+        for (int i = 1; i < size; i++) {
+            int nearest = i;
+            double minDistance = Double.MAX_VALUE;
+            for (int j = i; j < size; j++) {
+                double distance = context.distance(current, nodes[j]);
+                if (distance < minDistance) {
+                    minDistance = distance;
+                    nearest = j;
+                }
+            }
+            int next = nodes[nearest];
+            nodes[nearest] = nodes[i];
+            nodes[i] = next;
+            length += minDistance;
+            current = next;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,62 @@
+package com.neurofleetx.optimization;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall-clock budget and optional target fitness for an anytime search. Solvers poll
+ * {@link #isExpired()} between iterations and return their incumbent best once it fires.
+ */
+public final class SearchBudget {
+
+    private final long startNanos;
+    private final long budgetNanos;
+    private final double targetFitness;
+    private volatile boolean cancelled;
+
+    private SearchBudget(long budgetNanos, double targetFitness) {
+        this.startNanos = System.nanoTime();
+        this.budgetNanos = budgetNanos;
+        this.targetFitness = targetFitness;
+    }
+
+    public static SearchBudget unlimited() {
+        return new SearchBudget(Long.MAX_VALUE, Double.POSITIVE_INFINITY);
+    }
+
+    public static SearchBudget of(Long timeBudgetMs, Double targetFitness) {
+        long budgetNanos = timeBudgetMs != null && timeBudgetMs > 0
+                ? TimeUnit.MILLISECONDS.toNanos(timeBudgetMs) : Long.MAX_VALUE;
+        return new SearchBudget(budgetNanos, targetFitness != null ? targetFitness : Double.POSITIVE_INFINITY);
+    }
+
+    /** Makes the budget expire immediately; solvers stop at their next check. */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isExpired() {
+        return cancelled || budgetNanos != Long.MAX_VALUE && System.nanoTime() - startNanos >= budgetNanos;
+    }
+
+    public boolean isTargetReached(double fitness) {
+        return fitness >= targetFitness;
+    }
+
+    public boolean isTimeBounded() {
+        return budgetNanos != Long.MAX_VALUE;
+    }
+
+    /** Share of the time budget already spent, in [0, 1]; always 0 for an unbounded budget. */
+    public double fractionElapsed() {
+        if (!isTimeBounded()) return 0.0;
+        return Math.min(1.0, (double) (System.nanoTime() - startNanos) / budgetNanos);
+    }
+
+    public long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
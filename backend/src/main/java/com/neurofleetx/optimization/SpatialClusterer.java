@@ -0,0 +1,34 @@
+package com.neurofleetx.optimization;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Groups bookings into spatially compact clusters. Each cluster is an array of booking indices
+ * into the {@link OptimizationContext}; every booking appears in exactly one cluster.
+ */
+public interface SpatialClusterer {
+
+    List<int[]> cluster(ClusterPoints points);
+
+    /** Turns per-point labels in [0, clusterCount) into clusters, dropping empty labels. */
+    static List<int[]> groupByLabel(int[] labels, int clusterCount) {
+        int[] sizes = new int[clusterCount];
+        for (int label : labels) {
+            sizes[label]++;
+        }
+        int[][] members = new int[clusterCount][];
+        for (int c = 0; c < clusterCount; c++) {
+            members[c] = new int[sizes[c]];
+        }
+        int[] filled = new int[clusterCount];
+        for (int i = 0; i < labels.length; i++) {
+            members[labels[i]][filled[labels[i]]++] = i;
+        }
+        List<int[]> clusters = new ArrayList<>(clusterCount);
+        for (int[] cluster : members) {
+            if (cluster.length > 0) clusters.add(cluster);
+        }
+        return clusters;
+    }
+}
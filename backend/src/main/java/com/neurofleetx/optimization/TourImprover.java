@@ -0,0 +1,279 @@
+package com.neurofleetx.optimization;
+
+/**
+ * Local search over an open tour (fixed start, free end): 2-opt segment reversals and Or-opt
+ * moves of 1-3 consecutive stops. Candidate moves come from each stop's nearest neighbours, and
+ * don't-look bits skip stops whose surroundings haven't changed since they last failed to improve.
+ * Only improving moves are applied, so the result is never longer than the input.
+ *
+ * An optional {@link Constraint} (e.g. pickup-before-delivery) vetoes moves: an improving move is
+ * applied, checked against the constraint and rolled back if it breaks it.
+ *
+ * Reads distances straight from the context, so a search holds O(n) state per route on top of the
+ * neighbour lists; stateless and safe to share across threads.
+ */
+public final class TourImprover {
+
+    private static final double EPSILON = 1e-9;
+    private static final int MAX_SEGMENT = 3;
+
+    private final int neighbourCount;
+    private final long maxMoves;
+    private final long timeLimitNanos;
+
+    public TourImprover(int neighbourCount, long maxMoves, long timeLimitNanos) {
+        this.neighbourCount = Math.max(1, neighbourCount);
+        this.maxMoves = maxMoves;
+        this.timeLimitNanos = timeLimitNanos;
+    }
+
+    /** Returns an improved copy of {@code tour}, a sequence of context node ids. */
+    public int[] improve(OptimizationContext context, int[] tour) {
+        int[] order = improveOrder(context, tour, null);
+        int[] improved = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            improved[i] = tour[order[i]];
+        }
+        return improved;
+    }
+
+    /**
+     * Improves a sequence of stops located at {@code stopNodes} (a node may host several stops) and
+     * returns the new visiting order as indices into {@code stopNodes}. The input order must satisfy
+     * the constraint, if any.
+     */
+    public int[] improveOrder(OptimizationContext context, int[] stopNodes, Constraint constraint) {
+        if (stopNodes.length < 3) {
+            int[] order = new int[stopNodes.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            return order;
+        }
+        return new Search(context, stopNodes, constraint).run();
+    }
+
+    /** Feasibility of a visiting order given as indices into the improved stop array. */
+    @FunctionalInterface
+    public interface Constraint {
+        boolean isFeasible(int[] order);
+    }
+
+    private final class Search {
+        private final int n;
+        private final Constraint constraint;
+        private final OptimizationContext context;
+        private final int[] nodes;        // local stop -> context node
+        private final int[][] neighbours;
+        private final int[] tour;         // position -> local stop
+        private final int[] position;     // local stop -> position
+        private final boolean[] active;   // inverse don't-look bits
+        private final int[] queue;
+        private final int[] buffer;
+        private final int[] backup;
+        private int head;
+        private int size;
+
+        Search(OptimizationContext context, int[] nodes, Constraint constraint) {
+            this.n = nodes.length;
+            this.constraint = constraint;
+            this.context = context;
+            this.nodes = nodes;
+            this.neighbours = buildNeighbours();
+            this.tour = new int[n];
+            this.position = new int[n];
+            for (int i = 0; i < n; i++) {
+                tour[i] = i;
+                position[i] = i;
+            }
+            this.active = new boolean[n];
+            this.queue = new int[n];
+            this.buffer = new int[n];
+            this.backup = constraint != null ? new int[n] : null;
+            for (int i = 0; i < n; i++) {
+                activate(i);
+            }
+        }
+
+        int[] run() {
+            long deadline = System.nanoTime() + timeLimitNanos;
+            long moves = 0;
+            long polls = 0;
+            while (size > 0 && moves < maxMoves) {
+                // The clock is only read every few dozen stops to keep it off the hot path
+                if ((++polls & 31) == 0 && System.nanoTime() - deadline > 0) break;
+                int stop = poll();
+                if (twoOpt(stop) || orOpt(stop)) {
+                    moves++;
+                    activate(stop);
+                }
+            }
+            return tour.clone();
+        }
+
+        // k nearest stops of every stop, by insertion into a sorted k-slot window: O(n^2) for small k
+        private int[][] buildNeighbours() {
+            int k = Math.min(neighbourCount, n - 1);
+            int[][] lists = new int[n][k];
+            double[] nearest = new double[k];
+            for (int i = 0; i < n; i++) {
+                int[] list = lists[i];
+                int filled = 0;
+                for (int j = 0; j < n; j++) {
+                    if (j == i) continue;
+                    double distance = d(i, j);
+                    if (filled == k && distance >= nearest[k - 1]) continue;
+                    int slot = filled < k ? filled++ : k - 1;
+                    while (slot > 0 && nearest[slot - 1] > distance) {
+                        nearest[slot] = nearest[slot - 1];
+                        list[slot] = list[slot - 1];
+                        slot--;
+                    }
+                    nearest[slot] = distance;
+                    list[slot] = j;
+                }
+            }
+            return lists;
+        }
+
+        // Tries to make stop adjacent to one of its neighbours by reversing a segment
+        private boolean twoOpt(int stop) {
+            int i = position[stop];
+            for (int neighbour : neighbours[stop]) {
+                int j = position[neighbour];
+                // New edge (t[x], t[y]) with stop and neighbour as x and y
+                if (tryReverse(Math.min(i, j), Math.max(i, j))) return true;
+                // New edge (t[x+1], t[y+1]) with stop and neighbour as x+1 and y+1
+                if (tryReverse(Math.min(i, j) - 1, Math.max(i, j) - 1)) return true;
+            }
+            return false;
+        }
+
+        // Reversing tour[x+1..y] replaces edges (x, x+1), (y, y+1) with (x, y), (x+1, y+1)
+        private boolean tryReverse(int x, int y) {
+            if (x < 0 || y < x + 2 || y >= n) return false;
+            int a = tour[x];
+            int b = tour[x + 1];
+            int c = tour[y];
+            double delta = d(a, c) - d(a, b);
+            if (y + 1 < n) {
+                int e = tour[y + 1];
+                delta += d(b, e) - d(c, e);
+            }
+            if (delta > -EPSILON) return false;
+            if (!commit(() -> reverse(x + 1, y))) return false;
+            activate(a);
+            activate(b);
+            activate(c);
+            if (y + 1 < n) activate(tour[y + 1]);
+            return true;
+        }
+
+        // Moves a segment of 1-3 stops starting at stop next to one of the first stop's neighbours
+        private boolean orOpt(int stop) {
+            int start = position[stop];
+            if (start == 0) return false; // the tour's start is fixed
+            for (int length = 1; length <= MAX_SEGMENT && start + length <= n; length++) {
+                int end = start + length - 1;
+                int first = tour[start];
+                int last = tour[end];
+                int before = tour[start - 1];
+                double removeGain = d(before, first);
+                if (end + 1 < n) {
+                    int after = tour[end + 1];
+                    removeGain += d(last, after) - d(before, after);
+                }
+                for (int neighbour : neighbours[first]) {
+                    int p = position[neighbour];
+                    if (p >= start - 1 && p <= end) continue;
+                    // Insert between tour[p] and tour[p + 1], in either orientation
+                    double base = p + 1 < n ? d(neighbour, tour[p + 1]) : 0.0;
+                    double forward = d(neighbour, first) + (p + 1 < n ? d(last, tour[p + 1]) : 0.0) - base;
+                    double reversed = d(neighbour, last) + (p + 1 < n ? d(first, tour[p + 1]) : 0.0) - base;
+                    boolean flip = reversed < forward;
+                    if (Math.min(forward, reversed) - removeGain < -EPSILON) {
+                        int after = end + 1 < n ? tour[end + 1] : -1;
+                        int next = p + 1 < n ? tour[p + 1] : -1;
+                        int from = start;
+                        int to = end;
+                        if (!commit(() -> moveSegment(from, to, p, flip))) continue;
+                        activate(before);
+                        activate(neighbour);
+                        if (after >= 0) activate(after);
+                        if (next >= 0) activate(next);
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        // Applies a move, rolling it back if it violates the constraint
+        private boolean commit(Runnable move) {
+            if (constraint == null) {
+                move.run();
+                return true;
+            }
+            System.arraycopy(tour, 0, backup, 0, n);
+            move.run();
+            if (constraint.isFeasible(tour)) return true;
+            System.arraycopy(backup, 0, tour, 0, n);
+            for (int i = 0; i < n; i++) {
+                position[tour[i]] = i;
+            }
+            return false;
+        }
+
+        private void reverse(int from, int to) {
+            while (from < to) {
+                int swap = tour[from];
+                tour[from] = tour[to];
+                tour[to] = swap;
+                position[tour[from]] = from;
+                position[tour[to]] = to;
+                from++;
+                to--;
+            }
+        }
+
+        // Moves tour[start..end] to just after position p (p outside the segment)
+        private void moveSegment(int start, int end, int p, boolean flip) {
+            int length = end - start + 1;
+            System.arraycopy(tour, start, buffer, 0, length);
+            int from;
+            int to;
+            if (p > end) {
+                System.arraycopy(tour, end + 1, tour, start, p - end);
+                from = p - length + 1;
+            } else {
+                System.arraycopy(tour, p + 1, tour, p + 1 + length, start - p - 1);
+                from = p + 1;
+            }
+            for (int i = 0; i < length; i++) {
+                tour[from + i] = flip ? buffer[length - 1 - i] : buffer[i];
+            }
+            to = Math.max(end, p);
+            for (int i = Math.min(start, p + 1); i <= to; i++) {
+                position[tour[i]] = i;
+            }
+        }
+
+        private void activate(int stop) {
+            if (active[stop]) return;
+            active[stop] = true;
+            queue[(head + size++) % n] = stop;
+        }
+
+        private int poll() {
+            int stop = queue[head];
+            head = (head + 1) % n;
+            size--;
+            active[stop] = false;
+            return stop;
+        }
+
+        private double d(int a, int b) {
+            return context.distance(nodes[a], nodes[b]);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.neurofleetx.repository;
+
+import com.neurofleetx.model.AlertRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AlertRuleRepository extends JpaRepository<AlertRule, Long> {
+}
@@ -1,16 +1,26 @@
 package com.neurofleetx.repository;
 
+import com.neurofleetx.dto.BookingSummary;
 import com.neurofleetx.model.Booking;
 import com.neurofleetx.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
     Optional<Booking> findByBookingId(String bookingId);
+    
+    // Bulk lookup for the optimizer; associations are fetched in the same query to avoid N+1 loads
+    @Query("SELECT b FROM Booking b LEFT JOIN FETCH b.vehicle LEFT JOIN FETCH b.customer LEFT JOIN FETCH b.driver " +
+           "WHERE b.bookingId IN ?1")
+    List<Booking> findByBookingIdIn(Collection<String> bookingIds);
+    
     List<Booking> findByCustomer(User customer);
     List<Booking> findByDriver(User driver);
     List<Booking> findByStatus(Booking.BookingStatus status);
@@ -23,4 +33,18 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     
     @Query("SELECT b FROM Booking b WHERE b.status = 'IN_TRANSIT' ORDER BY b.createdAt DESC")
     List<Booking> findActiveBookings();
+    
+    // One row per status for bookings created since ?1: [status, bookings, estimated cost]
+    @Query("SELECT b.status, COUNT(b), SUM(b.estimatedCost) FROM Booking b " +
+           "WHERE b.createdAt >= ?1 GROUP BY b.status")
+    List<Object[]> summarizeGroupedByStatusSince(LocalDateTime since);
+    
+    // Keyset page, newest first: rows strictly after the (createdAt, id) cursor
+    @Query("SELECT new com.neurofleetx.dto.BookingSummary(b.id, b.bookingId, v.vehicleId, b.pickupLocation, " +
+           "b.deliveryLocation, b.loadWeight, b.estimatedCost, b.status, b.progress, b.scheduledDate, b.createdAt) " +
+           "FROM Booking b LEFT JOIN b.vehicle v WHERE (?1 IS NULL OR b.status = ?1) " +
+           "AND (?2 IS NULL OR v.vehicleId = ?2) " +
+           "AND (b.createdAt < ?3 OR (b.createdAt = ?3 AND b.id < ?4)) ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingSummary> findSummaries(Booking.BookingStatus status, String vehicleId, LocalDateTime createdAt,
+                                       Long id, Pageable page);
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.neurofleetx.repository;
+
+import com.neurofleetx.model.HealthSeriesChunk;
+import com.neurofleetx.model.MaintenanceLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface HealthSeriesChunkRepository extends JpaRepository<HealthSeriesChunk, Long> {
+
+    // Chunks of one series with any point in [from, to]
+    @Query("SELECT c FROM HealthSeriesChunk c WHERE c.vehicleId = ?1 AND c.metricType = ?2 AND c.resolution = ?3 " +
+           "AND c.endTime >= ?4 AND c.startTime <= ?5 ORDER BY c.startTime")
+    List<HealthSeriesChunk> findOverlapping(Long vehicleId, MaintenanceLog.MetricType metricType,
+                                            HealthSeriesChunk.Resolution resolution, LocalDateTime from, LocalDateTime to);
+
+    // Points in the chunks findOverlapping would return, read from the chunk headers only
+    @Query("SELECT COALESCE(SUM(c.pointCount), 0) FROM HealthSeriesChunk c WHERE c.vehicleId = ?1 AND c.metricType = ?2 " +
+           "AND c.resolution = ?3 AND c.endTime >= ?4 AND c.startTime <= ?5")
+    long countPointsOverlapping(Long vehicleId, MaintenanceLog.MetricType metricType,
+                                HealthSeriesChunk.Resolution resolution, LocalDateTime from, LocalDateTime to);
+
+    // First id of a fresh block of HealthSeriesChunk.ID_BLOCK_SIZE ids; the sequence steps by the block size
+    @Query(value = "SELECT NEXT VALUE FOR health_series_chunk_ids", nativeQuery = true)
+    long nextIdBlock();
+}
@@ -0,0 +1,17 @@
+package com.neurofleetx.repository;
+
+import com.neurofleetx.model.MaintenanceLogArchiveSegment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MaintenanceLogArchiveSegmentRepository extends JpaRepository<MaintenanceLogArchiveSegment, Long> {
+
+    // Segments with any row in [from, to], newest first
+    @Query("SELECT s FROM MaintenanceLogArchiveSegment s WHERE s.endTime >= ?1 AND s.startTime <= ?2 " +
+           "ORDER BY s.endTime DESC, s.id DESC")
+    List<MaintenanceLogArchiveSegment> findOverlapping(LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,16 @@
+package com.neurofleetx.repository;
+
+import com.neurofleetx.model.MaintenanceLogDailySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface MaintenanceLogDailySummaryRepository extends JpaRepository<MaintenanceLogDailySummary, Long> {
+
+    @Query("SELECT s FROM MaintenanceLogDailySummary s WHERE s.vehicleId = ?1 AND s.day >= ?2 AND s.day <= ?3 " +
+           "ORDER BY s.day, s.metricType")
+    List<MaintenanceLogDailySummary> findByVehicleIdAndDayBetween(Long vehicleId, LocalDate from, LocalDate to);
+}
@@ -1,12 +1,15 @@
 package com.neurofleetx.repository;
 
+import com.neurofleetx.dto.MaintenanceLogSummary;
 import com.neurofleetx.model.MaintenanceLog;
 import com.neurofleetx.model.Vehicle;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface MaintenanceLogRepository extends JpaRepository<MaintenanceLog, Long> {
@@ -16,15 +19,63 @@ public interface MaintenanceLogRepository extends JpaRepository<MaintenanceLog,
     List<MaintenanceLog> findByAlertTrue();
     List<MaintenanceLog> findByAlertSeverity(MaintenanceLog.AlertSeverity severity);
     
+    // With its vehicle loaded, so the row can be serialized after the session closes
+    @Query("SELECT m FROM MaintenanceLog m JOIN FETCH m.vehicle WHERE m.id = ?1")
+    Optional<MaintenanceLog> findWithVehicleById(Long id);
+    
     @Query("SELECT m FROM MaintenanceLog m WHERE m.vehicle.id = ?1 ORDER BY m.recordedAt DESC")
     List<MaintenanceLog> findByVehicleIdOrderByRecordedAtDesc(Long vehicleId);
     
-    @Query("SELECT m FROM MaintenanceLog m WHERE m.alert = true ORDER BY m.recordedAt DESC")
+    // Alerts whose condition has not cleared; rows from before the lifecycle have no status
+    @Query("SELECT m FROM MaintenanceLog m WHERE m.alert = true " +
+           "AND (m.alertStatus IS NULL OR m.alertStatus <> 'RESOLVED') " +
+           "ORDER BY m.recordedAt DESC")
     List<MaintenanceLog> findActiveAlertsOrderByRecordedAtDesc();
     
+    // One row per active alert, newest first: [id, vehicle id, metric type, status, severity, value, message,
+    // peak value, occurrences, last seen, vehicle type, recorded at]
+    @Query("SELECT m.id, v.id, m.metricType, m.alertStatus, m.alertSeverity, m.value, m.alertMessage, m.peakValue, " +
+           "m.occurrences, m.lastSeenAt, v.type, m.recordedAt, m.writeVersion FROM MaintenanceLog m JOIN m.vehicle v " +
+           "WHERE m.alert = true " +
+           "AND (m.alertStatus IS NULL OR m.alertStatus <> 'RESOLVED') " +
+           "ORDER BY m.recordedAt DESC, m.id DESC")
+    List<Object[]> findActiveAlertConditions();
+    
+    // One row per active alert: [id, severity]; with one row per live condition this stays small
+    @Query("SELECT m.id, m.alertSeverity FROM MaintenanceLog m WHERE m.alert = true " +
+           "AND (m.alertStatus IS NULL OR m.alertStatus <> 'RESOLVED')")
+    List<Object[]> findActiveAlertSeverities();
+    
     @Query("SELECT m FROM MaintenanceLog m WHERE m.recordedAt >= ?1 AND m.recordedAt <= ?2")
     List<MaintenanceLog> findByRecordedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
     
     @Query("SELECT m FROM MaintenanceLog m WHERE m.vehicle.id = ?1 AND m.metricType = ?2 ORDER BY m.recordedAt DESC")
     List<MaintenanceLog> findByVehicleIdAndMetricTypeOrderByRecordedAtDesc(Long vehicleId, MaintenanceLog.MetricType metricType);
+    
+    // Keyset page, newest first: rows strictly after the (recordedAt, id) cursor
+    @Query("SELECT new com.neurofleetx.dto.MaintenanceLogSummary(m.id, v.vehicleId, m.metricType, m.value, m.alert, " +
+           "m.alertSeverity, m.alertMessage, m.recordedAt) " +
+           "FROM MaintenanceLog m JOIN m.vehicle v WHERE (?1 IS NULL OR v.vehicleId = ?1) " +
+           "AND (?2 IS NULL OR m.alert = ?2) AND (?3 IS NULL OR m.alertSeverity = ?3) " +
+           "AND (m.recordedAt < ?4 OR (m.recordedAt = ?4 AND m.id < ?5)) ORDER BY m.recordedAt DESC, m.id DESC")
+    List<MaintenanceLogSummary> findSummaries(String vehicleId, Boolean alert, MaintenanceLog.AlertSeverity severity,
+                                              LocalDateTime recordedAt, Long id, Pageable page);
+    
+    // Keyset page of the rows recorded in [from, to], newest first
+    @Query("SELECT new com.neurofleetx.dto.MaintenanceLogSummary(m.id, v.vehicleId, m.metricType, m.value, m.alert, " +
+           "m.alertSeverity, m.alertMessage, m.recordedAt) " +
+           "FROM MaintenanceLog m JOIN m.vehicle v WHERE (?1 IS NULL OR v.vehicleId = ?1) " +
+           "AND m.recordedAt >= ?2 AND m.recordedAt <= ?3 " +
+           "AND (m.recordedAt < ?4 OR (m.recordedAt = ?4 AND m.id < ?5)) ORDER BY m.recordedAt DESC, m.id DESC")
+    List<MaintenanceLogSummary> findSummariesBetween(String vehicleId, LocalDateTime from, LocalDateTime to,
+                                                     LocalDateTime recordedAt, Long id, Pageable page);
+    
+    // One vehicle's rows in [from, to) per day and metric: [day, metric type, rows, alerts, min, max, sum];
+    // rows without a metric type or value are left out, as the archive leaves them out of its summaries
+    @Query("SELECT CAST(m.recordedAt AS LocalDate), m.metricType, COUNT(m), " +
+           "SUM(CASE WHEN m.alert = true THEN 1 ELSE 0 END), MIN(m.value), MAX(m.value), SUM(m.value) " +
+           "FROM MaintenanceLog m WHERE m.vehicle.id = ?1 AND m.recordedAt >= ?2 AND m.recordedAt < ?3 " +
+           "AND m.metricType IS NOT NULL AND m.value IS NOT NULL " +
+           "GROUP BY CAST(m.recordedAt AS LocalDate), m.metricType")
+    List<Object[]> rollUpDaily(Long vehicleId, LocalDateTime from, LocalDateTime to);
 }
\ No newline at end of file
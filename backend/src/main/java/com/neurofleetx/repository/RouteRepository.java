@@ -1,9 +1,12 @@
 package com.neurofleetx.repository;
 
+import com.neurofleetx.dto.RouteSummary;
 import com.neurofleetx.model.Route;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +21,18 @@ public interface RouteRepository extends JpaRepository<Route, Long> {
     
     @Query("SELECT AVG(r.aiOptimizationSavings) FROM Route r WHERE r.aiOptimizationSavings IS NOT NULL")
     Double getAverageOptimizationSavings();
+    
+    // One row per status: [status, routes, savings sum, routes with savings, distance and fuel of routes with fuel data]
+    @Query("SELECT r.status, COUNT(r), SUM(r.aiOptimizationSavings), COUNT(r.aiOptimizationSavings), " +
+           "SUM(CASE WHEN r.fuelConsumption > 0 THEN r.distance ELSE 0 END), " +
+           "SUM(CASE WHEN r.fuelConsumption > 0 THEN r.fuelConsumption ELSE 0 END) " +
+           "FROM Route r GROUP BY r.status")
+    List<Object[]> summarizeGroupedByStatus();
+    
+    // Keyset page, newest first: rows strictly after the (createdAt, id) cursor
+    @Query("SELECT new com.neurofleetx.dto.RouteSummary(r.id, r.routeId, v.vehicleId, r.origin, r.destination, " +
+           "r.distance, r.estimatedTime, r.aiOptimizationSavings, r.status, r.createdAt) " +
+           "FROM Route r LEFT JOIN r.vehicle v WHERE (?1 IS NULL OR r.status = ?1) " +
+           "AND (r.createdAt < ?2 OR (r.createdAt = ?2 AND r.id < ?3)) ORDER BY r.createdAt DESC, r.id DESC")
+    List<RouteSummary> findSummaries(Route.RouteStatus status, LocalDateTime createdAt, Long id, Pageable page);
 }
\ No newline at end of file
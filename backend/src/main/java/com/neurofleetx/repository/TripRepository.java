@@ -1,10 +1,13 @@
 package com.neurofleetx.repository;
 
+import com.neurofleetx.dto.TripSummary;
 import com.neurofleetx.model.Trip;
 import com.neurofleetx.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +28,17 @@ public interface TripRepository extends JpaRepository<Trip, Long> {
     
     @Query("SELECT SUM(t.earnings) FROM Trip t WHERE t.driver.id = ?1 AND MONTH(t.createdAt) = MONTH(CURRENT_DATE) AND YEAR(t.createdAt) = YEAR(CURRENT_DATE)")
     Double getMonthlyEarningsByDriverId(Long driverId);
+    
+    // One row per status for trips created since ?1: [status, trips, earnings, distance]
+    @Query("SELECT t.status, COUNT(t), SUM(t.earnings), SUM(t.distance) FROM Trip t " +
+           "WHERE t.createdAt >= ?1 GROUP BY t.status")
+    List<Object[]> summarizeGroupedByStatusSince(LocalDateTime since);
+    
+    // Keyset page of one driver's trips, newest first: rows strictly after the (createdAt, id) cursor
+    @Query("SELECT new com.neurofleetx.dto.TripSummary(t.id, t.tripId, v.vehicleId, t.origin, t.destination, " +
+           "t.distance, t.earnings, t.progress, t.status, t.startTime, t.createdAt) " +
+           "FROM Trip t LEFT JOIN t.vehicle v WHERE t.driver.id = ?1 AND (?2 IS NULL OR t.status = ?2) " +
+           "AND (t.createdAt < ?3 OR (t.createdAt = ?3 AND t.id < ?4)) ORDER BY t.createdAt DESC, t.id DESC")
+    List<TripSummary> findSummariesByDriverId(Long driverId, Trip.TripStatus status, LocalDateTime createdAt,
+                                              Long id, Pageable page);
 }
\ No newline at end of file
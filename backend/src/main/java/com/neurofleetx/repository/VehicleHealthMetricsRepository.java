@@ -22,4 +22,13 @@ public interface VehicleHealthMetricsRepository extends JpaRepository<VehicleHea
     
     @Query("SELECT AVG(v.overallHealthScore) FROM VehicleHealthMetrics v")
     Double getAverageFleetHealthScore();
+    
+    // [vehicle id, overall health score, health status] for every monitored vehicle
+    @Query("SELECT v.vehicle.id, v.overallHealthScore, v.healthStatus FROM VehicleHealthMetrics v")
+    List<Object[]> findHealthScores();
+    
+    // [vehicle id, vehicle code, vehicle type, id of its health metrics row or null] for every vehicle
+    @Query("SELECT v.id, v.vehicleId, v.type, MAX(h.id) FROM Vehicle v LEFT JOIN VehicleHealthMetrics h ON h.vehicle = v " +
+           "GROUP BY v.id, v.vehicleId, v.type")
+    List<Object[]> findVehiclesWithHealthMetricsId();
 }
\ No newline at end of file
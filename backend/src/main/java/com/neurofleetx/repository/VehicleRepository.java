@@ -1,15 +1,24 @@
 package com.neurofleetx.repository;
 
+import com.neurofleetx.dto.VehicleSummary;
 import com.neurofleetx.model.Vehicle;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
     Optional<Vehicle> findByVehicleId(String vehicleId);
+    Boolean existsByVehicleId(String vehicleId);
+    
+    @Query("SELECT v.vehicleId FROM Vehicle v WHERE v.vehicleId IN ?1")
+    List<String> findExistingVehicleIds(Collection<String> vehicleIds);
+    List<Vehicle> findByVehicleIdIn(Collection<String> vehicleIds);
     List<Vehicle> findByStatus(Vehicle.VehicleStatus status);
     
     @Query("SELECT v FROM Vehicle v WHERE v.status = 'EN_ROUTE' OR v.status = 'LOADING'")
@@ -17,4 +26,17 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
     
     @Query("SELECT COUNT(v) FROM Vehicle v WHERE v.status = ?1")
     Long countByStatus(Vehicle.VehicleStatus status);
+    
+    // One row per status: [status, vehicles, vehicles with batteryLevel below ?1]
+    @Query("SELECT v.status, COUNT(v), SUM(CASE WHEN v.batteryLevel < ?1 THEN 1 ELSE 0 END) " +
+           "FROM Vehicle v GROUP BY v.status")
+    List<Object[]> countGroupedByStatus(Integer lowBatteryLevel);
+    
+    // Keyset page, newest first: rows strictly after the (createdAt, id) cursor
+    @Query("SELECT new com.neurofleetx.dto.VehicleSummary(v.id, v.vehicleId, v.type, v.model, v.status, " +
+           "v.latitude, v.longitude, v.currentLocation, v.batteryLevel, v.driverName, v.lastUpdated, v.createdAt) " +
+           "FROM Vehicle v WHERE (?1 IS NULL OR v.status = ?1) AND (?2 IS NULL OR v.type = ?2) " +
+           "AND (v.createdAt < ?3 OR (v.createdAt = ?3 AND v.id < ?4)) ORDER BY v.createdAt DESC, v.id DESC")
+    List<VehicleSummary> findSummaries(Vehicle.VehicleStatus status, String type, LocalDateTime createdAt,
+                                       Long id, Pageable page);
 }
\ No newline at end of file
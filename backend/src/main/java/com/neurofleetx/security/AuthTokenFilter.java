@@ -24,12 +24,24 @@ public class AuthTokenFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthTokenFilter.class);
 
+    // Browsers' EventSource cannot set headers, so this one path also takes a stream token as ?token=
+    private static final String STREAM_PATH = "/api/vehicles/stream";
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
+            boolean streamRequest = "GET".equals(request.getMethod())
+                    && STREAM_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()));
             String jwt = parseJwt(request);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
+            boolean fromQuery = false;
+            if (jwt == null && streamRequest) {
+                jwt = request.getParameter("token");
+                fromQuery = jwt != null;
+            }
+            // Stream tokens open only the stream, and only stream tokens are taken from the query string
+            if (jwt != null && jwtUtils.validateJwtToken(jwt)
+                    && (jwtUtils.isStreamToken(jwt) ? streamRequest : !fromQuery)) {
                 String email = jwtUtils.getUserNameFromJwtToken(jwt);
 
                 UserDetails userDetails = userDetailsService.loadUserByUsername(email);
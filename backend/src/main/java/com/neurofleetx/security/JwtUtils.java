@@ -21,6 +21,12 @@ public class JwtUtils {
     @Value("${neurofleetx.app.jwtExpirationMs:86400000}")
     private int jwtExpirationMs;
 
+    @Value("${neurofleetx.app.streamTokenExpirationMs:60000}")
+    private int streamTokenExpirationMs;
+
+    private static final String SCOPE_CLAIM = "scope";
+    private static final String STREAM_SCOPE = "stream";
+
     public String generateJwtToken(Authentication authentication) {
         String userPrincipal = authentication.getName();
 
@@ -32,6 +38,21 @@ public class JwtUtils {
                 .compact();
     }
 
+    /** Short-lived token that only opens the fleet event stream, for clients that cannot send headers. */
+    public String generateStreamToken(String username) {
+        return Jwts.builder()
+                .setSubject(username)
+                .claim(SCOPE_CLAIM, STREAM_SCOPE)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date((new Date()).getTime() + streamTokenExpirationMs))
+                .signWith(key(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    public int getStreamTokenExpirationMs() {
+        return streamTokenExpirationMs;
+    }
+
     private Key key() {
         return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
     }
@@ -41,6 +62,11 @@ public class JwtUtils {
                 .parseClaimsJws(token).getBody().getSubject();
     }
 
+    public boolean isStreamToken(String token) {
+        return STREAM_SCOPE.equals(Jwts.parserBuilder().setSigningKey(key()).build()
+                .parseClaimsJws(token).getBody().get(SCOPE_CLAIM));
+    }
+
     public boolean validateJwtToken(String authToken) {
         try {
             Jwts.parserBuilder().setSigningKey(key()).build().parse(authToken);
@@ -0,0 +1,391 @@
+package com.neurofleetx.service;
+
+import com.neurofleetx.dto.FleetEvent;
+import com.neurofleetx.model.MaintenanceLog;
+import com.neurofleetx.model.Vehicle;
+import com.neurofleetx.repository.MaintenanceLogRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One alert row per live condition, keyed by vehicle and metric. The first alerting reading opens
+ * a row; repeats mark it ONGOING and otherwise only move its last-seen time, peak value and
+ * occurrence count, which are written behind in JDBC batches. A run of clear readings resolves it.
+ * Open conditions are indexed in memory, loaded from the table at startup and reloaded after a
+ * failed write. Every row snapshot carries a new write version, and a row is only
+ * updated by a newer one, so a delayed flush cannot undo a transition written after it was taken.
+ *
+ * <p>Callers collect a reading's {@link Changes}, insert the opened alerts and call
+ * {@link #write} in their own transaction, then {@link #committed} once it commits.
+ */
+@Service
+public class AlertLifecycleService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertLifecycleService.class);
+
+    private static final MaintenanceLog.MetricType[] METRICS = MaintenanceLog.MetricType.values();
+
+    private static final String UPDATE_ALERT =
+        "UPDATE maintenance_logs SET alert_status = ?, alert_severity = ?, alert_message = ?, last_seen_at = ?, " +
+        "peak_value = ?, occurrences = ?, resolved_at = ?, write_version = ? WHERE id = ? " +
+        "AND (write_version IS NULL OR write_version < ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MaintenanceLogRepository maintenanceLogRepository;
+
+    @Autowired
+    private AlertRuleEngine alertRuleEngine;
+
+    @Autowired
+    private FleetHealthAggregate fleetHealthAggregate;
+
+    @Autowired
+    private FleetEventBroadcaster fleetEventBroadcaster;
+
+    @Value("${neurofleetx.alerts.resolve-after-clear-readings:3}")
+    private int resolveAfter;
+
+    @Value("${neurofleetx.alerts.batch-size:500}")
+    private int batchSize;
+
+    // Guarded by this
+    private final Map<Long, Condition> conditions = new HashMap<>();
+    private final Set<Condition> dirty = new LinkedHashSet<>(); // row behind the condition
+    private long lastVersion; // write version of the last row snapshot; never moves back, even on reload
+
+    /**
+     * Runs one reading through the lifecycle: {@code values} by metric ordinal, NaN for metrics not
+     * read, and the alerts the reading raised. Metrics that were not read leave their conditions as
+     * they are.
+     */
+    public synchronized void track(Vehicle vehicle, double[] values, List<MaintenanceLog> alerts, Changes changes) {
+        if (vehicle == null || vehicle.getId() == null) return;
+        for (int m = 0; m < values.length; m++) {
+            if (Double.isNaN(values[m])) continue;
+            MaintenanceLog alert = null;
+            for (MaintenanceLog candidate : alerts) {
+                if (candidate.getMetricType() == METRICS[m]) alert = candidate;
+            }
+            track(vehicle, METRICS[m], values[m], alert, changes);
+        }
+    }
+
+    /** Runs a single log through the lifecycle; one that is not an alert is a clear reading. */
+    public synchronized void track(MaintenanceLog log, Changes changes) {
+        if (log.getVehicle() == null || log.getVehicle().getId() == null || log.getValue() == null) return;
+        track(log.getVehicle(), log.getMetricType(), log.getValue(), Boolean.TRUE.equals(log.getAlert()) ? log : null,
+              changes);
+    }
+
+    /** Writes the state changes of existing alert rows; run it in the transaction inserting the opened ones. */
+    public void write(Changes changes) {
+        if (changes.updates.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPDATE_ALERT, changes.updates, batchSize, AlertLifecycleService::bindRow);
+    }
+
+    /** Takes the ids of the opened alerts and updates the health counters and alert subscribers. */
+    public void committed(Changes changes) {
+        Long[] changedIds = new Long[changes.severityChanges.size()];
+        synchronized (this) {
+            for (Condition condition : changes.openedConditions) {
+                condition.id = condition.opening.getId();
+                condition.opening = null;
+            }
+            for (int i = 0; i < changedIds.length; i++) {
+                changedIds[i] = changes.severityChanges.get(i).condition.id;
+            }
+        }
+        for (MaintenanceLog alert : changes.opened) {
+            fleetHealthAggregate.recordAlert(alert);
+            fleetEventBroadcaster.publish(FleetEvent.alert(alert));
+        }
+        for (int i = 0; i < changedIds.length; i++) {
+            SeverityChange change = changes.severityChanges.get(i);
+            if (change.to != null) fleetHealthAggregate.recordAlertEscalated(changedIds[i], change.from, change.to);
+            else fleetHealthAggregate.recordAlertResolved(changedIds[i], change.from);
+        }
+    }
+
+    /** Writes the last-seen times, peaks and counts that changed since the last flush. */
+    @Scheduled(fixedDelayString = "${neurofleetx.alerts.flush-interval-ms:10000}")
+    public void flush() {
+        List<Row> rows = new ArrayList<>();
+        List<Condition> flushed = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Condition> pending = dirty.iterator();
+            while (pending.hasNext()) {
+                Condition condition = pending.next();
+                if (condition.id == null) continue; // its row is still being inserted
+                rows.add(row(condition));
+                flushed.add(condition);
+                pending.remove();
+            }
+        }
+        if (rows.isEmpty()) return;
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_ALERT, rows, batchSize, AlertLifecycleService::bindRow);
+        } catch (RuntimeException e) {
+            logger.error("Writing {} alert updates failed; retrying on the next flush", rows.size(), e);
+            synchronized (this) {
+                dirty.addAll(flushed);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Rebuilds the index from the table. Where several active rows share a vehicle and metric, as
+     * rows saved before the lifecycle do, the newest is kept and the rest are resolved.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        conditions.clear();
+        dirty.clear();
+        AlertRuleEngine.Rules rules = alertRuleEngine.getRules();
+        List<Long> duplicates = new ArrayList<>();
+        for (Object[] row : maintenanceLogRepository.findActiveAlertConditions()) {
+            Long id = (Long) row[0];
+            MaintenanceLog.MetricType metric = (MaintenanceLog.MetricType) row[2];
+            long key = key((Long) row[1], metric);
+            if (conditions.containsKey(key)) {
+                duplicates.add(id);
+                continue;
+            }
+            MaintenanceLog.AlertStatus status = (MaintenanceLog.AlertStatus) row[3];
+            MaintenanceLog.AlertSeverity severity = (MaintenanceLog.AlertSeverity) row[4];
+            double value = (Double) row[5];
+            int type = rules.typeIndex((String) row[10]);
+            Condition condition = new Condition(severity, (String) row[6],
+                    isHigh(value, rules.lowerThreshold(type, metric), rules.upperThreshold(type, metric)));
+            condition.id = id;
+            condition.status = status != null ? status : MaintenanceLog.AlertStatus.OPEN;
+            condition.peak = row[7] != null ? (Double) row[7] : value;
+            condition.occurrences = row[8] != null ? (Integer) row[8] : 1;
+            condition.lastSeen = row[9] != null ? (LocalDateTime) row[9] : (LocalDateTime) row[11];
+            if (row[12] != null) lastVersion = Math.max(lastVersion, (Long) row[12]);
+            conditions.put(key, condition);
+        }
+        if (!duplicates.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate("UPDATE maintenance_logs SET alert_status = ?, resolved_at = ? WHERE id = ?",
+                    duplicates, batchSize, (statement, id) -> {
+                        statement.setString(1, MaintenanceLog.AlertStatus.RESOLVED.name());
+                        statement.setTimestamp(2, now);
+                        statement.setLong(3, id);
+                    });
+            logger.info("Resolved {} duplicate active alerts", duplicates.size());
+            fleetHealthAggregate.reconcile();
+        }
+    }
+
+    private void track(Vehicle vehicle, MaintenanceLog.MetricType metric, double value, MaintenanceLog alert,
+                       Changes changes) {
+        long key = key(vehicle.getId(), metric);
+        Condition condition = conditions.get(key);
+        if (alert == null) {
+            if (condition == null || ++condition.clearReadings < resolveAfter) return;
+            conditions.remove(key);
+            condition.status = MaintenanceLog.AlertStatus.RESOLVED;
+            condition.resolvedAt = LocalDateTime.now();
+            changes.severityChanges.add(new SeverityChange(condition, condition.severity, null));
+            changed(condition, changes);
+            return;
+        }
+
+        if (condition == null) {
+            alert.setAlertStatus(MaintenanceLog.AlertStatus.OPEN);
+            alert.setLastSeenAt(alert.getRecordedAt());
+            alert.setPeakValue(alert.getValue());
+            alert.setOccurrences(1);
+            AlertRuleEngine.Rules rules = alertRuleEngine.getRules();
+            int type = rules.typeIndex(vehicle.getType());
+            condition = new Condition(alert.getAlertSeverity(), alert.getAlertMessage(),
+                    isHigh(value, rules.lowerThreshold(type, metric), rules.upperThreshold(type, metric)));
+            condition.opening = alert;
+            condition.peak = value;
+            condition.lastSeen = alert.getRecordedAt();
+            conditions.put(key, condition);
+            changes.opened.add(alert);
+            changes.openedConditions.add(condition);
+            return;
+        }
+
+        condition.clearReadings = 0;
+        condition.occurrences++;
+        condition.lastSeen = alert.getRecordedAt();
+        if (condition.high ? value > condition.peak : value < condition.peak) condition.peak = value;
+        boolean transition = false;
+        if (condition.status == MaintenanceLog.AlertStatus.OPEN) {
+            condition.status = MaintenanceLog.AlertStatus.ONGOING;
+            transition = true;
+        }
+        if (rank(alert.getAlertSeverity()) > rank(condition.severity)) {
+            changes.severityChanges.add(new SeverityChange(condition, condition.severity, alert.getAlertSeverity()));
+            condition.severity = alert.getAlertSeverity();
+            condition.message = alert.getAlertMessage();
+            transition = true;
+        }
+        changes.absorbedInto = condition.id;
+        changes.absorbed = condition.id != null ? row(condition) : null;
+        if (transition) changed(condition, changes);
+        else dirty.add(condition);
+    }
+
+    // Status and severity changes are written with the reading; without a row id yet they wait for the flush
+    private void changed(Condition condition, Changes changes) {
+        if (condition.id != null) {
+            changes.updates.add(row(condition));
+            dirty.remove(condition);
+        } else {
+            dirty.add(condition);
+        }
+    }
+
+    private Row row(Condition condition) {
+        return new Row(condition, ++lastVersion);
+    }
+
+    // Which way the peak moves: the side of the threshold the reading crossed, or for an anomaly
+    // inside the thresholds, the side that has one
+    private static boolean isHigh(double value, double lower, double upper) {
+        if (value > upper) return true;
+        if (value < lower) return false;
+        return Double.isInfinite(lower) || (!Double.isInfinite(upper) && value > (lower + upper) / 2);
+    }
+
+    private static int rank(MaintenanceLog.AlertSeverity severity) {
+        return severity != null ? severity.ordinal() : -1;
+    }
+
+    private static long key(long vehicleId, MaintenanceLog.MetricType metric) {
+        return vehicleId * METRICS.length + metric.ordinal();
+    }
+
+    private static void bindRow(PreparedStatement statement, Row row) throws SQLException {
+        statement.setString(1, row.status.name());
+        statement.setString(2, row.severity != null ? row.severity.name() : null);
+        statement.setString(3, row.message);
+        statement.setTimestamp(4, row.lastSeen != null ? Timestamp.valueOf(row.lastSeen) : null);
+        statement.setDouble(5, row.peak);
+        statement.setInt(6, row.occurrences);
+        if (row.resolvedAt != null) {
+            statement.setTimestamp(7, Timestamp.valueOf(row.resolvedAt));
+        } else {
+            statement.setNull(7, Types.TIMESTAMP);
+        }
+        statement.setLong(8, row.version);
+        statement.setLong(9, row.id);
+        statement.setLong(10, row.version);
+    }
+
+    /** What readings did to the alert rows, collected for one transaction. */
+    public static final class Changes {
+        private final List<MaintenanceLog> opened = new ArrayList<>();
+        private final List<Condition> openedConditions = new ArrayList<>();
+        private final List<Row> updates = new ArrayList<>();
+        private final List<SeverityChange> severityChanges = new ArrayList<>(0);
+        private Long absorbedInto;
+        private Row absorbed;
+
+        /** New alerts to insert, with their lifecycle fields set. */
+        public List<MaintenanceLog> getOpened() { return opened; }
+
+        /** The open alert row the last tracked alert was folded into; null when it opened one or its row is not inserted yet. */
+        public Long getAbsorbedInto() { return absorbedInto; }
+
+        /** Sets the absorbing row's current lifecycle fields on {@code log}; some are only written at the next flush. */
+        public void applyAbsorbed(MaintenanceLog log) {
+            if (absorbed == null) return;
+            log.setAlertStatus(absorbed.status);
+            log.setAlertSeverity(absorbed.severity);
+            log.setAlertMessage(absorbed.message);
+            log.setLastSeenAt(absorbed.lastSeen);
+            log.setPeakValue(absorbed.peak);
+            log.setOccurrences(absorbed.occurrences);
+        }
+    }
+
+    private static final class Condition {
+        private Long id; // null until the opening alert is inserted
+        private MaintenanceLog opening;
+        private final boolean high;
+        private MaintenanceLog.AlertStatus status = MaintenanceLog.AlertStatus.OPEN;
+        private MaintenanceLog.AlertSeverity severity;
+        private String message;
+        private double peak;
+        private int occurrences = 1;
+        private LocalDateTime lastSeen;
+        private LocalDateTime resolvedAt;
+        private int clearReadings;
+
+        Condition(MaintenanceLog.AlertSeverity severity, String message, boolean high) {
+            this.severity = severity;
+            this.message = message;
+            this.high = high;
+        }
+    }
+
+    private static final class SeverityChange {
+        private final Condition condition; // its id may only be known once the opening alert commits
+        private final MaintenanceLog.AlertSeverity from;
+        private final MaintenanceLog.AlertSeverity to; // null when resolved
+
+        SeverityChange(Condition condition, MaintenanceLog.AlertSeverity from, MaintenanceLog.AlertSeverity to) {
+            this.condition = condition;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    // A condition's row as of one change, so it is written without the lock; taken under it, so versions follow changes
+    private static final class Row {
+        private final long id;
+        private final long version;
+        private final MaintenanceLog.AlertStatus status;
+        private final MaintenanceLog.AlertSeverity severity;
+        private final String message;
+        private final LocalDateTime lastSeen;
+        private final double peak;
+        private final int occurrences;
+        private final LocalDateTime resolvedAt;
+
+        Row(Condition condition, long version) {
+            id = condition.id;
+            this.version = version;
+            status = condition.status;
+            severity = condition.severity;
+            message = condition.message;
+            lastSeen = condition.lastSeen;
+            peak = condition.peak;
+            occurrences = condition.occurrences;
+            resolvedAt = condition.resolvedAt;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.neurofleetx.service;
+
+import com.neurofleetx.model.AlertRule;
+import com.neurofleetx.model.MaintenanceLog;
+import com.neurofleetx.repository.AlertRuleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Health metric thresholds from the alert_rules table, compiled into flat arrays so checking a
+ * reading is a handful of primitive comparisons with no allocation. Changes made through this
+ * service take effect immediately; edits made directly in the table are picked up by the periodic
+ * reload. An empty table means the built-in defaults.
+ */
+@Service
+public class AlertRuleEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertRuleEngine.class);
+
+    @Autowired
+    private AlertRuleRepository alertRuleRepository;
+
+    private volatile Rules rules = Rules.compile(defaultRules());
+
+    /** The current compiled rules; hold on to one instance while evaluating a reading. */
+    public Rules getRules() {
+        return rules;
+    }
+
+    public List<AlertRule> getAllRules() {
+        return alertRuleRepository.findAll();
+    }
+
+    public Optional<AlertRule> getRuleById(Long id) {
+        return alertRuleRepository.findById(id);
+    }
+
+    /** @throws IllegalArgumentException for a rule without a metric or with no usable bound */
+    public AlertRule saveRule(AlertRule rule) {
+        validate(rule);
+        rule.setUpdatedAt(LocalDateTime.now());
+        AlertRule saved = alertRuleRepository.save(rule);
+        reload();
+        return saved;
+    }
+
+    public void deleteRule(Long id) {
+        alertRuleRepository.deleteById(id);
+        reload();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${neurofleetx.alert-rules.reload-interval-ms:60000}",
+               initialDelayString = "${neurofleetx.alert-rules.reload-interval-ms:60000}")
+    public void reload() {
+        List<AlertRule> stored = alertRuleRepository.findAll();
+        List<AlertRule> valid = new ArrayList<>(stored.size());
+        for (AlertRule rule : stored) {
+            try {
+                validate(rule);
+                valid.add(rule);
+            } catch (IllegalArgumentException e) {
+                logger.warn("Skipping alert rule {}: {}", rule.getId(), e.getMessage());
+            }
+        }
+        rules = Rules.compile(stored.isEmpty() ? defaultRules() : valid);
+    }
+
+    /** The thresholds the maintenance service has always used. */
+    public static List<AlertRule> defaultRules() {
+        List<AlertRule> rules = new ArrayList<>();
+        String engine = "Engine temperature critical: {value}°C";
+        rules.add(new AlertRule(MaintenanceLog.MetricType.ENGINE_TEMPERATURE, MaintenanceLog.AlertSeverity.HIGH, null, 100.0, 20.0, engine));
+        rules.add(new AlertRule(MaintenanceLog.MetricType.ENGINE_TEMPERATURE, MaintenanceLog.AlertSeverity.CRITICAL, null, 110.0, 0.0, engine));
+        rules.add(new AlertRule(MaintenanceLog.MetricType.ENGINE_TEMPERATURE, null, null, 95.0, 10.0, null));
+
+        String tire = "Tire pressure abnormal: {value} PSI";
+        rules.add(new AlertRule(MaintenanceLog.MetricType.TIRE_PRESSURE, MaintenanceLog.AlertSeverity.MEDIUM, 30.0, 40.0, 15.0, tire));
+        rules.add(new AlertRule(MaintenanceLog.MetricType.TIRE_PRESSURE, MaintenanceLog.AlertSeverity.HIGH, 25.0, null, 0.0, tire));
+        rules.add(new AlertRule(MaintenanceLog.MetricType.TIRE_PRESSURE, null, 32.0, 36.0, 8.0, null));
+
+        String fuel = "Low fuel level: {value}%";
+        rules.add(new AlertRule(MaintenanceLog.MetricType.FUEL_LEVEL, MaintenanceLog.AlertSeverity.MEDIUM, 15.0, null, 0.0, fuel));
+        rules.add(new AlertRule(MaintenanceLog.MetricType.FUEL_LEVEL, MaintenanceLog.AlertSeverity.HIGH, 5.0, null, 0.0, fuel));
+        rules.add(new AlertRule(MaintenanceLog.MetricType.FUEL_LEVEL, null, 10.0, null, 10.0, null));
+        rules.add(new AlertRule(MaintenanceLog.MetricType.FUEL_LEVEL, null, 20.0, null, 5.0, null));
+
+        String battery = "Battery voltage abnormal: {value}V";
+        rules.add(new AlertRule(MaintenanceLog.MetricType.BATTERY_VOLTAGE, MaintenanceLog.AlertSeverity.MEDIUM, 12.0, 14.5, 15.0, battery));
+        rules.add(new AlertRule(MaintenanceLog.MetricType.BATTERY_VOLTAGE, MaintenanceLog.AlertSeverity.HIGH, 11.5, null, 0.0, battery));
+        rules.add(new AlertRule(MaintenanceLog.MetricType.BATTERY_VOLTAGE, null, 12.3, 13.5, 8.0, null));
+
+        String oil = "Low oil pressure: {value} PSI";
+        rules.add(new AlertRule(MaintenanceLog.MetricType.OIL_PRESSURE, MaintenanceLog.AlertSeverity.HIGH, 20.0, null, 0.0, oil));
+        rules.add(new AlertRule(MaintenanceLog.MetricType.OIL_PRESSURE, MaintenanceLog.AlertSeverity.CRITICAL, 10.0, null, 0.0, oil));
+        rules.add(new AlertRule(MaintenanceLog.MetricType.OIL_PRESSURE, null, 15.0, null, 20.0, null));
+        rules.add(new AlertRule(MaintenanceLog.MetricType.OIL_PRESSURE, null, 25.0, null, 10.0, null));
+
+        rules.add(new AlertRule(MaintenanceLog.MetricType.COOLANT_LEVEL, null, 50.0, null, 10.0, null));
+        rules.add(new AlertRule(MaintenanceLog.MetricType.BRAKE_FLUID, null, 60.0, null, 10.0, null));
+        return rules;
+    }
+
+    private static void validate(AlertRule rule) {
+        if (rule.getMetricType() == null) {
+            throw new IllegalArgumentException("Metric type is required");
+        }
+        if (rule.getMinValue() == null && rule.getMaxValue() == null) {
+            throw new IllegalArgumentException("At least one of minValue and maxValue is required");
+        }
+        if (rule.getMinValue() != null && rule.getMaxValue() != null && rule.getMinValue() > rule.getMaxValue()) {
+            throw new IllegalArgumentException("minValue is above maxValue");
+        }
+        if (rule.getHealthPenalty() != null && rule.getHealthPenalty() < 0) {
+            throw new IllegalArgumentException("Health penalty cannot be negative");
+        }
+    }
+
+    /**
+     * Immutable compiled rule set. Rules for each (vehicle type, metric) slot sit contiguously in
+     * the parallel arrays, most severe first, so the first violated alert rule is the one to raise.
+     */
+    public static final class Rules {
+        private static final MaintenanceLog.MetricType[] METRICS = MaintenanceLog.MetricType.values();
+        private static final MaintenanceLog.AlertSeverity[] SEVERITIES = MaintenanceLog.AlertSeverity.values();
+        private static final int DEFAULT_TYPE = 0;
+        private static final int NO_SEVERITY = -1;
+
+        private final Map<String, Integer> types; // vehicle type -> type index, ignoring case
+        private final int[] start; // rules of slot s are [start[s], start[s + 1])
+        private final double[] min;
+        private final double[] max;
+        private final double[] penalty;
+        private final int[] severity;
+        private final String[] message;
+        private final int size;
+
+        private Rules(Map<String, Integer> types, int[] start, List<AlertRule> ordered) {
+            this.types = types;
+            this.start = start;
+            this.size = ordered.size();
+            min = new double[size];
+            max = new double[size];
+            penalty = new double[size];
+            severity = new int[size];
+            message = new String[size];
+            for (int r = 0; r < size; r++) {
+                AlertRule rule = ordered.get(r);
+                // Absent bounds become infinities, which no reading is beyond
+                min[r] = rule.getMinValue() != null ? rule.getMinValue() : Double.NEGATIVE_INFINITY;
+                max[r] = rule.getMaxValue() != null ? rule.getMaxValue() : Double.POSITIVE_INFINITY;
+                penalty[r] = rule.getHealthPenalty() != null ? rule.getHealthPenalty() : 0.0;
+                severity[r] = rule.getSeverity() != null ? rule.getSeverity().ordinal() : NO_SEVERITY;
+                message[r] = rule.getMessage();
+            }
+        }
+
+        static Rules compile(List<AlertRule> rules) {
+            Map<String, Integer> types = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (AlertRule rule : rules) {
+                if (rule.getVehicleType() != null && !types.containsKey(rule.getVehicleType())) {
+                    types.put(rule.getVehicleType(), types.size() + 1);
+                }
+            }
+            List<List<AlertRule>> slots = new ArrayList<>();
+            for (int s = 0; s < (types.size() + 1) * METRICS.length; s++) {
+                slots.add(new ArrayList<>());
+            }
+            for (AlertRule rule : rules) {
+                int type = rule.getVehicleType() != null ? types.get(rule.getVehicleType()) : DEFAULT_TYPE;
+                slots.get(type * METRICS.length + rule.getMetricType().ordinal()).add(rule);
+            }
+
+            Comparator<AlertRule> mostSevereFirst = Comparator.comparingInt(
+                    (AlertRule rule) -> rule.getSeverity() != null ? rule.getSeverity().ordinal() : NO_SEVERITY).reversed();
+            int[] start = new int[slots.size() + 1];
+            List<AlertRule> ordered = new ArrayList<>(rules.size());
+            for (int s = 0; s < slots.size(); s++) {
+                start[s] = ordered.size();
+                List<AlertRule> slot = slots.get(s);
+                // A vehicle type without its own rules for this metric uses the defaults
+                if (slot.isEmpty() && s >= METRICS.length) slot = slots.get(s % METRICS.length);
+                slot.sort(mostSevereFirst);
+                ordered.addAll(slot);
+            }
+            start[slots.size()] = ordered.size();
+            return new Rules(types, start, ordered);
+        }
+
+        public int size() { return size; }
+
+        /** Index to pass to the other methods; vehicle types without rules of their own use the defaults. */
+        public int typeIndex(String vehicleType) {
+            if (vehicleType == null) return DEFAULT_TYPE;
+            Integer type = types.get(vehicleType);
+            return type != null ? type : DEFAULT_TYPE;
+        }
+
+        /** The most severe alert rule the reading violates, or -1; NaN readings violate nothing. */
+        public int match(int type, MaintenanceLog.MetricType metric, double value) {
+            int slot = type * METRICS.length + metric.ordinal();
+            for (int r = start[slot], end = start[slot + 1]; r < end; r++) {
+                if (severity[r] != NO_SEVERITY && (value < min[r] || value > max[r])) return r;
+            }
+            return -1;
+        }
+
+        /**
+         * The reading below which the metric raises an alert, or failing that starts to cost health
+         * score; negative infinity when no rule bounds it from below.
+         */
+        public double lowerThreshold(int type, MaintenanceLog.MetricType metric) {
+            return -threshold(type, metric, true);
+        }
+
+        /** Like {@link #lowerThreshold}, from above; positive infinity when there is no such bound. */
+        public double upperThreshold(int type, MaintenanceLog.MetricType metric) {
+            return threshold(type, metric, false);
+        }
+
+        // The bound crossed first, negated for lower bounds so both cases take the minimum
+        private double threshold(int type, MaintenanceLog.MetricType metric, boolean lower) {
+            int slot = type * METRICS.length + metric.ordinal();
+            double alerting = Double.POSITIVE_INFINITY;
+            double scoring = Double.POSITIVE_INFINITY;
+            for (int r = start[slot], end = start[slot + 1]; r < end; r++) {
+                double bound = lower ? -min[r] : max[r];
+                if (severity[r] != NO_SEVERITY) alerting = Math.min(alerting, bound);
+                else scoring = Math.min(scoring, bound);
+            }
+            return alerting != Double.POSITIVE_INFINITY ? alerting : scoring;
+        }
+
+        /** Health score points the reading costs: the largest penalty among the rules it violates. */
+        public double penalty(int type, MaintenanceLog.MetricType metric, double value) {
+            int slot = type * METRICS.length + metric.ordinal();
+            double worst = 0.0;
+            for (int r = start[slot], end = start[slot + 1]; r < end; r++) {
+                if ((value < min[r] || value > max[r]) && penalty[r] > worst) worst = penalty[r];
+            }
+            return worst;
+        }
+
+        public MaintenanceLog.AlertSeverity severity(int rule) {
+            return SEVERITIES[severity[rule]];
+        }
+
+        public String message(int rule, MaintenanceLog.MetricType metric, double value) {
+            String template = message[rule];
+            if (template == null) return metric + " out of range: " + value;
+            return template.replace("{value}", String.valueOf(value));
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.neurofleetx.service;
 
 import com.neurofleetx.dto.BookingRequest;
+import com.neurofleetx.dto.BookingSummary;
+import com.neurofleetx.dto.CursorPage;
+import com.neurofleetx.dto.NearbyVehicle;
 import com.neurofleetx.dto.VehicleRecommendation;
 import com.neurofleetx.model.Booking;
 import com.neurofleetx.model.User;
@@ -8,11 +11,16 @@ import com.neurofleetx.model.Vehicle;
 import com.neurofleetx.repository.BookingRepository;
 import com.neurofleetx.repository.VehicleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.Comparator;
 
@@ -25,12 +33,31 @@ public class BookingService {
     @Autowired
     private VehicleRepository vehicleRepository;
 
+    @Autowired
+    private FleetStateService fleetStateService;
+
+    @Autowired
+    private GeocodingService geocodingService;
+
+    @Value("${neurofleetx.fleet.recommendation-candidates:50}")
+    private int recommendationCandidates;
+
     private final Random random = new Random();
 
     public List<Booking> getAllBookings() {
         return bookingRepository.findAll();
     }
 
+    /** @throws IllegalArgumentException for a malformed cursor */
+    public CursorPage<BookingSummary> listBookings(String cursor, Integer limit, Booking.BookingStatus status,
+                                                   String vehicleId) {
+        CursorPage.Cursor after = CursorPage.Cursor.decode(cursor);
+        int size = CursorPage.clampLimit(limit);
+        List<BookingSummary> rows = bookingRepository.findSummaries(status, vehicleId, after.getTimestamp(),
+                after.getId(), PageRequest.of(0, size + 1));
+        return CursorPage.of(rows, size, row -> new CursorPage.Cursor(row.getCreatedAt(), row.getId()));
+    }
+
     public List<Booking> getBookingsByCustomer(User customer) {
         return bookingRepository.findByCustomerIdOrderByCreatedAtDesc(customer.getId());
     }
@@ -73,6 +100,13 @@ public class BookingService {
         return bookingRepository.save(booking);
     }
 
+    public Booking createBooking(Booking booking) {
+        if (booking.getBookingId() == null) {
+            booking.setBookingId("BK-" + String.format("%03d", random.nextInt(1000)));
+        }
+        return bookingRepository.save(booking);
+    }
+
     public Booking updateBooking(Booking booking) {
         return bookingRepository.save(booking);
     }
@@ -100,17 +134,32 @@ public class BookingService {
     }
 
     public List<VehicleRecommendation> getSmartRecommendations(BookingRequest bookingRequest) {
-        List<Vehicle> availableVehicles = vehicleRepository.findByStatus(Vehicle.VehicleStatus.AVAILABLE);
+        // Only the available vehicles nearest the pickup that can carry the load are scored
+        double[] pickup = geocodingService.geocode(bookingRequest.getPickupLocation());
+        List<NearbyVehicle> candidates = fleetStateService.nearestAvailable(
+                pickup[0], pickup[1], recommendationCandidates, bookingRequest.getLoadWeight());
+        if (candidates.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> candidateIds = new ArrayList<>(candidates.size());
+        for (NearbyVehicle candidate : candidates) {
+            candidateIds.add(candidate.getVehicle().getVehicleId());
+        }
+        Map<String, Vehicle> vehicles = vehicleRepository.findByVehicleIdIn(candidateIds).stream()
+                .collect(Collectors.toMap(Vehicle::getVehicleId, Function.identity()));
         
-        return availableVehicles.stream()
-                .map(vehicle -> calculateRecommendationScore(vehicle, bookingRequest))
+        return candidates.stream()
+                .filter(candidate -> vehicles.containsKey(candidate.getVehicle().getVehicleId()))
+                .map(candidate -> calculateRecommendationScore(vehicles.get(candidate.getVehicle().getVehicleId()),
+                                                               bookingRequest, candidate.getDistanceKm()))
                 .filter(rec -> rec.getMatchScore() > 0.3) // Only show vehicles with decent match
                 .sorted(Comparator.comparing(VehicleRecommendation::getMatchScore).reversed())
                 .limit(5) // Top 5 recommendations
                 .collect(Collectors.toList());
     }
 
-    private VehicleRecommendation calculateRecommendationScore(Vehicle vehicle, BookingRequest bookingRequest) {
+    private VehicleRecommendation calculateRecommendationScore(Vehicle vehicle, BookingRequest bookingRequest,
+                                                               double distanceFromPickup) {
         double score = 0.0;
         StringBuilder reason = new StringBuilder();
         
@@ -164,8 +213,7 @@ public class BookingService {
             reason.append("Eco-friendly electric vehicle. ");
         }
         
-        // Distance from pickup (5% of score) - simplified calculation
-        double distanceFromPickup = calculateDistanceFromPickup(vehicle, bookingRequest.getPickupLocation());
+        // Distance from pickup (5% of score)
         if (distanceFromPickup < 10) {
             score += 0.05;
             reason.append("Close to pickup location. ");
@@ -186,11 +234,6 @@ public class BookingService {
         return 5.0 + (random.nextDouble() * 45.0);
     }
 
-    private Double calculateDistanceFromPickup(Vehicle vehicle, String pickupLocation) {
-        // Simplified - in real app would calculate actual distance
-        return random.nextDouble() * 20.0; // 0-20 km
-    }
-
     private Double calculateEstimatedCost(Double distance, Double loadWeight) {
         // Base rate: ₹15 per km + ₹2 per kg
         double baseCost = (distance * 15.0) + (loadWeight * 2.0);
@@ -0,0 +1,192 @@
+package com.neurofleetx.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neurofleetx.dto.FleetEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Fans fleet changes out to live dashboard streams. Each event is serialized once; every client
+ * has its own bounded buffer drained by the dispatch executor, so publishers never wait on a
+ * socket. A client whose buffer overflows is disconnected rather than slowing anyone else down;
+ * its EventSource reconnects and starts again from a fresh snapshot.
+ */
+@Service
+public class FleetEventBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(FleetEventBroadcaster.class);
+
+    @Autowired
+    private ThreadPoolExecutor fleetEventExecutor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${neurofleetx.fleet.events.buffer-size:1024}")
+    private int bufferSize;
+
+    @Value("${neurofleetx.fleet.events.max-batch:200}")
+    private int maxBatch;
+
+    @Value("${neurofleetx.fleet.events.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Opens a stream whose first message ("snapshot") is the given state, followed by every
+     * change published after the stream was registered ("deltas", batched).
+     */
+    public SseEmitter subscribe(Supplier<?> snapshot) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, snapshot, bufferSize);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        schedule(subscriber);
+        return emitter;
+    }
+
+    public void publish(FleetEvent event) {
+        if (subscribers.isEmpty()) return;
+        event.setSequence(sequence.incrementAndGet());
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not serialize fleet event {}: {}", event.getType(), e.getMessage());
+            return;
+        }
+        Delta delta = new Delta(event.getSequence(), json);
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.buffer.offer(delta)) {
+                subscriber.overflowed = true;
+                subscribers.remove(subscriber);
+            }
+            schedule(subscriber);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // Keeps idle streams open through proxies and finds clients that went away without closing
+    @Scheduled(fixedDelayString = "${neurofleetx.fleet.events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            fleetEventExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    // Runs on one dispatch thread at a time per subscriber, so sends to an emitter never interleave
+    private void drain(Subscriber subscriber) {
+        try {
+            if (subscriber.closed) return;
+            if (subscriber.snapshot != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .name("snapshot")
+                        .data(objectMapper.writeValueAsString(subscriber.snapshot.get()), MediaType.APPLICATION_JSON));
+                subscriber.snapshot = null;
+            }
+            List<Delta> batch = new ArrayList<>(maxBatch);
+            while (true) {
+                if (subscriber.overflowed) {
+                    logger.debug("Dropping slow fleet event subscriber after {} buffered events", bufferSize);
+                    subscriber.close();
+                    return;
+                }
+                subscriber.buffer.drainTo(batch, maxBatch);
+                if (batch.isEmpty()) break;
+                StringBuilder json = new StringBuilder("[");
+                for (Delta delta : batch) {
+                    if (json.length() > 1) json.append(',');
+                    json.append(delta.json);
+                }
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(batch.get(batch.size() - 1).sequence))
+                        .name("deltas")
+                        .data(json.append(']').toString(), MediaType.APPLICATION_JSON));
+                subscriber.heartbeatDue = false;
+                batch.clear();
+            }
+            if (subscriber.heartbeatDue) {
+                subscriber.heartbeatDue = false;
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away
+            subscribers.remove(subscriber);
+            subscriber.closed = true;
+        } catch (RuntimeException e) {
+            logger.warn("Fleet event stream failed: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.close();
+        } finally {
+            subscriber.scheduled.set(false);
+            // Catches events offered after the last drain but before the flag was cleared
+            if (!subscriber.closed && (!subscriber.buffer.isEmpty() || subscriber.overflowed)) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Delta> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile Supplier<?> snapshot;
+        private volatile boolean overflowed;
+        private volatile boolean heartbeatDue;
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, Supplier<?> snapshot, int bufferSize) {
+            this.emitter = emitter;
+            this.snapshot = snapshot;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void close() {
+            closed = true;
+            buffer.clear();
+            emitter.complete();
+        }
+    }
+
+    private static final class Delta {
+        private final long sequence;
+        private final String json;
+
+        Delta(long sequence, String json) {
+            this.sequence = sequence;
+            this.json = json;
+        }
+    }
+}
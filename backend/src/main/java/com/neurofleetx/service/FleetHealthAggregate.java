@@ -0,0 +1,218 @@
+package com.neurofleetx.service;
+
+import com.neurofleetx.dto.FleetHealthSummary;
+import com.neurofleetx.model.MaintenanceLog;
+import com.neurofleetx.model.VehicleHealthMetrics;
+import com.neurofleetx.repository.MaintenanceLogRepository;
+import com.neurofleetx.repository.VehicleHealthMetricsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fleet health counters kept up to date as {@link MaintenanceService} saves metrics and alerts,
+ * so the maintenance dashboard reads a prebuilt summary instead of scanning both tables. Writes
+ * are serialized; readers get the last published summary without locking. A periodic
+ * reconciliation against the database corrects drift from writes that bypass the service.
+ */
+@Service
+public class FleetHealthAggregate {
+
+    private static final Logger logger = LoggerFactory.getLogger(FleetHealthAggregate.class);
+
+    public static final double MAINTENANCE_SCORE_THRESHOLD = 70.0;
+
+    private static final VehicleHealthMetrics.HealthStatus[] STATUSES = VehicleHealthMetrics.HealthStatus.values();
+    private static final MaintenanceLog.AlertSeverity[] SEVERITIES = MaintenanceLog.AlertSeverity.values();
+    private static final int NO_SEVERITY = SEVERITIES.length; // alerts saved without a severity
+    private static final int RESOLVED = -1;
+
+    @Autowired
+    private VehicleHealthMetricsRepository healthMetricsRepository;
+
+    @Autowired
+    private MaintenanceLogRepository maintenanceLogRepository;
+
+    // Guarded by this
+    private final Map<Long, Reading> readings = new HashMap<>();
+    private final long[] statusCounts = new long[STATUSES.length];
+    private final long[] alertCounts = new long[SEVERITIES.length + 1];
+    private double scoreSum;
+    private long scored;
+    private long needingMaintenance;
+    private long writes;
+    private Map<Long, Integer> alertsDuringReconcile; // alert id -> latest severity index or RESOLVED, while a reconciliation is querying
+
+    private final Object reconcileLock = new Object();
+    private volatile FleetHealthSummary summary = new FleetHealthSummary();
+
+    public FleetHealthSummary getSummary() {
+        return summary;
+    }
+
+    /** Replaces the vehicle's previous reading in the counters; call after the metrics are saved. */
+    public synchronized void recordMetrics(VehicleHealthMetrics metrics) {
+        if (metrics.getVehicle() == null || metrics.getVehicle().getId() == null) return;
+        Reading next = new Reading(metrics.getOverallHealthScore(), metrics.getHealthStatus(), ++writes);
+        Reading previous = readings.put(metrics.getVehicle().getId(), next);
+        if (previous != null) count(previous, -1);
+        count(next, 1);
+        publish();
+    }
+
+    /** Counts a saved alert; logs that are not alerts are ignored. */
+    public synchronized void recordAlert(MaintenanceLog log) {
+        if (!Boolean.TRUE.equals(log.getAlert())) return;
+        int severity = severityIndex(log.getAlertSeverity());
+        alertCounts[severity]++;
+        // Opening is an alert's first change, even when a later one was recorded before it
+        if (alertsDuringReconcile != null && log.getId() != null) {
+            alertsDuringReconcile.putIfAbsent(log.getId(), severity);
+        }
+        publish();
+    }
+
+    /** Moves an open alert's count to its new severity; {@code id} is null while its row is being inserted. */
+    public synchronized void recordAlertEscalated(Long id, MaintenanceLog.AlertSeverity from, MaintenanceLog.AlertSeverity to) {
+        alertCounts[severityIndex(from)]--;
+        alertCounts[severityIndex(to)]++;
+        if (alertsDuringReconcile != null && id != null) {
+            alertsDuringReconcile.put(id, severityIndex(to));
+        }
+        publish();
+    }
+
+    /** Stops counting an alert whose condition cleared; {@code id} as for {@link #recordAlertEscalated}. */
+    public synchronized void recordAlertResolved(Long id, MaintenanceLog.AlertSeverity severity) {
+        alertCounts[severityIndex(severity)]--;
+        if (alertsDuringReconcile != null && id != null) {
+            alertsDuringReconcile.put(id, RESOLVED);
+        }
+        publish();
+    }
+
+    /**
+     * Rebuilds the counters from the database. Readings and alert changes recorded while the
+     * queries run may or may not be in what the queries saw, so they are kept rather than
+     * overwritten: an alert opened, escalated or resolved meanwhile is counted by its latest
+     * recorded state instead of its row.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${neurofleetx.maintenance.health-reconcile-interval-ms:300000}",
+               initialDelayString = "${neurofleetx.maintenance.health-reconcile-interval-ms:300000}")
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            long mark;
+            synchronized (this) {
+                mark = writes;
+                alertsDuringReconcile = new HashMap<>();
+            }
+            List<Object[]> scores;
+            List<Object[]> alerts;
+            try {
+                scores = healthMetricsRepository.findHealthScores();
+                alerts = maintenanceLogRepository.findActiveAlertSeverities();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    alertsDuringReconcile = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                FleetHealthSummary before = summary;
+                Map<Long, Reading> stored = new HashMap<>();
+                for (Object[] row : scores) {
+                    stored.put((Long) row[0], new Reading((Double) row[1], (VehicleHealthMetrics.HealthStatus) row[2], 0));
+                }
+                Iterator<Map.Entry<Long, Reading>> entries = readings.entrySet().iterator();
+                while (entries.hasNext()) {
+                    Map.Entry<Long, Reading> entry = entries.next();
+                    if (entry.getValue().version > mark) {
+                        stored.remove(entry.getKey());
+                    } else if (!stored.containsKey(entry.getKey())) {
+                        entries.remove();
+                    }
+                }
+                readings.putAll(stored);
+
+                Arrays.fill(statusCounts, 0);
+                scoreSum = 0;
+                scored = 0;
+                needingMaintenance = 0;
+                for (Reading reading : readings.values()) {
+                    count(reading, 1);
+                }
+
+                Arrays.fill(alertCounts, 0);
+                for (Object[] row : alerts) {
+                    if (!alertsDuringReconcile.containsKey((Long) row[0])) {
+                        alertCounts[severityIndex((MaintenanceLog.AlertSeverity) row[1])]++;
+                    }
+                }
+                for (int severity : alertsDuringReconcile.values()) {
+                    if (severity != RESOLVED) alertCounts[severity]++;
+                }
+                alertsDuringReconcile = null;
+
+                publish();
+                if (before.getTotalVehiclesMonitored() != summary.getTotalVehiclesMonitored()
+                        || before.getTotalActiveAlerts() != summary.getTotalActiveAlerts()
+                        || !before.getHealthStatusCounts().equals(summary.getHealthStatusCounts())) {
+                    logger.info("Fleet health counters reconciled: {} vehicles monitored, {} active alerts",
+                                summary.getTotalVehiclesMonitored(), summary.getTotalActiveAlerts());
+                }
+            }
+        }
+    }
+
+    private void count(Reading reading, int sign) {
+        if (reading.status != null) statusCounts[reading.status.ordinal()] += sign;
+        if (reading.score != null) {
+            scoreSum += sign * reading.score;
+            scored += sign;
+            if (reading.score < MAINTENANCE_SCORE_THRESHOLD) needingMaintenance += sign;
+        }
+    }
+
+    private void publish() {
+        FleetHealthSummary next = new FleetHealthSummary();
+        next.setTotalVehiclesMonitored(readings.size());
+        next.setAverageHealthScore(scored > 0 ? scoreSum / scored : 0.0);
+        next.setVehiclesNeedingMaintenance(needingMaintenance);
+        for (VehicleHealthMetrics.HealthStatus status : STATUSES) {
+            next.getHealthStatusCounts().put(status, statusCounts[status.ordinal()]);
+        }
+        long totalAlerts = alertCounts[NO_SEVERITY];
+        for (MaintenanceLog.AlertSeverity severity : SEVERITIES) {
+            next.getActiveAlertsBySeverity().put(severity, alertCounts[severity.ordinal()]);
+            totalAlerts += alertCounts[severity.ordinal()];
+        }
+        next.setTotalActiveAlerts(totalAlerts);
+        summary = next;
+    }
+
+    private static int severityIndex(MaintenanceLog.AlertSeverity severity) {
+        return severity != null ? severity.ordinal() : NO_SEVERITY;
+    }
+
+    private static final class Reading {
+        private final Double score;
+        private final VehicleHealthMetrics.HealthStatus status;
+        private final long version; // write that recorded it; 0 when loaded from the database
+
+        Reading(Double score, VehicleHealthMetrics.HealthStatus status, long version) {
+            this.score = score;
+            this.status = status;
+            this.version = version;
+        }
+    }
+}
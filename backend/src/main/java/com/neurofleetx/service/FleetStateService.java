@@ -0,0 +1,133 @@
+package com.neurofleetx.service;
+
+import com.neurofleetx.dto.FleetEvent;
+import com.neurofleetx.dto.NearbyVehicle;
+import com.neurofleetx.dto.VehicleSnapshot;
+import com.neurofleetx.model.Vehicle;
+import com.neurofleetx.optimization.GeoGrid;
+import com.neurofleetx.repository.VehicleRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Live position, status, battery and capacity of every vehicle, held in memory behind a grid
+ * index so nearest-vehicle and radius lookups never touch the database. Loaded once the
+ * application is ready and kept current by the vehicle and telemetry write paths; every change
+ * is also published to the live dashboard streams.
+ */
+@Service
+public class FleetStateService {
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private FleetEventBroadcaster fleetEventBroadcaster;
+
+    @Value("${neurofleetx.fleet.grid-cell-km:2.0}")
+    private double gridCellKm;
+
+    private GeoGrid<String, VehicleSnapshot> grid;
+
+    @PostConstruct
+    public void init() {
+        grid = new GeoGrid<>(gridCellKm, VehicleSnapshot::getLatitude, VehicleSnapshot::getLongitude);
+    }
+
+    /** Replaces the whole state with the vehicles table. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        Set<String> loaded = new HashSet<>();
+        for (Vehicle vehicle : vehicleRepository.findAll()) {
+            refresh(vehicle);
+            loaded.add(vehicle.getVehicleId());
+        }
+        for (VehicleSnapshot snapshot : getVehicles()) {
+            if (!loaded.contains(snapshot.getVehicleId())) {
+                remove(snapshot.getVehicleId());
+            }
+        }
+    }
+
+    /** Records the saved state of a vehicle and publishes what changed. */
+    public void refresh(Vehicle vehicle) {
+        if (vehicle.getVehicleId() == null) return;
+        if (vehicle.getLatitude() == null || vehicle.getLongitude() == null) {
+            remove(vehicle.getVehicleId());
+            return;
+        }
+        VehicleSnapshot previous = grid.get(vehicle.getVehicleId());
+        VehicleSnapshot current = new VehicleSnapshot(vehicle);
+        grid.put(vehicle.getVehicleId(), current);
+        if (previous == null || previous.getLatitude() != current.getLatitude()
+                || previous.getLongitude() != current.getLongitude()) {
+            fleetEventBroadcaster.publish(FleetEvent.position(current));
+        }
+        if (previous == null || previous.getStatus() != current.getStatus()) {
+            fleetEventBroadcaster.publish(FleetEvent.status(current, previous != null ? previous.getStatus() : null));
+        }
+    }
+
+    public void remove(String vehicleId) {
+        if (grid.get(vehicleId) == null) return;
+        grid.remove(vehicleId);
+        fleetEventBroadcaster.publish(FleetEvent.removed(vehicleId));
+    }
+
+    /** Moves a known vehicle, ignoring readings older than its current state. */
+    public void updatePosition(String vehicleId, double latitude, double longitude, Double speed,
+                               LocalDateTime timestamp) {
+        boolean[] moved = new boolean[1];
+        VehicleSnapshot current = grid.update(vehicleId, snapshot -> {
+            if (snapshot.getLastUpdated() != null && snapshot.getLastUpdated().isAfter(timestamp)) {
+                return snapshot;
+            }
+            moved[0] = true;
+            return snapshot.withPosition(latitude, longitude, speed, timestamp);
+        });
+        if (moved[0]) {
+            fleetEventBroadcaster.publish(FleetEvent.position(current));
+        }
+    }
+
+    /** Point-in-time copy of every vehicle's state. */
+    public List<VehicleSnapshot> getVehicles() {
+        return new ArrayList<>(grid.values());
+    }
+
+    public VehicleSnapshot getVehicle(String vehicleId) {
+        return grid.get(vehicleId);
+    }
+
+    public int size() {
+        return grid.size();
+    }
+
+    /** The {@code k} available vehicles closest to the point that can carry {@code loadWeight} kg. */
+    public List<NearbyVehicle> nearestAvailable(double latitude, double longitude, int k, double loadWeight) {
+        return grid.nearest(latitude, longitude, k, snapshot ->
+                        snapshot.getStatus() == Vehicle.VehicleStatus.AVAILABLE && snapshot.getLoadCapacity() >= loadWeight)
+                .stream()
+                .map(neighbor -> new NearbyVehicle(neighbor.getValue(), neighbor.getDistanceKm()))
+                .collect(Collectors.toList());
+    }
+
+    /** Vehicles within {@code radiusKm} of the point, nearest first; a null status matches any. */
+    public List<NearbyVehicle> withinRadius(double latitude, double longitude, double radiusKm,
+                                            Vehicle.VehicleStatus status) {
+        return grid.within(latitude, longitude, radiusKm, snapshot -> status == null || snapshot.getStatus() == status)
+                .stream()
+                .map(neighbor -> new NearbyVehicle(neighbor.getValue(), neighbor.getDistanceKm()))
+                .collect(Collectors.toList());
+    }
+}
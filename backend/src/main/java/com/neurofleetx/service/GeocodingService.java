@@ -0,0 +1,74 @@
+package com.neurofleetx.service;
+
+import org.springframework.stereotype.Service;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class GeocodingService {
+
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final double LANDMARK_SPREAD_KM = 3.0;
+    private static final double UNKNOWN_SPREAD_KM = 15.0;
+    private static final double[] DEFAULT_CENTER = {28.6139, 77.2090}; // Delhi NCR
+
+    // Known localities served by the fleet, most specific first
+    private static final Map<String, double[]> KNOWN_PLACES = new LinkedHashMap<>();
+    static {
+        KNOWN_PLACES.put("connaught place", new double[]{28.6315, 77.2167});
+        KNOWN_PLACES.put("khan market", new double[]{28.6001, 77.2270});
+        KNOWN_PLACES.put("delhi airport", new double[]{28.5562, 77.1000});
+        KNOWN_PLACES.put("delhi south", new double[]{28.5245, 77.2066});
+        KNOWN_PLACES.put("cyber city", new double[]{28.4950, 77.0895});
+        KNOWN_PLACES.put("dlf", new double[]{28.4810, 77.0930});
+        KNOWN_PLACES.put("noida sector 18", new double[]{28.5708, 77.3261});
+        KNOWN_PLACES.put("greater noida", new double[]{28.4744, 77.5040});
+        KNOWN_PLACES.put("electronic city", new double[]{12.8452, 77.6602});
+        KNOWN_PLACES.put("whitefield", new double[]{12.9698, 77.7500});
+        KNOWN_PLACES.put("faridabad", new double[]{28.4089, 77.3178});
+        KNOWN_PLACES.put("ghaziabad", new double[]{28.6692, 77.4538});
+        KNOWN_PLACES.put("gurgaon", new double[]{28.4595, 77.0266});
+        KNOWN_PLACES.put("gurugram", new double[]{28.4595, 77.0266});
+        KNOWN_PLACES.put("noida", new double[]{28.5355, 77.3910});
+        KNOWN_PLACES.put("bangalore", new double[]{12.9716, 77.5946});
+        KNOWN_PLACES.put("bengaluru", new double[]{12.9716, 77.5946});
+        KNOWN_PLACES.put("connaught", new double[]{28.6315, 77.2167});
+        KNOWN_PLACES.put("delhi", new double[]{28.6139, 77.2090});
+    }
+
+    private final Map<String, double[]> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Resolves a free-text location to {latitude, longitude}. Results are cached, so each
+     * distinct address is resolved only once per application lifetime.
+     */
+    public double[] geocode(String location) {
+        String key = location != null ? location.trim().toLowerCase(Locale.ROOT) : "";
+        return cache.computeIfAbsent(key, this::resolve);
+    }
+
+    private double[] resolve(String location) {
+        // Simplified gazetteer lookup - in real implementation would call a geocoding API
+        for (Map.Entry<String, double[]> place : KNOWN_PLACES.entrySet()) {
+            if (location.contains(place.getKey())) {
+                if (location.equals(place.getKey())) {
+                    return place.getValue().clone();
+                }
+                return spread(place.getValue(), location, LANDMARK_SPREAD_KM);
+            }
+        }
+        return spread(DEFAULT_CENTER, location, UNKNOWN_SPREAD_KM);
+    }
+
+    // Deterministic offset so distinct addresses in the same locality don't collapse into one point
+    private double[] spread(double[] center, String location, double maxKm) {
+        int hash = location.hashCode();
+        double angle = (hash & 0xFFFF) / 65536.0 * 2 * Math.PI;
+        double radiusKm = ((hash >>> 16) & 0xFFFF) / 65536.0 * maxKm;
+        double lat = center[0] + radiusKm * Math.cos(angle) / KM_PER_DEGREE;
+        double lon = center[1] + radiusKm * Math.sin(angle) / (KM_PER_DEGREE * Math.cos(Math.toRadians(center[0])));
+        return new double[]{lat, lon};
+    }
+}
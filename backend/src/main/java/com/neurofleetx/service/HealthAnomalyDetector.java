@@ -0,0 +1,212 @@
+package com.neurofleetx.service;
+
+import com.neurofleetx.dto.HealthAnomaly;
+import com.neurofleetx.model.MaintenanceLog;
+import com.neurofleetx.model.Vehicle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Online anomaly detection on health readings, next to the static thresholds. Each vehicle and
+ * metric keeps a Welford mean/variance baseline, an EWMA and a two-sided CUSUM in one primitive
+ * array per vehicle, so a reading is O(1) with no history scan. A reading is anomalous when it is
+ * far from the baseline (spike), when the CUSUM sums pass their limit (level shift), or when the
+ * EWMA leaves its control band (slow drift). Spikes are kept out of the baseline.
+ */
+@Service
+public class HealthAnomalyDetector {
+
+    private static final MaintenanceLog.MetricType[] METRICS = MaintenanceLog.MetricType.values();
+
+    // Slots per metric in a vehicle's state array
+    private static final int COUNT = 0;
+    private static final int MEAN = 1;
+    private static final int M2 = 2;
+    private static final int EWMA = 3;
+    private static final int CUSUM_HIGH = 4;
+    private static final int CUSUM_LOW = 5;
+    private static final int QUIET = 6; // readings left before the series may alert again
+    private static final int STRIDE = 7;
+
+    @Value("${neurofleetx.anomaly.warmup-readings:50}")
+    private int warmup;
+
+    @Value("${neurofleetx.anomaly.spike-z:4.0}")
+    private double spikeZ;
+
+    @Value("${neurofleetx.anomaly.ewma-lambda:0.2}")
+    private double lambda;
+
+    @Value("${neurofleetx.anomaly.ewma-limit:3.5}")
+    private double ewmaLimit;
+
+    @Value("${neurofleetx.anomaly.cusum-slack:0.5}")
+    private double cusumSlack;
+
+    @Value("${neurofleetx.anomaly.cusum-limit:8.0}")
+    private double cusumLimit;
+
+    @Value("${neurofleetx.anomaly.cooldown-readings:20}")
+    private int cooldown;
+
+    // Guarded by the array's monitor
+    private final Map<Long, double[]> states = new ConcurrentHashMap<>();
+    // Latest anomaly per vehicle and metric while the condition lasts
+    private final Map<Long, HealthAnomaly> active = new ConcurrentHashMap<>();
+
+    /**
+     * Feeds one reading per metric, indexed by ordinal with NaN for absent ones, and adds an alert
+     * for each new anomaly on a metric that {@code alerts} does not already cover.
+     */
+    public void observe(Vehicle vehicle, double[] values, List<MaintenanceLog> alerts) {
+        if (vehicle == null || vehicle.getId() == null) return;
+        double[] state = states.computeIfAbsent(vehicle.getId(), id -> new double[METRICS.length * STRIDE]);
+        List<HealthAnomaly> found = null;
+        synchronized (state) {
+            for (int m = 0; m < values.length; m++) {
+                if (Double.isNaN(values[m]) || !isMonitored(METRICS[m])) continue;
+                HealthAnomaly anomaly = update(state, vehicle, METRICS[m], values[m]);
+                if (anomaly != null) {
+                    if (found == null) found = new ArrayList<>(2);
+                    found.add(anomaly);
+                }
+            }
+        }
+        if (found == null) return;
+        for (HealthAnomaly anomaly : found) {
+            if (!covers(alerts, anomaly.getMetricType())) alerts.add(toAlert(vehicle, anomaly));
+        }
+    }
+
+    /** Feeds a single reading; returns the new anomaly it raised, if any. */
+    public HealthAnomaly observe(Vehicle vehicle, MaintenanceLog.MetricType metric, double value) {
+        if (vehicle == null || vehicle.getId() == null || metric == null || Double.isNaN(value)
+                || !isMonitored(metric)) {
+            return null;
+        }
+        double[] state = states.computeIfAbsent(vehicle.getId(), id -> new double[METRICS.length * STRIDE]);
+        synchronized (state) {
+            return update(state, vehicle, metric, value);
+        }
+    }
+
+    /** Anomalies whose condition is still present, strongest first. */
+    public List<HealthAnomaly> getActiveAnomalies(int limit) {
+        List<HealthAnomaly> anomalies = new ArrayList<>(active.values());
+        anomalies.sort(Comparator.comparingDouble(HealthAnomaly::getScore).reversed());
+        return anomalies.size() > limit ? new ArrayList<>(anomalies.subList(0, limit)) : anomalies;
+    }
+
+    /** Sets an alert log's fields from an anomaly. */
+    public static void applyTo(MaintenanceLog log, HealthAnomaly anomaly) {
+        log.setAlert(true);
+        log.setAlertSeverity(anomaly.getKind() == HealthAnomaly.Kind.SPIKE
+                ? MaintenanceLog.AlertSeverity.HIGH : MaintenanceLog.AlertSeverity.MEDIUM);
+        log.setAlertMessage(anomaly.getMessage());
+    }
+
+    // Mileage only grows and fuel is burned and refilled, so neither has a stable baseline
+    static boolean isMonitored(MaintenanceLog.MetricType metric) {
+        return metric != MaintenanceLog.MetricType.MILEAGE && metric != MaintenanceLog.MetricType.FUEL_LEVEL;
+    }
+
+    // Returns an anomaly only when the series is not cooling down from an earlier one
+    private HealthAnomaly update(double[] state, Vehicle vehicle, MaintenanceLog.MetricType metric, double value) {
+        int base = metric.ordinal() * STRIDE;
+        double count = state[base + COUNT];
+        if (count < warmup) {
+            addToBaseline(state, base, value);
+            state[base + EWMA] = state[base + MEAN];
+            return null;
+        }
+        double mean = state[base + MEAN];
+        double stdDev = Math.sqrt(state[base + M2] / (count - 1));
+        if (stdDev == 0) {
+            addToBaseline(state, base, value);
+            return null;
+        }
+
+        double z = (value - mean) / stdDev;
+        double ewma = lambda * value + (1 - lambda) * state[base + EWMA];
+        double cusumHigh = Math.max(0, state[base + CUSUM_HIGH] + z - cusumSlack);
+        double cusumLow = Math.max(0, state[base + CUSUM_LOW] - z - cusumSlack);
+        double ewmaBand = ewmaLimit * stdDev * Math.sqrt(lambda / (2 - lambda));
+
+        HealthAnomaly.Kind kind = null;
+        boolean high = false;
+        double score = 0;
+        if (Math.abs(z) >= spikeZ) {
+            kind = HealthAnomaly.Kind.SPIKE;
+            high = z > 0;
+            score = Math.abs(z) / spikeZ;
+        } else if (cusumHigh > cusumLimit || cusumLow > cusumLimit) {
+            kind = HealthAnomaly.Kind.SHIFT;
+            high = cusumHigh > cusumLow;
+            score = Math.max(cusumHigh, cusumLow) / cusumLimit;
+        } else if (Math.abs(ewma - mean) > ewmaBand) {
+            kind = HealthAnomaly.Kind.DRIFT;
+            high = ewma > mean;
+            score = Math.abs(ewma - mean) / ewmaBand;
+        }
+
+        state[base + EWMA] = ewma;
+        state[base + CUSUM_HIGH] = cusumHigh;
+        state[base + CUSUM_LOW] = cusumLow;
+        if (kind != HealthAnomaly.Kind.SPIKE) addToBaseline(state, base, value);
+
+        long key = vehicle.getId() * METRICS.length + metric.ordinal();
+        double quiet = state[base + QUIET];
+        if (quiet > 0) state[base + QUIET] = quiet - 1;
+        if (kind == null) {
+            if (quiet <= 1 && Math.abs(ewma - mean) <= ewmaBand) active.remove(key);
+            return null;
+        }
+        state[base + CUSUM_HIGH] = 0;
+        state[base + CUSUM_LOW] = 0;
+        HealthAnomaly anomaly = new HealthAnomaly(vehicle.getId(), vehicle.getVehicleId(), metric, kind, high,
+                                                  value, mean, stdDev, score);
+        anomaly.setMessage(describe(anomaly));
+        active.put(key, anomaly);
+        if (quiet > 0) return null;
+        state[base + QUIET] = cooldown;
+        return anomaly;
+    }
+
+    private static void addToBaseline(double[] state, int base, double value) {
+        double count = ++state[base + COUNT];
+        double delta = value - state[base + MEAN];
+        state[base + MEAN] += delta / count;
+        state[base + M2] += delta * (value - state[base + MEAN]);
+    }
+
+    private static boolean covers(List<MaintenanceLog> alerts, MaintenanceLog.MetricType metric) {
+        for (MaintenanceLog alert : alerts) {
+            if (alert.getMetricType() == metric) return true;
+        }
+        return false;
+    }
+
+    private static MaintenanceLog toAlert(Vehicle vehicle, HealthAnomaly anomaly) {
+        MaintenanceLog alert = new MaintenanceLog(vehicle, anomaly.getMetricType(), anomaly.getValue());
+        applyTo(alert, anomaly);
+        return alert;
+    }
+
+    private static String describe(HealthAnomaly anomaly) {
+        String change;
+        switch (anomaly.getKind()) {
+            case SPIKE: change = anomaly.isHigh() ? "spiked high" : "dropped sharply"; break;
+            case SHIFT: change = anomaly.isHigh() ? "shifted up" : "shifted down"; break;
+            default: change = anomaly.isHigh() ? "drifting up" : "drifting down"; break;
+        }
+        return String.format(Locale.ROOT, "%s %s: %.2f against a baseline of %.2f ± %.2f",
+                             anomaly.getMetricType(), change, anomaly.getValue(), anomaly.getBaselineMean(),
+                             anomaly.getBaselineStdDev());
+    }
+}
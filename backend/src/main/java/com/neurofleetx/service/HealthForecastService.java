@@ -0,0 +1,270 @@
+package com.neurofleetx.service;
+
+import com.neurofleetx.dto.HealthForecast;
+import com.neurofleetx.dto.HealthHistory;
+import com.neurofleetx.model.MaintenanceLog;
+import com.neurofleetx.model.Vehicle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+/**
+ * Degradation forecasts behind the predictive insights. A periodic batch job fits a linear and an
+ * exponential trend to each metric's recent history, keeps the better fit when its slope is
+ * significant, and projects when it crosses the vehicle type's alert threshold. Only vehicles with
+ * readings since the last run are refitted, oldest first and a bounded number per run; the ranked
+ * result is rebuilt after each run and served from memory.
+ */
+@Service
+public class HealthForecastService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthForecastService.class);
+
+    private static final MaintenanceLog.MetricType[] METRICS = MaintenanceLog.MetricType.values();
+    private static final int FIT_POINTS = 200; // history resolution is chosen to give at most this many
+    private static final double MIN_SLOPE_T = 3.0; // slope must be this many standard errors from zero
+    private static final int MIN_PARTITION_SIZE = 64;
+    private static final double MILLIS_PER_HOUR = 3_600_000.0;
+
+    @Autowired
+    private HealthHistoryService healthHistoryService;
+
+    @Autowired
+    private AlertRuleEngine alertRuleEngine;
+
+    @Value("${neurofleetx.forecast.window-hours:168}")
+    private int windowHours;
+
+    @Value("${neurofleetx.forecast.horizon-days:90}")
+    private int horizonDays;
+
+    @Value("${neurofleetx.forecast.min-points:10}")
+    private int minPoints;
+
+    @Value("${neurofleetx.forecast.max-vehicles-per-run:5000}")
+    private int maxVehiclesPerRun;
+
+    // Vehicles with readings since they were last fitted, in the order they first had one
+    private final Queue<Vehicle> pending = new ConcurrentLinkedQueue<>();
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    // Per vehicle, its metrics that are projected to cross a threshold within the horizon
+    private final Map<Long, List<HealthForecast>> forecasts = new ConcurrentHashMap<>();
+    private volatile Ranking ranking = new Ranking(new ArrayList<>());
+
+    /** Queues the vehicle for refitting; call when a reading is added to its history. */
+    public void markUpdated(Vehicle vehicle) {
+        if (vehicle == null || vehicle.getId() == null || !pendingIds.add(vehicle.getId())) return;
+        // Only what the fit needs, so queued entities are not kept alive
+        Vehicle queued = new Vehicle();
+        queued.setId(vehicle.getId());
+        queued.setVehicleId(vehicle.getVehicleId());
+        queued.setType(vehicle.getType());
+        pending.add(queued);
+    }
+
+    /** Projected threshold crossings, soonest first. */
+    public List<HealthForecast> getForecasts(int limit) {
+        List<HealthForecast> ranked = ranking.forecasts;
+        return new ArrayList<>(ranked.subList(0, Math.min(limit, ranked.size())));
+    }
+
+    /** Vehicles with at least one metric projected to cross its threshold by {@code time}. */
+    public int countVehiclesDueBy(LocalDateTime time) {
+        LocalDateTime[] due = ranking.vehicleDue;
+        int low = 0;
+        int high = due.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (due[mid].isAfter(time)) high = mid;
+            else low = mid + 1;
+        }
+        return low;
+    }
+
+    /** Refits the vehicles queued since the last run; returns how many were fitted. */
+    @Scheduled(fixedDelayString = "${neurofleetx.forecast.refresh-interval-ms:300000}",
+               initialDelayString = "${neurofleetx.forecast.refresh-interval-ms:300000}")
+    public synchronized int refresh() {
+        long started = System.nanoTime();
+        List<Vehicle> batch = new ArrayList<>();
+        Vehicle next;
+        while (batch.size() < maxVehiclesPerRun && (next = pending.poll()) != null) {
+            // Readings that arrive from here on queue the vehicle again
+            pendingIds.remove(next.getId());
+            batch.add(next);
+        }
+        if (batch.isEmpty()) return 0;
+
+        AlertRuleEngine.Rules rules = alertRuleEngine.getRules();
+        LocalDateTime now = LocalDateTime.now();
+        int partitions = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(),
+                                              batch.size() / MIN_PARTITION_SIZE));
+        int partitionSize = (batch.size() + partitions - 1) / partitions;
+        List<List<HealthForecast>> fitted = new ArrayList<>(batch.size());
+        IntStream.range(0, partitions).parallel()
+                .mapToObj(p -> {
+                    List<List<HealthForecast>> partition = new ArrayList<>(partitionSize);
+                    int end = Math.min((p + 1) * partitionSize, batch.size());
+                    for (int i = p * partitionSize; i < end; i++) {
+                        partition.add(fitVehicle(batch.get(i), rules, now));
+                    }
+                    return partition;
+                })
+                .forEachOrdered(fitted::addAll);
+
+        for (int i = 0; i < batch.size(); i++) {
+            if (fitted.get(i) == null) continue;
+            if (fitted.get(i).isEmpty()) forecasts.remove(batch.get(i).getId());
+            else forecasts.put(batch.get(i).getId(), fitted.get(i));
+        }
+        List<HealthForecast> all = new ArrayList<>();
+        for (List<HealthForecast> vehicleForecasts : forecasts.values()) {
+            all.addAll(vehicleForecasts);
+        }
+        ranking = new Ranking(all);
+        logger.info("Refitted health forecasts for {} vehicles in {} ms; {} queued",
+                    batch.size(), (System.nanoTime() - started) / 1_000_000, pendingIds.size());
+        return batch.size();
+    }
+
+    // Null when the history could not be read
+    private List<HealthForecast> fitVehicle(Vehicle vehicle, AlertRuleEngine.Rules rules, LocalDateTime now) {
+        List<HealthForecast> result = new ArrayList<>(0);
+        int type = rules.typeIndex(vehicle.getType());
+        try {
+            for (MaintenanceLog.MetricType metric : METRICS) {
+                // Only metrics with a stable baseline have a trend worth projecting
+                if (!HealthAnomalyDetector.isMonitored(metric)) continue;
+                double lower = rules.lowerThreshold(type, metric);
+                double upper = rules.upperThreshold(type, metric);
+                if (Double.isInfinite(lower) && Double.isInfinite(upper)) continue;
+                HealthHistory history = healthHistoryService.getHistory(vehicle.getId(), metric,
+                        now.minusHours(windowHours), now, FIT_POINTS);
+                HealthForecast forecast = fit(vehicle, metric, history.getPoints(), lower, upper);
+                if (forecast != null) result.add(forecast);
+            }
+        } catch (RuntimeException e) {
+            // Keeps its previous forecasts until its next reading queues it again
+            logger.warn("Could not fit health forecasts for vehicle {}: {}", vehicle.getId(), e.getMessage());
+            return null;
+        }
+        return result;
+    }
+
+    // Least squares in hours before the newest point; the exponential model is fitted to log values
+    private HealthForecast fit(Vehicle vehicle, MaintenanceLog.MetricType metric, List<HealthHistory.Point> points,
+                               double lower, double upper) {
+        int n = points.size();
+        if (n < Math.max(3, minPoints)) return null;
+        LocalDateTime newest = points.get(n - 1).getTime();
+        double[] t = new double[n];
+        double[] y = new double[n];
+        boolean positive = true;
+        for (int i = 0; i < n; i++) {
+            t[i] = -ChronoUnit.MILLIS.between(points.get(i).getTime(), newest) / MILLIS_PER_HOUR;
+            y[i] = points.get(i).getAverage();
+            positive &= y[i] > 0;
+        }
+
+        double[] linear = regress(t, y);
+        if (linear == null) return null;
+        double linearError = 0;
+        for (int i = 0; i < n; i++) {
+            double residual = y[i] - (linear[0] + linear[1] * t[i]);
+            linearError += residual * residual;
+        }
+        double slopeError = Math.sqrt(linearError / (n - 2) / linear[2]);
+        if (Math.abs(linear[1]) < MIN_SLOPE_T * slopeError || linear[1] == 0) return null;
+
+        HealthForecast.Model model = HealthForecast.Model.LINEAR;
+        double level = linear[0];
+        double rate = linear[1];
+        double[] exponential = null;
+        if (positive) {
+            double[] logs = new double[n];
+            for (int i = 0; i < n; i++) logs[i] = Math.log(y[i]);
+            exponential = regress(t, logs);
+        }
+        if (exponential != null) {
+            double exponentialError = 0;
+            for (int i = 0; i < n; i++) {
+                double residual = y[i] - Math.exp(exponential[0] + exponential[1] * t[i]);
+                exponentialError += residual * residual;
+            }
+            if (exponentialError < linearError && Math.signum(exponential[1]) == Math.signum(linear[1])) {
+                model = HealthForecast.Model.EXPONENTIAL;
+                level = Math.exp(exponential[0]);
+                rate = exponential[1] * level;
+            }
+        }
+
+        double threshold = rate < 0 ? lower : upper;
+        if (Double.isInfinite(threshold)) return null;
+        double hours;
+        if (rate < 0 ? level <= threshold : level >= threshold) {
+            hours = 0;
+        } else if (model == HealthForecast.Model.LINEAR) {
+            hours = (threshold - level) / rate;
+        } else {
+            if (threshold <= 0) return null; // an exponential decay never reaches zero
+            hours = Math.log(threshold / level) / exponential[1];
+        }
+        if (hours > horizonDays * 24.0) return null;
+        return new HealthForecast(vehicle.getId(), vehicle.getVehicleId(), metric, model, level, rate * 24,
+                                  threshold, hours, newest.plusSeconds((long) (hours * 3600)), n);
+    }
+
+    // [intercept, slope, sum of squared deviations of x], or null when x does not vary
+    private static double[] regress(double[] x, double[] y) {
+        int n = x.length;
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < n; i++) {
+            meanX += x[i];
+            meanY += y[i];
+        }
+        meanX /= n;
+        meanY /= n;
+        double sxx = 0;
+        double sxy = 0;
+        for (int i = 0; i < n; i++) {
+            sxx += (x[i] - meanX) * (x[i] - meanX);
+            sxy += (x[i] - meanX) * (y[i] - meanY);
+        }
+        if (sxx == 0) return null;
+        double slope = sxy / sxx;
+        return new double[]{meanY - slope * meanX, slope, sxx};
+    }
+
+    private static final class Ranking {
+        private final List<HealthForecast> forecasts; // soonest crossing first
+        private final LocalDateTime[] vehicleDue; // each vehicle's soonest crossing, ascending
+
+        Ranking(List<HealthForecast> forecasts) {
+            forecasts.sort(Comparator.comparing(HealthForecast::getPredictedAt));
+            this.forecasts = forecasts;
+            Map<Long, LocalDateTime> soonest = new HashMap<>();
+            for (HealthForecast forecast : forecasts) {
+                soonest.putIfAbsent(forecast.getVehicleId(), forecast.getPredictedAt());
+            }
+            vehicleDue = soonest.values().toArray(new LocalDateTime[0]);
+            Arrays.sort(vehicleDue);
+        }
+    }
+}
@@ -0,0 +1,511 @@
+package com.neurofleetx.service;
+
+import com.neurofleetx.dto.HealthHistory;
+import com.neurofleetx.model.HealthSeriesChunk;
+import com.neurofleetx.model.MaintenanceLog;
+import com.neurofleetx.repository.HealthSeriesChunkRepository;
+import com.neurofleetx.timeseries.ChunkEncoder;
+import com.neurofleetx.timeseries.SeriesChunk;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only history of health readings, one series per vehicle and metric. Readings go into
+ * compressed raw chunks and are rolled up into 1-minute, 1-hour and 1-day buckets (UTC) as they
+ * arrive. Open chunks live in memory and are written to health_series_chunks with JDBC batches on
+ * a fixed delay; sealed chunks are also written as soon as enough of them pile up. Range queries
+ * read the coarsest resolution that still gives the requested number of points, so a 90-day
+ * trend decodes one or two rows instead of loading every reading.
+ */
+@Service
+public class HealthHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthHistoryService.class);
+
+    public static final int DEFAULT_MAX_POINTS = 500;
+    public static final int MAX_POINTS = 10000;
+
+    private static final int MAX_RAW_CHUNK_POINTS = 120;
+    private static final MaintenanceLog.MetricType[] METRICS = MaintenanceLog.MetricType.values();
+    private static final HealthSeriesChunk.Resolution[] ROLLUPS = {
+        HealthSeriesChunk.Resolution.MINUTE, HealthSeriesChunk.Resolution.HOUR, HealthSeriesChunk.Resolution.DAY
+    };
+
+    private static final String INSERT_CHUNK =
+        "INSERT INTO health_series_chunks (start_time, end_time, point_count, payload, id, vehicle_id, metric_type, " +
+        "resolution) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_CHUNK =
+        "UPDATE health_series_chunks SET start_time = ?, end_time = ?, point_count = ?, payload = ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private HealthSeriesChunkRepository chunkRepository;
+
+    @Value("${neurofleetx.health-history.batch-size:500}")
+    private int batchSize;
+
+    @Value("${neurofleetx.health-history.sealed-flush-threshold:1000}")
+    private int sealedFlushThreshold;
+
+    private final ConcurrentHashMap<Long, Series> series = new ConcurrentHashMap<>();
+    private final Set<Series> withSealed = ConcurrentHashMap.newKeySet(); // series holding sealed chunks
+    private final AtomicInteger sealedCount = new AtomicInteger(); // sealed chunks not yet written
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Object idLock = new Object();
+    private long nextChunkId; // next id of the reserved block
+    private long chunkIdLimit; // end of the reserved block, exclusive
+
+    /**
+     * Appends one reading per metric, indexed by metric type ordinal; NaN marks a metric that was
+     * not read. Series are append-only, so a reading older than its series' newest is dropped.
+     */
+    public void recordReadings(Long vehicleId, LocalDateTime time, double[] values) {
+        if (vehicleId == null || time == null) return;
+        long millis = toMillis(time);
+        for (int m = 0; m < values.length; m++) {
+            if (!Double.isNaN(values[m])) {
+                append(vehicleId, METRICS[m], millis, values[m]);
+            }
+        }
+        flushIfBacklogged();
+    }
+
+    public void record(Long vehicleId, MaintenanceLog.MetricType metric, LocalDateTime time, double value) {
+        if (vehicleId == null || metric == null || time == null || Double.isNaN(value)) return;
+        append(vehicleId, metric, toMillis(time), value);
+        flushIfBacklogged();
+    }
+
+    /** @throws IllegalArgumentException for a missing metric or an empty time range */
+    public HealthHistory getHistory(Long vehicleId, MaintenanceLog.MetricType metric,
+                                    LocalDateTime from, LocalDateTime to, Integer maxPoints) {
+        if (metric == null) {
+            throw new IllegalArgumentException("Metric type is required");
+        }
+        if (to == null) to = LocalDateTime.now();
+        if (from == null) from = to.minusDays(1);
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        int limit = maxPoints == null || maxPoints <= 0 ? DEFAULT_MAX_POINTS : Math.min(maxPoints, MAX_POINTS);
+        long fromMillis = toMillis(from);
+        long toMillis = toMillis(to);
+        Series current = series.get(key(vehicleId, metric));
+
+        HealthSeriesChunk.Resolution resolution = chooseResolution(vehicleId, metric, current, from, to, limit);
+        // A bucket that starts before the range still covers its beginning
+        long lowest = resolution == HealthSeriesChunk.Resolution.RAW
+                ? fromMillis : fromMillis - resolution.getBucketMillis() + 1;
+
+        // Memory before the table: a chunk written and dropped from memory in between is then in the table
+        List<byte[]> payloads = new ArrayList<>();
+        Set<Long> inMemory = new HashSet<>();
+        if (current != null) {
+            synchronized (current) {
+                current.snapshot(resolution, payloads, inMemory);
+            }
+        }
+        for (HealthSeriesChunk stored : chunkRepository.findOverlapping(vehicleId, metric, resolution,
+                                                                          toLocal(lowest), to)) {
+            if (!inMemory.contains(stored.getId())) {
+                payloads.add(stored.getPayload());
+            }
+        }
+
+        // [count, min, max, sum] by time; buckets with the same start are merged, since after a
+        // restart the readings of a partly filled bucket continue in a new chunk
+        TreeMap<Long, double[]> points = new TreeMap<>();
+        for (byte[] payload : payloads) {
+            SeriesChunk chunk = SeriesChunk.decode(payload);
+            for (int i = 0; i < chunk.size(); i++) {
+                long time = chunk.time(i);
+                if (time < lowest || time > toMillis) continue;
+                double[] point = points.get(time);
+                if (point == null) {
+                    points.put(time, new double[]{chunk.count(i), chunk.min(i), chunk.max(i), chunk.sum(i)});
+                } else {
+                    point[0] += chunk.count(i);
+                    point[1] = Math.min(point[1], chunk.min(i));
+                    point[2] = Math.max(point[2], chunk.max(i));
+                    point[3] += chunk.sum(i);
+                }
+            }
+        }
+
+        HealthHistory history = new HealthHistory(vehicleId, metric, resolution, from, to);
+        for (Map.Entry<Long, double[]> entry : points.entrySet()) {
+            double[] point = entry.getValue();
+            history.getPoints().add(new HealthHistory.Point(toLocal(entry.getKey()), point[3] / point[0],
+                                                            point[1], point[2], (long) point[0]));
+        }
+        return history;
+    }
+
+    /** Writes every chunk changed since the last flush, open ones included. */
+    @Scheduled(fixedDelayString = "${neurofleetx.health-history.flush-interval-ms:30000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            write(true);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // Raw readings if they fit, otherwise the finest rollup with few enough buckets
+    private HealthSeriesChunk.Resolution chooseResolution(Long vehicleId, MaintenanceLog.MetricType metric,
+                                                          Series current, LocalDateTime from, LocalDateTime to,
+                                                          int limit) {
+        long fromMillis = toMillis(from);
+        long toMillis = toMillis(to);
+        long rawPoints = chunkRepository.countPointsOverlapping(vehicleId, metric, HealthSeriesChunk.Resolution.RAW,
+                                                               from, to);
+        if (current != null) {
+            synchronized (current) {
+                rawPoints += current.rawPoints(fromMillis, toMillis);
+            }
+        }
+        if (rawPoints <= limit) return HealthSeriesChunk.Resolution.RAW;
+        for (HealthSeriesChunk.Resolution rollup : ROLLUPS) {
+            if ((toMillis - fromMillis) / rollup.getBucketMillis() < limit) return rollup;
+        }
+        return HealthSeriesChunk.Resolution.DAY;
+    }
+
+    private void append(long vehicleId, MaintenanceLog.MetricType metric, long time, double value) {
+        Series target = series.computeIfAbsent(key(vehicleId, metric), key -> new Series(vehicleId, metric));
+        boolean appended;
+        synchronized (target) {
+            appended = target.add(time, value);
+        }
+        if (!appended) {
+            logger.debug("Dropped out-of-order {} reading for vehicle {}", metric, vehicleId);
+        }
+    }
+
+    // Request threads take over writing sealed chunks when they pile up faster than the scheduled
+    // flush drains them; if a flush is already running they leave it to that one
+    private void flushIfBacklogged() {
+        if (sealedCount.get() < sealedFlushThreshold || !flushLock.tryLock()) return;
+        try {
+            write(false);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // Called holding flushLock. Chunks are written a batch per transaction; a failed batch stays
+    // changed, so the next flush retries it.
+    private void write(boolean includeOpen) {
+        List<ChunkWrite> batch = new ArrayList<>(batchSize);
+        for (Series each : includeOpen ? series.values() : new ArrayList<>(withSealed)) {
+            synchronized (each) {
+                each.collect(batch, includeOpen);
+            }
+            if (batch.size() >= batchSize) {
+                if (!writeBatch(batch)) return;
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) writeBatch(batch);
+    }
+
+    private boolean writeBatch(List<ChunkWrite> batch) {
+        List<ChunkWrite> inserts = new ArrayList<>();
+        List<ChunkWrite> updates = new ArrayList<>();
+        for (ChunkWrite chunkWrite : batch) {
+            (chunkWrite.chunk.stored ? updates : inserts).add(chunkWrite);
+        }
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                if (!inserts.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_CHUNK, inserts, inserts.size(), (statement, chunkWrite) -> {
+                        bind(statement, chunkWrite);
+                        statement.setLong(6, chunkWrite.series.vehicleId);
+                        statement.setString(7, chunkWrite.series.metric.name());
+                        statement.setString(8, chunkWrite.chunk.resolution.name());
+                    });
+                }
+                if (!updates.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_CHUNK, updates, updates.size(), HealthHistoryService::bind);
+                }
+            });
+        } catch (RuntimeException e) {
+            logger.error("Writing {} health history chunks failed; retrying on the next flush", batch.size(), e);
+            return false;
+        }
+        for (ChunkWrite chunkWrite : batch) {
+            synchronized (chunkWrite.series) {
+                chunkWrite.series.written(chunkWrite);
+            }
+        }
+        return true;
+    }
+
+    private static void bind(PreparedStatement statement, ChunkWrite chunkWrite) throws SQLException {
+        statement.setTimestamp(1, Timestamp.valueOf(toLocal(chunkWrite.firstTime)));
+        statement.setTimestamp(2, Timestamp.valueOf(toLocal(chunkWrite.lastTime)));
+        statement.setInt(3, chunkWrite.size);
+        statement.setBytes(4, chunkWrite.payload);
+        statement.setLong(5, chunkWrite.chunk.id);
+    }
+
+    private static long key(long vehicleId, MaintenanceLog.MetricType metric) {
+        return vehicleId * METRICS.length + metric.ordinal();
+    }
+
+    private static long window(HealthSeriesChunk.Resolution resolution, long time) {
+        return Math.floorDiv(time, resolution.getChunkMillis());
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocal(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    // Guarded by its own monitor
+    private final class Series {
+        private final long vehicleId;
+        private final MaintenanceLog.MetricType metric;
+        private long newest = Long.MIN_VALUE;
+        private Chunk raw;
+        // Per rollup: the open chunk for the current bucket's window, and the bucket being filled
+        private final Chunk[] rollups = new Chunk[ROLLUPS.length];
+        private final long[] bucketStart = new long[ROLLUPS.length];
+        private final long[] bucketCount = new long[ROLLUPS.length];
+        private final double[] bucketMin = new double[ROLLUPS.length];
+        private final double[] bucketMax = new double[ROLLUPS.length];
+        private final double[] bucketSum = new double[ROLLUPS.length];
+        private List<Chunk> sealed; // full chunks waiting to be written; null when there are none
+
+        Series(long vehicleId, MaintenanceLog.MetricType metric) {
+            this.vehicleId = vehicleId;
+            this.metric = metric;
+        }
+
+        boolean add(long time, double value) {
+            if (time < newest) return false;
+            newest = time;
+
+            if (raw == null || window(HealthSeriesChunk.Resolution.RAW, time) != raw.window
+                    || raw.data.size() >= MAX_RAW_CHUNK_POINTS) {
+                if (raw != null) seal(raw);
+                raw = new Chunk(HealthSeriesChunk.Resolution.RAW, time);
+            }
+            raw.data.add(time, value);
+            raw.version++;
+
+            for (int r = 0; r < ROLLUPS.length; r++) {
+                long bucket = time - Math.floorMod(time, ROLLUPS[r].getBucketMillis());
+                if (bucketCount[r] > 0 && bucket != bucketStart[r]) {
+                    // No version change: the bucket was already part of the chunk while it filled
+                    if (rollups[r].data == null) rollups[r].data = ChunkEncoder.rollup();
+                    rollups[r].data.add(bucketStart[r], bucketCount[r], bucketMin[r], bucketMax[r], bucketSum[r]);
+                    bucketCount[r] = 0;
+                    if (window(ROLLUPS[r], bucket) != rollups[r].window) {
+                        seal(rollups[r]);
+                        rollups[r] = null;
+                    }
+                }
+                if (bucketCount[r] == 0) {
+                    if (rollups[r] == null) rollups[r] = new Chunk(ROLLUPS[r], bucket);
+                    bucketStart[r] = bucket;
+                    bucketMin[r] = value;
+                    bucketMax[r] = value;
+                    bucketSum[r] = 0;
+                }
+                bucketCount[r]++;
+                bucketMin[r] = Math.min(bucketMin[r], value);
+                bucketMax[r] = Math.max(bucketMax[r], value);
+                bucketSum[r] += value;
+                rollups[r].version++;
+            }
+            return true;
+        }
+
+        // The in-memory chunks of one resolution, with the bucket being filled
+        void snapshot(HealthSeriesChunk.Resolution resolution, List<byte[]> payloads, Set<Long> ids) {
+            for (Chunk chunk : sealedChunks()) {
+                if (chunk.resolution == resolution) {
+                    payloads.add(chunk.data.toByteArray());
+                    ids.add(chunk.id);
+                }
+            }
+            if (resolution == HealthSeriesChunk.Resolution.RAW) {
+                if (raw != null) {
+                    payloads.add(raw.data.toByteArray());
+                    ids.add(raw.id);
+                }
+                return;
+            }
+            for (int r = 0; r < ROLLUPS.length; r++) {
+                if (ROLLUPS[r] == resolution && rollups[r] != null) {
+                    payloads.add(contents(r).toByteArray());
+                    ids.add(rollups[r].id);
+                }
+            }
+        }
+
+        long rawPoints(long from, long to) {
+            long points = 0;
+            for (Chunk chunk : sealedChunks()) {
+                if (chunk.resolution == HealthSeriesChunk.Resolution.RAW && overlaps(chunk.data, from, to)) {
+                    points += chunk.data.size();
+                }
+            }
+            if (raw != null && overlaps(raw.data, from, to)) points += raw.data.size();
+            return points;
+        }
+
+        void collect(List<ChunkWrite> writes, boolean includeOpen) {
+            Iterator<Chunk> pending = sealedChunks().iterator();
+            while (pending.hasNext()) {
+                Chunk chunk = pending.next();
+                if (chunk.version != chunk.writtenVersion) {
+                    writes.add(new ChunkWrite(this, chunk, chunk.data));
+                } else {
+                    // Written in full by an earlier flush while it was still open
+                    pending.remove();
+                    sealedCount.decrementAndGet();
+                }
+            }
+            if (sealed != null && sealed.isEmpty()) unsealed();
+            if (!includeOpen) return;
+            if (raw != null && raw.version != raw.writtenVersion) {
+                writes.add(new ChunkWrite(this, raw, raw.data));
+            }
+            for (int r = 0; r < ROLLUPS.length; r++) {
+                if (rollups[r] != null && rollups[r].version != rollups[r].writtenVersion) {
+                    writes.add(new ChunkWrite(this, rollups[r], contents(r)));
+                }
+            }
+        }
+
+        void written(ChunkWrite chunkWrite) {
+            Chunk chunk = chunkWrite.chunk;
+            chunk.stored = true;
+            chunk.writtenVersion = chunkWrite.version;
+            if (chunk.version == chunkWrite.version && sealed != null && sealed.remove(chunk)) {
+                sealedCount.decrementAndGet();
+                if (sealed.isEmpty()) unsealed();
+            }
+        }
+
+        private ChunkEncoder contents(int r) {
+            ChunkEncoder data = rollups[r].data;
+            if (bucketCount[r] == 0) return data;
+            ChunkEncoder contents = data != null ? data.copy() : ChunkEncoder.rollup();
+            contents.add(bucketStart[r], bucketCount[r], bucketMin[r], bucketMax[r], bucketSum[r]);
+            return contents;
+        }
+
+        private void seal(Chunk chunk) {
+            if (sealed == null) {
+                sealed = new ArrayList<>(2);
+                withSealed.add(this);
+            }
+            sealed.add(chunk);
+            sealedCount.incrementAndGet();
+        }
+
+        private void unsealed() {
+            sealed = null;
+            withSealed.remove(this);
+        }
+
+        private List<Chunk> sealedChunks() {
+            return sealed != null ? sealed : Collections.emptyList();
+        }
+
+        private boolean overlaps(ChunkEncoder data, long from, long to) {
+            return data.size() > 0 && data.lastTime() >= from && data.firstTime() <= to;
+        }
+    }
+
+    // Ids come from the database sequence a block at a time, so instances sharing the table never collide
+    private long nextChunkId() {
+        synchronized (idLock) {
+            if (nextChunkId == chunkIdLimit) {
+                nextChunkId = chunkRepository.nextIdBlock();
+                chunkIdLimit = nextChunkId + HealthSeriesChunk.ID_BLOCK_SIZE;
+            }
+            return nextChunkId++;
+        }
+    }
+
+    private final class Chunk {
+        private final long id = nextChunkId();
+        private final HealthSeriesChunk.Resolution resolution;
+        private final long window;
+        private ChunkEncoder data; // rollups get one when their first bucket is complete
+        private int version; // changes to the chunk or, for rollups, to its bucket being filled
+        private int writtenVersion;
+        private boolean stored; // has a row
+
+        Chunk(HealthSeriesChunk.Resolution resolution, long time) {
+            this.resolution = resolution;
+            this.window = window(resolution, time);
+            this.data = resolution == HealthSeriesChunk.Resolution.RAW ? ChunkEncoder.raw() : null;
+        }
+    }
+
+    // A chunk's contents as of one version, encoded so the write runs without the series lock
+    private static final class ChunkWrite {
+        private final Series series;
+        private final Chunk chunk;
+        private final int version;
+        private final byte[] payload;
+        private final long firstTime;
+        private final long lastTime;
+        private final int size;
+
+        ChunkWrite(Series series, Chunk chunk, ChunkEncoder data) {
+            this.series = series;
+            this.chunk = chunk;
+            this.version = chunk.version;
+            this.payload = data.toByteArray();
+            this.firstTime = data.firstTime();
+            this.lastTime = data.lastTime();
+            this.size = data.size();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.neurofleetx.service;
+
+import com.neurofleetx.model.MaintenanceLog;
+import com.neurofleetx.model.Vehicle;
+import com.neurofleetx.model.VehicleHealthMetrics;
+import com.neurofleetx.repository.VehicleHealthMetricsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Fleet-wide health simulation. Vehicles and the ids of their metrics rows come from one query,
+ * readings are simulated and scored in one partition per core, and metrics and alerts are written
+ * with JDBC batches, one transaction per chunk of vehicles. A failed chunk stops the sweep; chunks
+ * written before it stay committed.
+ */
+@Service
+public class HealthSweepService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthSweepService.class);
+
+    private static final String METRIC_COLUMNS =
+        "engine_temperature, oil_pressure, coolant_level, front_left_tire_pressure, front_right_tire_pressure, " +
+        "rear_left_tire_pressure, rear_right_tire_pressure, fuel_level, battery_voltage, transmission_temperature, " +
+        "brake_fluid_level, vibration_level, mileage, overall_health_score, health_status, last_updated";
+
+    private static final String UPDATE_METRICS =
+        "UPDATE vehicle_health_metrics SET engine_temperature = ?, oil_pressure = ?, coolant_level = ?, " +
+        "front_left_tire_pressure = ?, front_right_tire_pressure = ?, rear_left_tire_pressure = ?, " +
+        "rear_right_tire_pressure = ?, fuel_level = ?, battery_voltage = ?, transmission_temperature = ?, " +
+        "brake_fluid_level = ?, vibration_level = ?, mileage = ?, overall_health_score = ?, health_status = ?, " +
+        "last_updated = ? WHERE id = ?";
+
+    private static final String INSERT_METRICS =
+        "INSERT INTO vehicle_health_metrics (" + METRIC_COLUMNS + ", vehicle_id) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ALERT =
+        "INSERT INTO maintenance_logs (vehicle_id, metric_type, metric_value, alert, alert_severity, alert_message, " +
+        "recorded_at, created_at, alert_status, last_seen_at, peak_value, occurrences) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int METRIC_PARAMETERS = 16;
+    private static final int MIN_PARTITION_SIZE = 256; // below this, threads cost more than they save
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private VehicleHealthMetricsRepository healthMetricsRepository;
+
+    @Autowired
+    private MaintenanceService maintenanceService;
+
+    @Autowired
+    private FleetHealthAggregate fleetHealthAggregate;
+
+    @Autowired
+    private AlertLifecycleService alertLifecycle;
+
+    @Value("${neurofleetx.maintenance.sweep-batch-size:500}")
+    private int batchSize;
+
+    /** Simulates, scores and saves health metrics for every vehicle; returns how many were processed. */
+    public int simulateAll() {
+        long started = System.nanoTime();
+        List<VehicleHealthMetrics> metrics = new ArrayList<>();
+        for (Object[] row : healthMetricsRepository.findVehiclesWithHealthMetricsId()) {
+            Vehicle vehicle = new Vehicle();
+            vehicle.setId((Long) row[0]);
+            vehicle.setVehicleId((String) row[1]);
+            vehicle.setType((String) row[2]);
+            VehicleHealthMetrics reading = new VehicleHealthMetrics(vehicle);
+            reading.setId((Long) row[3]);
+            metrics.add(reading);
+        }
+
+        List<List<MaintenanceLog>> alerts = score(metrics);
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int alertCount = 0;
+        for (int from = 0; from < metrics.size(); from += batchSize) {
+            List<VehicleHealthMetrics> chunk = metrics.subList(from, Math.min(from + batchSize, metrics.size()));
+            // Only alerts for new conditions are inserted; repeats update the open rows
+            AlertLifecycleService.Changes changes = new AlertLifecycleService.Changes();
+            for (int i = 0; i < chunk.size(); i++) {
+                maintenanceService.trackAlerts(chunk.get(i), alerts.get(from + i), changes);
+            }
+            try {
+                transaction.executeWithoutResult(status -> {
+                    writeMetrics(chunk);
+                    insertAlerts(changes.getOpened());
+                    alertLifecycle.write(changes);
+                });
+            } catch (RuntimeException e) {
+                alertLifecycle.reload();
+                throw e;
+            }
+            for (VehicleHealthMetrics reading : chunk) {
+                fleetHealthAggregate.recordMetrics(reading);
+                maintenanceService.recordHistory(reading);
+            }
+            alertLifecycle.committed(changes);
+            alertCount += changes.getOpened().size();
+        }
+        logger.info("Health sweep of {} vehicles raised {} alerts in {} ms",
+                    metrics.size(), alertCount, (System.nanoTime() - started) / 1_000_000);
+        return metrics.size();
+    }
+
+    // Alerts per vehicle, in the order of the readings
+    private List<List<MaintenanceLog>> score(List<VehicleHealthMetrics> metrics) {
+        int partitions = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(),
+                                              metrics.size() / MIN_PARTITION_SIZE));
+        int partitionSize = (metrics.size() + partitions - 1) / partitions;
+        List<List<MaintenanceLog>> alerts = new ArrayList<>(metrics.size());
+        IntStream.range(0, partitions).parallel()
+                .mapToObj(p -> {
+                    List<List<MaintenanceLog>> partition = new ArrayList<>(partitionSize);
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    int end = Math.min((p + 1) * partitionSize, metrics.size());
+                    for (int i = p * partitionSize; i < end; i++) {
+                        VehicleHealthMetrics reading = metrics.get(i);
+                        maintenanceService.simulateRealisticMetrics(reading, random);
+                        maintenanceService.calculateOverallHealthScore(reading);
+                        partition.add(maintenanceService.evaluateAlerts(reading));
+                    }
+                    return partition;
+                })
+                .forEachOrdered(alerts::addAll);
+        return alerts;
+    }
+
+    private void writeMetrics(List<VehicleHealthMetrics> chunk) {
+        List<VehicleHealthMetrics> updates = new ArrayList<>(chunk.size());
+        List<VehicleHealthMetrics> inserts = new ArrayList<>();
+        for (VehicleHealthMetrics reading : chunk) {
+            (reading.getId() != null ? updates : inserts).add(reading);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_METRICS, updates, updates.size(), (statement, reading) -> {
+                bindMetrics(statement, reading);
+                statement.setLong(METRIC_PARAMETERS + 1, reading.getId());
+            });
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_METRICS, inserts, inserts.size(), (statement, reading) -> {
+                bindMetrics(statement, reading);
+                statement.setLong(METRIC_PARAMETERS + 1, reading.getVehicle().getId());
+            });
+        }
+    }
+
+    // Generated ids are read back so the alert index, alert events and the health counters can refer to the rows
+    private void insertAlerts(List<MaintenanceLog> alerts) {
+        if (alerts.isEmpty()) return;
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_ALERT, new String[]{"id"})) {
+                for (MaintenanceLog alert : alerts) {
+                    statement.setLong(1, alert.getVehicle().getId());
+                    statement.setString(2, alert.getMetricType().name());
+                    statement.setDouble(3, alert.getValue());
+                    statement.setBoolean(4, true);
+                    statement.setString(5, alert.getAlertSeverity() != null ? alert.getAlertSeverity().name() : null);
+                    statement.setString(6, alert.getAlertMessage());
+                    statement.setTimestamp(7, Timestamp.valueOf(alert.getRecordedAt()));
+                    statement.setTimestamp(8, Timestamp.valueOf(alert.getCreatedAt()));
+                    statement.setString(9, alert.getAlertStatus().name());
+                    statement.setTimestamp(10, Timestamp.valueOf(alert.getLastSeenAt()));
+                    statement.setDouble(11, alert.getPeakValue());
+                    statement.setInt(12, alert.getOccurrences());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (int i = 0; i < alerts.size() && keys.next(); i++) {
+                        alerts.get(i).setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    private static void bindMetrics(PreparedStatement statement, VehicleHealthMetrics reading) throws SQLException {
+        setDouble(statement, 1, reading.getEngineTemperature());
+        setDouble(statement, 2, reading.getOilPressure());
+        setDouble(statement, 3, reading.getCoolantLevel());
+        setDouble(statement, 4, reading.getFrontLeftTirePressure());
+        setDouble(statement, 5, reading.getFrontRightTirePressure());
+        setDouble(statement, 6, reading.getRearLeftTirePressure());
+        setDouble(statement, 7, reading.getRearRightTirePressure());
+        setDouble(statement, 8, reading.getFuelLevel());
+        setDouble(statement, 9, reading.getBatteryVoltage());
+        setDouble(statement, 10, reading.getTransmissionTemperature());
+        setDouble(statement, 11, reading.getBrakeFluidLevel());
+        setDouble(statement, 12, reading.getVibrationLevel());
+        if (reading.getMileage() != null) {
+            statement.setInt(13, reading.getMileage());
+        } else {
+            statement.setNull(13, Types.INTEGER);
+        }
+        setDouble(statement, 14, reading.getOverallHealthScore());
+        statement.setString(15, reading.getHealthStatus() != null ? reading.getHealthStatus().name() : null);
+        statement.setTimestamp(16, Timestamp.valueOf(reading.getLastUpdated()));
+    }
+
+    private static void setDouble(PreparedStatement statement, int index, Double value) throws SQLException {
+        if (value != null) {
+            statement.setDouble(index, value);
+        } else {
+            statement.setNull(index, Types.DOUBLE);
+        }
+    }
+}
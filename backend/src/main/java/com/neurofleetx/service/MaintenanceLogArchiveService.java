@@ -0,0 +1,456 @@
+package com.neurofleetx.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neurofleetx.dto.CursorPage;
+import com.neurofleetx.dto.MaintenanceLogSummary;
+import com.neurofleetx.model.MaintenanceLog;
+import com.neurofleetx.model.MaintenanceLogArchiveSegment;
+import com.neurofleetx.model.MaintenanceLogDailySummary;
+import com.neurofleetx.repository.MaintenanceLogArchiveSegmentRepository;
+import com.neurofleetx.repository.MaintenanceLogDailySummaryRepository;
+import com.neurofleetx.repository.MaintenanceLogRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Retention for maintenance_logs. A periodic job moves rows older than the retention period out of
+ * the table in bounded batches: each batch, all from one day, is written to a gzip NDJSON segment
+ * under that day's directory, then one short transaction adds it to the daily per-vehicle summaries,
+ * registers the segment and deletes the rows. Rows without a value or a known metric type are
+ * archived with the rest but left out of the summaries. Alerts that have not resolved stay in the
+ * table at any age, so the active-alert queries only ever see recent rows. Range listings merge the table with
+ * the segments that overlap the range.
+ */
+@Service
+public class MaintenanceLogArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MaintenanceLogArchiveService.class);
+
+    private static final String SELECT_EXPIRED =
+        "SELECT m.id, m.vehicle_id, v.vehicle_id, m.metric_type, m.metric_value, m.alert, m.alert_severity, " +
+        "m.alert_message, m.alert_status, m.last_seen_at, m.peak_value, m.occurrences, m.resolved_at, " +
+        "m.recorded_at, m.created_at FROM maintenance_logs m JOIN vehicles v ON v.id = m.vehicle_id " +
+        "WHERE m.recorded_at < ? AND (m.alert = FALSE OR m.alert_status = 'RESOLVED') " +
+        "ORDER BY m.recorded_at, m.id LIMIT ?";
+
+    private static final String UPDATE_SUMMARY =
+        "UPDATE maintenance_log_daily_summaries SET readings = readings + ?, alerts = alerts + ?, " +
+        "min_value = LEAST(min_value, ?), max_value = GREATEST(max_value, ?), sum_value = sum_value + ? " +
+        "WHERE vehicle_id = ? AND log_date = ? AND metric_type = ?";
+
+    private static final String INSERT_SUMMARY =
+        "INSERT INTO maintenance_log_daily_summaries (readings, alerts, min_value, max_value, sum_value, " +
+        "vehicle_id, log_date, metric_type) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SEGMENT =
+        "INSERT INTO maintenance_log_archive_segments (log_date, file_name, start_time, end_time, row_count, " +
+        "size_bytes, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DELETE_LOG = "DELETE FROM maintenance_logs WHERE id = ?";
+
+    private static final String SEGMENT_SUFFIX = ".ndjson.gz";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final Comparator<MaintenanceLogSummary> NEWEST_FIRST =
+        Comparator.comparing(MaintenanceLogSummary::getRecordedAt)
+                  .thenComparing(MaintenanceLogSummary::getId).reversed();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MaintenanceLogRepository maintenanceLogRepository;
+
+    @Autowired
+    private MaintenanceLogArchiveSegmentRepository segmentRepository;
+
+    @Autowired
+    private MaintenanceLogDailySummaryRepository summaryRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${neurofleetx.log-archive.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${neurofleetx.log-archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${neurofleetx.log-archive.max-batches-per-run:200}")
+    private int maxBatchesPerRun;
+
+    @Value("${neurofleetx.log-archive.directory:data/maintenance-log-archive}")
+    private String directory;
+
+    private Path root;
+
+    // A crash mid-write leaves a temp file behind. One between the rename and the commit leaves a
+    // segment that no row refers to; reads never see it and its rows are still in the table.
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(directory).toAbsolutePath();
+        Files.createDirectories(root);
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(TEMP_SUFFIX)).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /** Archives the rows past retention, at most max-batches-per-run batches; returns how many were moved. */
+    @Scheduled(fixedDelayString = "${neurofleetx.log-archive.interval-ms:3600000}",
+               initialDelayString = "${neurofleetx.log-archive.interval-ms:3600000}")
+    public synchronized int archive() {
+        long started = System.nanoTime();
+        // Whole days, so a day's rows are normally rolled up in one run
+        LocalDateTime cutoff = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int archived = 0;
+        int segments = 0;
+        while (segments < maxBatchesPerRun) {
+            List<ArchivedLog> batch = selectExpired(cutoff);
+            if (batch.isEmpty()) break;
+            archiveBatch(batch, transaction);
+            archived += batch.size();
+            segments++;
+        }
+        if (archived > 0) {
+            logger.info("Archived {} maintenance logs recorded before {} into {} segments in {} ms",
+                        archived, cutoff, segments, (System.nanoTime() - started) / 1_000_000);
+        }
+        return archived;
+    }
+
+    /**
+     * Rows recorded in [from, to], newest first, whether still in the table or archived.
+     * @throws IllegalArgumentException for a malformed cursor or a range that ends before it starts
+     */
+    public CursorPage<MaintenanceLogSummary> listBetween(LocalDateTime from, LocalDateTime to, String cursor,
+                                                         Integer limit, String vehicleId) {
+        if (from.isAfter(to)) throw new IllegalArgumentException("Range ends before it starts: " + from + " - " + to);
+        CursorPage.Cursor after = CursorPage.Cursor.decode(cursor);
+        int size = CursorPage.clampLimit(limit);
+        List<MaintenanceLogSummary> rows = new ArrayList<>(maintenanceLogRepository.findSummariesBetween(
+                vehicleId, from, to, after.getTimestamp(), after.getId(), PageRequest.of(0, size + 1)));
+
+        LocalDateTime upper = after.getTimestamp().isBefore(to) ? after.getTimestamp() : to;
+        for (MaintenanceLogArchiveSegment segment : segmentRepository.findOverlapping(from, upper)) {
+            // Segments come newest first, so once the page is full an older one cannot change it
+            if (rows.size() > size) {
+                trim(rows, size + 1);
+                if (segment.getEndTime().isBefore(rows.get(size).getRecordedAt())) break;
+            }
+            readSegment(segment, row -> {
+                LocalDateTime recordedAt = row.getRecordedAt();
+                if (recordedAt.isBefore(from) || recordedAt.isAfter(to)) return;
+                if (vehicleId != null && !vehicleId.equals(row.getVehicleId())) return;
+                if (recordedAt.isAfter(after.getTimestamp())
+                        || (recordedAt.isEqual(after.getTimestamp()) && row.getId() >= after.getId())) {
+                    return;
+                }
+                rows.add(row);
+            });
+        }
+        trim(rows, size + 1);
+        return CursorPage.of(rows, size, row -> new CursorPage.Cursor(row.getRecordedAt(), row.getId()));
+    }
+
+    /** One vehicle's per-day, per-metric rollups over [from, to], archived days and recent ones alike. */
+    public List<MaintenanceLogDailySummary> getDailySummaries(Long vehicleId, LocalDate from, LocalDate to) {
+        Map<String, MaintenanceLogDailySummary> merged = new LinkedHashMap<>();
+        for (MaintenanceLogDailySummary archived : summaryRepository.findByVehicleIdAndDayBetween(vehicleId, from, to)) {
+            // Copied, so adding recent rows never touches a managed entity
+            MaintenanceLogDailySummary summary = new MaintenanceLogDailySummary(vehicleId, archived.getDay(),
+                    archived.getMetricType(), archived.getReadings(), archived.getAlerts(), archived.getMinValue(),
+                    archived.getMaxValue(), archived.getSumValue());
+            summary.setId(archived.getId());
+            merged.put(summary.getDay() + "|" + summary.getMetricType(), summary);
+        }
+        // A day can be partly archived, so rows still in the table are added to its summary
+        for (Object[] row : maintenanceLogRepository.rollUpDaily(vehicleId, from.atStartOfDay(),
+                                                                  to.plusDays(1).atStartOfDay())) {
+            LocalDate day = (LocalDate) row[0];
+            MaintenanceLog.MetricType metric = (MaintenanceLog.MetricType) row[1];
+            long readings = ((Number) row[2]).longValue();
+            long alerts = ((Number) row[3]).longValue();
+            double min = ((Number) row[4]).doubleValue();
+            double max = ((Number) row[5]).doubleValue();
+            double sum = ((Number) row[6]).doubleValue();
+            MaintenanceLogDailySummary summary = merged.get(day + "|" + metric);
+            if (summary == null) {
+                merged.put(day + "|" + metric,
+                           new MaintenanceLogDailySummary(vehicleId, day, metric, readings, alerts, min, max, sum));
+            } else {
+                summary.setReadings(summary.getReadings() + readings);
+                summary.setAlerts(summary.getAlerts() + alerts);
+                summary.setMinValue(Math.min(summary.getMinValue(), min));
+                summary.setMaxValue(Math.max(summary.getMaxValue(), max));
+                summary.setSumValue(summary.getSumValue() + sum);
+            }
+        }
+        List<MaintenanceLogDailySummary> summaries = new ArrayList<>(merged.values());
+        summaries.sort(Comparator.comparing(MaintenanceLogDailySummary::getDay)
+                                 .thenComparing(MaintenanceLogDailySummary::getMetricType));
+        return summaries;
+    }
+
+    // The oldest expired rows, cut at the end of the first row's day so a segment holds a single day
+    private List<ArchivedLog> selectExpired(LocalDateTime cutoff) {
+        List<ArchivedLog> rows = jdbcTemplate.query(SELECT_EXPIRED, (resultSet, i) -> readRow(resultSet),
+                                                    Timestamp.valueOf(cutoff), batchSize);
+        if (rows.isEmpty()) return rows;
+        LocalDate day = rows.get(0).recordedAt.toLocalDate();
+        int end = rows.size();
+        while (!rows.get(end - 1).recordedAt.toLocalDate().equals(day)) end--;
+        return rows.subList(0, end);
+    }
+
+    private void archiveBatch(List<ArchivedLog> batch, TransactionTemplate transaction) {
+        ArchivedLog first = batch.get(0);
+        ArchivedLog last = batch.get(batch.size() - 1);
+        LocalDate day = first.recordedAt.toLocalDate();
+        // The write time keeps names unique across databases that restarted their ids
+        String fileName = day + "/maintenance-logs-" + first.id + "-" + System.currentTimeMillis() + SEGMENT_SUFFIX;
+        Path file = root.resolve(fileName);
+        long sizeBytes = writeSegment(file, batch);
+        try {
+            transaction.executeWithoutResult(status -> {
+                mergeSummaries(batch, day);
+                jdbcTemplate.update(INSERT_SEGMENT, Date.valueOf(day), fileName, Timestamp.valueOf(first.recordedAt),
+                                    Timestamp.valueOf(last.recordedAt), batch.size(), sizeBytes,
+                                    Timestamp.valueOf(LocalDateTime.now()));
+                jdbcTemplate.batchUpdate(DELETE_LOG, batch, batch.size(),
+                                         (statement, row) -> statement.setLong(1, row.id));
+            });
+        } catch (RuntimeException e) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+    }
+
+    // Adds the batch to its day's summaries, inserting the ones that do not exist yet
+    private void mergeSummaries(List<ArchivedLog> batch, LocalDate day) {
+        Map<String, MaintenanceLogDailySummary> rollups = new LinkedHashMap<>();
+        int unsummarized = 0;
+        for (ArchivedLog row : batch) {
+            MaintenanceLog.MetricType metric = metricType(row.metricType);
+            if (metric == null || row.value == null) {
+                unsummarized++;
+                continue;
+            }
+            double value = row.value;
+            MaintenanceLogDailySummary summary = rollups.computeIfAbsent(row.vehicleId + "|" + metric,
+                    key -> new MaintenanceLogDailySummary(row.vehicleId, day, metric, 0, 0, value, value, 0.0));
+            summary.setReadings(summary.getReadings() + 1);
+            if (row.alert) summary.setAlerts(summary.getAlerts() + 1);
+            summary.setMinValue(Math.min(summary.getMinValue(), value));
+            summary.setMaxValue(Math.max(summary.getMaxValue(), value));
+            summary.setSumValue(summary.getSumValue() + value);
+        }
+        if (unsummarized > 0) {
+            logger.warn("{} maintenance logs from {} have no value or a missing or unknown metric type; " +
+                        "archived without a daily summary", unsummarized, day);
+        }
+        if (rollups.isEmpty()) return;
+        List<MaintenanceLogDailySummary> summaries = new ArrayList<>(rollups.values());
+        int[][] updated = jdbcTemplate.batchUpdate(UPDATE_SUMMARY, summaries, summaries.size(), this::bindSummary);
+        List<MaintenanceLogDailySummary> missing = new ArrayList<>();
+        for (int i = 0; i < summaries.size(); i++) {
+            if (updated[0][i] == 0) missing.add(summaries.get(i));
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SUMMARY, missing, missing.size(), this::bindSummary);
+        }
+    }
+
+    private void bindSummary(PreparedStatement statement, MaintenanceLogDailySummary summary)
+            throws SQLException {
+        statement.setLong(1, summary.getReadings());
+        statement.setLong(2, summary.getAlerts());
+        statement.setDouble(3, summary.getMinValue());
+        statement.setDouble(4, summary.getMaxValue());
+        statement.setDouble(5, summary.getSumValue());
+        statement.setLong(6, summary.getVehicleId());
+        statement.setDate(7, Date.valueOf(summary.getDay()));
+        statement.setString(8, summary.getMetricType().name());
+    }
+
+    // Written to a temp file, synced and renamed, so a segment file is either complete or absent
+    private long writeSegment(Path file, List<ArchivedLog> batch) {
+        Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileOutputStream out = new FileOutputStream(temp.toFile())) {
+                GZIPOutputStream gzip = new GZIPOutputStream(new BufferedOutputStream(out, 65536));
+                JsonGenerator json = objectMapper.getFactory().createGenerator(gzip);
+                json.setRootValueSeparator(null);
+                for (ArchivedLog row : batch) {
+                    writeRow(json, row);
+                    json.writeRaw('\n');
+                }
+                json.flush();
+                gzip.finish();
+                gzip.flush();
+                out.getFD().sync();
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            return Files.size(file);
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw new UncheckedIOException("Could not write archive segment " + file, e);
+        }
+    }
+
+    private void readSegment(MaintenanceLogArchiveSegment segment, Consumer<MaintenanceLogSummary> rows) {
+        Path file = root.resolve(segment.getFileName());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file), 65536), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) rows.accept(toSummary(objectMapper.readTree(line)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read archive segment " + file, e);
+        }
+    }
+
+    private static void trim(List<MaintenanceLogSummary> rows, int size) {
+        rows.sort(NEWEST_FIRST);
+        if (rows.size() > size) rows.subList(size, rows.size()).clear();
+    }
+
+    private static ArchivedLog readRow(ResultSet resultSet) throws SQLException {
+        ArchivedLog row = new ArchivedLog();
+        row.id = resultSet.getLong(1);
+        row.vehicleId = resultSet.getLong(2);
+        row.vehicleCode = resultSet.getString(3);
+        row.metricType = resultSet.getString(4);
+        row.value = resultSet.getObject(5, Double.class);
+        row.alert = resultSet.getBoolean(6);
+        row.alertSeverity = resultSet.getString(7);
+        row.alertMessage = resultSet.getString(8);
+        row.alertStatus = resultSet.getString(9);
+        row.lastSeenAt = toLocalDateTime(resultSet.getTimestamp(10));
+        row.peakValue = resultSet.getObject(11, Double.class);
+        row.occurrences = resultSet.getObject(12, Integer.class);
+        row.resolvedAt = toLocalDateTime(resultSet.getTimestamp(13));
+        row.recordedAt = toLocalDateTime(resultSet.getTimestamp(14));
+        row.createdAt = toLocalDateTime(resultSet.getTimestamp(15));
+        return row;
+    }
+
+    // Every column of the row, so an archived row can be restored as it was
+    private static void writeRow(JsonGenerator json, ArchivedLog row) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("id", row.id);
+        json.writeNumberField("vehicleId", row.vehicleId);
+        json.writeStringField("vehicleCode", row.vehicleCode);
+        if (row.metricType != null) json.writeStringField("metricType", row.metricType);
+        if (row.value != null) json.writeNumberField("value", row.value);
+        json.writeBooleanField("alert", row.alert);
+        if (row.alertSeverity != null) json.writeStringField("alertSeverity", row.alertSeverity);
+        if (row.alertMessage != null) json.writeStringField("alertMessage", row.alertMessage);
+        if (row.alertStatus != null) json.writeStringField("alertStatus", row.alertStatus);
+        if (row.lastSeenAt != null) json.writeStringField("lastSeenAt", row.lastSeenAt.toString());
+        if (row.peakValue != null) json.writeNumberField("peakValue", row.peakValue);
+        if (row.occurrences != null) json.writeNumberField("occurrences", row.occurrences);
+        if (row.resolvedAt != null) json.writeStringField("resolvedAt", row.resolvedAt.toString());
+        json.writeStringField("recordedAt", row.recordedAt.toString());
+        if (row.createdAt != null) json.writeStringField("createdAt", row.createdAt.toString());
+        json.writeEndObject();
+    }
+
+    private static MaintenanceLogSummary toSummary(JsonNode row) {
+        JsonNode metric = row.get("metricType");
+        JsonNode value = row.get("value");
+        JsonNode severity = row.get("alertSeverity");
+        JsonNode message = row.get("alertMessage");
+        return new MaintenanceLogSummary(row.get("id").asLong(), row.get("vehicleCode").asText(null),
+                metricType(metric != null ? metric.asText() : null), value != null ? value.asDouble() : null,
+                row.get("alert").asBoolean(),
+                severity != null ? MaintenanceLog.AlertSeverity.valueOf(severity.asText()) : null,
+                message != null ? message.asText() : null, LocalDateTime.parse(row.get("recordedAt").asText()));
+    }
+
+    // Null for a missing or unknown name, e.g. a metric type since removed from the enum
+    private static MaintenanceLog.MetricType metricType(String name) {
+        if (name == null) return null;
+        try {
+            return MaintenanceLog.MetricType.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    // One maintenance_logs row as read for archiving
+    private static final class ArchivedLog {
+        long id;
+        long vehicleId;
+        String vehicleCode;
+        String metricType;
+        Double value;
+        boolean alert;
+        String alertSeverity;
+        String alertMessage;
+        String alertStatus;
+        LocalDateTime lastSeenAt;
+        Double peakValue;
+        Integer occurrences;
+        LocalDateTime resolvedAt;
+        LocalDateTime recordedAt;
+        LocalDateTime createdAt;
+    }
+}
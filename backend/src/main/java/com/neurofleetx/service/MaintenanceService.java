@@ -1,5 +1,8 @@
 package com.neurofleetx.service;
 
+import com.neurofleetx.dto.CursorPage;
+import com.neurofleetx.dto.HealthAnomaly;
+import com.neurofleetx.dto.MaintenanceLogSummary;
 import com.neurofleetx.model.MaintenanceLog;
 import com.neurofleetx.model.Vehicle;
 import com.neurofleetx.model.VehicleHealthMetrics;
@@ -7,8 +10,10 @@ import com.neurofleetx.repository.MaintenanceLogRepository;
 import com.neurofleetx.repository.VehicleHealthMetricsRepository;
 import com.neurofleetx.repository.VehicleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
@@ -25,6 +30,26 @@ public class MaintenanceService {
     @Autowired
     private VehicleRepository vehicleRepository;
 
+    @Autowired
+    private FleetHealthAggregate fleetHealthAggregate;
+
+    @Autowired
+    private AlertRuleEngine alertRuleEngine;
+
+    @Autowired
+    private HealthHistoryService healthHistoryService;
+
+    @Autowired
+    private HealthAnomalyDetector anomalyDetector;
+
+    @Autowired
+    private HealthForecastService healthForecastService;
+
+    @Autowired
+    private AlertLifecycleService alertLifecycle;
+
+    private static final MaintenanceLog.MetricType[] METRIC_TYPES = MaintenanceLog.MetricType.values();
+
     private final Random random = new Random();
 
     // Maintenance Log Operations
@@ -32,6 +57,16 @@ public class MaintenanceService {
         return maintenanceLogRepository.findAll();
     }
 
+    /** @throws IllegalArgumentException for a malformed cursor */
+    public CursorPage<MaintenanceLogSummary> listMaintenanceLogs(String cursor, Integer limit, String vehicleId,
+                                                                 Boolean alert, MaintenanceLog.AlertSeverity severity) {
+        CursorPage.Cursor after = CursorPage.Cursor.decode(cursor);
+        int size = CursorPage.clampLimit(limit);
+        List<MaintenanceLogSummary> rows = maintenanceLogRepository.findSummaries(vehicleId, alert, severity,
+                after.getTimestamp(), after.getId(), PageRequest.of(0, size + 1));
+        return CursorPage.of(rows, size, row -> new CursorPage.Cursor(row.getRecordedAt(), row.getId()));
+    }
+
     public List<MaintenanceLog> getMaintenanceLogsByVehicle(Long vehicleId) {
         return maintenanceLogRepository.findByVehicleIdOrderByRecordedAtDesc(vehicleId);
     }
@@ -47,7 +82,30 @@ public class MaintenanceService {
     public MaintenanceLog createMaintenanceLog(MaintenanceLog log) {
         // Check if alert should be triggered based on metric value
         checkAndTriggerAlert(log);
-        return maintenanceLogRepository.save(log);
+        if (log.getValue() != null) {
+            HealthAnomaly anomaly = anomalyDetector.observe(log.getVehicle(), log.getMetricType(), log.getValue());
+            if (anomaly != null && !log.getAlert()) HealthAnomalyDetector.applyTo(log, anomaly);
+        }
+        AlertLifecycleService.Changes changes = new AlertLifecycleService.Changes();
+        alertLifecycle.track(log, changes);
+        MaintenanceLog saved = log;
+        if (log.getAlert() && !changes.getOpened().contains(log)) {
+            // A repeat of an open condition: the open alert row absorbs it
+            saveTracked(List.of(), changes);
+            Long open = changes.getAbsorbedInto();
+            if (open != null) {
+                saved = maintenanceLogRepository.findWithVehicleById(open).orElse(log);
+                changes.applyAbsorbed(saved);
+            }
+        } else {
+            saveTracked(List.of(log), changes);
+        }
+        if (log.getVehicle() != null && log.getValue() != null) {
+            healthHistoryService.record(log.getVehicle().getId(), log.getMetricType(), log.getRecordedAt(),
+                                        log.getValue());
+            healthForecastService.markUpdated(log.getVehicle());
+        }
+        return saved;
     }
 
     // Vehicle Health Metrics Operations
@@ -71,7 +129,7 @@ public class MaintenanceService {
             // Generate maintenance logs for critical metrics
             generateMaintenanceLogsFromMetrics(metrics);
             
-            return healthMetricsRepository.save(metrics);
+            return saveMetrics(metrics);
         }
         throw new RuntimeException("Vehicle not found: " + vehicleId);
     }
@@ -86,7 +144,7 @@ public class MaintenanceService {
                     .orElse(new VehicleHealthMetrics(vehicle));
             
             // Simulate realistic metrics
-            simulateRealisticMetrics(metrics);
+            simulateRealisticMetrics(metrics, random);
             
             // Calculate health score and status
             calculateOverallHealthScore(metrics);
@@ -94,79 +152,32 @@ public class MaintenanceService {
             // Generate maintenance logs for any alerts
             generateMaintenanceLogsFromMetrics(metrics);
             
-            return healthMetricsRepository.save(metrics);
+            return saveMetrics(metrics);
         }
         throw new RuntimeException("Vehicle not found: " + vehicleId);
     }
 
-    public void simulateAllVehicleMetrics() {
-        List<Vehicle> vehicles = vehicleRepository.findAll();
-        for (Vehicle vehicle : vehicles) {
-            simulateVehicleHealthMetrics(vehicle.getId());
-        }
-    }
-
     public Double getAverageFleetHealthScore() {
         Double average = healthMetricsRepository.getAverageFleetHealthScore();
         return average != null ? average : 0.0;
     }
 
     public List<VehicleHealthMetrics> getVehiclesNeedingMaintenance() {
-        return healthMetricsRepository.findByOverallHealthScoreLessThan(70.0);
+        return healthMetricsRepository.findByOverallHealthScoreLessThan(FleetHealthAggregate.MAINTENANCE_SCORE_THRESHOLD);
     }
 
     // Private helper methods
     private void checkAndTriggerAlert(MaintenanceLog log) {
-        boolean alertTriggered = false;
-        String alertMessage = "";
-        MaintenanceLog.AlertSeverity severity = MaintenanceLog.AlertSeverity.LOW;
-
-        switch (log.getMetricType()) {
-            case ENGINE_TEMPERATURE:
-                if (log.getValue() > 100) {
-                    alertTriggered = true;
-                    severity = log.getValue() > 110 ? MaintenanceLog.AlertSeverity.CRITICAL : MaintenanceLog.AlertSeverity.HIGH;
-                    alertMessage = "Engine temperature critical: " + log.getValue() + "°C";
-                }
-                break;
-            case TIRE_PRESSURE:
-                if (log.getValue() < 30 || log.getValue() > 40) {
-                    alertTriggered = true;
-                    severity = log.getValue() < 25 ? MaintenanceLog.AlertSeverity.HIGH : MaintenanceLog.AlertSeverity.MEDIUM;
-                    alertMessage = "Tire pressure abnormal: " + log.getValue() + " PSI";
-                }
-                break;
-            case FUEL_LEVEL:
-                if (log.getValue() < 15) {
-                    alertTriggered = true;
-                    severity = log.getValue() < 5 ? MaintenanceLog.AlertSeverity.HIGH : MaintenanceLog.AlertSeverity.MEDIUM;
-                    alertMessage = "Low fuel level: " + log.getValue() + "%";
-                }
-                break;
-            case BATTERY_VOLTAGE:
-                if (log.getValue() < 12.0 || log.getValue() > 14.5) {
-                    alertTriggered = true;
-                    severity = log.getValue() < 11.5 ? MaintenanceLog.AlertSeverity.HIGH : MaintenanceLog.AlertSeverity.MEDIUM;
-                    alertMessage = "Battery voltage abnormal: " + log.getValue() + "V";
-                }
-                break;
-            case OIL_PRESSURE:
-                if (log.getValue() < 20) {
-                    alertTriggered = true;
-                    severity = log.getValue() < 10 ? MaintenanceLog.AlertSeverity.CRITICAL : MaintenanceLog.AlertSeverity.HIGH;
-                    alertMessage = "Low oil pressure: " + log.getValue() + " PSI";
-                }
-                break;
-        }
-
-        log.setAlert(alertTriggered);
-        if (alertTriggered) {
-            log.setAlertSeverity(severity);
-            log.setAlertMessage(alertMessage);
+        AlertRuleEngine.Rules rules = alertRuleEngine.getRules();
+        int rule = rules.match(rules.typeIndex(vehicleTypeOf(log.getVehicle())), log.getMetricType(), log.getValue());
+        log.setAlert(rule >= 0);
+        if (rule >= 0) {
+            log.setAlertSeverity(rules.severity(rule));
+            log.setAlertMessage(rules.message(rule, log.getMetricType(), log.getValue()));
         }
     }
 
-    private void simulateRealisticMetrics(VehicleHealthMetrics metrics) {
+    void simulateRealisticMetrics(VehicleHealthMetrics metrics, Random random) {
         // Engine metrics
         metrics.setEngineTemperature(85.0 + (random.nextGaussian() * 10)); // Normal: 85°C ± 10
         metrics.setOilPressure(30.0 + (random.nextGaussian() * 8)); // Normal: 30 PSI ± 8
@@ -191,43 +202,14 @@ public class MaintenanceService {
         metrics.setLastUpdated(LocalDateTime.now());
     }
 
-    private void calculateOverallHealthScore(VehicleHealthMetrics metrics) {
+    void calculateOverallHealthScore(VehicleHealthMetrics metrics) {
+        AlertRuleEngine.Rules rules = alertRuleEngine.getRules();
+        int type = rules.typeIndex(vehicleTypeOf(metrics.getVehicle()));
         double score = 100.0;
-        
-        // Engine temperature (0-20 points)
-        if (metrics.getEngineTemperature() != null) {
-            if (metrics.getEngineTemperature() > 100) score -= 20;
-            else if (metrics.getEngineTemperature() > 95) score -= 10;
-        }
-        
-        // Tire pressure (0-15 points)
-        double avgTirePressure = (metrics.getFrontLeftTirePressure() + metrics.getFrontRightTirePressure() + 
-                                 metrics.getRearLeftTirePressure() + metrics.getRearRightTirePressure()) / 4.0;
-        if (avgTirePressure < 30 || avgTirePressure > 40) score -= 15;
-        else if (avgTirePressure < 32 || avgTirePressure > 36) score -= 8;
-        
-        // Fuel level (0-10 points)
-        if (metrics.getFuelLevel() != null) {
-            if (metrics.getFuelLevel() < 10) score -= 10;
-            else if (metrics.getFuelLevel() < 20) score -= 5;
-        }
-        
-        // Battery voltage (0-15 points)
-        if (metrics.getBatteryVoltage() != null) {
-            if (metrics.getBatteryVoltage() < 12.0 || metrics.getBatteryVoltage() > 14.5) score -= 15;
-            else if (metrics.getBatteryVoltage() < 12.3 || metrics.getBatteryVoltage() > 13.5) score -= 8;
+        for (MaintenanceLog.MetricType metric : METRIC_TYPES) {
+            score -= rules.penalty(type, metric, metricValue(metrics, metric));
         }
         
-        // Oil pressure (0-20 points)
-        if (metrics.getOilPressure() != null) {
-            if (metrics.getOilPressure() < 15) score -= 20;
-            else if (metrics.getOilPressure() < 25) score -= 10;
-        }
-        
-        // Other factors (0-20 points)
-        if (metrics.getCoolantLevel() != null && metrics.getCoolantLevel() < 50) score -= 10;
-        if (metrics.getBrakeFluidLevel() != null && metrics.getBrakeFluidLevel() < 60) score -= 10;
-        
         score = Math.max(0, Math.min(100, score));
         metrics.setOverallHealthScore(score);
         
@@ -240,55 +222,108 @@ public class MaintenanceService {
     }
 
     private void generateMaintenanceLogsFromMetrics(VehicleHealthMetrics metrics) {
-        Vehicle vehicle = metrics.getVehicle();
-        
-        // Engine temperature log
-        if (metrics.getEngineTemperature() != null) {
-            MaintenanceLog tempLog = new MaintenanceLog(vehicle, MaintenanceLog.MetricType.ENGINE_TEMPERATURE, 
-                                                       metrics.getEngineTemperature());
-            checkAndTriggerAlert(tempLog);
-            if (tempLog.getAlert()) {
-                maintenanceLogRepository.save(tempLog);
+        AlertLifecycleService.Changes changes = new AlertLifecycleService.Changes();
+        trackAlerts(metrics, evaluateAlerts(metrics), changes);
+        saveTracked(changes.getOpened(), changes);
+    }
+
+    /**
+     * Unsaved alert logs for the metrics that are out of range or anomalous for the vehicle. Feeds
+     * the anomaly baselines, so call it once per reading.
+     */
+    List<MaintenanceLog> evaluateAlerts(VehicleHealthMetrics metrics) {
+        AlertRuleEngine.Rules rules = alertRuleEngine.getRules();
+        int type = rules.typeIndex(vehicleTypeOf(metrics.getVehicle()));
+        List<MaintenanceLog> alerts = new ArrayList<>();
+        double[] values = new double[METRIC_TYPES.length];
+        for (MaintenanceLog.MetricType metric : METRIC_TYPES) {
+            double value = metricValue(metrics, metric);
+            values[metric.ordinal()] = value;
+            int rule = rules.match(type, metric, value);
+            if (rule >= 0) {
+                MaintenanceLog alert = new MaintenanceLog(metrics.getVehicle(), metric, value);
+                alert.setAlert(true);
+                alert.setAlertSeverity(rules.severity(rule));
+                alert.setAlertMessage(rules.message(rule, metric, value));
+                alerts.add(alert);
             }
         }
-        
-        // Tire pressure logs
-        double avgTirePressure = (metrics.getFrontLeftTirePressure() + metrics.getFrontRightTirePressure() + 
-                                 metrics.getRearLeftTirePressure() + metrics.getRearRightTirePressure()) / 4.0;
-        MaintenanceLog tireLog = new MaintenanceLog(vehicle, MaintenanceLog.MetricType.TIRE_PRESSURE, avgTirePressure);
-        checkAndTriggerAlert(tireLog);
-        if (tireLog.getAlert()) {
-            maintenanceLogRepository.save(tireLog);
+        anomalyDetector.observe(metrics.getVehicle(), values, alerts);
+        return alerts;
+    }
+
+    // The reading a metrics row holds for one metric type; NaN when it was not reported
+    private static double metricValue(VehicleHealthMetrics metrics, MaintenanceLog.MetricType metric) {
+        switch (metric) {
+            case ENGINE_TEMPERATURE: return valueOf(metrics.getEngineTemperature());
+            case TIRE_PRESSURE:
+                if (metrics.getFrontLeftTirePressure() == null || metrics.getFrontRightTirePressure() == null
+                        || metrics.getRearLeftTirePressure() == null || metrics.getRearRightTirePressure() == null) {
+                    return Double.NaN;
+                }
+                return (metrics.getFrontLeftTirePressure() + metrics.getFrontRightTirePressure() + 
+                        metrics.getRearLeftTirePressure() + metrics.getRearRightTirePressure()) / 4.0;
+            case FUEL_LEVEL: return valueOf(metrics.getFuelLevel());
+            case BATTERY_VOLTAGE: return valueOf(metrics.getBatteryVoltage());
+            case OIL_PRESSURE: return valueOf(metrics.getOilPressure());
+            case BRAKE_FLUID: return valueOf(metrics.getBrakeFluidLevel());
+            case COOLANT_LEVEL: return valueOf(metrics.getCoolantLevel());
+            case TRANSMISSION_TEMP: return valueOf(metrics.getTransmissionTemperature());
+            case MILEAGE: return metrics.getMileage() != null ? metrics.getMileage() : Double.NaN;
+            case VIBRATION_LEVEL: return valueOf(metrics.getVibrationLevel());
+            default: return Double.NaN;
         }
-        
-        // Fuel level log
-        if (metrics.getFuelLevel() != null) {
-            MaintenanceLog fuelLog = new MaintenanceLog(vehicle, MaintenanceLog.MetricType.FUEL_LEVEL, 
-                                                       metrics.getFuelLevel());
-            checkAndTriggerAlert(fuelLog);
-            if (fuelLog.getAlert()) {
-                maintenanceLogRepository.save(fuelLog);
-            }
+    }
+
+    /**
+     * Runs a reading's alerts through the alert lifecycle, so a condition that persists keeps one
+     * row; the metrics the reading has decide which conditions it can clear.
+     */
+    void trackAlerts(VehicleHealthMetrics metrics, List<MaintenanceLog> alerts, AlertLifecycleService.Changes changes) {
+        double[] values = new double[METRIC_TYPES.length];
+        for (MaintenanceLog.MetricType metric : METRIC_TYPES) {
+            values[metric.ordinal()] = metricValue(metrics, metric);
         }
-        
-        // Battery voltage log
-        if (metrics.getBatteryVoltage() != null) {
-            MaintenanceLog batteryLog = new MaintenanceLog(vehicle, MaintenanceLog.MetricType.BATTERY_VOLTAGE, 
-                                                          metrics.getBatteryVoltage());
-            checkAndTriggerAlert(batteryLog);
-            if (batteryLog.getAlert()) {
-                maintenanceLogRepository.save(batteryLog);
-            }
+        alertLifecycle.track(metrics.getVehicle(), values, alerts, changes);
+    }
+
+    /** Appends the reading to the vehicle's metric history; call after the metrics are saved. */
+    void recordHistory(VehicleHealthMetrics metrics) {
+        if (metrics.getVehicle() == null) return;
+        double[] values = new double[METRIC_TYPES.length];
+        for (MaintenanceLog.MetricType metric : METRIC_TYPES) {
+            values[metric.ordinal()] = metricValue(metrics, metric);
         }
-        
-        // Oil pressure log
-        if (metrics.getOilPressure() != null) {
-            MaintenanceLog oilLog = new MaintenanceLog(vehicle, MaintenanceLog.MetricType.OIL_PRESSURE, 
-                                                      metrics.getOilPressure());
-            checkAndTriggerAlert(oilLog);
-            if (oilLog.getAlert()) {
-                maintenanceLogRepository.save(oilLog);
+        healthHistoryService.recordReadings(metrics.getVehicle().getId(), metrics.getLastUpdated(), values);
+        healthForecastService.markUpdated(metrics.getVehicle());
+    }
+
+    private static double valueOf(Double value) {
+        return value != null ? value : Double.NaN;
+    }
+
+    private static String vehicleTypeOf(Vehicle vehicle) {
+        return vehicle != null ? vehicle.getType() : null;
+    }
+
+    // Saves the logs and the alert state changes; the alert index is rebuilt from the table if either fails
+    private void saveTracked(List<MaintenanceLog> logs, AlertLifecycleService.Changes changes) {
+        try {
+            for (MaintenanceLog log : logs) {
+                maintenanceLogRepository.save(log);
             }
+            alertLifecycle.write(changes);
+        } catch (RuntimeException e) {
+            alertLifecycle.reload();
+            throw e;
         }
+        alertLifecycle.committed(changes);
+    }
+
+    private VehicleHealthMetrics saveMetrics(VehicleHealthMetrics metrics) {
+        VehicleHealthMetrics saved = healthMetricsRepository.save(metrics);
+        fleetHealthAggregate.recordMetrics(saved);
+        recordHistory(saved);
+        return saved;
     }
 }
\ No newline at end of file
@@ -0,0 +1,289 @@
+package com.neurofleetx.service;
+
+import com.neurofleetx.dto.OptimizationJobStatus;
+import com.neurofleetx.dto.OptimizationRequest;
+import com.neurofleetx.dto.OptimizationResult;
+import com.neurofleetx.model.Booking;
+import com.neurofleetx.model.User;
+import com.neurofleetx.optimization.SearchBudget;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
+
+@Service
+public class OptimizationJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimizationJobService.class);
+
+    public enum JobState {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+
+    @Autowired
+    private OptimizationService optimizationService;
+
+    @Autowired
+    private ThreadPoolExecutor optimizationJobExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${neurofleetx.optimization.jobs.result-ttl-ms:900000}")
+    private long resultTtlMs;
+
+    @Value("${neurofleetx.optimization.jobs.progress-interval-ms:250}")
+    private long progressIntervalMs;
+
+    @Value("${neurofleetx.optimization.jobs.sse-timeout-ms:300000}")
+    private long sseTimeoutMs;
+
+    private final Map<String, OptimizationJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Queues a run on the bounded job executor.
+     *
+     * @throws RejectedExecutionException when the executor's queue is full
+     */
+    public OptimizationJobStatus submit(OptimizationRequest request, String submittedBy) {
+        OptimizationJob job = new OptimizationJob("JOB-" + UUID.randomUUID(), submittedBy);
+        jobs.put(job.id, job);
+        try {
+            job.future = optimizationJobExecutor.submit(() -> run(job, request));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw e;
+        }
+        return job.toStatus();
+    }
+
+    public List<OptimizationJobStatus> getJobs() {
+        return jobs.values().stream()
+                .map(OptimizationJob::toStatus)
+                .sorted(Comparator.comparing(OptimizationJobStatus::getSubmittedAt).reversed())
+                .collect(Collectors.toList());
+    }
+
+    public Optional<OptimizationJobStatus> getStatus(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(OptimizationJob::toStatus);
+    }
+
+    public Optional<OptimizationResult> getResult(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(job -> job.result);
+    }
+
+    public Optional<OptimizationJobStatus> cancel(String jobId) {
+        OptimizationJob job = jobs.get(jobId);
+        if (job == null) return Optional.empty();
+        if (job.cancel()) {
+            Future<?> future = job.future;
+            if (future != null && future.cancel(false)) {
+                // Frees the queue slot of a job that never started
+                optimizationJobExecutor.purge();
+            }
+            if (job.isFinished()) {
+                // A running job publishes its own final event once the solver returns
+                publish(job, true);
+            }
+        }
+        return Optional.of(job.toStatus());
+    }
+
+    /** @throws JobNotFoundException when no job has that id, or it has been evicted */
+    public SseEmitter subscribe(String jobId) {
+        OptimizationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new JobNotFoundException(jobId);
+        }
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        job.emitters.add(emitter);
+        emitter.onCompletion(() -> job.emitters.remove(emitter));
+        emitter.onTimeout(() -> job.emitters.remove(emitter));
+        emitter.onError(error -> job.emitters.remove(emitter));
+        // Replay the current state; a job that already finished closes the stream right away
+        send(job, emitter, job.toStatus(), job.isFinished());
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${neurofleetx.optimization.jobs.eviction-interval-ms:60000}")
+    public void evictExpiredJobs() {
+        long cutoff = System.currentTimeMillis() - resultTtlMs;
+        jobs.values().removeIf(job -> job.isFinished() && job.finishedAtMillis < cutoff);
+    }
+
+    private void run(OptimizationJob job, OptimizationRequest request) {
+        if (!job.start(optimizationService.createBudget(request))) return; // cancelled while queued
+        publish(job, false);
+        Error error = null;
+        try {
+            // Only the reads hold a connection; the solve can run for the whole time budget
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            OptimizationService.Input input = transaction.execute(status -> {
+                OptimizationService.Input loaded = optimizationService.loadInput(request);
+                initializeAssociations(loaded);
+                return loaded;
+            });
+            OptimizationResult result = optimizationService.optimizeRouteAndLoad(request, input, job.budget,
+                    (progress, generation, bestFitness) -> onProgress(job, progress, generation, bestFitness));
+            job.complete(result);
+        } catch (Throwable e) {
+            // Errors too, or the job would stay RUNNING and its subscribers wait until they time out
+            logger.error("Optimization job {} failed: {}", job.id, e.getMessage(), e);
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            if (e instanceof Error) error = (Error) e;
+        }
+        publish(job, true);
+        if (error != null) throw error;
+    }
+
+    private void onProgress(OptimizationJob job, double progress, int generation, double bestFitness) {
+        job.progress = progress;
+        job.generation = generation;
+        job.bestFitness = bestFitness;
+        long now = System.currentTimeMillis();
+        if (now - job.lastPublishedMillis >= progressIntervalMs) {
+            job.lastPublishedMillis = now;
+            publish(job, false);
+        }
+    }
+
+    // The solve and its result outlive the persistence context, so lazy associations must be loaded before it closes
+    private void initializeAssociations(OptimizationService.Input input) {
+        for (Booking booking : input.getBookings()) {
+            initializeUser(booking.getCustomer());
+            initializeUser(booking.getDriver());
+            Hibernate.initialize(booking.getVehicle());
+        }
+    }
+
+    private void initializeUser(User user) {
+        if (user == null) return;
+        Hibernate.initialize(user);
+        Hibernate.initialize(user.getRoles());
+    }
+
+    private void publish(OptimizationJob job, boolean last) {
+        if (job.emitters.isEmpty()) return;
+        OptimizationJobStatus status = job.toStatus();
+        for (SseEmitter emitter : job.emitters) {
+            send(job, emitter, status, last);
+        }
+    }
+
+    private void send(OptimizationJob job, SseEmitter emitter, OptimizationJobStatus status, boolean last) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(last ? "finished" : "progress")
+                    .data(status));
+            if (last) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the solver must not be held up by it
+            job.emitters.remove(emitter);
+        }
+    }
+
+    public static class JobNotFoundException extends RuntimeException {
+        public JobNotFoundException(String jobId) {
+            super("Optimization job not found: " + jobId);
+        }
+    }
+
+    private static final class OptimizationJob {
+        private final String id;
+        private final String submittedBy;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private volatile Future<?> future;
+        private volatile SearchBudget budget;
+        private volatile JobState state = JobState.QUEUED;
+        private volatile double progress;
+        private volatile int generation;
+        private volatile double bestFitness = Double.NaN;
+        private volatile long lastPublishedMillis;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+        private volatile long finishedAtMillis;
+        private volatile OptimizationResult result;
+        private volatile String error;
+
+        OptimizationJob(String id, String submittedBy) {
+            this.id = id;
+            this.submittedBy = submittedBy;
+        }
+
+        synchronized boolean start(SearchBudget budget) {
+            if (state != JobState.QUEUED) return false;
+            this.budget = budget;
+            this.state = JobState.RUNNING;
+            this.startedAt = LocalDateTime.now();
+            return true;
+        }
+
+        synchronized boolean cancel() {
+            if (state == JobState.QUEUED) {
+                finish(JobState.CANCELLED);
+                return true;
+            }
+            if (state == JobState.RUNNING) {
+                // The solver stops at its next check and still returns its best plan so far
+                budget.cancel();
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void complete(OptimizationResult result) {
+            this.result = result;
+            this.progress = 1.0;
+            this.generation = result.getMetrics().getIterations();
+            this.bestFitness = result.getMetrics().getFitness();
+            finish(budget.isCancelled() ? JobState.CANCELLED : JobState.COMPLETED);
+        }
+
+        synchronized void fail(String error) {
+            this.error = error;
+            finish(JobState.FAILED);
+        }
+
+        private void finish(JobState finalState) {
+            this.completedAt = LocalDateTime.now();
+            this.finishedAtMillis = System.currentTimeMillis();
+            this.state = finalState;
+        }
+
+        boolean isFinished() {
+            return state != JobState.QUEUED && state != JobState.RUNNING;
+        }
+
+        OptimizationJobStatus toStatus() {
+            OptimizationJobStatus status = new OptimizationJobStatus(id, state.name());
+            status.setProgress(progress);
+            status.setGeneration(generation);
+            status.setBestFitness(Double.isNaN(bestFitness) ? null : bestFitness);
+            status.setSubmittedBy(submittedBy);
+            status.setSubmittedAt(submittedAt);
+            status.setStartedAt(startedAt);
+            status.setCompletedAt(completedAt);
+            status.setError(error);
+            return status;
+        }
+    }
+}
@@ -4,15 +4,38 @@ import com.neurofleetx.dto.OptimizationRequest;
 import com.neurofleetx.dto.OptimizationResult;
 import com.neurofleetx.model.Booking;
 import com.neurofleetx.model.Vehicle;
+import com.neurofleetx.optimization.CapacityConstrainedClusterer;
+import com.neurofleetx.optimization.ClusterPoints;
+import com.neurofleetx.optimization.DbscanClusterer;
+import com.neurofleetx.optimization.GeneticAlgorithmSettings;
+import com.neurofleetx.optimization.HungarianAssignment;
+import com.neurofleetx.optimization.IslandGeneticAlgorithm;
+import com.neurofleetx.optimization.KMeansClusterer;
+import com.neurofleetx.optimization.LoadPacker;
+import com.neurofleetx.optimization.OptimizationContext;
+import com.neurofleetx.optimization.PickupDeliveryRoute;
+import com.neurofleetx.optimization.ProgressListener;
+import com.neurofleetx.optimization.SearchBudget;
+import com.neurofleetx.optimization.SpatialClusterer;
+import com.neurofleetx.optimization.TourImprover;
 import com.neurofleetx.repository.BookingRepository;
 import com.neurofleetx.repository.VehicleRepository;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
 public class OptimizationService {
+
+    private static final double INFEASIBLE_MATCH_COST = 1e9;
     
     @Autowired
     private BookingRepository bookingRepository;
@@ -20,180 +43,353 @@ public class OptimizationService {
     @Autowired
     private VehicleRepository vehicleRepository;
 
+    @Autowired
+    private GeocodingService geocodingService;
+
+    @Autowired
+    private ForkJoinPool optimizationPool;
+
+    @Value("${neurofleetx.optimization.default-time-budget-ms:10000}")
+    private long defaultTimeBudgetMs;
+
+    @Value("${neurofleetx.optimization.ga.population-size:60}")
+    private int gaPopulationSize;
+
+    @Value("${neurofleetx.optimization.ga.generations:100}")
+    private int gaGenerations;
+
+    @Value("${neurofleetx.optimization.ga.stagnation-limit:200}")
+    private int gaStagnationLimit;
+
+    @Value("${neurofleetx.optimization.ga.islands:0}")
+    private int gaIslands;
+
+    @Value("${neurofleetx.optimization.ga.migration-interval:10}")
+    private int gaMigrationInterval;
+
+    @Value("${neurofleetx.optimization.ga.migration-size:2}")
+    private int gaMigrationSize;
+
+    @Value("${neurofleetx.optimization.ga.mutation-rate:0.02}")
+    private double gaMutationRate;
+
+    @Value("${neurofleetx.optimization.ga.crossover-rate:0.9}")
+    private double gaCrossoverRate;
+
+    @Value("${neurofleetx.optimization.local-search.neighbours:8}")
+    private int localSearchNeighbours;
+
+    @Value("${neurofleetx.optimization.local-search.max-moves:100000}")
+    private long localSearchMaxMoves;
+
+    @Value("${neurofleetx.optimization.local-search.time-limit-ms:200}")
+    private long localSearchTimeLimitMs;
+
+    @Value("${neurofleetx.optimization.booking-fetch-batch-size:1000}")
+    private int bookingFetchBatchSize;
+
+    @Value("${neurofleetx.optimization.load.strategy:BEST_FIT_DECREASING}")
+    private String loadPackingStrategy;
+
+    @Value("${neurofleetx.optimization.clustering.algorithm:DBSCAN}")
+    private String clusteringAlgorithm;
+
+    @Value("${neurofleetx.optimization.clustering.dbscan-epsilon-km:5.0}")
+    private double dbscanEpsilonKm;
+
+    @Value("${neurofleetx.optimization.clustering.dbscan-min-points:2}")
+    private int dbscanMinPoints;
+
+    @Value("${neurofleetx.optimization.clustering.kmeans-max-iterations:50}")
+    private int kmeansMaxIterations;
+
     private final Random random = new Random();
 
+    @PostConstruct
+    void validateSettings() {
+        // Used as a loop step: zero would never finish fetching
+        if (bookingFetchBatchSize < 1) {
+            throw new IllegalStateException(
+                    "neurofleetx.optimization.booking-fetch-batch-size must be positive: " + bookingFetchBatchSize);
+        }
+    }
+
     public OptimizationResult optimizeRouteAndLoad(OptimizationRequest request) {
-        List<Booking> bookings = getBookingsByIds(request.getBookingIds());
-        List<Vehicle> availableVehicles = getAvailableVehicles(request);
+        // Budget covers the whole request so dispatchers get a bounded response time
+        return optimizeRouteAndLoad(request, createBudget(request), null);
+    }
+
+    public SearchBudget createBudget(OptimizationRequest request) {
+        return SearchBudget.of(
+            request.getTimeBudgetMs() != null ? request.getTimeBudgetMs() : defaultTimeBudgetMs,
+            request.getTargetFitness());
+    }
+
+    public OptimizationResult optimizeRouteAndLoad(OptimizationRequest request, SearchBudget budget,
+                                                   ProgressListener progressListener) {
+        return optimizeRouteAndLoad(request, loadInput(request), budget, progressListener);
+    }
+
+    /** Reads the bookings and available vehicles a run plans for; solving them needs no database. */
+    public Input loadInput(OptimizationRequest request) {
+        return new Input(getBookingsByIds(request.getBookingIds()), getAvailableVehicles(request));
+    }
+
+    public OptimizationResult optimizeRouteAndLoad(OptimizationRequest request, Input input, SearchBudget budget,
+                                                   ProgressListener progressListener) {
+        List<Booking> bookings = input.getBookings();
+        List<Vehicle> availableVehicles = input.getVehicles();
+        OptimizationContext context = OptimizationContext.build(bookings, geocodingService::geocode);
+        
+        // Every randomized step derives from this seed, so a given seed reproduces the plan
+        long seed = request.getSeed() != null ? request.getSeed() : random.nextLong();
         
         String optimizationType = request.getOptimizationType() != null ? 
                                 request.getOptimizationType() : "COMBINED";
         
+        OptimizationResult result;
         switch (optimizationType.toUpperCase()) {
             case "ROUTE":
-                return optimizeRoutes(bookings, availableVehicles);
+                result = optimizeRoutes(context, bookings, availableVehicles, request, seed);
+                break;
             case "LOAD":
-                return optimizeLoad(bookings, availableVehicles);
+                result = optimizeLoad(context, availableVehicles);
+                break;
             case "COMBINED":
             default:
-                return optimizeCombined(bookings, availableVehicles);
+                result = optimizeCombined(context, bookings, availableVehicles, request, seed, budget, progressListener);
+                break;
         }
+        
+        OptimizationResult.OptimizationMetrics metrics = result.getMetrics();
+        if (metrics.getIterations() == null) {
+            // Single-pass heuristics
+            metrics.setIterations(1);
+            metrics.setStopReason("COMPLETED");
+        }
+        metrics.setFitness(calculateSolutionFitness(context, result.getAssignments()));
+        metrics.setElapsedMs(budget.elapsedMillis());
+        return result;
     }
 
-    private OptimizationResult optimizeRoutes(List<Booking> bookings, List<Vehicle> vehicles) {
-        List<OptimizationResult.VehicleAssignment> assignments = new ArrayList<>();
+    private OptimizationResult optimizeRoutes(OptimizationContext context, List<Booking> bookings, List<Vehicle> vehicles,
+                                              OptimizationRequest request, long seed) {
+        // Group bookings by proximity; no cluster outweighs the largest vehicle
+        List<int[]> clusters = createClusterer(context, request, vehicles, seed).cluster(ClusterPoints.of(context));
+        
+        // Phase 1: one global vehicle-to-cluster matching
+        int[] vehicleOfCluster = matchVehiclesToClusters(context, clusters, vehicles);
+        
+        // Phase 2: clusters are independent once matched, so their routes are built in parallel
+        List<Callable<OptimizationResult.VehicleAssignment>> tasks = new ArrayList<>();
+        for (int c = 0; c < clusters.size(); c++) {
+            if (vehicleOfCluster[c] == HungarianAssignment.UNMATCHED) continue;
+            int[] cluster = clusters.get(c);
+            Vehicle vehicle = vehicles.get(vehicleOfCluster[c]);
+            tasks.add(() -> buildClusterAssignment(context, vehicle, cluster));
+        }
         
-        // Group bookings by proximity using clustering algorithm
-        Map<String, List<Booking>> clusters = clusterBookingsByLocation(bookings);
-        
-        for (Map.Entry<String, List<Booking>> cluster : clusters.entrySet()) {
-            if (vehicles.isEmpty()) break;
-            
-            Vehicle bestVehicle = selectBestVehicleForCluster(cluster.getValue(), vehicles);
-            if (bestVehicle != null) {
-                vehicles.remove(bestVehicle);
-                
-                // Optimize route using modified Dijkstra algorithm
-                List<String> optimizedRoute = calculateOptimalRoute(cluster.getValue());
-                
-                OptimizationResult.VehicleAssignment assignment = 
-                    new OptimizationResult.VehicleAssignment(bestVehicle, cluster.getValue());
-                assignment.setOptimizedRoute(optimizedRoute);
-                assignment.setTotalDistance(calculateTotalDistance(optimizedRoute));
-                assignment.setTotalLoad(calculateTotalLoad(cluster.getValue()));
-                assignment.setUtilizationRate(calculateUtilization(bestVehicle, cluster.getValue()));
-                assignment.setEstimatedTime(calculateEstimatedTime(assignment.getTotalDistance()));
-                
-                assignments.add(assignment);
+        List<OptimizationResult.VehicleAssignment> assignments = new ArrayList<>(tasks.size());
+        try {
+            // invokeAll keeps task order, so the plan doesn't depend on thread scheduling
+            for (Future<OptimizationResult.VehicleAssignment> future : optimizationPool.invokeAll(tasks)) {
+                assignments.add(future.get());
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Route construction interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Route construction failed", e.getCause());
         }
         
         OptimizationResult.OptimizationMetrics metrics = calculateMetrics(assignments, "DIJKSTRA_ROUTE");
         return new OptimizationResult(assignments, metrics, "ROUTE");
     }
 
-    private OptimizationResult optimizeLoad(List<Booking> bookings, List<Vehicle> vehicles) {
+    private OptimizationResult.VehicleAssignment buildClusterAssignment(OptimizationContext context, Vehicle vehicle,
+                                                                        int[] cluster) {
+        List<Booking> clusterBookings = new ArrayList<>(cluster.length);
+        for (int booking : cluster) {
+            clusterBookings.add(context.getBookings().get(booking));
+        }
+        return buildAssignment(context, vehicle, clusterBookings);
+    }
+
+    private int[] matchVehiclesToClusters(OptimizationContext context, List<int[]> clusters, List<Vehicle> vehicles) {
+        double maxCapacity = vehicles.stream()
+                .mapToDouble(this::getVehicleCapacity)
+                .max()
+                .orElse(0.0);
+        double[][] cost = new double[clusters.size()][vehicles.size()];
+        for (int c = 0; c < clusters.size(); c++) {
+            double clusterLoad = 0.0;
+            for (int booking : clusters.get(c)) {
+                clusterLoad += context.loadWeight(booking);
+            }
+            for (int v = 0; v < vehicles.size(); v++) {
+                Vehicle vehicle = vehicles.get(v);
+                if (clusterLoad > getVehicleCapacity(vehicle)) {
+                    cost[c][v] = INFEASIBLE_MATCH_COST;
+                } else {
+                    // Both terms lie in [0, 1]: serve as much load as possible, then prefer better-suited vehicles
+                    cost[c][v] = -(clusterLoad / maxCapacity + calculateVehicleScore(vehicle, clusterLoad));
+                }
+            }
+        }
+        
+        int[] vehicleOfCluster = HungarianAssignment.solve(cost);
+        for (int c = 0; c < vehicleOfCluster.length; c++) {
+            // Forced pairings where the cluster doesn't fit are left unassigned
+            if (vehicleOfCluster[c] != HungarianAssignment.UNMATCHED
+                    && cost[c][vehicleOfCluster[c]] == INFEASIBLE_MATCH_COST) {
+                vehicleOfCluster[c] = HungarianAssignment.UNMATCHED;
+            }
+        }
+        return vehicleOfCluster;
+    }
+
+    private SpatialClusterer createClusterer(OptimizationContext context, OptimizationRequest request,
+                                             List<Vehicle> vehicles, long seed) {
+        double maxCapacity = vehicles.stream()
+                .mapToDouble(this::getVehicleCapacity)
+                .max()
+                .orElse(Double.MAX_VALUE);
+        String algorithm = request.getClusteringAlgorithm() != null ? 
+                          request.getClusteringAlgorithm() : clusteringAlgorithm;
+        
+        SpatialClusterer clusterer;
+        if ("KMEANS".equalsIgnoreCase(algorithm)) {
+            int clusterCount = request.getClusterCount() != null ? 
+                              request.getClusterCount() : defaultClusterCount(context, vehicles, maxCapacity);
+            clusterer = new KMeansClusterer(clusterCount, kmeansMaxIterations, seed);
+        } else {
+            clusterer = new DbscanClusterer(dbscanEpsilonKm, dbscanMinPoints);
+        }
+        return new CapacityConstrainedClusterer(clusterer, maxCapacity);
+    }
+
+    private int defaultClusterCount(OptimizationContext context, List<Vehicle> vehicles, double maxCapacity) {
+        // One cluster per vehicle, or more if the total load needs them
+        double totalLoad = 0.0;
+        for (int b = 0; b < context.bookingCount(); b++) {
+            totalLoad += context.loadWeight(b);
+        }
+        return (int) Math.max(vehicles.size(), Math.ceil(totalLoad / maxCapacity));
+    }
+
+    private OptimizationResult optimizeLoad(OptimizationContext context, List<Vehicle> vehicles) {
         List<OptimizationResult.VehicleAssignment> assignments = new ArrayList<>();
         
-        // Sort bookings by load weight (descending) for bin packing algorithm
-        bookings.sort((b1, b2) -> Double.compare(b2.getLoadWeight(), b1.getLoadWeight()));
+        double[] capacities = new double[vehicles.size()];
+        for (int v = 0; v < capacities.length; v++) {
+            capacities[v] = getVehicleCapacity(vehicles.get(v));
+        }
         
-        // Sort vehicles by capacity (descending)
-        vehicles.sort((v1, v2) -> {
-            Double cap1 = v1.getMaxLoadCapacity() != null ? v1.getMaxLoadCapacity() : 
-                         (v1.getCapacity() != null ? v1.getCapacity().doubleValue() : 0.0);
-            Double cap2 = v2.getMaxLoadCapacity() != null ? v2.getMaxLoadCapacity() : 
-                         (v2.getCapacity() != null ? v2.getCapacity().doubleValue() : 0.0);
-            return Double.compare(cap2, cap1);
-        });
+        // Decreasing-weight bin packing on primitive arrays; bookings and vehicles stay untouched
+        LoadPacker.Strategy strategy = LoadPacker.Strategy.valueOf(loadPackingStrategy.toUpperCase());
+        int[] packed = new int[context.bookingCount()];
+        new LoadPacker(context.loadWeights(), capacities).pack(strategy, packed);
         
-        // First Fit Decreasing algorithm for load optimization
-        for (Vehicle vehicle : vehicles) {
-            List<Booking> assignedBookings = new ArrayList<>();
-            Double vehicleCapacity = vehicle.getMaxLoadCapacity() != null ? 
-                                   vehicle.getMaxLoadCapacity() : 
-                                   (vehicle.getCapacity() != null ? vehicle.getCapacity().doubleValue() : 1000.0);
-            Double remainingCapacity = vehicleCapacity;
-            
-            Iterator<Booking> bookingIterator = bookings.iterator();
-            while (bookingIterator.hasNext()) {
-                Booking booking = bookingIterator.next();
-                if (booking.getLoadWeight() <= remainingCapacity) {
-                    assignedBookings.add(booking);
-                    remainingCapacity -= booking.getLoadWeight();
-                    bookingIterator.remove();
-                }
+        List<List<Booking>> bookingsByVehicle = new ArrayList<>(vehicles.size());
+        for (int v = 0; v < vehicles.size(); v++) {
+            bookingsByVehicle.add(new ArrayList<>());
+        }
+        for (int b = 0; b < packed.length; b++) {
+            if (packed[b] != LoadPacker.UNASSIGNED) {
+                bookingsByVehicle.get(packed[b]).add(context.getBookings().get(b));
             }
-            
-            if (!assignedBookings.isEmpty()) {
-                OptimizationResult.VehicleAssignment assignment = 
-                    new OptimizationResult.VehicleAssignment(vehicle, assignedBookings);
-                assignment.setTotalLoad(calculateTotalLoad(assignedBookings));
-                assignment.setUtilizationRate(calculateUtilization(vehicle, assignedBookings));
-                assignment.setTotalDistance(calculateTotalDistance(assignedBookings));
-                assignment.setEstimatedTime(calculateEstimatedTime(assignment.getTotalDistance()));
-                
-                assignments.add(assignment);
+        }
+        for (int v = 0; v < vehicles.size(); v++) {
+            if (!bookingsByVehicle.get(v).isEmpty()) {
+                assignments.add(buildAssignment(context, vehicles.get(v), bookingsByVehicle.get(v)));
             }
-            
-            if (bookings.isEmpty()) break;
         }
         
-        OptimizationResult.OptimizationMetrics metrics = calculateMetrics(assignments, "FIRST_FIT_DECREASING");
+        OptimizationResult.OptimizationMetrics metrics = calculateMetrics(assignments, strategy.name());
         return new OptimizationResult(assignments, metrics, "LOAD");
     }
 
-    private OptimizationResult optimizeCombined(List<Booking> bookings, List<Vehicle> vehicles) {
-        // Combined optimization using genetic algorithm approach
+    private OptimizationResult optimizeCombined(OptimizationContext context, List<Booking> bookings, List<Vehicle> vehicles,
+                                                OptimizationRequest request, long seed, SearchBudget budget,
+                                                ProgressListener progressListener) {
+        // Combined optimization using island-model genetic algorithm
         List<OptimizationResult.VehicleAssignment> assignments = new ArrayList<>();
         
-        // Create initial population of solutions
-        List<List<OptimizationResult.VehicleAssignment>> population = generateInitialPopulation(bookings, vehicles);
-        
-        // Evolve population for better solutions
-        for (int generation = 0; generation < 10; generation++) {
-            population = evolvePopulation(population, bookings, vehicles);
+        double[] capacities = new double[vehicles.size()];
+        for (int v = 0; v < capacities.length; v++) {
+            capacities[v] = getVehicleCapacity(vehicles.get(v));
         }
         
-        // Select best solution
-        assignments = selectBestSolution(population);
+        IslandGeneticAlgorithm geneticAlgorithm = new IslandGeneticAlgorithm(
+            context, capacities, buildGeneticAlgorithmSettings(request, seed), budget, optimizationPool);
+        geneticAlgorithm.setProgressListener(progressListener);
+        IslandGeneticAlgorithm.Result result = geneticAlgorithm.run();
+        int[] genes = result.getBest().getGenes();
         
-        OptimizationResult.OptimizationMetrics metrics = calculateMetrics(assignments, "GENETIC_ALGORITHM");
-        return new OptimizationResult(assignments, metrics, "COMBINED");
-    }
-
-    private Map<String, List<Booking>> clusterBookingsByLocation(List<Booking> bookings) {
-        Map<String, List<Booking>> clusters = new HashMap<>();
-        
-        // Simple clustering based on pickup location similarity
-        for (Booking booking : bookings) {
-            String clusterKey = getLocationCluster(booking.getPickupLocation());
-            clusters.computeIfAbsent(clusterKey, k -> new ArrayList<>()).add(booking);
+        // Decode the best chromosome into per-vehicle assignments
+        for (int v = 0; v < vehicles.size(); v++) {
+            List<Booking> assignedBookings = new ArrayList<>();
+            for (int b = 0; b < genes.length; b++) {
+                if (genes[b] == v) {
+                    assignedBookings.add(context.getBookings().get(b));
+                }
+            }
+            if (!assignedBookings.isEmpty()) {
+                assignments.add(buildAssignment(context, vehicles.get(v), assignedBookings));
+            }
         }
         
-        return clusters;
+        OptimizationResult.OptimizationMetrics metrics = calculateMetrics(assignments, "GENETIC_ALGORITHM");
+        metrics.setIterations(result.getGenerations());
+        metrics.setEvaluations(result.getEvaluations());
+        metrics.setStopReason(result.getStopReason().name());
+        return new OptimizationResult(assignments, metrics, "COMBINED");
     }
 
-    private String getLocationCluster(String location) {
-        // Simplified clustering - in real implementation would use geospatial clustering
-        if (location.toLowerCase().contains("delhi") || location.toLowerCase().contains("connaught")) {
-            return "DELHI_CENTRAL";
-        } else if (location.toLowerCase().contains("gurgaon") || location.toLowerCase().contains("cyber")) {
-            return "GURGAON";
-        } else if (location.toLowerCase().contains("noida") || location.toLowerCase().contains("greater")) {
-            return "NOIDA";
-        } else if (location.toLowerCase().contains("bangalore") || location.toLowerCase().contains("whitefield")) {
-            return "BANGALORE";
+    private GeneticAlgorithmSettings buildGeneticAlgorithmSettings(OptimizationRequest request, long seed) {
+        GeneticAlgorithmSettings settings = new GeneticAlgorithmSettings();
+        settings.setSeed(seed);
+        settings.setPopulationSize(gaPopulationSize);
+        if (request.getMaxGenerations() != null) {
+            settings.setGenerations(request.getMaxGenerations());
+        } else if (request.getTimeBudgetMs() != null) {
+            // Explicit budget: keep evolving until it expires, the target is hit or the search stagnates
+            settings.setGenerations(Integer.MAX_VALUE);
         } else {
-            return "OTHER";
+            settings.setGenerations(gaGenerations);
         }
+        settings.setStagnationLimit(gaStagnationLimit);
+        settings.setIslands(gaIslands > 0 ? gaIslands : optimizationPool.getParallelism());
+        settings.setMigrationInterval(gaMigrationInterval);
+        settings.setMigrationSize(gaMigrationSize);
+        settings.setMutationRate(gaMutationRate);
+        settings.setCrossoverRate(gaCrossoverRate);
+        return settings;
     }
 
-    private Vehicle selectBestVehicleForCluster(List<Booking> bookings, List<Vehicle> vehicles) {
-        if (vehicles.isEmpty()) return null;
-        
-        Vehicle bestVehicle = null;
-        double bestScore = -1;
-        
-        for (Vehicle vehicle : vehicles) {
-            double score = calculateVehicleScore(vehicle, bookings);
-            if (score > bestScore) {
-                bestScore = score;
-                bestVehicle = vehicle;
-            }
-        }
-        
-        return bestVehicle;
+    private OptimizationResult.VehicleAssignment buildAssignment(OptimizationContext context, Vehicle vehicle,
+                                                                 List<Booking> assignedBookings) {
+        PickupDeliveryRoute constructed = calculateOptimalRoute(context, assignedBookings, getVehicleCapacity(vehicle));
+        // Precedence-aware 2-opt / Or-opt improvement stage over the constructed route
+        PickupDeliveryRoute route = constructed.improve(createTourImprover());
+        
+        OptimizationResult.VehicleAssignment assignment = 
+            new OptimizationResult.VehicleAssignment(vehicle, assignedBookings);
+        assignment.setOptimizedRoute(toLocationNames(context, route));
+        assignment.setStops(toRouteStops(context, route));
+        assignment.setTotalLoad(calculateTotalLoad(assignedBookings));
+        assignment.setUtilizationRate(calculateUtilization(vehicle, assignedBookings));
+        assignment.setInitialDistance(constructed.length());
+        assignment.setTotalDistance(route.length());
+        assignment.setEstimatedTime(calculateEstimatedTime(assignment.getTotalDistance()));
+        return assignment;
     }
 
-    private double calculateVehicleScore(Vehicle vehicle, List<Booking> bookings) {
+    private double calculateVehicleScore(Vehicle vehicle, double totalLoad) {
         double score = 0.0;
         
         // Capacity score (40%)
-        Double vehicleCapacity = vehicle.getMaxLoadCapacity() != null ? 
-                               vehicle.getMaxLoadCapacity() : 
-                               (vehicle.getCapacity() != null ? vehicle.getCapacity().doubleValue() : 1000.0);
-        Double totalLoad = calculateTotalLoad(bookings);
+        double vehicleCapacity = getVehicleCapacity(vehicle);
         
         if (vehicleCapacity >= totalLoad) {
             score += 0.4 * (1.0 - (totalLoad / vehicleCapacity));
@@ -219,76 +415,40 @@ public class OptimizationService {
         return score;
     }
 
-    private List<String> calculateOptimalRoute(List<Booking> bookings) {
-        // Simplified TSP solution using nearest neighbor heuristic
-        List<String> route = new ArrayList<>();
-        Set<String> visited = new HashSet<>();
-        
-        if (bookings.isEmpty()) return route;
-        
-        // Start with first booking's pickup location
-        String currentLocation = bookings.get(0).getPickupLocation();
-        route.add(currentLocation);
-        visited.add(currentLocation);
-        
-        // Add all unique locations
-        Set<String> allLocations = new HashSet<>();
-        for (Booking booking : bookings) {
-            allLocations.add(booking.getPickupLocation());
-            allLocations.add(booking.getDeliveryLocation());
-        }
-        
-        // Nearest neighbor algorithm
-        while (visited.size() < allLocations.size()) {
-            String nearestLocation = findNearestLocation(currentLocation, allLocations, visited);
-            if (nearestLocation != null) {
-                route.add(nearestLocation);
-                visited.add(nearestLocation);
-                currentLocation = nearestLocation;
-            } else {
-                break;
-            }
-        }
-        
-        return route;
+    private TourImprover createTourImprover() {
+        return new TourImprover(localSearchNeighbours, localSearchMaxMoves,
+                TimeUnit.MILLISECONDS.toNanos(localSearchTimeLimitMs));
     }
 
-    private String findNearestLocation(String current, Set<String> allLocations, Set<String> visited) {
-        String nearest = null;
-        double minDistance = Double.MAX_VALUE;
-        
-        for (String location : allLocations) {
-            if (!visited.contains(location)) {
-                double distance = calculateDistance(current, location);
-                if (distance < minDistance) {
-                    minDistance = distance;
-                    nearest = location;
-                }
-            }
+    private PickupDeliveryRoute calculateOptimalRoute(OptimizationContext context, List<Booking> bookings,
+                                                      double capacity) {
+        // Cheapest feasible insertion: every pickup before its delivery, load within capacity at each stop
+        int[] indices = new int[bookings.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = context.indexOf(bookings.get(i));
         }
-        
-        return nearest;
-    }
-
-    private double calculateDistance(String location1, String location2) {
-        // Simplified distance calculation - in real implementation would use actual coordinates
-        return Math.abs(location1.hashCode() - location2.hashCode()) % 50 + 5;
+        return PickupDeliveryRoute.build(context, indices, 0, indices.length, capacity);
     }
 
-    private Double calculateTotalDistance(List<String> route) {
-        if (route.size() < 2) return 0.0;
-        
-        double totalDistance = 0.0;
-        for (int i = 0; i < route.size() - 1; i++) {
-            totalDistance += calculateDistance(route.get(i), route.get(i + 1));
+    private List<String> toLocationNames(OptimizationContext context, PickupDeliveryRoute route) {
+        List<String> names = new ArrayList<>(route.size());
+        for (int i = 0; i < route.size(); i++) {
+            names.add(context.locationName(route.node(i)));
         }
-        return totalDistance;
+        return names;
     }
 
-    private Double calculateTotalDistance(List<Booking> bookings) {
-        return bookings.stream()
-                .mapToDouble(Booking::getDistance)
-                .sum();
+    private List<OptimizationResult.RouteStop> toRouteStops(OptimizationContext context, PickupDeliveryRoute route) {
+        double[] loads = route.loadProfile();
+        List<OptimizationResult.RouteStop> stops = new ArrayList<>(route.size());
+        for (int i = 0; i < route.size(); i++) {
+            int stop = route.getStops()[i];
+            Booking booking = context.getBookings().get(PickupDeliveryRoute.bookingOf(stop));
+            stops.add(new OptimizationResult.RouteStop(booking.getBookingId(),
+                    PickupDeliveryRoute.isPickup(stop) ? "PICKUP" : "DELIVERY",
+                    context.locationName(route.node(i)), loads[i]));
+        }
+        return stops;
     }
 
     private Double calculateTotalLoad(List<Booking> bookings) {
@@ -297,6 +457,12 @@ public class OptimizationService {
                 .sum();
     }
 
+    private double getVehicleCapacity(Vehicle vehicle) {
+        return vehicle.getMaxLoadCapacity() != null ? 
+               vehicle.getMaxLoadCapacity() : 
+               (vehicle.getCapacity() != null ? vehicle.getCapacity().doubleValue() : 1000.0);
+    }
+
     private Double calculateUtilization(Vehicle vehicle, List<Booking> bookings) {
         Double vehicleCapacity = vehicle.getMaxLoadCapacity() != null ? 
                                vehicle.getMaxLoadCapacity() : 
@@ -310,45 +476,8 @@ public class OptimizationService {
         return (int) Math.ceil(distance / 40.0 * 60); // Convert to minutes
     }
 
-    private List<List<OptimizationResult.VehicleAssignment>> generateInitialPopulation(
-            List<Booking> bookings, List<Vehicle> vehicles) {
-        List<List<OptimizationResult.VehicleAssignment>> population = new ArrayList<>();
-        
-        // Generate 5 different initial solutions
-        for (int i = 0; i < 5; i++) {
-            List<Booking> shuffledBookings = new ArrayList<>(bookings);
-            Collections.shuffle(shuffledBookings);
-            
-            OptimizationResult routeResult = optimizeLoad(shuffledBookings, new ArrayList<>(vehicles));
-            population.add(routeResult.getAssignments());
-        }
-        
-        return population;
-    }
-
-    private List<List<OptimizationResult.VehicleAssignment>> evolvePopulation(
-            List<List<OptimizationResult.VehicleAssignment>> population, 
-            List<Booking> bookings, List<Vehicle> vehicles) {
-        // Simple evolution - keep best solutions and generate new ones
-        population.sort((s1, s2) -> Double.compare(calculateSolutionFitness(s2), calculateSolutionFitness(s1)));
-        
-        // Keep top 3 solutions
-        List<List<OptimizationResult.VehicleAssignment>> newPopulation = 
-            new ArrayList<>(population.subList(0, Math.min(3, population.size())));
-        
-        // Generate 2 new solutions
-        while (newPopulation.size() < 5) {
-            List<Booking> shuffledBookings = new ArrayList<>(bookings);
-            Collections.shuffle(shuffledBookings);
-            OptimizationResult result = optimizeLoad(shuffledBookings, new ArrayList<>(vehicles));
-            newPopulation.add(result.getAssignments());
-        }
-        
-        return newPopulation;
-    }
-
-    private double calculateSolutionFitness(List<OptimizationResult.VehicleAssignment> solution) {
-        double totalUtilization = solution.stream()
+    private double calculateSolutionFitness(OptimizationContext context, List<OptimizationResult.VehicleAssignment> solution) {
+        double averageUtilization = solution.stream()
                 .mapToDouble(OptimizationResult.VehicleAssignment::getUtilizationRate)
                 .average()
                 .orElse(0.0);
@@ -357,15 +486,12 @@ public class OptimizationService {
                 .mapToDouble(OptimizationResult.VehicleAssignment::getTotalDistance)
                 .sum();
         
-        // Fitness = high utilization, low distance
-        return totalUtilization - (totalDistance / 100.0);
-    }
-
-    private List<OptimizationResult.VehicleAssignment> selectBestSolution(
-            List<List<OptimizationResult.VehicleAssignment>> population) {
-        return population.stream()
-                .max((s1, s2) -> Double.compare(calculateSolutionFitness(s1), calculateSolutionFitness(s2)))
-                .orElse(new ArrayList<>());
+        int assigned = solution.stream()
+                .mapToInt(assignment -> assignment.getAssignedBookings().size())
+                .sum();
+        
+        return IslandGeneticAlgorithm.fitness(averageUtilization, totalDistance)
+                - (context.bookingCount() - assigned) * IslandGeneticAlgorithm.UNASSIGNED_PENALTY;
     }
 
     private OptimizationResult.OptimizationMetrics calculateMetrics(
@@ -381,10 +507,18 @@ public class OptimizationService {
                 .average()
                 .orElse(0.0);
         
+        double initialDistance = assignments.stream()
+                .mapToDouble(OptimizationResult.VehicleAssignment::getInitialDistance)
+                .sum();
+        double savedDistance = initialDistance - totalDistance;
+        double improvementPercent = initialDistance > 0 ? savedDistance / initialDistance * 100 : 0.0;
+        
         metrics.setTotalDistance(totalDistance);
-        metrics.setFuelSavings(totalDistance * 0.15); // 15% fuel savings
-        metrics.setTimeSavings((int) (totalDistance * 0.2)); // 20% time savings
-        metrics.setCostReduction(totalDistance * 12.5); // ₹12.5 per km saved
+        metrics.setInitialDistance(initialDistance);
+        metrics.setImprovementPercent(improvementPercent);
+        metrics.setFuelSavings(improvementPercent); // fuel scales with distance driven
+        metrics.setTimeSavings((int) Math.round(savedDistance / 40.0 * 60)); // minutes at 40 km/h
+        metrics.setCostReduction(savedDistance * 12.5); // ₹12.5 per km saved
         metrics.setAverageUtilization(averageUtilization);
         metrics.setVehiclesUsed(assignments.size());
         metrics.setAlgorithm(algorithm);
@@ -393,11 +527,25 @@ public class OptimizationService {
     }
 
     private List<Booking> getBookingsByIds(List<String> bookingIds) {
-        return bookingIds.stream()
-                .map(bookingRepository::findByBookingId)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
+        // One query per chunk instead of one per booking; chunks keep IN lists within database limits
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(bookingIds));
+        Map<String, Booking> bookingsById = new HashMap<>(distinctIds.size() * 2);
+        for (int from = 0; from < distinctIds.size(); from += bookingFetchBatchSize) {
+            List<String> chunk = distinctIds.subList(from, Math.min(from + bookingFetchBatchSize, distinctIds.size()));
+            for (Booking booking : bookingRepository.findByBookingIdIn(chunk)) {
+                bookingsById.put(booking.getBookingId(), booking);
+            }
+        }
+        
+        // Keep the request order; unknown ids are skipped
+        List<Booking> bookings = new ArrayList<>(bookingsById.size());
+        for (String bookingId : distinctIds) {
+            Booking booking = bookingsById.get(bookingId);
+            if (booking != null) {
+                bookings.add(booking);
+            }
+        }
+        return bookings;
     }
 
     private List<Vehicle> getAvailableVehicles(OptimizationRequest request) {
@@ -419,4 +567,18 @@ public class OptimizationService {
         
         return vehicles;
     }
-}
\ No newline at end of file
+
+    /** What {@link #loadInput} read for one run. */
+    public static final class Input {
+        private final List<Booking> bookings;
+        private final List<Vehicle> vehicles;
+
+        Input(List<Booking> bookings, List<Vehicle> vehicles) {
+            this.bookings = bookings;
+            this.vehicles = vehicles;
+        }
+
+        public List<Booking> getBookings() { return bookings; }
+        public List<Vehicle> getVehicles() { return vehicles; }
+    }
+}
@@ -1,8 +1,11 @@
 package com.neurofleetx.service;
 
+import com.neurofleetx.dto.CursorPage;
+import com.neurofleetx.dto.RouteSummary;
 import com.neurofleetx.model.Route;
 import com.neurofleetx.repository.RouteRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +23,15 @@ public class RouteService {
         return routeRepository.findAll();
     }
 
+    /** @throws IllegalArgumentException for a malformed cursor */
+    public CursorPage<RouteSummary> listRoutes(String cursor, Integer limit, Route.RouteStatus status) {
+        CursorPage.Cursor after = CursorPage.Cursor.decode(cursor);
+        int size = CursorPage.clampLimit(limit);
+        List<RouteSummary> rows = routeRepository.findSummaries(status, after.getTimestamp(), after.getId(),
+                PageRequest.of(0, size + 1));
+        return CursorPage.of(rows, size, row -> new CursorPage.Cursor(row.getCreatedAt(), row.getId()));
+    }
+
     public List<Route> getActiveRoutes() {
         return routeRepository.findActiveRoutes();
     }
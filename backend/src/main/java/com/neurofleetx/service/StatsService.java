@@ -0,0 +1,166 @@
+package com.neurofleetx.service;
+
+import com.neurofleetx.dto.FleetStats;
+import com.neurofleetx.model.Booking;
+import com.neurofleetx.model.Route;
+import com.neurofleetx.model.Trip;
+import com.neurofleetx.model.Vehicle;
+import com.neurofleetx.repository.BookingRepository;
+import com.neurofleetx.repository.RouteRepository;
+import com.neurofleetx.repository.TripRepository;
+import com.neurofleetx.repository.VehicleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Dashboard figures from one grouped aggregate query per table. The result is kept for a short
+ * time; callers arriving while it is being computed wait for that computation instead of
+ * starting their own.
+ */
+@Service
+public class StatsService {
+
+    private static final int LOW_BATTERY_LEVEL = 30; // percent, as flagged on the maintenance status card
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private RouteRepository routeRepository;
+
+    @Autowired
+    private TripRepository tripRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Value("${neurofleetx.stats.cache-ttl-ms:5000}")
+    private long cacheTtlMs;
+
+    private final AtomicReference<Entry> cached = new AtomicReference<>();
+
+    public FleetStats getFleetStats() {
+        while (true) {
+            Entry current = cached.get();
+            if (current != null && !current.isExpired()) return current.join();
+            Entry next = new Entry();
+            if (!cached.compareAndSet(current, next)) continue; // another caller is computing
+            try {
+                FleetStats stats = compute();
+                next.expiresAt = System.currentTimeMillis() + cacheTtlMs;
+                next.result.complete(stats);
+                return stats;
+            } catch (RuntimeException e) {
+                // Waiting callers see the failure; the next call tries again
+                cached.compareAndSet(next, null);
+                next.result.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    private FleetStats compute() {
+        FleetStats stats = new FleetStats();
+        LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+
+        long lowBattery = 0;
+        long offlineWithBattery = 0;
+        for (Object[] row : vehicleRepository.countGroupedByStatus(LOW_BATTERY_LEVEL)) {
+            Vehicle.VehicleStatus status = (Vehicle.VehicleStatus) row[0];
+            long count = longOf(row[1]);
+            long low = longOf(row[2]);
+            if (status == null) continue;
+            stats.getVehiclesByStatus().put(status, count);
+            stats.setTotalVehicles(stats.getTotalVehicles() + count);
+            if (status == Vehicle.VehicleStatus.MAINTENANCE) continue;
+            lowBattery += low;
+            if (status == Vehicle.VehicleStatus.OFFLINE) offlineWithBattery = count - low;
+        }
+        stats.setActiveVehicles(stats.vehicleCount(Vehicle.VehicleStatus.EN_ROUTE)
+                + stats.vehicleCount(Vehicle.VehicleStatus.LOADING));
+        stats.setMaintenanceDueVehicles(lowBattery + offlineWithBattery);
+        stats.setHealthyVehicles(stats.getTotalVehicles() - stats.getMaintenanceDueVehicles()
+                - stats.vehicleCount(Vehicle.VehicleStatus.MAINTENANCE));
+        stats.setFleetUtilization(percent(stats.getActiveVehicles(), stats.getTotalVehicles()));
+
+        double savings = 0;
+        long routesWithSavings = 0;
+        double fuelDistance = 0;
+        double fuel = 0;
+        for (Object[] row : routeRepository.summarizeGroupedByStatus()) {
+            Route.RouteStatus status = (Route.RouteStatus) row[0];
+            long count = longOf(row[1]);
+            if (status != null) stats.getRoutesByStatus().put(status, count);
+            stats.setTotalRoutes(stats.getTotalRoutes() + count);
+            savings += doubleOf(row[2]);
+            routesWithSavings += longOf(row[3]);
+            fuelDistance += doubleOf(row[4]);
+            fuel += doubleOf(row[5]);
+        }
+        stats.setAverageOptimization(routesWithSavings > 0 ? savings / routesWithSavings : 0.0);
+        stats.setFuelEfficiency(fuel > 0 ? round(fuelDistance / fuel) : null);
+
+        for (Object[] row : tripRepository.summarizeGroupedByStatusSince(monthStart)) {
+            Trip.TripStatus status = (Trip.TripStatus) row[0];
+            if (status == null) continue;
+            stats.getMonthlyTripsByStatus().put(status, longOf(row[1]));
+            if (status == Trip.TripStatus.CANCELLED) continue;
+            stats.setMonthlyCosts(stats.getMonthlyCosts() + doubleOf(row[2]));
+            stats.setMonthlyDistance(stats.getMonthlyDistance() + doubleOf(row[3]));
+        }
+
+        for (Object[] row : bookingRepository.summarizeGroupedByStatusSince(monthStart)) {
+            Booking.BookingStatus status = (Booking.BookingStatus) row[0];
+            if (status == null) continue;
+            stats.getMonthlyBookingsByStatus().put(status, longOf(row[1]));
+            if (status != Booking.BookingStatus.CANCELLED) {
+                stats.setMonthlyRevenue(stats.getMonthlyRevenue() + doubleOf(row[2]));
+            }
+        }
+
+        stats.setMonthlyRevenue(round(stats.getMonthlyRevenue()));
+        stats.setMonthlyCosts(round(stats.getMonthlyCosts()));
+        stats.setMonthlyDistance(round(stats.getMonthlyDistance()));
+        stats.setComputedAt(LocalDateTime.now());
+        return stats;
+    }
+
+    private static long longOf(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    private static double doubleOf(Object value) {
+        return value != null ? ((Number) value).doubleValue() : 0.0;
+    }
+
+    private static double percent(long part, long whole) {
+        return whole > 0 ? round(100.0 * part / whole) : 0.0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<FleetStats> result = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE; // until the computation finishes
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+
+        FleetStats join() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package com.neurofleetx.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neurofleetx.dto.TelemetryBatchResult;
+import com.neurofleetx.dto.VehiclePosition;
+import com.neurofleetx.repository.VehicleRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Write-behind ingestion of vehicle position pings. Each vehicle keeps only its newest ping,
+ * swapped in with a compare-and-set, so bursts from the same vehicle coalesce into one row update
+ * and pings older than the newest one seen are dropped. Changed vehicles are written to the
+ * vehicles table in JDBC batches on a fixed delay; bulk uploads also flush before they return.
+ * Flushes run one at a time, and a row never moves back to an older ping than it holds. Pings
+ * dated further ahead of the server clock than the allowed skew are rejected.
+ */
+@Service
+public class TelemetryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelemetryService.class);
+
+    private static final String UPDATE_POSITION =
+        "UPDATE vehicles SET latitude = ?, longitude = ?, current_location = COALESCE(?, current_location), " +
+        "speed = COALESCE(?, speed), last_updated = ? WHERE vehicle_id = ? " +
+        "AND (last_updated IS NULL OR last_updated <= ?)";
+
+    private static final int VEHICLE_LOOKUP_CHUNK = 1000;
+
+    public enum IngestResult { ACCEPTED, STALE, UNKNOWN_VEHICLE, FUTURE_TIMESTAMP }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private FleetStateService fleetStateService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${neurofleetx.telemetry.batch-size:500}")
+    private int batchSize;
+
+    @Value("${neurofleetx.telemetry.max-batch-records:10000}")
+    private int maxBatchRecords;
+
+    // How far ahead of the server clock a device timestamp may be before the ping is rejected
+    @Value("${neurofleetx.telemetry.max-clock-skew-ms:30000}")
+    private long maxClockSkewMs;
+
+    // Newest accepted ping per vehicle; entries stay after flushing so late pings are still recognized as stale
+    private final ConcurrentHashMap<String, AtomicReference<VehiclePosition>> latest = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    private final Set<String> knownVehicles = ConcurrentHashMap.newKeySet();
+    // Held for a whole flush, so a ping taken from dirty is written before any later one is taken
+    private final Object flushLock = new Object();
+
+    public IngestResult ingest(VehiclePosition position) {
+        if (!isKnownVehicle(position.getVehicleId())) {
+            return IngestResult.UNKNOWN_VEHICLE;
+        }
+        return offer(position);
+    }
+
+    /** Ingests many positions with one existence query for the vehicles not seen before. */
+    public List<IngestResult> ingestAll(List<VehiclePosition> positions) {
+        Set<String> unseen = new HashSet<>();
+        for (VehiclePosition position : positions) {
+            if (position.getVehicleId() != null && !knownVehicles.contains(position.getVehicleId())) {
+                unseen.add(position.getVehicleId());
+            }
+        }
+        List<String> lookup = new ArrayList<>(unseen);
+        for (int from = 0; from < lookup.size(); from += VEHICLE_LOOKUP_CHUNK) {
+            knownVehicles.addAll(vehicleRepository.findExistingVehicleIds(
+                    lookup.subList(from, Math.min(from + VEHICLE_LOOKUP_CHUNK, lookup.size()))));
+        }
+
+        List<IngestResult> results = new ArrayList<>(positions.size());
+        for (VehiclePosition position : positions) {
+            boolean known = position.getVehicleId() != null && knownVehicles.contains(position.getVehicleId());
+            results.add(known ? offer(position) : IngestResult.UNKNOWN_VEHICLE);
+        }
+        return results;
+    }
+
+    /**
+     * Reads a JSON array or NDJSON stream of positions token by token, validates every record,
+     * ingests the valid ones together and writes them before returning. A malformed record is
+     * reported and skipped; a syntax error ends the batch, keeping the records read before it.
+     */
+    public TelemetryBatchResult ingestBatch(InputStream body) throws IOException {
+        TelemetryBatchResult batch = new TelemetryBatchResult();
+        List<TelemetryBatchResult.RecordResult> records = new ArrayList<>();
+        List<VehiclePosition> valid = new ArrayList<>();
+        List<TelemetryBatchResult.RecordResult> validRecords = new ArrayList<>();
+        int index = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                token = parser.nextToken();
+            }
+            // NDJSON needs no special casing: the parser reads consecutive root-level objects
+            while (token != null && token != JsonToken.END_ARRAY) {
+                if (index >= maxBatchRecords) {
+                    batch.setError("Batch exceeds " + maxBatchRecords + " records");
+                    break;
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    batch.setError("Record " + index + " is not a JSON object");
+                    break;
+                }
+                List<String> problems = new ArrayList<>();
+                VehiclePosition position = readPosition(parser, problems);
+                validate(position, problems);
+                TelemetryBatchResult.RecordResult record =
+                    new TelemetryBatchResult.RecordResult(index, position.getVehicleId(), "INVALID", null);
+                if (problems.isEmpty()) {
+                    valid.add(position);
+                    validRecords.add(record);
+                } else {
+                    record.setMessage(String.join("; ", problems));
+                }
+                records.add(record);
+                index++;
+                token = parser.nextToken();
+            }
+        } catch (JsonProcessingException e) {
+            batch.setError("Malformed JSON at record " + index + ": " + e.getOriginalMessage());
+        }
+
+        List<IngestResult> results = ingestAll(valid);
+        for (int i = 0; i < results.size(); i++) {
+            validRecords.get(i).setStatus(results.get(i).name());
+        }
+        for (TelemetryBatchResult.RecordResult record : records) {
+            batch.add(record);
+        }
+        // Gateways get an acknowledgement only once their positions are stored
+        if (!flushPending()) {
+            batch.setStored(false);
+            batch.setError("Positions were accepted but could not be stored; resend the batch");
+        }
+        return batch;
+    }
+
+    /** Newest accepted position, flushed or not. */
+    public VehiclePosition getLatestPosition(String vehicleId) {
+        AtomicReference<VehiclePosition> slot = latest.get(vehicleId);
+        return slot != null ? slot.get() : null;
+    }
+
+    /** Forgets a deleted vehicle: its pending ping is dropped and later pings are checked against the table again. */
+    public void evict(String vehicleId) {
+        if (vehicleId == null) return;
+        synchronized (flushLock) {
+            knownVehicles.remove(vehicleId);
+            dirty.remove(vehicleId);
+            latest.remove(vehicleId);
+        }
+    }
+
+    public int getPendingCount() {
+        return dirty.size();
+    }
+
+    @Scheduled(fixedDelayString = "${neurofleetx.telemetry.flush-interval-ms:1000}")
+    public void flush() {
+        flushPending();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // False when a write failed; its pings stay pending for the next flush
+    private boolean flushPending() {
+        synchronized (flushLock) {
+            if (dirty.isEmpty()) return true;
+            boolean stored = true;
+            List<VehiclePosition> batch = new ArrayList<>(Math.min(dirty.size(), batchSize));
+            Iterator<String> iterator = dirty.iterator();
+            while (iterator.hasNext()) {
+                String vehicleId = iterator.next();
+                iterator.remove();
+                AtomicReference<VehiclePosition> slot = latest.get(vehicleId);
+                if (slot == null) continue; // evicted
+                batch.add(slot.get());
+                if (batch.size() == batchSize) {
+                    stored &= write(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                stored &= write(batch);
+            }
+            return stored;
+        }
+    }
+
+    private boolean write(List<VehiclePosition> batch) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_POSITION, batch, batch.size(), (statement, position) -> {
+                statement.setDouble(1, position.getLatitude());
+                statement.setDouble(2, position.getLongitude());
+                statement.setString(3, position.getLocation());
+                if (position.getSpeed() != null) {
+                    statement.setDouble(4, position.getSpeed());
+                } else {
+                    statement.setNull(4, Types.DOUBLE);
+                }
+                statement.setTimestamp(5, Timestamp.valueOf(position.getTimestamp()));
+                statement.setString(6, position.getVehicleId());
+                statement.setTimestamp(7, Timestamp.valueOf(position.getTimestamp()));
+            });
+            return true;
+        } catch (RuntimeException e) {
+            // Keep the pings for the next flush; newer ones arriving meanwhile still replace them
+            logger.error("Telemetry flush of {} positions failed: {}", batch.size(), e.getMessage());
+            for (VehiclePosition position : batch) {
+                dirty.add(position.getVehicleId());
+            }
+            return false;
+        }
+    }
+
+    // Streaming field-by-field read of one object; bad fields are recorded and the rest still read
+    private VehiclePosition readPosition(JsonParser parser, List<String> problems) throws IOException {
+        VehiclePosition position = new VehiclePosition();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "vehicleId": position.setVehicleId(readText(parser, field, problems)); break;
+                case "latitude": position.setLatitude(readNumber(parser, field, problems)); break;
+                case "longitude": position.setLongitude(readNumber(parser, field, problems)); break;
+                case "location": position.setLocation(readText(parser, field, problems)); break;
+                case "speed": position.setSpeed(readNumber(parser, field, problems)); break;
+                case "timestamp": position.setTimestamp(readTimestamp(parser, problems)); break;
+                default: parser.skipChildren(); break;
+            }
+        }
+        return position;
+    }
+
+    private String readText(JsonParser parser, String field, List<String> problems) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) return null;
+        if (token.isScalarValue()) return parser.getText();
+        parser.skipChildren();
+        problems.add(field + " must be a string");
+        return null;
+    }
+
+    private Double readNumber(JsonParser parser, String field, List<String> problems) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) return null;
+        if (token.isNumeric()) return parser.getDoubleValue();
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Double.valueOf(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+        }
+        parser.skipChildren();
+        problems.add(field + " must be a number");
+        return null;
+    }
+
+    // ISO local date-time, ISO instant/offset, or epoch milliseconds
+    private LocalDateTime readTimestamp(JsonParser parser, List<String> problems) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) return null;
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), ZoneId.systemDefault());
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            try {
+                return LocalDateTime.parse(text);
+            } catch (DateTimeParseException e) {
+                try {
+                    return OffsetDateTime.parse(text).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+                } catch (DateTimeParseException ignored) {
+                    // reported below
+                }
+            }
+        }
+        parser.skipChildren();
+        problems.add("timestamp must be an ISO date-time or epoch milliseconds");
+        return null;
+    }
+
+    private void validate(VehiclePosition position, List<String> problems) {
+        if (position.getVehicleId() == null || position.getVehicleId().isBlank()) {
+            problems.add("vehicleId is required");
+        }
+        for (ConstraintViolation<VehiclePosition> violation : validator.validate(position)) {
+            problems.add(violation.getPropertyPath() + " " + violation.getMessage());
+        }
+    }
+
+    // Vehicles are created far less often than they ping, so existence is checked once per vehicle
+    private boolean isKnownVehicle(String vehicleId) {
+        if (vehicleId == null) return false;
+        if (knownVehicles.contains(vehicleId)) return true;
+        if (vehicleRepository.existsByVehicleId(vehicleId)) {
+            knownVehicles.add(vehicleId);
+            return true;
+        }
+        return false;
+    }
+
+    private IngestResult offer(VehiclePosition position) {
+        LocalDateTime now = LocalDateTime.now();
+        if (position.getTimestamp() == null) {
+            position.setTimestamp(now);
+        } else if (position.getTimestamp().isAfter(now.plus(maxClockSkewMs, ChronoUnit.MILLIS))) {
+            // Accepting it would mark every real ping stale, and block the row's update, until that time came
+            return IngestResult.FUTURE_TIMESTAMP;
+        }
+        String vehicleId = position.getVehicleId();
+        AtomicReference<VehiclePosition> slot = latest.get(vehicleId);
+        if (slot == null) {
+            slot = latest.computeIfAbsent(vehicleId, id -> new AtomicReference<>());
+        }
+        VehiclePosition current;
+        do {
+            current = slot.get();
+            if (current != null && current.getTimestamp().isAfter(position.getTimestamp())) {
+                return IngestResult.STALE;
+            }
+        } while (!slot.compareAndSet(current, position));
+
+        // The live state moves now; only the database write waits for the next flush
+        fleetStateService.updatePosition(vehicleId, position.getLatitude(), position.getLongitude(),
+                position.getSpeed(), position.getTimestamp());
+        // Marked after the swap: a concurrent flush either sees this ping or leaves the vehicle dirty
+        dirty.add(vehicleId);
+        return IngestResult.ACCEPTED;
+    }
+}
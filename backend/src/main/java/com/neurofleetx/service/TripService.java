@@ -1,9 +1,12 @@
 package com.neurofleetx.service;
 
+import com.neurofleetx.dto.CursorPage;
+import com.neurofleetx.dto.TripSummary;
 import com.neurofleetx.model.Trip;
 import com.neurofleetx.model.User;
 import com.neurofleetx.repository.TripRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,6 +29,15 @@ public class TripService {
         return tripRepository.findByDriverIdOrderByCreatedAtDesc(driver.getId());
     }
 
+    /** @throws IllegalArgumentException for a malformed cursor */
+    public CursorPage<TripSummary> listTripsByDriver(User driver, String cursor, Integer limit, Trip.TripStatus status) {
+        CursorPage.Cursor after = CursorPage.Cursor.decode(cursor);
+        int size = CursorPage.clampLimit(limit);
+        List<TripSummary> rows = tripRepository.findSummariesByDriverId(driver.getId(), status, after.getTimestamp(),
+                after.getId(), PageRequest.of(0, size + 1));
+        return CursorPage.of(rows, size, row -> new CursorPage.Cursor(row.getCreatedAt(), row.getId()));
+    }
+
     public Optional<Trip> getCurrentTripByDriver(User driver) {
         return tripRepository.findCurrentTripByDriverId(driver.getId());
     }
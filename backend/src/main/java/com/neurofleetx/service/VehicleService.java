@@ -1,8 +1,11 @@
 package com.neurofleetx.service;
 
+import com.neurofleetx.dto.CursorPage;
+import com.neurofleetx.dto.VehicleSummary;
 import com.neurofleetx.model.Vehicle;
 import com.neurofleetx.repository.VehicleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,10 +17,26 @@ public class VehicleService {
     @Autowired
     private VehicleRepository vehicleRepository;
 
+    @Autowired
+    private FleetStateService fleetStateService;
+
+    @Autowired
+    private TelemetryService telemetryService;
+
     public List<Vehicle> getAllVehicles() {
         return vehicleRepository.findAll();
     }
 
+    /** @throws IllegalArgumentException for a malformed cursor */
+    public CursorPage<VehicleSummary> listVehicles(String cursor, Integer limit, Vehicle.VehicleStatus status,
+                                                   String type) {
+        CursorPage.Cursor after = CursorPage.Cursor.decode(cursor);
+        int size = CursorPage.clampLimit(limit);
+        List<VehicleSummary> rows = vehicleRepository.findSummaries(status, type, after.getTimestamp(), after.getId(),
+                PageRequest.of(0, size + 1));
+        return CursorPage.of(rows, size, row -> new CursorPage.Cursor(row.getCreatedAt(), row.getId()));
+    }
+
     public List<Vehicle> getActiveVehicles() {
         return vehicleRepository.findActiveVehicles();
     }
@@ -31,25 +50,16 @@ public class VehicleService {
     }
 
     public Vehicle createVehicle(Vehicle vehicle) {
-        return vehicleRepository.save(vehicle);
+        Vehicle saved = vehicleRepository.save(vehicle);
+        fleetStateService.refresh(saved);
+        return saved;
     }
 
     public Vehicle updateVehicle(Vehicle vehicle) {
         vehicle.setLastUpdated(LocalDateTime.now());
-        return vehicleRepository.save(vehicle);
-    }
-
-    public Vehicle updateVehicleLocation(String vehicleId, Double latitude, Double longitude, String location) {
-        Optional<Vehicle> vehicleOpt = vehicleRepository.findByVehicleId(vehicleId);
-        if (vehicleOpt.isPresent()) {
-            Vehicle vehicle = vehicleOpt.get();
-            vehicle.setLatitude(latitude);
-            vehicle.setLongitude(longitude);
-            vehicle.setCurrentLocation(location);
-            vehicle.setLastUpdated(LocalDateTime.now());
-            return vehicleRepository.save(vehicle);
-        }
-        throw new RuntimeException("Vehicle not found: " + vehicleId);
+        Vehicle saved = vehicleRepository.save(vehicle);
+        fleetStateService.refresh(saved);
+        return saved;
     }
 
     public Long getVehicleCountByStatus(Vehicle.VehicleStatus status) {
@@ -57,6 +67,10 @@ public class VehicleService {
     }
 
     public void deleteVehicle(Long id) {
+        Optional<Vehicle> vehicle = vehicleRepository.findById(id);
+        vehicle.ifPresent(found -> fleetStateService.remove(found.getVehicleId()));
         vehicleRepository.deleteById(id);
+        // After the delete, so a ping racing it finds the vehicle gone when it checks the table
+        vehicle.ifPresent(found -> telemetryService.evict(found.getVehicleId()));
     }
 }
\ No newline at end of file
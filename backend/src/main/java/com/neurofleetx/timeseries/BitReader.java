@@ -0,0 +1,50 @@
+package com.neurofleetx.timeseries;
+
+/** Reads what {@link BitWriter} wrote. */
+final class BitReader {
+
+    private final byte[] buffer;
+    private final int end;
+    private int bits;
+
+    BitReader(byte[] buffer, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > buffer.length) {
+            throw new IllegalArgumentException("Truncated chunk");
+        }
+        this.buffer = buffer;
+        this.bits = offset * 8;
+        this.end = (offset + length) * 8;
+    }
+
+    boolean readBit() {
+        return readBits(1) != 0;
+    }
+
+    /** Reads {@code count} bits, 0 to 64 of them, as the low bits of the result. */
+    long readBits(int count) {
+        if (bits + count > end) {
+            throw new IllegalArgumentException("Truncated chunk");
+        }
+        long value = 0;
+        while (count > 0) {
+            int available = 8 - (bits & 7);
+            int take = Math.min(available, count);
+            int chunk = (buffer[bits >>> 3] >>> (available - take)) & ((1 << take) - 1);
+            value = (value << take) | chunk;
+            bits += take;
+            count -= take;
+        }
+        return value;
+    }
+
+    long readSigned() {
+        int width;
+        if (!readBit()) return 0;
+        else if (!readBit()) width = 8;
+        else if (!readBit()) width = 16;
+        else if (!readBit()) width = 32;
+        else width = 64;
+        long zigzag = readBits(width);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+}
@@ -0,0 +1,72 @@
+package com.neurofleetx.timeseries;
+
+import java.util.Arrays;
+
+/** Append-only bit buffer, most significant bit first. */
+class BitWriter {
+
+    private byte[] buffer;
+    private int bits;
+
+    BitWriter(int expectedBytes) {
+        buffer = new byte[Math.max(8, expectedBytes)];
+    }
+
+    BitWriter(BitWriter source) {
+        buffer = Arrays.copyOf(source.buffer, Math.max(8, source.byteLength() + 8));
+        bits = source.bits;
+    }
+
+    void writeBit(boolean bit) {
+        writeBits(bit ? 1 : 0, 1);
+    }
+
+    /** Writes the low {@code count} bits of {@code value}, 0 to 64 of them. */
+    void writeBits(long value, int count) {
+        ensureCapacity(count);
+        while (count > 0) {
+            int free = 8 - (bits & 7);
+            int take = Math.min(free, count);
+            int chunk = (int) (value >>> (count - take)) & ((1 << take) - 1);
+            buffer[bits >>> 3] |= (byte) (chunk << (free - take));
+            bits += take;
+            count -= take;
+        }
+    }
+
+    // Zigzag value in the smallest of five width classes: '0' for zero, then '10', '110', '1110'
+    // and '1111' for 8, 16, 32 and 64 bits
+    void writeSigned(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        if (zigzag == 0) {
+            writeBit(false);
+        } else if ((zigzag >>> 8) == 0) {
+            writeBits(0b10, 2);
+            writeBits(zigzag, 8);
+        } else if ((zigzag >>> 16) == 0) {
+            writeBits(0b110, 3);
+            writeBits(zigzag, 16);
+        } else if ((zigzag >>> 32) == 0) {
+            writeBits(0b1110, 4);
+            writeBits(zigzag, 32);
+        } else {
+            writeBits(0b1111, 4);
+            writeBits(zigzag, 64);
+        }
+    }
+
+    int byteLength() {
+        return (bits + 7) >>> 3;
+    }
+
+    void copyTo(byte[] target, int offset) {
+        System.arraycopy(buffer, 0, target, offset, byteLength());
+    }
+
+    private void ensureCapacity(int count) {
+        int needed = (bits + count + 7) >>> 3;
+        if (needed > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(needed, buffer.length + (buffer.length >> 1)));
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.neurofleetx.timeseries;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Builds an encoded chunk one point at a time, so an open chunk costs its compressed size in
+ * memory. Raw chunks take (time, value) readings; rollup chunks take one bucket per point: its
+ * start time, reading count, min, max and sum. Times are epoch milliseconds and must not
+ * decrease. Read the result with {@link SeriesChunk#decode}.
+ *
+ * <p>The encoding follows Gorilla, one column after another: timestamps as delta-of-deltas (one
+ * bit for a regular interval), counts as deltas, and doubles as the XOR with the previous value,
+ * keeping only the bits that changed.
+ */
+public final class ChunkEncoder {
+
+    // Layout: rollup flag byte, point count, then each column as its byte length and bytes
+    private static final int HEADER_BYTES = 5;
+
+    private final boolean rollup;
+    private final TimeColumn times;
+    private final CountColumn counts;
+    private final DoubleColumn mins;
+    private final DoubleColumn maxs;
+    private final DoubleColumn sums; // the reading itself for raw chunks
+    private int size;
+
+    private ChunkEncoder(boolean rollup) {
+        this.rollup = rollup;
+        times = new TimeColumn();
+        sums = new DoubleColumn();
+        counts = rollup ? new CountColumn() : null;
+        mins = rollup ? new DoubleColumn() : null;
+        maxs = rollup ? new DoubleColumn() : null;
+    }
+
+    private ChunkEncoder(ChunkEncoder source) {
+        rollup = source.rollup;
+        times = new TimeColumn(source.times);
+        sums = new DoubleColumn(source.sums);
+        counts = rollup ? new CountColumn(source.counts) : null;
+        mins = rollup ? new DoubleColumn(source.mins) : null;
+        maxs = rollup ? new DoubleColumn(source.maxs) : null;
+        size = source.size;
+    }
+
+    public static ChunkEncoder raw() {
+        return new ChunkEncoder(false);
+    }
+
+    public static ChunkEncoder rollup() {
+        return new ChunkEncoder(true);
+    }
+
+    public void add(long time, double value) {
+        if (rollup) {
+            throw new IllegalStateException("Rollup chunks hold buckets");
+        }
+        times.add(time, size);
+        sums.add(value, size);
+        size++;
+    }
+
+    public void add(long time, long count, double min, double max, double sum) {
+        if (!rollup) {
+            throw new IllegalStateException("Raw chunks hold single readings");
+        }
+        times.add(time, size);
+        counts.add(count);
+        mins.add(min, size);
+        maxs.add(max, size);
+        sums.add(sum, size);
+        size++;
+    }
+
+    public boolean isRollup() { return rollup; }
+    public int size() { return size; }
+    public long firstTime() { return times.first; }
+    public long lastTime() { return times.previous; }
+
+    public ChunkEncoder copy() {
+        return new ChunkEncoder(this);
+    }
+
+    public byte[] toByteArray() {
+        BitWriter[] columns = rollup
+                ? new BitWriter[]{times, counts, mins, maxs, sums}
+                : new BitWriter[]{times, sums};
+        int length = HEADER_BYTES;
+        for (BitWriter column : columns) {
+            length += 4 + column.byteLength();
+        }
+        byte[] bytes = new byte[length];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.put((byte) (rollup ? 1 : 0));
+        buffer.putInt(size);
+        for (BitWriter column : columns) {
+            buffer.putInt(column.byteLength());
+            column.copyTo(bytes, buffer.position());
+            buffer.position(buffer.position() + column.byteLength());
+        }
+        return bytes;
+    }
+
+    // Each column is its own bit buffer plus the state its next value is encoded against, so an
+    // open chunk is a handful of objects
+    private static final class TimeColumn extends BitWriter {
+        private long first;
+        private long previous;
+        private long previousDelta;
+
+        TimeColumn() {
+            super(16);
+        }
+
+        TimeColumn(TimeColumn source) {
+            super(source);
+            first = source.first;
+            previous = source.previous;
+            previousDelta = source.previousDelta;
+        }
+
+        void add(long time, int index) {
+            if (index == 0) {
+                writeBits(time, 64);
+                first = time;
+            } else {
+                long delta = time - previous;
+                writeSigned(delta - previousDelta);
+                previousDelta = delta;
+            }
+            previous = time;
+        }
+    }
+
+    private static final class CountColumn extends BitWriter {
+        private long previous;
+
+        CountColumn() {
+            super(8);
+        }
+
+        CountColumn(CountColumn source) {
+            super(source);
+            previous = source.previous;
+        }
+
+        void add(long count) {
+            writeSigned(count - previous);
+            previous = count;
+        }
+    }
+
+    // First value verbatim; then '0' for a repeat, '10' + the changed bits when they fit inside the
+    // previous leading/trailing zero window, or '11' + 6 bits of leading zeros + 6 bits of
+    // (length - 1) + the changed bits
+    private static final class DoubleColumn extends BitWriter {
+        private long previous;
+        private int leading = -1;
+        private int trailing;
+
+        DoubleColumn() {
+            super(16);
+        }
+
+        DoubleColumn(DoubleColumn source) {
+            super(source);
+            previous = source.previous;
+            leading = source.leading;
+            trailing = source.trailing;
+        }
+
+        void add(double value, int index) {
+            long bits = Double.doubleToRawLongBits(value);
+            long xor = bits ^ previous;
+            previous = bits;
+            if (index == 0) {
+                writeBits(bits, 64);
+            } else if (xor == 0) {
+                writeBit(false);
+            } else {
+                int newLeading = Long.numberOfLeadingZeros(xor);
+                int newTrailing = Long.numberOfTrailingZeros(xor);
+                if (leading >= 0 && newLeading >= leading && newTrailing >= trailing) {
+                    writeBits(0b10, 2);
+                    writeBits(xor >>> trailing, 64 - leading - trailing);
+                } else {
+                    leading = newLeading;
+                    trailing = newTrailing;
+                    int length = 64 - leading - trailing;
+                    writeBits(0b11, 2);
+                    writeBits(leading, 6);
+                    writeBits(length - 1, 6);
+                    writeBits(xor >>> trailing, length);
+                }
+            }
+        }
+    }
+}
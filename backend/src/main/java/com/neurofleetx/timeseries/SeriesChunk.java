@@ -0,0 +1,100 @@
+package com.neurofleetx.timeseries;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * A decoded chunk, column by column. Raw chunks report each reading as a bucket of one.
+ */
+public final class SeriesChunk {
+
+    private final boolean rollup;
+    private final int size;
+    private final long[] times;
+    private final long[] counts;
+    private final double[] mins;
+    private final double[] maxs;
+    private final double[] sums;
+
+    private SeriesChunk(boolean rollup, int size) {
+        this.rollup = rollup;
+        this.size = size;
+        times = new long[size];
+        sums = new double[size];
+        counts = rollup ? new long[size] : null;
+        mins = rollup ? new double[size] : null;
+        maxs = rollup ? new double[size] : null;
+    }
+
+    public boolean isRollup() { return rollup; }
+    public int size() { return size; }
+    public long time(int i) { return times[i]; }
+    public long count(int i) { return rollup ? counts[i] : 1; }
+    public double min(int i) { return rollup ? mins[i] : sums[i]; }
+    public double max(int i) { return rollup ? maxs[i] : sums[i]; }
+    public double sum(int i) { return sums[i]; }
+
+    /** @throws IllegalArgumentException for bytes that are not an encoded chunk */
+    public static SeriesChunk decode(byte[] data) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            boolean rollup = buffer.get() != 0;
+            int size = buffer.getInt();
+            // Every point takes at least one bit per column
+            if (size < 0 || size > data.length * 8L) {
+                throw new IllegalArgumentException("Corrupt chunk size: " + size);
+            }
+            SeriesChunk chunk = new SeriesChunk(rollup, size);
+            if (size == 0) return chunk;
+
+            readTimes(column(buffer, data), chunk.times, size);
+            if (rollup) {
+                BitReader counts = column(buffer, data);
+                long count = 0;
+                for (int i = 0; i < size; i++) {
+                    count += counts.readSigned();
+                    chunk.counts[i] = count;
+                }
+                readDoubles(column(buffer, data), chunk.mins, size);
+                readDoubles(column(buffer, data), chunk.maxs, size);
+            }
+            readDoubles(column(buffer, data), chunk.sums, size);
+            return chunk;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated chunk");
+        }
+    }
+
+    private static BitReader column(ByteBuffer buffer, byte[] data) {
+        int length = buffer.getInt();
+        BitReader reader = new BitReader(data, buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return reader;
+    }
+
+    private static void readTimes(BitReader in, long[] times, int size) {
+        times[0] = in.readBits(64);
+        long delta = 0;
+        for (int i = 1; i < size; i++) {
+            delta += in.readSigned();
+            times[i] = times[i - 1] + delta;
+        }
+    }
+
+    private static void readDoubles(BitReader in, double[] values, int size) {
+        long previous = in.readBits(64);
+        values[0] = Double.longBitsToDouble(previous);
+        int leading = 0;
+        int trailing = 0;
+        for (int i = 1; i < size; i++) {
+            if (in.readBit()) {
+                if (in.readBit()) {
+                    leading = (int) in.readBits(6);
+                    trailing = 64 - leading - ((int) in.readBits(6) + 1);
+                }
+                previous ^= in.readBits(64 - leading - trailing) << trailing;
+            }
+            values[i] = Double.longBitsToDouble(previous);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.neurofleetx.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "neurofleetx.app.jwtSecret=bmV1cm9mbGVldHhTZWNyZXRLZXlGb3JDb250cm9sbGVyVGVzdHNPbmx5",
+    "neurofleetx.log-archive.directory=target/test-maintenance-log-archive"
+})
+@AutoConfigureMockMvc
+class MaintenanceControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+
+    @BeforeEach
+    void signIn() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"manager@neurofleetx.com\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+
+    @Test
+    void repeatedAlertIsFoldedIntoTheOpenRowAndSerialized() throws Exception {
+        JsonNode first = postLog(2L, 120.0);
+        JsonNode second = postLog(2L, 125.0);
+        JsonNode third = postLog(2L, 118.0);
+
+        assertThat(first.get("alert").asBoolean()).isTrue();
+        assertThat(second.get("id").asLong()).isEqualTo(first.get("id").asLong());
+        assertThat(third.get("id").asLong()).isEqualTo(first.get("id").asLong());
+        assertThat(third.get("occurrences").asInt()).isEqualTo(3);
+        assertThat(third.get("peakValue").asDouble()).isEqualTo(125.0);
+        assertThat(third.get("vehicle").get("id").asLong()).isEqualTo(2L);
+        assertThat(third.get("vehicle").get("vehicleId").asText()).isNotBlank();
+    }
+
+    private JsonNode postLog(Long vehicleId, double engineTemperature) throws Exception {
+        String body = "{\"vehicle\":{\"id\":" + vehicleId + "},\"metricType\":\"ENGINE_TEMPERATURE\",\"value\":"
+                      + engineTemperature + "}";
+        MvcResult result = mockMvc.perform(post("/api/maintenance/logs")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+}
@@ -0,0 +1,86 @@
+package com.neurofleetx.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "neurofleetx.app.jwtSecret=bmV1cm9mbGVldHhTZWNyZXRLZXlGb3JDb250cm9sbGVyVGVzdHNPbmx5",
+    "neurofleetx.log-archive.directory=target/test-maintenance-log-archive"
+})
+@AutoConfigureMockMvc
+class OptimizationJobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+
+    @BeforeEach
+    void signIn() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"manager@neurofleetx.com\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        token = objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+
+    @Test
+    void jobResultCarriesItsBookingsAfterTheSolve() throws Exception {
+        // Loaded in a short transaction and solved outside it, so the result must not need a session
+        MvcResult submitted = mockMvc.perform(post("/api/optimization/jobs").header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bookingIds\":[\"BK-OPT-001\",\"BK-OPT-002\",\"BK-OPT-003\",\"BK-OPT-004\"," +
+                                 "\"BK-OPT-005\"],\"optimizationType\":\"COMBINED\",\"timeBudgetMs\":1000,\"seed\":7}"))
+                .andExpect(status().isAccepted())
+                .andReturn();
+        String jobId = objectMapper.readTree(submitted.getResponse().getContentAsString()).get("jobId").asText();
+
+        String state = "QUEUED";
+        for (int poll = 0; poll < 200 && (state.equals("QUEUED") || state.equals("RUNNING")); poll++) {
+            Thread.sleep(100);
+            MvcResult status = mockMvc.perform(get("/api/optimization/jobs/" + jobId)
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            state = objectMapper.readTree(status.getResponse().getContentAsString()).get("status").asText();
+        }
+        assertThat(state).isEqualTo("COMPLETED");
+
+        MvcResult result = mockMvc.perform(get("/api/optimization/jobs/" + jobId + "/result")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode assignments = objectMapper.readTree(result.getResponse().getContentAsString()).get("assignments");
+        int bookings = 0;
+        for (JsonNode assignment : assignments) {
+            for (JsonNode booking : assignment.get("assignedBookings")) {
+                assertThat(booking.get("customer").get("email").asText()).isNotBlank();
+                bookings++;
+            }
+        }
+        assertThat(bookings).isPositive();
+    }
+
+    @Test
+    void eventsOfAnUnknownJobAreNotFound() throws Exception {
+        mockMvc.perform(get("/api/optimization/jobs/JOB-missing/events").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,123 @@
+package com.neurofleetx.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "neurofleetx.app.jwtSecret=bmV1cm9mbGVldHhTZWNyZXRLZXlGb3JDb250cm9sbGVyVGVzdHNPbmx5",
+    "neurofleetx.log-archive.directory=target/test-maintenance-log-archive"
+})
+@AutoConfigureMockMvc
+class VehicleControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+
+    @BeforeEach
+    void signIn() throws Exception {
+        token = signIn("manager@neurofleetx.com");
+    }
+
+    @Test
+    void streamAcceptsAStreamTokenInTheQueryString() throws Exception {
+        mockMvc.perform(get("/api/vehicles/stream").param("token", streamToken()))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void streamRejectsMissingAndSessionTokensInTheQueryString() throws Exception {
+        mockMvc.perform(get("/api/vehicles/stream")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/vehicles/stream").param("token", token)).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void streamTokenOpensNothingElse() throws Exception {
+        mockMvc.perform(get("/api/vehicles/maintenance-status").header("Authorization", "Bearer " + streamToken()))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/vehicles/maintenance-status").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void deletedVehicleStopsAcceptingPings() throws Exception {
+        String admin = signIn("admin@neurofleetx.com");
+        MvcResult created = mockMvc.perform(post("/api/vehicles").header("Authorization", "Bearer " + admin)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"vehicleId\":\"NFX-EVICT\",\"type\":\"Van\",\"model\":\"Test\"," +
+                                 "\"status\":\"AVAILABLE\",\"latitude\":19.07,\"longitude\":72.87}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        long id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        String ping = "{\"latitude\":19.08,\"longitude\":72.88}";
+
+        mockMvc.perform(put("/api/vehicles/NFX-EVICT/location").header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON).content(ping))
+                .andExpect(status().isAccepted());
+        mockMvc.perform(delete("/api/vehicles/" + id).header("Authorization", "Bearer " + admin))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/vehicles/NFX-EVICT/location").header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON).content(ping))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void futureTimestampIsRejectedAndDoesNotBlockLaterPings() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        mockMvc.perform(put("/api/vehicles/FL-003/location").header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"latitude\":19.08,\"longitude\":72.88,\"timestamp\":\"" + now.plusHours(1) + "\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("FUTURE_TIMESTAMP"));
+        mockMvc.perform(put("/api/vehicles/FL-003/location").header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"latitude\":19.09,\"longitude\":72.89,\"timestamp\":\"" + now + "\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("ACCEPTED"));
+
+        mockMvc.perform(post("/api/vehicles/telemetry").header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"vehicleId\":\"FL-003\",\"latitude\":19.1,\"longitude\":72.9,\"timestamp\":\"" +
+                                 now.plusDays(1) + "\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value("FUTURE_TIMESTAMP"))
+                .andExpect(jsonPath("$.rejected").value(1));
+    }
+
+    private String signIn(String email) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("accessToken").asText();
+    }
+
+    private String streamToken() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/vehicles/stream/token").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+}
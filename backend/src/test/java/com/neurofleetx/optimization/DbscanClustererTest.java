@@ -0,0 +1,66 @@
+package com.neurofleetx.optimization;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class DbscanClustererTest {
+
+    @Test
+    void separatesDenseGroupsAndKeepsNoiseAsSingletons() {
+        // Two tight groups 50 km apart and one stray pickup far from both
+        double[] latitudes = {12.970, 12.971, 12.972, 12.973, 13.420, 13.421, 13.422, 13.900};
+        double[] longitudes = {77.590, 77.591, 77.592, 77.593, 77.590, 77.591, 77.592, 78.500};
+        ClusterPoints points = ClusterPoints.of(latitudes, longitudes, new double[latitudes.length]);
+
+        List<int[]> clusters = new DbscanClusterer(1.0, 2).cluster(points);
+
+        assertThat(clusters).extracting(DbscanClustererTest::sorted)
+                .containsExactlyInAnyOrder(new int[]{0, 1, 2, 3}, new int[]{4, 5, 6}, new int[]{7});
+    }
+
+    @Test
+    void borderPointSeenAsNoiseFirstJoinsTheCluster() {
+        // Point 0 has one neighbour, so it is marked noise before the core point 1 reaches it
+        double[] latitudes = {12.9700, 12.9780, 12.9790, 12.9800, 12.9810};
+        double[] longitudes = new double[latitudes.length];
+        Arrays.fill(longitudes, 77.59);
+        ClusterPoints points = ClusterPoints.of(latitudes, longitudes, new double[latitudes.length]);
+
+        List<int[]> clusters = new DbscanClusterer(1.0, 3).cluster(points);
+
+        assertThat(clusters).extracting(DbscanClustererTest::sorted).containsExactly(new int[]{0, 1, 2, 3, 4});
+    }
+
+    @Test
+    void denseInputOfBenchmarkSizeFinishes() {
+        // Every point has hundreds of core neighbours; queueing each point once per neighbour ran out of heap
+        int count = 50_000;
+        Random random = new Random(42);
+        double[] latitudes = new double[count];
+        double[] longitudes = new double[count];
+        for (int i = 0; i < count; i++) {
+            latitudes[i] = 12.9 + random.nextDouble() * 0.2;
+            longitudes[i] = 77.5 + random.nextDouble() * 0.2;
+        }
+        ClusterPoints points = ClusterPoints.of(latitudes, longitudes, new double[count]);
+
+        List<int[]> clusters = assertTimeoutPreemptively(Duration.ofSeconds(30),
+                () -> new DbscanClusterer(5.0, 2).cluster(points));
+
+        assertThat(clusters).hasSize(1);
+        assertThat(clusters.get(0)).hasSize(count);
+    }
+
+    private static int[] sorted(int[] cluster) {
+        int[] copy = cluster.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,98 @@
+package com.neurofleetx.service;
+
+import com.neurofleetx.model.MaintenanceLog;
+import com.neurofleetx.model.Vehicle;
+import com.neurofleetx.repository.MaintenanceLogRepository;
+import com.neurofleetx.repository.VehicleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+@SpringBootTest(properties = {
+    "neurofleetx.app.jwtSecret=bmV1cm9mbGVldHhTZWNyZXRLZXlGb3JDb250cm9sbGVyVGVzdHNPbmx5",
+    "neurofleetx.log-archive.directory=target/test-maintenance-log-archive"
+})
+class AlertLifecycleServiceTest {
+
+    @Autowired
+    private AlertLifecycleService alertLifecycle;
+
+    @Autowired
+    private MaintenanceLogRepository maintenanceLogRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void flushTakenBeforeAResolutionDoesNotReopenTheRow() {
+        Vehicle vehicle = vehicleRepository.save(new Vehicle("NFX-ALERT-RACE", "Truck", "Test",
+                Vehicle.VehicleStatus.AVAILABLE, 19.07, 72.87));
+        MaintenanceLog opening = alert(vehicle);
+        opening.setAlertStatus(MaintenanceLog.AlertStatus.OPEN);
+        opening.setLastSeenAt(opening.getRecordedAt());
+        opening.setPeakValue(opening.getValue());
+        opening.setOccurrences(1);
+        Long id = maintenanceLogRepository.save(opening).getId();
+        alertLifecycle.reload();
+
+        // A repeat marks the row ONGOING; the next one only leaves it behind for the flush
+        AlertLifecycleService.Changes ongoing = new AlertLifecycleService.Changes();
+        alertLifecycle.track(alert(vehicle), ongoing);
+        alertLifecycle.write(ongoing);
+        alertLifecycle.track(alert(vehicle), new AlertLifecycleService.Changes());
+
+        // The condition resolves after the flush took its snapshot but before the snapshot is written
+        JdbcTemplate real = jdbcTemplate;
+        JdbcTemplate interleaving = spy(real);
+        AtomicBoolean interleaved = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (interleaved.compareAndSet(false, true)) {
+                AlertLifecycleService.Changes resolved = new AlertLifecycleService.Changes();
+                for (int i = 0; i < 3; i++) {
+                    alertLifecycle.track(new MaintenanceLog(vehicle, MaintenanceLog.MetricType.ENGINE_TEMPERATURE, 90.0),
+                                         resolved);
+                }
+                alertLifecycle.write(resolved);
+            }
+            return invocation.callRealMethod();
+        }).when(interleaving).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        ReflectionTestUtils.setField(alertLifecycle, "jdbcTemplate", interleaving);
+        try {
+            alertLifecycle.flush();
+        } finally {
+            ReflectionTestUtils.setField(alertLifecycle, "jdbcTemplate", real);
+        }
+
+        assertThat(interleaved).isTrue();
+        Map<String, Object> row = real.queryForMap("SELECT alert_status, resolved_at FROM maintenance_logs WHERE id = ?", id);
+        assertThat(row.get("ALERT_STATUS")).isEqualTo(MaintenanceLog.AlertStatus.RESOLVED.name());
+        assertThat(row.get("RESOLVED_AT")).isNotNull();
+    }
+
+    private static MaintenanceLog alert(Vehicle vehicle) {
+        MaintenanceLog log = new MaintenanceLog(vehicle, MaintenanceLog.MetricType.ENGINE_TEMPERATURE, 120.0);
+        log.setAlert(true);
+        log.setAlertSeverity(MaintenanceLog.AlertSeverity.HIGH);
+        log.setAlertMessage("Engine temperature high");
+        log.setRecordedAt(LocalDateTime.now());
+        return log;
+    }
+}
@@ -0,0 +1,213 @@
+package com.neurofleetx.service;
+
+import com.neurofleetx.model.MaintenanceLog;
+import com.neurofleetx.model.Vehicle;
+import com.neurofleetx.model.VehicleHealthMetrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the seeded default rules to the hard-coded thresholds MaintenanceService used before alert
+ * rules moved into a table: the same readings must raise the same alerts and cost the same score.
+ */
+class AlertRuleEquivalenceTest {
+
+    private static final long[] SEEDS = {1L, 20_240_601L, 0xfeedL};
+    private static final int READINGS_PER_SEED = 20_000;
+
+    // Thresholds of the old branches, so readings land on, just inside and just outside each one
+    private static final double[] ENGINE_EDGES = {95, 100, 110};
+    private static final double[] TIRE_EDGES = {25, 30, 32, 36, 40};
+    private static final double[] FUEL_EDGES = {5, 10, 15, 20};
+    private static final double[] BATTERY_EDGES = {11.5, 12.0, 12.3, 13.5, 14.5};
+    private static final double[] OIL_EDGES = {10, 15, 20, 25};
+    private static final double[] COOLANT_EDGES = {50};
+    private static final double[] BRAKE_EDGES = {60};
+
+    private final AlertRuleEngine.Rules rules = AlertRuleEngine.Rules.compile(AlertRuleEngine.defaultRules());
+
+    @Test
+    void defaultRulesRaiseTheSameAlertsAsTheOldThresholds() {
+        MaintenanceLog.MetricType[] metrics = {
+            MaintenanceLog.MetricType.ENGINE_TEMPERATURE, MaintenanceLog.MetricType.TIRE_PRESSURE,
+            MaintenanceLog.MetricType.FUEL_LEVEL, MaintenanceLog.MetricType.BATTERY_VOLTAGE,
+            MaintenanceLog.MetricType.OIL_PRESSURE, MaintenanceLog.MetricType.COOLANT_LEVEL,
+            MaintenanceLog.MetricType.BRAKE_FLUID
+        };
+        double[][] edges = {ENGINE_EDGES, TIRE_EDGES, FUEL_EDGES, BATTERY_EDGES, OIL_EDGES, COOLANT_EDGES, BRAKE_EDGES};
+        int type = rules.typeIndex("Truck");
+        int alerts = 0;
+
+        for (long seed : SEEDS) {
+            Random random = new Random(seed);
+            for (int i = 0; i < READINGS_PER_SEED; i++) {
+                int m = random.nextInt(metrics.length);
+                double value = near(random, edges[m]);
+                MaintenanceLog expected = new MaintenanceLog(null, metrics[m], value);
+                oldCheckAndTriggerAlert(expected);
+
+                int rule = rules.match(type, metrics[m], value);
+                assertThat(rule >= 0).as("alert for %s %s (seed %d)", metrics[m], value, seed).isEqualTo(expected.getAlert());
+                if (rule >= 0) {
+                    alerts++;
+                    assertThat(rules.severity(rule)).as("severity for %s %s", metrics[m], value)
+                        .isEqualTo(expected.getAlertSeverity());
+                    assertThat(rules.message(rule, metrics[m], value)).isEqualTo(expected.getAlertMessage());
+                }
+            }
+        }
+        // The edges are dense enough that both outcomes are well covered
+        assertThat(alerts).isBetween(SEEDS.length * READINGS_PER_SEED / 10, SEEDS.length * READINGS_PER_SEED * 9 / 10);
+    }
+
+    @Test
+    void defaultRulesCostTheSameHealthScoreAsTheOldPenalties() {
+        MaintenanceService maintenanceService = new MaintenanceService();
+        ReflectionTestUtils.setField(maintenanceService, "alertRuleEngine", new AlertRuleEngine());
+        Vehicle vehicle = new Vehicle();
+        vehicle.setType("Van");
+
+        for (long seed : SEEDS) {
+            Random random = new Random(seed);
+            for (int i = 0; i < READINGS_PER_SEED; i++) {
+                VehicleHealthMetrics metrics = randomMetrics(random, vehicle);
+                double expected = oldOverallHealthScore(metrics);
+
+                maintenanceService.calculateOverallHealthScore(metrics);
+
+                assertThat(metrics.getOverallHealthScore()).as("score (seed %d, reading %d)", seed, i).isEqualTo(expected);
+            }
+        }
+    }
+
+    private static VehicleHealthMetrics randomMetrics(Random random, Vehicle vehicle) {
+        VehicleHealthMetrics metrics = new VehicleHealthMetrics(vehicle);
+        metrics.setEngineTemperature(maybeNull(random, near(random, ENGINE_EDGES)));
+        // The old score averaged the four tires unconditionally, so they are always present
+        double tire = near(random, TIRE_EDGES);
+        metrics.setFrontLeftTirePressure(tire);
+        metrics.setFrontRightTirePressure(tire + random.nextInt(3) - 1);
+        metrics.setRearLeftTirePressure(tire);
+        metrics.setRearRightTirePressure(tire - random.nextInt(3) + 1);
+        metrics.setFuelLevel(maybeNull(random, near(random, FUEL_EDGES)));
+        metrics.setBatteryVoltage(maybeNull(random, near(random, BATTERY_EDGES)));
+        metrics.setOilPressure(maybeNull(random, near(random, OIL_EDGES)));
+        metrics.setCoolantLevel(maybeNull(random, near(random, COOLANT_EDGES)));
+        metrics.setBrakeFluidLevel(maybeNull(random, near(random, BRAKE_EDGES)));
+        metrics.setTransmissionTemperature(75 + random.nextGaussian() * 20);
+        metrics.setVibrationLevel(random.nextDouble() * 3);
+        metrics.setMileage(random.nextInt(200_000));
+        return metrics;
+    }
+
+    // An edge itself, a hair either side of it, or anywhere within a wide band around it
+    private static double near(Random random, double[] edges) {
+        double edge = edges[random.nextInt(edges.length)];
+        switch (random.nextInt(4)) {
+            case 0: return edge;
+            case 1: return Math.nextUp(edge);
+            case 2: return Math.nextDown(edge);
+            default: return edge + (random.nextDouble() - 0.5) * Math.max(2, edge * 0.4);
+        }
+    }
+
+    private static Double maybeNull(Random random, double value) {
+        return random.nextInt(10) == 0 ? null : value;
+    }
+
+    // MaintenanceService.checkAndTriggerAlert before the rules engine
+    private static void oldCheckAndTriggerAlert(MaintenanceLog log) {
+        boolean alertTriggered = false;
+        String alertMessage = "";
+        MaintenanceLog.AlertSeverity severity = MaintenanceLog.AlertSeverity.LOW;
+
+        switch (log.getMetricType()) {
+            case ENGINE_TEMPERATURE:
+                if (log.getValue() > 100) {
+                    alertTriggered = true;
+                    severity = log.getValue() > 110 ? MaintenanceLog.AlertSeverity.CRITICAL : MaintenanceLog.AlertSeverity.HIGH;
+                    alertMessage = "Engine temperature critical: " + log.getValue() + "°C";
+                }
+                break;
+            case TIRE_PRESSURE:
+                if (log.getValue() < 30 || log.getValue() > 40) {
+                    alertTriggered = true;
+                    severity = log.getValue() < 25 ? MaintenanceLog.AlertSeverity.HIGH : MaintenanceLog.AlertSeverity.MEDIUM;
+                    alertMessage = "Tire pressure abnormal: " + log.getValue() + " PSI";
+                }
+                break;
+            case FUEL_LEVEL:
+                if (log.getValue() < 15) {
+                    alertTriggered = true;
+                    severity = log.getValue() < 5 ? MaintenanceLog.AlertSeverity.HIGH : MaintenanceLog.AlertSeverity.MEDIUM;
+                    alertMessage = "Low fuel level: " + log.getValue() + "%";
+                }
+                break;
+            case BATTERY_VOLTAGE:
+                if (log.getValue() < 12.0 || log.getValue() > 14.5) {
+                    alertTriggered = true;
+                    severity = log.getValue() < 11.5 ? MaintenanceLog.AlertSeverity.HIGH : MaintenanceLog.AlertSeverity.MEDIUM;
+                    alertMessage = "Battery voltage abnormal: " + log.getValue() + "V";
+                }
+                break;
+            case OIL_PRESSURE:
+                if (log.getValue() < 20) {
+                    alertTriggered = true;
+                    severity = log.getValue() < 10 ? MaintenanceLog.AlertSeverity.CRITICAL : MaintenanceLog.AlertSeverity.HIGH;
+                    alertMessage = "Low oil pressure: " + log.getValue() + " PSI";
+                }
+                break;
+        }
+
+        log.setAlert(alertTriggered);
+        if (alertTriggered) {
+            log.setAlertSeverity(severity);
+            log.setAlertMessage(alertMessage);
+        }
+    }
+
+    // MaintenanceService.calculateOverallHealthScore before the rules engine
+    private static double oldOverallHealthScore(VehicleHealthMetrics metrics) {
+        double score = 100.0;
+
+        // Engine temperature (0-20 points)
+        if (metrics.getEngineTemperature() != null) {
+            if (metrics.getEngineTemperature() > 100) score -= 20;
+            else if (metrics.getEngineTemperature() > 95) score -= 10;
+        }
+
+        // Tire pressure (0-15 points)
+        double avgTirePressure = (metrics.getFrontLeftTirePressure() + metrics.getFrontRightTirePressure() +
+                                 metrics.getRearLeftTirePressure() + metrics.getRearRightTirePressure()) / 4.0;
+        if (avgTirePressure < 30 || avgTirePressure > 40) score -= 15;
+        else if (avgTirePressure < 32 || avgTirePressure > 36) score -= 8;
+
+        // Fuel level (0-10 points)
+        if (metrics.getFuelLevel() != null) {
+            if (metrics.getFuelLevel() < 10) score -= 10;
+            else if (metrics.getFuelLevel() < 20) score -= 5;
+        }
+
+        // Battery voltage (0-15 points)
+        if (metrics.getBatteryVoltage() != null) {
+            if (metrics.getBatteryVoltage() < 12.0 || metrics.getBatteryVoltage() > 14.5) score -= 15;
+            else if (metrics.getBatteryVoltage() < 12.3 || metrics.getBatteryVoltage() > 13.5) score -= 8;
+        }
+
+        // Oil pressure (0-20 points)
+        if (metrics.getOilPressure() != null) {
+            if (metrics.getOilPressure() < 15) score -= 20;
+            else if (metrics.getOilPressure() < 25) score -= 10;
+        }
+
+        // Other factors (0-20 points)
+        if (metrics.getCoolantLevel() != null && metrics.getCoolantLevel() < 50) score -= 10;
+        if (metrics.getBrakeFluidLevel() != null && metrics.getBrakeFluidLevel() < 60) score -= 10;
+
+        return Math.max(0, Math.min(100, score));
+    }
+}
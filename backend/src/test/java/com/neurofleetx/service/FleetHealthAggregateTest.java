@@ -0,0 +1,99 @@
+package com.neurofleetx.service;
+
+import com.neurofleetx.dto.FleetHealthSummary;
+import com.neurofleetx.model.MaintenanceLog;
+import com.neurofleetx.repository.MaintenanceLogRepository;
+import com.neurofleetx.repository.VehicleHealthMetricsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FleetHealthAggregateTest {
+
+    private final FleetHealthAggregate aggregate = new FleetHealthAggregate();
+    private final MaintenanceLogRepository maintenanceLogRepository = mock(MaintenanceLogRepository.class);
+
+    @BeforeEach
+    void setUp() {
+        VehicleHealthMetricsRepository healthMetricsRepository = mock(VehicleHealthMetricsRepository.class);
+        when(healthMetricsRepository.findHealthScores()).thenReturn(Collections.emptyList());
+        ReflectionTestUtils.setField(aggregate, "healthMetricsRepository", healthMetricsRepository);
+        ReflectionTestUtils.setField(aggregate, "maintenanceLogRepository", maintenanceLogRepository);
+    }
+
+    @Test
+    void changesTheQueryAlreadySawAreNotAppliedTwice() {
+        // The query runs after alert 1 resolved and alert 2 escalated, and sees both
+        when(maintenanceLogRepository.findActiveAlertSeverities()).thenAnswer(invocation -> {
+            aggregate.recordAlertResolved(1L, MaintenanceLog.AlertSeverity.HIGH);
+            aggregate.recordAlertEscalated(2L, MaintenanceLog.AlertSeverity.MEDIUM, MaintenanceLog.AlertSeverity.CRITICAL);
+            aggregate.recordAlert(alert(4L, MaintenanceLog.AlertSeverity.LOW));
+            return rows(new Object[]{2L, MaintenanceLog.AlertSeverity.CRITICAL}, new Object[]{3L, MaintenanceLog.AlertSeverity.HIGH},
+                        new Object[]{4L, MaintenanceLog.AlertSeverity.LOW});
+        });
+
+        aggregate.reconcile();
+
+        assertCounts(aggregate.getSummary(), 1, 0, 1, 1);
+    }
+
+    @Test
+    void changesTheQueryMissedAreReplayed() {
+        // The query ran before alert 1 resolved, alert 2 escalated and alert 4 opened
+        when(maintenanceLogRepository.findActiveAlertSeverities()).thenAnswer(invocation -> {
+            List<Object[]> seen = rows(new Object[]{1L, MaintenanceLog.AlertSeverity.HIGH},
+                                       new Object[]{2L, MaintenanceLog.AlertSeverity.MEDIUM}, new Object[]{3L, MaintenanceLog.AlertSeverity.HIGH});
+            aggregate.recordAlertResolved(1L, MaintenanceLog.AlertSeverity.HIGH);
+            aggregate.recordAlertEscalated(2L, MaintenanceLog.AlertSeverity.MEDIUM, MaintenanceLog.AlertSeverity.CRITICAL);
+            aggregate.recordAlert(alert(4L, MaintenanceLog.AlertSeverity.LOW));
+            return seen;
+        });
+
+        aggregate.reconcile();
+
+        assertCounts(aggregate.getSummary(), 1, 0, 1, 1);
+    }
+
+    @Test
+    void changesAfterReconcileApplyOnTopOfIt() {
+        when(maintenanceLogRepository.findActiveAlertSeverities())
+            .thenReturn(rows(new Object[]{1L, MaintenanceLog.AlertSeverity.HIGH}, new Object[]{2L, MaintenanceLog.AlertSeverity.MEDIUM}));
+        aggregate.reconcile();
+
+        aggregate.recordAlertEscalated(2L, MaintenanceLog.AlertSeverity.MEDIUM, MaintenanceLog.AlertSeverity.HIGH);
+        aggregate.recordAlertResolved(1L, MaintenanceLog.AlertSeverity.HIGH);
+
+        assertCounts(aggregate.getSummary(), 0, 0, 1, 0);
+    }
+
+    private static MaintenanceLog alert(long id, MaintenanceLog.AlertSeverity severity) {
+        MaintenanceLog log = new MaintenanceLog(null, MaintenanceLog.MetricType.FUEL_LEVEL, 3.0);
+        log.setId(id);
+        log.setAlert(true);
+        log.setAlertSeverity(severity);
+        return log;
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        List<Object[]> list = new ArrayList<>();
+        Collections.addAll(list, rows);
+        return list;
+    }
+
+    private static void assertCounts(FleetHealthSummary summary, long low, long medium, long high, long critical) {
+        assertThat(summary.getActiveAlertsBySeverity())
+            .containsEntry(MaintenanceLog.AlertSeverity.LOW, low)
+            .containsEntry(MaintenanceLog.AlertSeverity.MEDIUM, medium)
+            .containsEntry(MaintenanceLog.AlertSeverity.HIGH, high)
+            .containsEntry(MaintenanceLog.AlertSeverity.CRITICAL, critical);
+        assertThat(summary.getTotalActiveAlerts()).isEqualTo(low + medium + high + critical);
+    }
+}
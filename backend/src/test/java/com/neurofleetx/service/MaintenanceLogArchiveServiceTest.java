@@ -0,0 +1,66 @@
+package com.neurofleetx.service;
+
+import com.neurofleetx.dto.CursorPage;
+import com.neurofleetx.dto.MaintenanceLogSummary;
+import com.neurofleetx.model.MaintenanceLog;
+import com.neurofleetx.model.MaintenanceLogDailySummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "neurofleetx.app.jwtSecret=bmV1cm9mbGVldHhTZWNyZXRLZXlGb3JDb250cm9sbGVyVGVzdHNPbmx5",
+    "neurofleetx.log-archive.directory=target/test-maintenance-log-archive"
+})
+class MaintenanceLogArchiveServiceTest {
+
+    @Autowired
+    private MaintenanceLogArchiveService archiveService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rowsWithoutValueOrMetricAreArchivedButNotSummarized() {
+        LocalDate day = LocalDate.now().minusDays(400);
+        LocalDateTime recordedAt = day.atTime(9, 30);
+        insert(recordedAt, "FUEL_LEVEL", 42.0);
+        insert(recordedAt.plusMinutes(1), "FUEL_LEVEL", null);
+        insert(recordedAt.plusMinutes(2), null, 17.0);
+        insert(recordedAt.plusMinutes(3), "FUEL_LEVEL", 40.0);
+
+        assertThat(archiveService.archive()).isGreaterThanOrEqualTo(4);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM maintenance_logs WHERE recorded_at < ?",
+                Long.class, Timestamp.valueOf(day.plusDays(1).atStartOfDay()))).isZero();
+        List<MaintenanceLogDailySummary> summaries = archiveService.getDailySummaries(1L, day, day);
+        assertThat(summaries).hasSize(1);
+        MaintenanceLogDailySummary fuel = summaries.get(0);
+        assertThat(fuel.getMetricType()).isEqualTo(MaintenanceLog.MetricType.FUEL_LEVEL);
+        assertThat(fuel.getReadings()).isEqualTo(2);
+        assertThat(fuel.getMinValue()).isEqualTo(40.0);
+        assertThat(fuel.getMaxValue()).isEqualTo(42.0);
+        assertThat(fuel.getSumValue()).isEqualTo(82.0);
+
+        CursorPage<MaintenanceLogSummary> page = archiveService.listBetween(day.atStartOfDay(),
+                day.plusDays(1).atStartOfDay(), null, 10, null);
+        assertThat(page.getItems()).extracting(MaintenanceLogSummary::getValue).containsExactly(40.0, 17.0, null, 42.0);
+        assertThat(page.getItems()).extracting(MaintenanceLogSummary::getMetricType).containsExactly(
+                MaintenanceLog.MetricType.FUEL_LEVEL, null, MaintenanceLog.MetricType.FUEL_LEVEL,
+                MaintenanceLog.MetricType.FUEL_LEVEL);
+    }
+
+    private void insert(LocalDateTime recordedAt, String metricType, Double value) {
+        jdbcTemplate.update("INSERT INTO maintenance_logs (vehicle_id, metric_type, metric_value, alert, recorded_at, " +
+                "created_at) VALUES (1, ?, ?, FALSE, ?, ?)", metricType, value, Timestamp.valueOf(recordedAt),
+                Timestamp.valueOf(recordedAt));
+    }
+}
@@ -0,0 +1,58 @@
+package com.neurofleetx.service;
+
+import com.neurofleetx.dto.OptimizationJobStatus;
+import com.neurofleetx.dto.OptimizationRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OptimizationJobServiceTest {
+
+    private final ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(4));
+
+    @AfterEach
+    void shutDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void errorFromTheSolverFailsTheJob() throws Exception {
+        OptimizationService optimizationService = mock(OptimizationService.class);
+        when(optimizationService.loadInput(any())).thenThrow(new StackOverflowError());
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        OptimizationJobService jobs = new OptimizationJobService();
+        ReflectionTestUtils.setField(jobs, "optimizationService", optimizationService);
+        ReflectionTestUtils.setField(jobs, "optimizationJobExecutor", executor);
+        ReflectionTestUtils.setField(jobs, "transactionManager", transactionManager);
+
+        String jobId = jobs.submit(new OptimizationRequest(), "manager@neurofleetx.com").getJobId();
+
+        OptimizationJobStatus status = jobs.getStatus(jobId).orElseThrow();
+        for (int poll = 0; poll < 100 && !status.getStatus().equals("FAILED"); poll++) {
+            Thread.sleep(20);
+            status = jobs.getStatus(jobId).orElseThrow();
+        }
+        assertThat(status.getStatus()).isEqualTo("FAILED");
+        assertThat(status.getError()).isEqualTo("StackOverflowError");
+    }
+
+    @Test
+    void subscribingToAnUnknownJobSaysSo() {
+        assertThatThrownBy(() -> new OptimizationJobService().subscribe("JOB-missing"))
+                .isInstanceOf(OptimizationJobService.JobNotFoundException.class);
+    }
+}
@@ -0,0 +1,23 @@
+package com.neurofleetx.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OptimizationServiceTest {
+
+    @Test
+    void bookingFetchBatchSizeMustBePositive() {
+        OptimizationService service = new OptimizationService();
+        for (int size : new int[]{0, -5}) {
+            ReflectionTestUtils.setField(service, "bookingFetchBatchSize", size);
+            assertThatThrownBy(service::validateSettings)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("booking-fetch-batch-size");
+        }
+        ReflectionTestUtils.setField(service, "bookingFetchBatchSize", 1);
+        assertThatCode(service::validateSettings).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,217 @@
+package com.neurofleetx.timeseries;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChunkEncoderTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void constantValuesRoundTrip() {
+        long[] times = new long[100];
+        double[] values = new double[100];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = START + i * 1000L;
+            values[i] = 87.5;
+        }
+        ChunkEncoder encoder = raw(times, values);
+
+        // One bit per repeated timestamp delta and per repeated value after the first two points
+        assertThat(encoder.toByteArray().length).isLessThan(60);
+        assertRaw(SeriesChunk.decode(encoder.toByteArray()), times, values);
+    }
+
+    @Test
+    void specialDoublesKeepTheirBits() {
+        double[] values = {
+            0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, -0.0,
+            Double.MIN_VALUE, -Double.MAX_VALUE, Double.MAX_VALUE, Double.longBitsToDouble(0x7ff8_dead_beef_0001L), 0.0
+        };
+        long[] times = regularTimes(values.length, 500);
+
+        assertRaw(SeriesChunk.decode(raw(times, values).toByteArray()), times, values);
+    }
+
+    @Test
+    void allBitsChangedXorsRoundTrip() {
+        long[] bits = {0L, -1L, 0L, 0x5555_5555_5555_5555L, 0xaaaa_aaaa_aaaa_aaaaL, 1L, Long.MIN_VALUE, Long.MAX_VALUE, 0L};
+        double[] values = new double[bits.length];
+        for (int i = 0; i < bits.length; i++) {
+            values[i] = Double.longBitsToDouble(bits[i]);
+        }
+        long[] times = regularTimes(values.length, 1000);
+
+        assertRaw(SeriesChunk.decode(raw(times, values).toByteArray()), times, values);
+    }
+
+    @Test
+    void irregularAndNegativeTimestampDeltasRoundTrip() {
+        long[] times = {
+            Long.MIN_VALUE, -1_000_000L, -999_999L, -999_999L, 0L, 7L, 86_400_000L,
+            86_400_001L, START, START + 1, START + 300_000L, Long.MAX_VALUE
+        };
+        double[] values = new double[times.length];
+        Arrays.fill(values, 1.0);
+
+        assertRaw(SeriesChunk.decode(raw(times, values).toByteArray()), times, values);
+    }
+
+    @Test
+    void randomSeriesRoundTrip() {
+        Random random = new Random(42);
+        long[] times = new long[1000];
+        double[] values = new double[1000];
+        long time = START;
+        for (int i = 0; i < times.length; i++) {
+            time += random.nextInt(4) == 0 ? random.nextInt(60_000) : 1000;
+            times[i] = time;
+            values[i] = random.nextInt(5) == 0 ? values[Math.max(0, i - 1)] : random.nextGaussian() * 40 + 90;
+        }
+
+        assertRaw(SeriesChunk.decode(raw(times, values).toByteArray()), times, values);
+    }
+
+    @Test
+    void rollupBucketsRoundTrip() {
+        long[] counts = {60, 60, 0, 1, Long.MAX_VALUE, 3, Long.MIN_VALUE, 60};
+        ChunkEncoder encoder = ChunkEncoder.rollup();
+        for (int i = 0; i < counts.length; i++) {
+            encoder.add(START + i * 60_000L, counts[i], i - 0.5, i + 0.5, i * 60.0);
+        }
+
+        SeriesChunk chunk = SeriesChunk.decode(encoder.toByteArray());
+
+        assertThat(chunk.isRollup()).isTrue();
+        assertThat(chunk.size()).isEqualTo(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            assertThat(chunk.time(i)).isEqualTo(START + i * 60_000L);
+            assertThat(chunk.count(i)).isEqualTo(counts[i]);
+            assertThat(chunk.min(i)).isEqualTo(i - 0.5);
+            assertThat(chunk.max(i)).isEqualTo(i + 0.5);
+            assertThat(chunk.sum(i)).isEqualTo(i * 60.0);
+        }
+    }
+
+    @Test
+    void copyIsIndependentOfTheOriginal() {
+        ChunkEncoder encoder = raw(regularTimes(3, 1000), new double[]{1, 2, 3});
+        ChunkEncoder copy = encoder.copy();
+        encoder.add(START + 3000, 4);
+
+        assertThat(SeriesChunk.decode(copy.toByteArray()).size()).isEqualTo(3);
+        assertThat(SeriesChunk.decode(encoder.toByteArray()).sum(3)).isEqualTo(4);
+    }
+
+    @Test
+    void emptyChunkRoundTrips() {
+        SeriesChunk chunk = SeriesChunk.decode(ChunkEncoder.raw().toByteArray());
+
+        assertThat(chunk.size()).isZero();
+        assertThat(chunk.isRollup()).isFalse();
+    }
+
+    @Test
+    void truncatedPayloadsAreRejected() {
+        byte[] bytes = raw(regularTimes(20, 1000), new double[20]).toByteArray();
+
+        for (int length = 0; length < bytes.length; length++) {
+            byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThatThrownBy(() -> SeriesChunk.decode(truncated))
+                .as("prefix of %d bytes", length)
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void overstatedPointCountIsRejected() {
+        byte[] bytes = raw(regularTimes(4, 1000), new double[]{1, 2, 3, 4}).toByteArray();
+        bytes[4] = 40; // point count, big-endian low byte
+
+        assertThatThrownBy(() -> SeriesChunk.decode(bytes)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void signedValuesRoundTripAcrossEveryWidthClass() {
+        long[] values = {
+            0, 1, -1, 127, -128, 128, -129, 32_767, -32_768, 32_768, Integer.MAX_VALUE, Integer.MIN_VALUE,
+            (long) Integer.MAX_VALUE + 1, (long) Integer.MIN_VALUE - 1, Long.MAX_VALUE, Long.MIN_VALUE
+        };
+        BitWriter writer = new BitWriter(8);
+        for (long value : values) {
+            writer.writeSigned(value);
+        }
+        byte[] bytes = new byte[writer.byteLength()];
+        writer.copyTo(bytes, 0);
+
+        BitReader reader = new BitReader(bytes, 0, bytes.length);
+        for (long value : values) {
+            assertThat(reader.readSigned()).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void bitsRoundTripAcrossByteBoundaries() {
+        BitWriter writer = new BitWriter(1);
+        writer.writeBit(true);
+        writer.writeBits(0b101, 3);
+        writer.writeBits(-1L, 64);
+        writer.writeBits(0, 0);
+        writer.writeBits(0x1234_5678_9abc_def0L, 64);
+        writer.writeBits(0b11, 2);
+        byte[] bytes = new byte[writer.byteLength()];
+        writer.copyTo(bytes, 0);
+
+        BitReader reader = new BitReader(bytes, 0, bytes.length);
+        assertThat(reader.readBit()).isTrue();
+        assertThat(reader.readBits(3)).isEqualTo(0b101);
+        assertThat(reader.readBits(64)).isEqualTo(-1L);
+        assertThat(reader.readBits(0)).isZero();
+        assertThat(reader.readBits(64)).isEqualTo(0x1234_5678_9abc_def0L);
+        assertThat(reader.readBits(2)).isEqualTo(0b11);
+        assertThat(bytes.length).isEqualTo(17);
+    }
+
+    @Test
+    void readerStopsAtTheEndOfItsColumn() {
+        byte[] bytes = {(byte) 0xff, (byte) 0xff, (byte) 0xff};
+        BitReader reader = new BitReader(bytes, 1, 1);
+
+        assertThat(reader.readBits(8)).isEqualTo(0xff);
+        assertThatThrownBy(reader::readBit).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BitReader(bytes, 2, 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ChunkEncoder raw(long[] times, double[] values) {
+        ChunkEncoder encoder = ChunkEncoder.raw();
+        for (int i = 0; i < times.length; i++) {
+            encoder.add(times[i], values[i]);
+        }
+        return encoder;
+    }
+
+    private static long[] regularTimes(int size, long interval) {
+        long[] times = new long[size];
+        for (int i = 0; i < size; i++) {
+            times[i] = START + i * interval;
+        }
+        return times;
+    }
+
+    private static void assertRaw(SeriesChunk chunk, long[] times, double[] values) {
+        assertThat(chunk.isRollup()).isFalse();
+        assertThat(chunk.size()).isEqualTo(times.length);
+        for (int i = 0; i < times.length; i++) {
+            assertThat(chunk.time(i)).as("time %d", i).isEqualTo(times[i]);
+            assertThat(chunk.count(i)).isEqualTo(1);
+            assertThat(Double.doubleToRawLongBits(chunk.sum(i)))
+                .as("value %d", i)
+                .isEqualTo(Double.doubleToRawLongBits(values[i]));
+        }
+    }
+}